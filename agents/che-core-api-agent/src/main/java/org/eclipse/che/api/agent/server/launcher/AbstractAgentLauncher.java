@@ -16,9 +16,16 @@ import static java.lang.String.format;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
 import org.eclipse.che.api.agent.server.exception.AgentStartException;
 import org.eclipse.che.api.agent.shared.model.Agent;
 import org.eclipse.che.api.core.ConflictException;
@@ -40,6 +47,11 @@ import org.slf4j.LoggerFactory;
  * Launch agent script asynchronously over target instance and wait when it run. The policy of
  * checking if agent is run might be different for agents.
  *
+ * <p>Agent state is checked every {@code agentPingDelayMs} by a scheduler shared by all the
+ * launchers, so no thread is parked while agents are starting. The checks themselves may block, so
+ * they are run on a separate pool. If launcher defines a readiness pattern, the agent is considered
+ * launched as soon as it prints a matching line, without waiting for the next check.
+ *
  * @see Agent#getScript()
  * @see AgentLaunchingChecker
  * @see AgentLaunchingChecker#DEFAULT
@@ -54,80 +66,77 @@ public abstract class AbstractAgentLauncher implements AgentLauncher {
               .setUncaughtExceptionHandler(LoggingUncaughtExceptionHandler.getInstance())
               .setDaemon(true)
               .build());
+  private static final ExecutorService checker =
+      Executors.newCachedThreadPool(
+          new ThreadFactoryBuilder()
+              .setNameFormat("AgentLaunchingChecker-%d")
+              .setUncaughtExceptionHandler(LoggingUncaughtExceptionHandler.getInstance())
+              .setDaemon(true)
+              .build());
+  private static final ScheduledExecutorService scheduler =
+      Executors.newSingleThreadScheduledExecutor(
+          new ThreadFactoryBuilder()
+              .setNameFormat("AgentLaunchingScheduler-%d")
+              .setUncaughtExceptionHandler(LoggingUncaughtExceptionHandler.getInstance())
+              .setDaemon(true)
+              .build());
 
   private final AgentLaunchingChecker agentLaunchingChecker;
   private final long agentPingDelayMs;
   private final long agentMaxStartTimeMs;
+  private final Pattern readinessPattern;
 
   public AbstractAgentLauncher(
       long agentMaxStartTimeMs,
       long agentPingDelayMs,
       AgentLaunchingChecker agentLaunchingChecker) {
+    this(agentMaxStartTimeMs, agentPingDelayMs, agentLaunchingChecker, null);
+  }
+
+  /**
+   * Creates launcher which considers agent launched when a line of its output matches the given
+   * pattern or when the checker reports the agent is launched, whichever happens first.
+   */
+  public AbstractAgentLauncher(
+      long agentMaxStartTimeMs,
+      long agentPingDelayMs,
+      AgentLaunchingChecker agentLaunchingChecker,
+      Pattern readinessPattern) {
     this.agentPingDelayMs = agentPingDelayMs;
     this.agentMaxStartTimeMs = agentMaxStartTimeMs;
     this.agentLaunchingChecker = agentLaunchingChecker;
+    this.readinessPattern = readinessPattern;
   }
 
   @Override
   public void launch(Instance machine, Agent agent) throws ServerException, AgentStartException {
-    if (isNullOrEmpty(agent.getScript())) {
-      return;
-    }
-    ListLineConsumer agentLogger = new ListLineConsumer();
-    LineConsumer lineConsumer =
-        new AbstractLineConsumer() {
-          @Override
-          public void writeLine(String line) throws IOException {
-            machine.getLogger().writeLine(line);
-            agentLogger.writeLine(line);
-          }
-        };
+    final CompletableFuture<Void> launching = launchAsync(machine, agent);
     try {
-      final InstanceProcess process = start(machine, agent, lineConsumer);
-      LOG.debug(
-          "Waiting for agent {} is launched. Workspace ID:{}",
-          agent.getId(),
-          machine.getWorkspaceId());
-
-      final long pingStartTimestamp = System.currentTimeMillis();
-      while (System.currentTimeMillis() - pingStartTimestamp < agentMaxStartTimeMs) {
-        if (agentLaunchingChecker.isLaunched(agent, process, machine)) {
-          return;
-        } else {
-          Thread.sleep(agentPingDelayMs);
-        }
-      }
-      LOG.error(
-          format(
-              "Fail launching agent '%s' in '%s' workspace due to timeout",
-              agent.getName(), machine.getWorkspaceId()));
-
-      if (this.shouldBlockMachineStartOnError()) {
-        LOG.info("Stopping workspace {}", machine.getWorkspaceId());
-        process.kill();
-      } else {
-        LOG.info(
-            "Continuing workspace bootstrap even if agent {} failed to start.", agent.getName());
-        return;
-      }
-    } catch (MachineException e) {
-      logAsErrorAgentStartLogs(machine, agent.getName(), agentLogger.getText());
-      throw new ServerException(e.getServiceError());
+      launching.get();
     } catch (InterruptedException e) {
+      launching.cancel(false);
       Thread.currentThread().interrupt();
       throw new ServerException(format("Launching agent %s is interrupted", agent.getName()));
-    } finally {
-      try {
-        lineConsumer.close();
-      } catch (IOException ignored) {
+    } catch (ExecutionException e) {
+      final Throwable cause = e.getCause();
+      if (cause instanceof ServerException) {
+        throw (ServerException) cause;
       }
-      agentLogger.close();
+      if (cause instanceof AgentStartException) {
+        throw (AgentStartException) cause;
+      }
+      throw new ServerException(cause.getLocalizedMessage(), cause);
     }
+  }
 
-    logAsErrorAgentStartLogs(machine, agent.getName(), agentLogger.getText());
-    throw new AgentStartException(
-        format(
-            "Fail launching agent %s. Workspace ID:%s", agent.getName(), machine.getWorkspaceId()));
+  @Override
+  public CompletableFuture<Void> launchAsync(Instance machine, Agent agent) {
+    if (isNullOrEmpty(agent.getScript())) {
+      return CompletableFuture.completedFuture(null);
+    }
+    final Launching launching = new Launching(machine, agent);
+    launching.begin();
+    return launching.result;
   }
 
   protected InstanceProcess start(Instance machine, Agent agent, LineConsumer lineConsumer)
@@ -159,6 +168,155 @@ public abstract class AbstractAgentLauncher implements AgentLauncher {
     return process;
   }
 
+  /**
+   * State of a single agent launching, checks are scheduled on the shared scheduler and performed
+   * on the checker pool.
+   */
+  private class Launching {
+    final Instance machine;
+    final Agent agent;
+    final ListLineConsumer agentLogger;
+    final LineConsumer lineConsumer;
+    final CompletableFuture<Void> result;
+
+    InstanceProcess process;
+    long startTimestamp;
+    volatile ScheduledFuture<?> nextCheck;
+
+    Launching(Instance machine, Agent agent) {
+      this.machine = machine;
+      this.agent = agent;
+      this.agentLogger = new ListLineConsumer();
+      this.lineConsumer =
+          new AbstractLineConsumer() {
+            @Override
+            public void writeLine(String line) throws IOException {
+              machine.getLogger().writeLine(line);
+              synchronized (agentLogger) {
+                agentLogger.writeLine(line);
+              }
+              if (readinessPattern != null && readinessPattern.matcher(line).find()) {
+                LOG.debug(
+                    "Agent {} reported readiness. Workspace ID:{}",
+                    agent.getId(),
+                    machine.getWorkspaceId());
+                result.complete(null);
+              }
+            }
+          };
+      this.result = new CompletableFuture<>();
+      result.whenComplete((ignored, error) -> finish());
+    }
+
+    void begin() {
+      try {
+        process = start(machine, agent, lineConsumer);
+      } catch (MachineException e) {
+        logAsErrorAgentStartLogs(machine, agent.getName(), agentLogs());
+        result.completeExceptionally(new ServerException(e.getServiceError()));
+        return;
+      } catch (ServerException | RuntimeException e) {
+        result.completeExceptionally(e);
+        return;
+      }
+      LOG.debug(
+          "Waiting for agent {} is launched. Workspace ID:{}",
+          agent.getId(),
+          machine.getWorkspaceId());
+      startTimestamp = System.nanoTime();
+      schedule(0);
+    }
+
+    void schedule(long delay) {
+      try {
+        nextCheck = scheduler.schedule(this::submitCheck, delay, TimeUnit.MILLISECONDS);
+      } catch (RejectedExecutionException e) {
+        interrupted();
+      }
+      // the check must not stay scheduled if launching was completed meanwhile
+      if (result.isDone() && nextCheck != null) {
+        nextCheck.cancel(false);
+      }
+    }
+
+    void submitCheck() {
+      try {
+        checker.execute(this::check);
+      } catch (RejectedExecutionException e) {
+        interrupted();
+      }
+    }
+
+    void interrupted() {
+      result.completeExceptionally(
+          new ServerException(format("Launching agent %s is interrupted", agent.getName())));
+    }
+
+    String agentLogs() {
+      synchronized (agentLogger) {
+        return agentLogger.getText();
+      }
+    }
+
+    void check() {
+      if (result.isDone()) {
+        return;
+      }
+      try {
+        if (agentLaunchingChecker.isLaunched(agent, process, machine)) {
+          result.complete(null);
+          return;
+        }
+        final long remainingMs =
+            agentMaxStartTimeMs - TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTimestamp);
+        if (remainingMs <= 0) {
+          timeout();
+          return;
+        }
+        schedule(Math.min(agentPingDelayMs, remainingMs));
+      } catch (MachineException e) {
+        logAsErrorAgentStartLogs(machine, agent.getName(), agentLogs());
+        result.completeExceptionally(new ServerException(e.getServiceError()));
+      } catch (RuntimeException e) {
+        result.completeExceptionally(e);
+      }
+    }
+
+    void timeout() throws MachineException {
+      LOG.error(
+          format(
+              "Fail launching agent '%s' in '%s' workspace due to timeout",
+              agent.getName(), machine.getWorkspaceId()));
+
+      if (!shouldBlockMachineStartOnError()) {
+        LOG.info(
+            "Continuing workspace bootstrap even if agent {} failed to start.", agent.getName());
+        result.complete(null);
+        return;
+      }
+      LOG.info("Stopping workspace {}", machine.getWorkspaceId());
+      process.kill();
+      logAsErrorAgentStartLogs(machine, agent.getName(), agentLogs());
+      result.completeExceptionally(
+          new AgentStartException(
+              format(
+                  "Fail launching agent %s. Workspace ID:%s",
+                  agent.getName(), machine.getWorkspaceId())));
+    }
+
+    void finish() {
+      final ScheduledFuture<?> scheduled = nextCheck;
+      if (scheduled != null) {
+        scheduled.cancel(false);
+      }
+      try {
+        lineConsumer.close();
+      } catch (IOException ignored) {
+      }
+      agentLogger.close();
+    }
+  }
+
   @VisibleForTesting
   void logAsErrorAgentStartLogs(Instance machine, String agentName, String logs) {
     if (!logs.isEmpty()) {
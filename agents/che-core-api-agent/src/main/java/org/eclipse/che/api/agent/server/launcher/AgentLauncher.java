@@ -10,6 +10,7 @@
  */
 package org.eclipse.che.api.agent.server.launcher;
 
+import java.util.concurrent.CompletableFuture;
 import org.eclipse.che.api.agent.server.exception.AgentStartException;
 import org.eclipse.che.api.agent.shared.model.Agent;
 import org.eclipse.che.api.core.ServerException;
@@ -45,4 +46,25 @@ public interface AgentLauncher {
    * @throws ServerException if script execution failed
    */
   void launch(Instance machine, Agent agent) throws ServerException, AgentStartException;
+
+  /**
+   * Executes agents scripts over target machine without waiting for the agent to be launched.
+   *
+   * <p>The returned future is completed when the agent is launched, or completed exceptionally
+   * with {@link ServerException} or {@link AgentStartException} if it fails to launch. Default
+   * implementation performs {@link #launch(Instance, Agent)} in the calling thread.
+   *
+   * @param machine the machine instance
+   * @param agent the agent
+   */
+  default CompletableFuture<Void> launchAsync(Instance machine, Agent agent) {
+    final CompletableFuture<Void> result = new CompletableFuture<>();
+    try {
+      launch(machine, agent);
+      result.complete(null);
+    } catch (ServerException | AgentStartException | RuntimeException e) {
+      result.completeExceptionally(e);
+    }
+    return result;
+  }
 }
@@ -12,6 +12,7 @@ package org.eclipse.che.api.agent.server.launcher;
 
 import static java.lang.String.format;
 
+import java.util.concurrent.atomic.AtomicLong;
 import org.eclipse.che.api.agent.shared.model.Agent;
 import org.eclipse.che.api.core.ConflictException;
 import org.eclipse.che.api.core.model.machine.Command;
@@ -36,7 +37,7 @@ public class ProcessIsLaunchedChecker implements AgentLaunchingChecker {
           + "    ps -fC %1$s >/dev/null 2>&1 && echo 0 || echo 1\n"
           + "}";
   private final String processNameToWait;
-  private long counter;
+  private final AtomicLong counter = new AtomicLong();
 
   public ProcessIsLaunchedChecker(String processNameToWait) {
     this.processNameToWait = processNameToWait;
@@ -47,7 +48,7 @@ public class ProcessIsLaunchedChecker implements AgentLaunchingChecker {
       throws MachineException {
     Command command =
         new CommandImpl(
-            format("Wait for %s, try %d", agent.getId(), ++counter),
+            format("Wait for %s, try %d", agent.getId(), counter.incrementAndGet()),
             format(CHECK_COMMAND, processNameToWait),
             "test");
 
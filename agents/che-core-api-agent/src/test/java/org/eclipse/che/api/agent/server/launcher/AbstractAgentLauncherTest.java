@@ -14,6 +14,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.nullable;
 import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doCallRealMethod;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
@@ -25,10 +26,14 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.verifyZeroInteractions;
 import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertTrue;
 import static org.testng.Assert.fail;
 
 import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
 import org.eclipse.che.api.agent.server.exception.AgentStartException;
 import org.eclipse.che.api.agent.shared.model.Agent;
 import org.eclipse.che.api.core.ServerException;
@@ -206,11 +211,12 @@ public class AbstractAgentLauncherTest {
   public void shouldSetBackInterruptedFlagIfThreadWasInterrupted() throws Exception {
     try {
       // imitate interruption of launching thread
+      final Thread launchingThread = Thread.currentThread();
       when(agentChecker.isLaunched(
               any(Agent.class), any(InstanceProcess.class), any(Instance.class)))
           .thenAnswer(
               invocationOnMock -> {
-                Thread.currentThread().interrupt();
+                launchingThread.interrupt();
                 return false;
               });
 
@@ -231,11 +237,12 @@ public class AbstractAgentLauncherTest {
   )
   public void shouldThrowServerExceptionIfAgentCheckWasInterrupted() throws Exception {
     try {
+      final Thread launchingThread = Thread.currentThread();
       when(agentChecker.isLaunched(
               any(Agent.class), any(InstanceProcess.class), any(Instance.class)))
           .thenAnswer(
               invocationOnMock -> {
-                Thread.currentThread().interrupt();
+                launchingThread.interrupt();
                 return false;
               });
 
@@ -247,6 +254,46 @@ public class AbstractAgentLauncherTest {
     }
   }
 
+  @Test
+  public void shouldNotWaitForNextCheckWhenAgentReportsReadiness() throws Exception {
+    // given
+    launcher =
+        spy(new TestAgentLauncher(5000, 10_000, agentChecker, Pattern.compile("listening on")));
+    when(machine.getLogger()).thenReturn(mock(LineConsumer.class));
+    doAnswer(
+            invocationOnMock -> {
+              LineConsumer lineConsumer = invocationOnMock.getArgument(2);
+              lineConsumer.writeLine("[STDOUT] server is listening on :4412");
+              return process;
+            })
+        .when(launcher)
+        .start(nullable(Instance.class), nullable(Agent.class), nullable(LineConsumer.class));
+
+    // when
+    launcher.launch(machine, agent);
+
+    // then
+    verify(agentChecker, never())
+        .isLaunched(any(Agent.class), any(InstanceProcess.class), any(Instance.class));
+  }
+
+  @Test
+  public void shouldNotBlockCallerWhileAgentIsLaunchedAsynchronously() throws Exception {
+    // given
+    when(agentChecker.isLaunched(any(Agent.class), any(InstanceProcess.class), any(Instance.class)))
+        .thenReturn(false)
+        .thenReturn(true);
+
+    // when
+    CompletableFuture<Void> launching = launcher.launchAsync(machine, agent);
+
+    // then
+    assertFalse(launching.isDone());
+    launching.get(5, TimeUnit.SECONDS);
+    verify(agentChecker, times(2))
+        .isLaunched(any(Agent.class), any(InstanceProcess.class), any(Instance.class));
+  }
+
   @Test
   public void shouldStartMachineProcessWithAgentScriptExecution() throws Exception {
     // given
@@ -355,6 +402,14 @@ public class AbstractAgentLauncherTest {
       super(agentMaxStartTimeMs, agentPingDelayMs, agentLaunchingChecker);
     }
 
+    public TestAgentLauncher(
+        long agentMaxStartTimeMs,
+        long agentPingDelayMs,
+        AgentLaunchingChecker agentLaunchingChecker,
+        Pattern readinessPattern) {
+      super(agentMaxStartTimeMs, agentPingDelayMs, agentLaunchingChecker, readinessPattern);
+    }
+
     @Override
     protected InstanceProcess start(Instance machine, Agent agent, LineConsumer lineConsumer)
         throws ServerException {
@@ -10,15 +10,14 @@
  */
 package org.eclipse.che.api.agent;
 
+import java.util.concurrent.CompletableFuture;
 import javax.inject.Inject;
 import javax.inject.Named;
 import javax.inject.Singleton;
-import org.eclipse.che.api.agent.server.exception.AgentStartException;
 import org.eclipse.che.api.agent.server.launcher.AbstractAgentLauncher;
 import org.eclipse.che.api.agent.server.launcher.ProcessIsLaunchedChecker;
 import org.eclipse.che.api.agent.shared.model.Agent;
 import org.eclipse.che.api.agent.shared.model.impl.AgentImpl;
-import org.eclipse.che.api.core.ServerException;
 import org.eclipse.che.api.machine.server.spi.Instance;
 
 /**
@@ -40,10 +39,10 @@ public class ExecAgentLauncher extends AbstractAgentLauncher {
   }
 
   @Override
-  public void launch(Instance machine, Agent agent) throws ServerException, AgentStartException {
+  public CompletableFuture<Void> launchAsync(Instance machine, Agent agent) {
     final AgentImpl agentCopy = new AgentImpl(agent);
     agentCopy.setScript(agent.getScript() + "\n" + runCommand);
-    super.launch(machine, agentCopy);
+    return super.launchAsync(machine, agentCopy);
   }
 
   @Override
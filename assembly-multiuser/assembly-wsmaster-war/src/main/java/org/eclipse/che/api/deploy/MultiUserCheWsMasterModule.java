@@ -26,6 +26,8 @@ import org.eclipse.che.mail.template.TemplateProcessor;
 import org.eclipse.che.multiuser.api.permission.server.AdminPermissionInitializer;
 import org.eclipse.che.multiuser.api.permission.server.PermissionChecker;
 import org.eclipse.che.multiuser.api.permission.server.PermissionCheckerImpl;
+import org.eclipse.che.multiuser.api.permission.server.PermissionCheckerService;
+import org.eclipse.che.multiuser.api.permission.server.PermissionCheckerServicePermissionsFilter;
 import org.eclipse.che.multiuser.keycloak.server.deploy.KeycloakModule;
 import org.eclipse.che.multiuser.organization.api.OrganizationApiModule;
 import org.eclipse.che.multiuser.organization.api.OrganizationJpaModule;
@@ -51,6 +53,7 @@ public class MultiUserCheWsMasterModule extends AbstractModule {
 
     // Permission filters
     bind(org.eclipse.che.multiuser.permission.system.SystemServicePermissionsFilter.class);
+    bind(org.eclipse.che.multiuser.permission.system.ScheduledJobsServicePermissionsFilter.class);
     bind(org.eclipse.che.multiuser.permission.user.UserProfileServicePermissionsFilter.class);
     bind(org.eclipse.che.multiuser.permission.user.UserServicePermissionsFilter.class);
     bind(org.eclipse.che.multiuser.permission.factory.FactoryPermissionsFilter.class);
@@ -74,6 +77,8 @@ public class MultiUserCheWsMasterModule extends AbstractModule {
     bind(UserDao.class).to(JpaUserDao.class);
     bind(PreferenceDao.class).to(JpaPreferenceDao.class);
     bind(PermissionChecker.class).to(PermissionCheckerImpl.class);
+    bind(PermissionCheckerService.class);
+    bind(PermissionCheckerServicePermissionsFilter.class);
 
     bindConstant()
         .annotatedWith(Names.named("machine.terminal_agent.run_command"))
@@ -199,6 +199,7 @@ public class WsMasterModule extends AbstractModule {
     install(new org.eclipse.che.plugin.machine.ssh.SshMachineModule());
     install(new org.eclipse.che.plugin.docker.machine.proxy.DockerProxyModule());
     install(new org.eclipse.che.commons.schedule.executor.ScheduleModule());
+    bind(org.eclipse.che.api.core.rest.ScheduledJobsService.class);
 
     final Multibinder<MessageBodyAdapter> adaptersMultibinder =
         Multibinder.newSetBinder(binder(), MessageBodyAdapter.class);
@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2012-2017 Red Hat, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.api.core.rest;
+
+import static java.util.stream.Collectors.toList;
+import static org.eclipse.che.dto.server.DtoFactory.newDto;
+
+import java.util.List;
+import javax.inject.Inject;
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.MediaType;
+import org.eclipse.che.api.core.rest.shared.dto.ScheduledJobMetrics;
+import org.eclipse.che.commons.schedule.executor.ScheduledJob;
+import org.eclipse.che.commons.schedule.executor.ScheduledJobs;
+
+/** REST API for statistics of the jobs scheduled with the schedule annotations. */
+@Path("/scheduler")
+public class ScheduledJobsService extends Service {
+
+  private final ScheduledJobs jobs;
+
+  @Inject
+  public ScheduledJobsService(ScheduledJobs jobs) {
+    this.jobs = jobs;
+  }
+
+  @GET
+  @Path("/jobs")
+  @Produces(MediaType.APPLICATION_JSON)
+  public List<ScheduledJobMetrics> getJobs() {
+    return jobs.getJobs().stream().map(ScheduledJobsService::asDto).collect(toList());
+  }
+
+  private static ScheduledJobMetrics asDto(ScheduledJob job) {
+    return newDto(ScheduledJobMetrics.class)
+        .withName(job.getName())
+        .withType(job.getType().name())
+        .withRunning(job.isRunning())
+        .withExecutions(job.getExecutions())
+        .withSkipped(job.getSkipped())
+        .withFailures(job.getFailures())
+        .withLastStart(job.getLastStart())
+        .withLastDuration(job.getLastDuration())
+        .withMaxDuration(job.getMaxDuration())
+        .withAverageDuration(job.getAverageDuration())
+        .withLastLag(job.getLastLag())
+        .withMaxLag(job.getMaxLag());
+  }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2012-2017 Red Hat, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.api.core.rest.shared.dto;
+
+import org.eclipse.che.dto.shared.DTO;
+
+/** Statistics of the executions of a scheduled job. */
+@DTO
+public interface ScheduledJobMetrics {
+  /** Name of the job, e.g. class and method name. */
+  String getName();
+
+  void setName(String name);
+
+  ScheduledJobMetrics withName(String name);
+
+  /** Kind of the job scheduling: CRON, FIXED_RATE or FIXED_DELAY. */
+  String getType();
+
+  void setType(String type);
+
+  ScheduledJobMetrics withType(String type);
+
+  /** Whether the job is executing at the moment. */
+  boolean isRunning();
+
+  void setRunning(boolean running);
+
+  ScheduledJobMetrics withRunning(boolean running);
+
+  /** Count of the finished executions, failed included. */
+  long getExecutions();
+
+  void setExecutions(long executions);
+
+  ScheduledJobMetrics withExecutions(long executions);
+
+  /** Count of the firings skipped as the previous execution was still running or late. */
+  long getSkipped();
+
+  void setSkipped(long skipped);
+
+  ScheduledJobMetrics withSkipped(long skipped);
+
+  /** Count of the executions finished with an exception. */
+  long getFailures();
+
+  void setFailures(long failures);
+
+  ScheduledJobMetrics withFailures(long failures);
+
+  /** Start time of the last finished execution in milliseconds since epoch. */
+  long getLastStart();
+
+  void setLastStart(long lastStart);
+
+  ScheduledJobMetrics withLastStart(long lastStart);
+
+  /** Duration of the last finished execution in milliseconds. */
+  long getLastDuration();
+
+  void setLastDuration(long lastDuration);
+
+  ScheduledJobMetrics withLastDuration(long lastDuration);
+
+  /** Duration of the longest execution in milliseconds. */
+  long getMaxDuration();
+
+  void setMaxDuration(long maxDuration);
+
+  ScheduledJobMetrics withMaxDuration(long maxDuration);
+
+  /** Average duration of the executions in milliseconds. */
+  long getAverageDuration();
+
+  void setAverageDuration(long averageDuration);
+
+  ScheduledJobMetrics withAverageDuration(long averageDuration);
+
+  /** Delay of the start of the last execution from its schedule in milliseconds. */
+  long getLastLag();
+
+  void setLastLag(long lastLag);
+
+  ScheduledJobMetrics withLastLag(long lastLag);
+
+  /** The longest delay of the start of an execution from its schedule in milliseconds. */
+  long getMaxLag();
+
+  void setMaxLag(long maxLag);
+
+  ScheduledJobMetrics withMaxLag(long maxLag);
+}
@@ -13,6 +13,7 @@ package org.eclipse.che.api.core.websocket.impl;
 import static java.util.Collections.emptyMap;
 import static java.util.Collections.unmodifiableMap;
 import static org.eclipse.che.api.core.websocket.impl.WebsocketIdService.randomClientId;
+import static org.eclipse.che.everrest.ServerContainerInitializeListener.ENVIRONMENT_CONTEXT;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -25,6 +26,7 @@ import javax.websocket.OnMessage;
 import javax.websocket.OnOpen;
 import javax.websocket.Session;
 import org.eclipse.che.api.core.websocket.commons.WebSocketMessageReceiver;
+import org.eclipse.che.commons.env.EnvironmentContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -97,7 +99,19 @@ public abstract class BasicWebSocketEndpoint {
 
       LOG.warn("Processing messing within unidentified session");
     }
-    receiver.receive(combinedEndpointId, message);
+
+    EnvironmentContext environmentContext =
+        (EnvironmentContext) session.getUserProperties().get(ENVIRONMENT_CONTEXT);
+    if (environmentContext == null) {
+      receiver.receive(combinedEndpointId, message);
+      return;
+    }
+    try {
+      EnvironmentContext.setCurrent(environmentContext);
+      receiver.receive(combinedEndpointId, message);
+    } finally {
+      EnvironmentContext.reset();
+    }
   }
 
   @OnClose
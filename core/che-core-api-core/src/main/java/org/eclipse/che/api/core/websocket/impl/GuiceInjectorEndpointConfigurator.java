@@ -10,9 +10,14 @@
  */
 package org.eclipse.che.api.core.websocket.impl;
 
+import static org.eclipse.che.everrest.ServerContainerInitializeListener.ENVIRONMENT_CONTEXT;
+
 import com.google.inject.Injector;
 import javax.inject.Inject;
+import javax.websocket.HandshakeResponse;
+import javax.websocket.server.HandshakeRequest;
 import javax.websocket.server.ServerEndpointConfig;
+import org.eclipse.che.commons.env.EnvironmentContext;
 
 /**
  * Allows inject Guice instances on WEB SOCKET endpoint creation.
@@ -25,4 +30,12 @@ public class GuiceInjectorEndpointConfigurator extends ServerEndpointConfig.Conf
   public <T> T getEndpointInstance(Class<T> endpointClass) {
     return injector.getInstance(endpointClass);
   }
+
+  /** Keeps environment context of the handshake request, so messages are handled within it. */
+  @Override
+  public void modifyHandshake(
+      ServerEndpointConfig sec, HandshakeRequest request, HandshakeResponse response) {
+    super.modifyHandshake(sec, request, response);
+    sec.getUserProperties().put(ENVIRONMENT_CONTEXT, EnvironmentContext.getCurrent());
+  }
 }
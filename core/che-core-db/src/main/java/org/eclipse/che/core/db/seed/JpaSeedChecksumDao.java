@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2012-2017 Red Hat, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.core.db.seed;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.inject.persist.Transactional;
+import java.util.HashMap;
+import java.util.Map;
+import javax.inject.Inject;
+import javax.inject.Provider;
+import javax.inject.Singleton;
+import javax.persistence.EntityManager;
+import org.eclipse.che.api.core.ServerException;
+
+/**
+ * Keeps checksums of the entities seeded to the database on startup, so the loaders of predefined
+ * entities may skip those which are not changed since the previous start.
+ *
+ * <p>Calls made within a transaction of the caller join it, so the checksums may be stored along
+ * with the seeded entities.
+ */
+@Singleton
+public class JpaSeedChecksumDao {
+
+  private final Provider<EntityManager> managerProvider;
+
+  @Inject
+  public JpaSeedChecksumDao(Provider<EntityManager> managerProvider) {
+    this.managerProvider = managerProvider;
+  }
+
+  /**
+   * Returns checksums of the seeded entities of the given type.
+   *
+   * @param type type of the seeded entities, e.g. "stack"
+   * @return checksums by the identifiers of the entities
+   * @throws ServerException when any error occurs
+   */
+  public Map<String, String> getChecksums(String type) throws ServerException {
+    requireNonNull(type, "Required non-null type");
+    try {
+      return doGetChecksums(type);
+    } catch (RuntimeException x) {
+      throw new ServerException(x.getLocalizedMessage(), x);
+    }
+  }
+
+  /**
+   * Stores checksums of the seeded entities of the given type, replacing the existing ones.
+   *
+   * @param type type of the seeded entities, e.g. "stack"
+   * @param checksums checksums by the identifiers of the entities
+   * @throws ServerException when any error occurs
+   */
+  public void store(String type, Map<String, String> checksums) throws ServerException {
+    requireNonNull(type, "Required non-null type");
+    requireNonNull(checksums, "Required non-null checksums");
+    try {
+      doStore(type, checksums);
+    } catch (RuntimeException x) {
+      throw new ServerException(x.getLocalizedMessage(), x);
+    }
+  }
+
+  /**
+   * Removes the checksum of the seeded entity, so the entity is seeded again on the next load.
+   * Doesn't throw an exception when there is no checksum for the entity.
+   *
+   * @param type type of the seeded entity, e.g. "stack"
+   * @param entityId identifier of the seeded entity
+   * @throws ServerException when any error occurs
+   */
+  public void remove(String type, String entityId) throws ServerException {
+    requireNonNull(type, "Required non-null type");
+    requireNonNull(entityId, "Required non-null entity id");
+    try {
+      doRemove(type, entityId);
+    } catch (RuntimeException x) {
+      throw new ServerException(x.getLocalizedMessage(), x);
+    }
+  }
+
+  @Transactional
+  protected Map<String, String> doGetChecksums(String type) {
+    final Map<String, String> checksums = new HashMap<>();
+    for (SeedChecksumEntity checksum :
+        managerProvider
+            .get()
+            .createNamedQuery("SeedChecksum.getByType", SeedChecksumEntity.class)
+            .setParameter("type", type)
+            .getResultList()) {
+      checksums.put(checksum.getEntityId(), checksum.getChecksum());
+    }
+    return checksums;
+  }
+
+  @Transactional
+  protected void doStore(String type, Map<String, String> checksums) {
+    final EntityManager manager = managerProvider.get();
+    checksums.forEach((id, checksum) -> manager.merge(new SeedChecksumEntity(type, id, checksum)));
+    manager.flush();
+  }
+
+  @Transactional
+  protected void doRemove(String type, String entityId) {
+    final EntityManager manager = managerProvider.get();
+    final SeedChecksumEntity checksum =
+        manager.find(SeedChecksumEntity.class, SeedChecksumEntity.idOf(type, entityId));
+    if (checksum != null) {
+      manager.remove(checksum);
+      manager.flush();
+    }
+  }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2012-2017 Red Hat, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.core.db.seed;
+
+import java.util.Objects;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.NamedQueries;
+import javax.persistence.NamedQuery;
+import javax.persistence.Table;
+
+/**
+ * Checksum of the content an entity was seeded to the database with, e.g. of a predefined stack.
+ */
+@Entity(name = "SeedChecksum")
+@NamedQueries({
+  @NamedQuery(
+    name = "SeedChecksum.getByType",
+    query = "SELECT checksum FROM SeedChecksum checksum WHERE checksum.type = :type"
+  )
+})
+@Table(name = "che_seed_checksum")
+public class SeedChecksumEntity {
+
+  @Id
+  @Column(name = "id")
+  private String id;
+
+  @Column(name = "type", nullable = false)
+  private String type;
+
+  @Column(name = "checksum", nullable = false)
+  private String checksum;
+
+  public SeedChecksumEntity() {}
+
+  public SeedChecksumEntity(String type, String entityId, String checksum) {
+    this.id = idOf(type, entityId);
+    this.type = type;
+    this.checksum = checksum;
+  }
+
+  /** Returns the identifier of the checksum of the given seeded entity. */
+  static String idOf(String type, String entityId) {
+    return type + '/' + entityId;
+  }
+
+  public String getId() {
+    return id;
+  }
+
+  public String getType() {
+    return type;
+  }
+
+  /** Returns the identifier of the seeded entity. */
+  public String getEntityId() {
+    return id.substring(type.length() + 1);
+  }
+
+  public String getChecksum() {
+    return checksum;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (!(obj instanceof SeedChecksumEntity)) {
+      return false;
+    }
+    final SeedChecksumEntity that = (SeedChecksumEntity) obj;
+    return Objects.equals(id, that.id)
+        && Objects.equals(type, that.type)
+        && Objects.equals(checksum, that.checksum);
+  }
+
+  @Override
+  public int hashCode() {
+    int hash = 7;
+    hash = 31 * hash + Objects.hashCode(id);
+    hash = 31 * hash + Objects.hashCode(type);
+    hash = 31 * hash + Objects.hashCode(checksum);
+    return hash;
+  }
+
+  @Override
+  public String toString() {
+    return "SeedChecksumEntity{"
+        + "id='"
+        + id
+        + '\''
+        + ", type='"
+        + type
+        + '\''
+        + ", checksum='"
+        + checksum
+        + '\''
+        + '}';
+  }
+}
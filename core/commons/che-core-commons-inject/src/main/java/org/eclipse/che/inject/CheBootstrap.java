@@ -47,6 +47,8 @@ import javax.servlet.ServletContextEvent;
 import org.eclipse.che.inject.lifecycle.DestroyModule;
 import org.eclipse.che.inject.lifecycle.Destroyer;
 import org.eclipse.che.inject.lifecycle.InitModule;
+import org.eclipse.che.inject.lifecycle.InitReport;
+import org.eclipse.che.inject.lifecycle.Initializer;
 import org.everrest.guice.servlet.EverrestGuiceContextListener;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -66,6 +68,10 @@ import org.slf4j.LoggerFactory;
  *       (visible as prefixed with "sys.")
  *   <li>Thanks to Everrest integration injects all the properly annotated (see Everrest docs) REST
  *       Resources. Providers and ExceptionMappers and inject necessary dependencies
+ *   <li>Invokes &#064PostConstruct methods of the components and logs a report with the duration
+ *       of each invocation. The methods are invoked right after injection of a component unless
+ *       count of threads is configured with <i>che.bootstrap.init_threads</i> system property or
+ *       <i>CHE_BOOTSTRAP_INIT__THREADS</i> env variable, see {@link Initializer} for details
  * </ul>
  *
  * <p>Configuration properties are bound as a {@code &#064Named}. For example: Following entry in
@@ -107,6 +113,12 @@ public class CheBootstrap extends EverrestGuiceContextListener {
   /** Environment variable that is used to override some Che settings properties. */
   public static final String CHE_LOCAL_CONF_DIR = "CHE_LOCAL_CONF_DIR";
 
+  /** System property which configures count of threads to initialize components with. */
+  public static final String INIT_THREADS_PROPERTY = "che.bootstrap.init_threads";
+
+  /** Environment variable which configures count of threads to initialize components with. */
+  public static final String INIT_THREADS_ENV_VARIABLE = "CHE_BOOTSTRAP_INIT__THREADS";
+
   public static final String PROPERTIES_ALIASES_CONFIG_FILE = "che_aliases.properties";
 
   /** Path to the internal folder that is expected in WEB-INF/classes */
@@ -119,6 +131,16 @@ public class CheBootstrap extends EverrestGuiceContextListener {
 
   private final List<Module> modules = new ArrayList<>();
 
+  @Override
+  public void contextInitialized(ServletContextEvent sce) {
+    super.contextInitialized(sce);
+    final Injector injector = getInjector(sce.getServletContext());
+    if (injector != null) {
+      final InitReport report = injector.getInstance(Initializer.class).init(injector);
+      LOG.info("{}", report);
+    }
+  }
+
   @Override
   public void contextDestroyed(ServletContextEvent sce) {
     final ServletContext ctx = sce.getServletContext();
@@ -133,7 +155,7 @@ public class CheBootstrap extends EverrestGuiceContextListener {
   protected List<Module> getModules() {
     // based on logic that getServletModule() is called BEFORE getModules() in the
     // EverrestGuiceContextListener
-    modules.add(new InitModule(PostConstruct.class));
+    modules.add(new InitModule(PostConstruct.class, getInitThreads()));
     modules.add(new DestroyModule(PreDestroy.class, LOG_HANDLER));
     modules.add(new URIConverter());
     modules.add(new URLConverter());
@@ -156,6 +178,22 @@ public class CheBootstrap extends EverrestGuiceContextListener {
     return modules;
   }
 
+  private static int getInitThreads() {
+    String threads = System.getProperty(INIT_THREADS_PROPERTY);
+    if (threads == null) {
+      threads = System.getenv(INIT_THREADS_ENV_VARIABLE);
+    }
+    if (threads == null) {
+      return 1;
+    }
+    try {
+      return Integer.parseInt(threads.trim());
+    } catch (NumberFormatException e) {
+      throw new ConfigurationException(
+          format("Count of initialization threads '%s' is not a number", threads));
+    }
+  }
+
   private Map<String, Set<String>> readConfigurationAliases() {
     URL aliasesResource = getClass().getClassLoader().getResource(PROPERTIES_ALIASES_CONFIG_FILE);
     Map<String, Set<String>> aliases = new HashMap<>();
@@ -10,26 +10,37 @@
  */
 package org.eclipse.che.inject.lifecycle;
 
-import com.google.inject.ProvisionException;
 import com.google.inject.TypeLiteral;
 import com.google.inject.matcher.Matchers;
 import com.google.inject.spi.InjectionListener;
 import com.google.inject.spi.TypeEncounter;
 import com.google.inject.spi.TypeListener;
 import java.lang.annotation.Annotation;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 
 /** @author andrew00x */
 public final class InitModule extends LifecycleModule {
   private final Class<? extends Annotation> annotationType;
+  private final int threads;
 
   public InitModule(Class<? extends Annotation> annotationType) {
+    this(annotationType, 1);
+  }
+
+  /**
+   * Creates module which initializes the components with the given count of threads.
+   *
+   * @see Initializer
+   */
+  public InitModule(Class<? extends Annotation> annotationType, int threads) {
     this.annotationType = annotationType;
+    this.threads = threads;
   }
 
   @Override
   protected void configure() {
+    final Initializer initializer = new Initializer(threads);
+    bind(Initializer.class).toInstance(initializer);
     bindListener(
         Matchers.any(),
         new TypeListener() {
@@ -41,23 +52,7 @@ public final class InitModule extends LifecycleModule {
                   public void afterInjection(T injectee) {
                     final Method[] methods = get(injectee.getClass(), annotationType);
                     if (methods.length > 0) {
-                      for (Method method : methods) {
-                        try {
-                          method.invoke(injectee);
-                        } catch (IllegalArgumentException e) {
-                          // method MUST NOT have any parameters
-                          throw new ProvisionException(e.getMessage(), e);
-                        } catch (IllegalAccessException e) {
-                          throw new ProvisionException(
-                              String.format("Failed access to %s on %s", method, injectee), e);
-                        } catch (InvocationTargetException e) {
-                          final Throwable cause = e.getTargetException();
-                          throw new ProvisionException(
-                              String.format(
-                                  "Invocation error of method %s on %s", method, injectee),
-                              cause);
-                        }
-                      }
+                      initializer.add(injectee, type, methods);
                     }
                   }
                 });
@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2012-2017 Red Hat, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.inject.lifecycle;
+
+import static java.util.Collections.unmodifiableList;
+import static java.util.Comparator.comparingLong;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Report of the initialization of components performed by {@link Initializer}, contains duration
+ * of the initialization methods of each component.
+ */
+public final class InitReport {
+
+  private final List<Entry> entries;
+  private final long wallTime;
+  private final int threads;
+
+  InitReport(List<Entry> entries, long wallTime, int threads) {
+    this.entries = unmodifiableList(new ArrayList<>(entries));
+    this.wallTime = wallTime;
+    this.threads = threads;
+  }
+
+  /** Returns entries of the initialized components in the order of their initialization start. */
+  public List<Entry> getEntries() {
+    return entries;
+  }
+
+  /** Returns time in milliseconds passed from the start of the first initialization to the end. */
+  public long getWallTime() {
+    return wallTime;
+  }
+
+  /** Returns count of threads the components were initialized with. */
+  public int getThreads() {
+    return threads;
+  }
+
+  /** Returns the sum of durations of the initialization of all the components in milliseconds. */
+  public long getTotalTime() {
+    return entries.stream().mapToLong(Entry::getDuration).sum();
+  }
+
+  /**
+   * Returns the report as a table of components sorted by initialization duration, one component
+   * per line, e.g.
+   *
+   * <pre>
+   * Initialized 2 components in 120 ms on 4 threads, total initialization time 200 ms
+   *   duration=120ms start=0ms thread=init-1 component=org.example.Slow
+   *   duration=80ms start=0ms thread=init-0 component=org.example.Fast
+   * </pre>
+   */
+  @Override
+  public String toString() {
+    final StringBuilder sb =
+        new StringBuilder("Initialized ")
+            .append(entries.size())
+            .append(" components in ")
+            .append(wallTime)
+            .append(" ms on ")
+            .append(threads)
+            .append(threads == 1 ? " thread" : " threads")
+            .append(", total initialization time ")
+            .append(getTotalTime())
+            .append(" ms");
+    final List<Entry> sorted = new ArrayList<>(entries);
+    sorted.sort(comparingLong(Entry::getDuration).reversed());
+    for (Entry entry : sorted) {
+      sb.append("\n  ").append(entry);
+    }
+    return sb.toString();
+  }
+
+  /** Initialization of a single component. */
+  public static final class Entry {
+    private final String component;
+    private final String thread;
+    private final long start;
+    private final long duration;
+
+    Entry(String component, String thread, long start, long duration) {
+      this.component = component;
+      this.thread = thread;
+      this.start = start;
+      this.duration = duration;
+    }
+
+    /** Returns class name of the component. */
+    public String getComponent() {
+      return component;
+    }
+
+    /** Returns name of the thread the component was initialized in. */
+    public String getThread() {
+      return thread;
+    }
+
+    /** Returns start of the initialization in milliseconds relative to the start of the first. */
+    public long getStart() {
+      return start;
+    }
+
+    /** Returns duration of the initialization in milliseconds. */
+    public long getDuration() {
+      return duration;
+    }
+
+    @Override
+    public String toString() {
+      return "duration="
+          + duration
+          + "ms start="
+          + start
+          + "ms thread="
+          + thread
+          + " component="
+          + component;
+    }
+  }
+}
@@ -0,0 +1,312 @@
+/*
+ * Copyright (c) 2012-2017 Red Hat, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.inject.lifecycle;
+
+import static java.util.Collections.emptyList;
+import static java.util.Comparator.comparingLong;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.inject.Binding;
+import com.google.inject.ConfigurationException;
+import com.google.inject.Injector;
+import com.google.inject.Key;
+import com.google.inject.ProvisionException;
+import com.google.inject.TypeLiteral;
+import com.google.inject.spi.ConstructorBinding;
+import com.google.inject.spi.Dependency;
+import com.google.inject.spi.HasDependencies;
+import com.google.inject.spi.InjectionPoint;
+import com.google.inject.spi.InstanceBinding;
+import com.google.inject.spi.LinkedKeyBinding;
+import com.google.inject.spi.ProviderBinding;
+import com.google.inject.spi.ProviderKeyBinding;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.eclipse.che.commons.lang.concurrent.LoggingUncaughtExceptionHandler;
+
+/**
+ * Invokes initialization methods of the components created by the injector.
+ *
+ * <p>When it's configured with a single thread, the methods are invoked right after the injection
+ * of a component, as it always was. When there are more threads, initialization of the components
+ * created during the injector creation, e.g. eager singletons, is deferred until {@link
+ * #init(Injector)} is called. Then a component is initialized as soon as all the initialized
+ * components it depends on directly or through the bindings without initialization methods are
+ * initialized, so independent components are initialized concurrently. Only the components created
+ * before the dependent one are taken into account, that keeps the order of the single threaded
+ * initialization for the dependencies and makes cyclic dependencies impossible. Components created
+ * after {@link #init(Injector)} is called are initialized right after injection.
+ *
+ * <p>Note that in the concurrent mode a component must not use its dependencies from its
+ * constructor or injection methods if they require initialization.
+ */
+public final class Initializer {
+
+  private final int threads;
+  private final List<Component> deferred;
+  private final List<Invocation> invocations;
+
+  private boolean deferring;
+  private boolean recording;
+  private long origin;
+  private long end;
+
+  public Initializer(int threads) {
+    this.threads = Math.max(1, threads);
+    this.deferred = new ArrayList<>();
+    this.invocations = new ArrayList<>();
+    this.deferring = this.threads > 1;
+    this.recording = true;
+  }
+
+  /**
+   * Initializes the components which initialization was deferred, waits until it's finished and
+   * stops deferring of initialization.
+   *
+   * @param injector the injector which created the components
+   * @return report of the initialization of the components since the injector creation
+   * @throws ProvisionException when initialization of any component fails
+   */
+  public InitReport init(Injector injector) {
+    final List<Component> components;
+    synchronized (this) {
+      components = new ArrayList<>(deferred);
+      deferred.clear();
+      deferring = false;
+    }
+    if (!components.isEmpty()) {
+      initConcurrently(injector, components);
+    }
+    synchronized (this) {
+      recording = false;
+      final List<InitReport.Entry> entries = new ArrayList<>(invocations.size());
+      for (Invocation invocation : invocations) {
+        entries.add(
+            new InitReport.Entry(
+                invocation.component,
+                invocation.thread,
+                NANOSECONDS.toMillis(invocation.start - origin),
+                NANOSECONDS.toMillis(invocation.finish - invocation.start)));
+      }
+      entries.sort(comparingLong(InitReport.Entry::getStart));
+      invocations.clear();
+      return new InitReport(entries, NANOSECONDS.toMillis(end - origin), threads);
+    }
+  }
+
+  void add(Object instance, TypeLiteral<?> type, Method[] methods) {
+    synchronized (this) {
+      if (deferring) {
+        deferred.add(new Component(deferred.size(), instance, type, methods));
+        return;
+      }
+    }
+    invoke(type.getRawType().getName(), instance, methods);
+  }
+
+  private void initConcurrently(Injector injector, List<Component> components) {
+    final Map<TypeLiteral<?>, List<Component>> byType = new HashMap<>();
+    final Map<Object, Component> byInstance = new IdentityHashMap<>();
+    for (Component component : components) {
+      byType.computeIfAbsent(component.type, t -> new ArrayList<>()).add(component);
+      byInstance.put(component.instance, component);
+    }
+    final ExecutorService executor =
+        Executors.newFixedThreadPool(
+            threads,
+            new ThreadFactoryBuilder()
+                .setNameFormat("Initializer-%d")
+                .setUncaughtExceptionHandler(LoggingUncaughtExceptionHandler.getInstance())
+                .setDaemon(true)
+                .build());
+    try {
+      final CompletableFuture<?>[] futures = new CompletableFuture<?>[components.size()];
+      for (Component component : components) {
+        final CompletableFuture<?>[] dependencies =
+            dependencies(injector, component, byType, byInstance)
+                .stream()
+                .map(dependency -> futures[dependency.index])
+                .toArray(CompletableFuture<?>[]::new);
+        futures[component.index] =
+            CompletableFuture.allOf(dependencies)
+                .thenRunAsync(
+                    () ->
+                        invoke(
+                            component.type.getRawType().getName(),
+                            component.instance,
+                            component.methods),
+                    executor);
+      }
+      CompletableFuture.allOf(futures).join();
+    } catch (CompletionException x) {
+      Throwable cause = x;
+      while (cause instanceof CompletionException && cause.getCause() != null) {
+        cause = cause.getCause();
+      }
+      if (cause instanceof ProvisionException) {
+        throw (ProvisionException) cause;
+      }
+      throw new ProvisionException(cause.getMessage(), cause);
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  /**
+   * Finds the components created before the given one which it depends on, traversing the
+   * bindings of its injection points until a binding of an initialized component is reached.
+   */
+  private static Set<Component> dependencies(
+      Injector injector,
+      Component component,
+      Map<TypeLiteral<?>, List<Component>> byType,
+      Map<Object, Component> byInstance) {
+    final Set<Component> dependencies = new LinkedHashSet<>();
+    final Set<Key<?>> visited = new HashSet<>();
+    final Deque<Key<?>> keys = new ArrayDeque<>(injectionKeys(component.type));
+    while (!keys.isEmpty()) {
+      final Key<?> key = keys.poll();
+      if (!visited.add(key)) {
+        continue;
+      }
+      final Binding<?> binding = injector.getExistingBinding(key);
+      if (binding == null) {
+        continue;
+      }
+      final List<Component> found = new ArrayList<>();
+      if (binding instanceof InstanceBinding) {
+        final Component bound = byInstance.get(((InstanceBinding<?>) binding).getInstance());
+        if (bound != null) {
+          found.add(bound);
+        }
+      } else if (binding instanceof ConstructorBinding) {
+        final ConstructorBinding<?> constructorBinding = (ConstructorBinding<?>) binding;
+        final TypeLiteral<?> type = constructorBinding.getConstructor().getDeclaringType();
+        found.addAll(byType.getOrDefault(type, emptyList()));
+      }
+      found.removeIf(dependency -> dependency.index >= component.index);
+      if (!found.isEmpty()) {
+        dependencies.addAll(found);
+        continue;
+      }
+      if (binding instanceof LinkedKeyBinding) {
+        keys.add(((LinkedKeyBinding<?>) binding).getLinkedKey());
+      } else if (binding instanceof ProviderKeyBinding) {
+        keys.add(((ProviderKeyBinding<?>) binding).getProviderKey());
+      } else if (binding instanceof ProviderBinding) {
+        keys.add(((ProviderBinding<?>) binding).getProvidedKey());
+      }
+      if (binding instanceof HasDependencies) {
+        for (Dependency<?> dependency : ((HasDependencies) binding).getDependencies()) {
+          keys.add(dependency.getKey());
+        }
+      }
+    }
+    return dependencies;
+  }
+
+  private static List<Key<?>> injectionKeys(TypeLiteral<?> type) {
+    final List<Key<?>> keys = new ArrayList<>();
+    try {
+      for (Dependency<?> dependency : InjectionPoint.forConstructorOf(type).getDependencies()) {
+        keys.add(dependency.getKey());
+      }
+    } catch (ConfigurationException ignored) {
+      // instances bound with toInstance may have no injectable constructor
+    }
+    try {
+      for (InjectionPoint point : InjectionPoint.forInstanceMethodsAndFields(type)) {
+        for (Dependency<?> dependency : point.getDependencies()) {
+          keys.add(dependency.getKey());
+        }
+      }
+    } catch (ConfigurationException ignored) {
+      // the component is already injected so it can't happen
+    }
+    return keys;
+  }
+
+  private void invoke(String component, Object instance, Method[] methods) {
+    final long start = System.nanoTime();
+    for (Method method : methods) {
+      try {
+        method.invoke(instance);
+      } catch (IllegalArgumentException e) {
+        // method MUST NOT have any parameters
+        throw new ProvisionException(e.getMessage(), e);
+      } catch (IllegalAccessException e) {
+        throw new ProvisionException(
+            String.format("Failed access to %s on %s", method, instance), e);
+      } catch (InvocationTargetException e) {
+        final Throwable cause = e.getTargetException();
+        throw new ProvisionException(
+            String.format("Invocation error of method %s on %s", method, instance), cause);
+      }
+    }
+    record(component, start, System.nanoTime());
+  }
+
+  private synchronized void record(String component, long start, long finish) {
+    if (!recording) {
+      return;
+    }
+    if (invocations.isEmpty()) {
+      origin = start;
+      end = finish;
+    }
+    origin = Math.min(origin, start);
+    end = Math.max(end, finish);
+    invocations.add(new Invocation(component, Thread.currentThread().getName(), start, finish));
+  }
+
+  private static class Component {
+    final int index;
+    final Object instance;
+    final TypeLiteral<?> type;
+    final Method[] methods;
+
+    Component(int index, Object instance, TypeLiteral<?> type, Method[] methods) {
+      this.index = index;
+      this.instance = instance;
+      this.type = type;
+      this.methods = methods;
+    }
+  }
+
+  private static class Invocation {
+    final String component;
+    final String thread;
+    final long start;
+    final long finish;
+
+    Invocation(String component, String thread, long start, long finish) {
+      this.component = component;
+      this.thread = thread;
+      this.start = start;
+      this.finish = finish;
+    }
+  }
+}
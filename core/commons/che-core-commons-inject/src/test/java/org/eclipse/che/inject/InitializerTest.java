@@ -0,0 +1,198 @@
+/*
+ * Copyright (c) 2012-2017 Red Hat, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.inject;
+
+import static java.util.stream.Collectors.toSet;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import com.google.common.collect.ImmutableSet;
+import com.google.inject.AbstractModule;
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import com.google.inject.ProvisionException;
+import javax.annotation.PostConstruct;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import org.eclipse.che.inject.lifecycle.InitModule;
+import org.eclipse.che.inject.lifecycle.InitReport;
+import org.eclipse.che.inject.lifecycle.Initializer;
+import org.testng.annotations.Test;
+
+/** Tests concurrent initialization of components by {@link Initializer}. */
+public class InitializerTest {
+
+  private static final long INIT_MILLIS = 300;
+
+  @Test
+  public void wallTimeShouldScaleDownWithThreads() {
+    final long sequentialTime = boot(1).getWallTime();
+    final long concurrentTime = boot(4).getWallTime();
+
+    assertTrue(
+        concurrentTime * 2 < sequentialTime,
+        "Sequential init took " + sequentialTime + " ms, concurrent " + concurrentTime + " ms");
+  }
+
+  @Test
+  public void shouldInitializeDependenciesFirst() {
+    final Injector injector =
+        Guice.createInjector(new InitModule(PostConstruct.class, 4), new SlowComponentsModule());
+    assertFalse(injector.getInstance(SlowA.class).initialized);
+
+    injector.getInstance(Initializer.class).init(injector);
+
+    assertTrue(injector.getInstance(DirectDependent.class).dependencyInitialized);
+    assertTrue(injector.getInstance(TransitiveDependent.class).dependencyInitialized);
+  }
+
+  @Test
+  public void shouldReportInitializationOfEachComponent() {
+    final InitReport report = boot(4);
+
+    assertEquals(report.getThreads(), 4);
+    assertEquals(
+        report.getEntries().stream().map(InitReport.Entry::getComponent).collect(toSet()),
+        ImmutableSet.of(
+            SlowA.class.getName(),
+            SlowB.class.getName(),
+            SlowC.class.getName(),
+            SlowD.class.getName(),
+            DirectDependent.class.getName(),
+            TransitiveDependent.class.getName()));
+    assertTrue(
+        report
+            .getEntries()
+            .stream()
+            .filter(entry -> entry.getComponent().equals(SlowA.class.getName()))
+            .allMatch(entry -> entry.getDuration() >= INIT_MILLIS));
+  }
+
+  @Test
+  public void shouldInitializeComponentsCreatedAfterInitImmediately() {
+    final Injector injector =
+        Guice.createInjector(new InitModule(PostConstruct.class, 4), new SlowComponentsModule());
+    injector.getInstance(Initializer.class).init(injector);
+
+    assertTrue(injector.getInstance(LazyComponent.class).initialized);
+  }
+
+  @Test(expectedExceptions = ProvisionException.class)
+  public void shouldFailWhenInitializationOfComponentFails() {
+    final Injector injector =
+        Guice.createInjector(
+            new InitModule(PostConstruct.class, 4),
+            new AbstractModule() {
+              @Override
+              protected void configure() {
+                bind(FailingComponent.class).asEagerSingleton();
+              }
+            });
+
+    injector.getInstance(Initializer.class).init(injector);
+  }
+
+  private InitReport boot(int threads) {
+    final Injector injector =
+        Guice.createInjector(
+            new InitModule(PostConstruct.class, threads), new SlowComponentsModule());
+    return injector.getInstance(Initializer.class).init(injector);
+  }
+
+  private static class SlowComponentsModule extends AbstractModule {
+    @Override
+    protected void configure() {
+      bind(SlowA.class).asEagerSingleton();
+      bind(SlowB.class).asEagerSingleton();
+      bind(SlowC.class).asEagerSingleton();
+      bind(SlowD.class).asEagerSingleton();
+      bind(Service.class).to(SlowA.class);
+      bind(DirectDependent.class).asEagerSingleton();
+      bind(TransitiveDependent.class).asEagerSingleton();
+    }
+  }
+
+  interface Service {}
+
+  abstract static class SlowComponent {
+    volatile boolean initialized;
+
+    @PostConstruct
+    void init() throws InterruptedException {
+      Thread.sleep(INIT_MILLIS);
+      initialized = true;
+    }
+  }
+
+  @Singleton
+  static class SlowA extends SlowComponent implements Service {}
+
+  @Singleton
+  static class SlowB extends SlowComponent {}
+
+  @Singleton
+  static class SlowC extends SlowComponent {}
+
+  @Singleton
+  static class SlowD extends SlowComponent {}
+
+  /** Depends on {@link SlowA} through the binding of {@link Service}. */
+  @Singleton
+  static class DirectDependent {
+    final Service service;
+    volatile boolean dependencyInitialized;
+
+    @Inject
+    DirectDependent(Service service) {
+      this.service = service;
+    }
+
+    @PostConstruct
+    void init() {
+      dependencyInitialized = ((SlowA) service).initialized;
+    }
+  }
+
+  /** Has no initialization method, depends on {@link SlowB}. */
+  static class Holder {
+    @Inject SlowB slowB;
+  }
+
+  /** Depends on {@link SlowB} through the {@link Holder}. */
+  @Singleton
+  static class TransitiveDependent {
+    @Inject Holder holder;
+    volatile boolean dependencyInitialized;
+
+    @PostConstruct
+    void init() {
+      dependencyInitialized = holder.slowB.initialized;
+    }
+  }
+
+  static class LazyComponent {
+    boolean initialized;
+
+    @PostConstruct
+    void init() {
+      initialized = true;
+    }
+  }
+
+  @Singleton
+  static class FailingComponent {
+    @PostConstruct
+    void init() {
+      throw new IllegalStateException("failed");
+    }
+  }
+}
@@ -10,6 +10,7 @@
  */
 package org.eclipse.che.commons.schedule;
 
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -41,12 +42,28 @@ public interface Launcher {
    * initialDelay+period, then initialDelay + 2 * period, and so on. If any execution of the task
    * encounters an exception, subsequent executions are suppressed. Otherwise, the task will only
    * terminate via cancellation or termination of the executor. If any execution of this task takes
-   * longer than its period, then subsequent executions may start late, but will not concurrently
-   * execute.
+   * longer than its period, then the executions missed meanwhile are coalesced into a single one,
+   * which starts late, the executions never run concurrently.
    *
    * <p>Analogue of {@link
    * java.util.concurrent.ScheduledExecutorService#scheduleAtFixedRate(Runnable, long, long,
    * java.util.concurrent.TimeUnit)} }
    */
   void scheduleAtFixedRate(Runnable runnable, long initialDelay, long period, TimeUnit unit);
+
+  /**
+   * Same as {@link #scheduleAtFixedRate(Runnable, long, long, TimeUnit)}, but the first execution
+   * is additionally delayed for a random time less than {@code jitter}, so the jobs scheduled with
+   * the same period at the same moment don't fire all at once.
+   *
+   * <p>Default implementation adds the random delay to the initial one.
+   */
+  default void scheduleAtFixedRate(
+      Runnable runnable, long initialDelay, long period, long jitter, TimeUnit unit) {
+    scheduleAtFixedRate(
+        runnable,
+        jitter > 0 ? initialDelay + ThreadLocalRandom.current().nextLong(jitter) : initialDelay,
+        period,
+        unit);
+  }
 }
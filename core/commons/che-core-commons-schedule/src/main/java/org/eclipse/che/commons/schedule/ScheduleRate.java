@@ -22,8 +22,8 @@ import java.util.concurrent.TimeUnit;
  * initialDelay then initialDelay+period, then initialDelay + 2 * period, and so on. If any
  * execution of the task encounters an exception, subsequent executions are suppressed. Otherwise,
  * the task will only terminate via cancellation or termination of the executor. If any execution of
- * this task takes longer than its period, then subsequent executions may start late, but will not
- * concurrently execute.
+ * this task takes longer than its period, then the executions missed meanwhile are coalesced into a
+ * single one, which starts late, the executions never run concurrently.
  *
  * <p>Analogue of {@link java.util.concurrent.ScheduledExecutorService#scheduleAtFixedRate(Runnable,
  * long, long, java.util.concurrent.TimeUnit)} }
@@ -40,7 +40,7 @@ public @interface ScheduleRate {
   /** @return the period between successive executions */
   long period() default 0;
 
-  /** @return the time unit of the initialDelay and period parameters */
+  /** @return the time unit of the initialDelay, period and jitter parameters */
   TimeUnit unit() default TimeUnit.SECONDS;
 
   /** @return - name of configuration parameter for initialDelay */
@@ -51,4 +51,13 @@ public @interface ScheduleRate {
    *     the scheduling of the method.
    */
   String periodParameterName() default "";
+
+  /**
+   * @return upper bound of the random time the first execution is additionally delayed for, it
+   *     spreads the executions of the jobs with the same period
+   */
+  long jitter() default 0;
+
+  /** @return - name of configuration parameter for jitter */
+  String jitterParameterName() default "";
 }
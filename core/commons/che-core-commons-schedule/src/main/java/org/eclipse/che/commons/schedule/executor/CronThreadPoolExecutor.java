@@ -100,7 +100,11 @@ public class CronThreadPoolExecutor extends ScheduledThreadPoolExecutor
             try {
               while (time != null) {
                 CronThreadPoolExecutor.this.schedule(
-                    task, time.getTime() - now.getTime(), TimeUnit.MILLISECONDS);
+                    task instanceof ScheduledJob
+                        ? ((ScheduledJob) task).firedAt(time.getTime())
+                        : task,
+                    time.getTime() - now.getTime(),
+                    TimeUnit.MILLISECONDS);
                 while (now.before(time)) {
                   LOG.debug("Cron watch dog wait {} ", time.getTime() - now.getTime());
                   if (countDownLatch.await(time.getTime() - now.getTime(), TimeUnit.MILLISECONDS)) {
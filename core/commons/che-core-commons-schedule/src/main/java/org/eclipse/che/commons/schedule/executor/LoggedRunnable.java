@@ -70,4 +70,9 @@ public class LoggedRunnable implements Runnable {
       throw e;
     }
   }
+
+  @Override
+  public String toString() {
+    return method.getDeclaringClass().getName() + '#' + method.getName();
+  }
 }
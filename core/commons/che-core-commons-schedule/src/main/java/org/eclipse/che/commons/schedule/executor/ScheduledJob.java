@@ -0,0 +1,226 @@
+/*
+ * Copyright (c) 2012-2017 Red Hat, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.commons.schedule.executor;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import com.google.common.base.Ticker;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Periodic job which is executed by a single thread at a time and keeps statistics of its
+ * executions.
+ *
+ * <ul>
+ *   <li>A firing which happens while the previous execution is still running is skipped, that is
+ *       possible for cron jobs
+ *   <li>A firing of a fixed rate job which is late for a whole period or more is skipped, so the
+ *       firings missed while a long execution was running are coalesced into a single execution
+ *       instead of running one after another
+ *   <li>Lag, the time between the moment the job should have been fired and the actual start, and
+ *       duration of each execution is measured
+ * </ul>
+ *
+ * <p>Instances are thread safe.
+ */
+public class ScheduledJob implements Runnable {
+  private static final Logger LOG = LoggerFactory.getLogger(ScheduledJob.class);
+
+  /** Kind of the job scheduling. */
+  public enum Type {
+    CRON,
+    FIXED_RATE,
+    FIXED_DELAY
+  }
+
+  private final String name;
+  private final Type type;
+  private final Runnable task;
+  private final long period;
+  private final Ticker ticker;
+  private final AtomicBoolean running;
+
+  private long expected;
+  private long executions;
+  private long skipped;
+  private long failures;
+  private long lastStart;
+  private long lastDuration;
+  private long maxDuration;
+  private long totalDuration;
+  private long lastLag;
+  private long maxLag;
+
+  /**
+   * Creates a job fired at fixed rate or with fixed delay.
+   *
+   * @param name name of the job
+   * @param type {@link Type#FIXED_RATE} or {@link Type#FIXED_DELAY}
+   * @param task the task to execute
+   * @param initialDelay delay of the first firing from now
+   * @param period period of the fixed rate or delay between executions
+   * @param unit unit of the delay and period
+   * @param ticker source of the time
+   */
+  public ScheduledJob(
+      String name,
+      Type type,
+      Runnable task,
+      long initialDelay,
+      long period,
+      TimeUnit unit,
+      Ticker ticker) {
+    this.name = name;
+    this.type = type;
+    this.task = task;
+    this.period = unit.toNanos(period);
+    this.ticker = ticker;
+    this.running = new AtomicBoolean();
+    this.expected = ticker.read() + unit.toNanos(initialDelay);
+  }
+
+  /**
+   * Creates a cron job, the moments it's fired at are provided by the executor with {@link
+   * #firedAt(long)}.
+   */
+  public ScheduledJob(String name, Runnable task, Ticker ticker) {
+    this(name, Type.CRON, task, 0, 0, NANOSECONDS, ticker);
+  }
+
+  /** Executes the job fired by the fixed rate or delay schedule. */
+  @Override
+  public void run() {
+    final long now = ticker.read();
+    final long lag;
+    synchronized (this) {
+      lag = Math.max(0, now - expected);
+      expected += period;
+      if (type == Type.FIXED_RATE && period > 0 && lag >= period) {
+        skipped++;
+        LOG.debug("Skipping firing of job {} late for {} ms", name, NANOSECONDS.toMillis(lag));
+        return;
+      }
+    }
+    execute(now, lag);
+  }
+
+  /**
+   * Returns the task which executes the cron job fired at the given moment.
+   *
+   * @param time the moment in milliseconds since epoch the job is fired at
+   */
+  public Runnable firedAt(long time) {
+    return () -> {
+      final long now = ticker.read();
+      execute(now, Math.max(0, TimeUnit.MILLISECONDS.toNanos(System.currentTimeMillis() - time)));
+    };
+  }
+
+  private void execute(long start, long lag) {
+    if (!running.compareAndSet(false, true)) {
+      synchronized (this) {
+        skipped++;
+      }
+      LOG.debug("Skipping firing of job {} as its previous execution is still running", name);
+      return;
+    }
+    final long startTime = System.currentTimeMillis();
+    boolean failed = true;
+    try {
+      task.run();
+      failed = false;
+    } finally {
+      final long end = ticker.read();
+      synchronized (this) {
+        executions++;
+        if (failed) {
+          failures++;
+        }
+        lastStart = startTime;
+        lastDuration = end - start;
+        maxDuration = Math.max(maxDuration, lastDuration);
+        totalDuration += lastDuration;
+        lastLag = lag;
+        maxLag = Math.max(maxLag, lag);
+        if (type == Type.FIXED_DELAY) {
+          expected = end + period;
+        }
+      }
+      running.set(false);
+    }
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public Type getType() {
+    return type;
+  }
+
+  /** Returns whether the job is executing at the moment. */
+  public boolean isRunning() {
+    return running.get();
+  }
+
+  /** Returns count of the finished executions, failed included. */
+  public synchronized long getExecutions() {
+    return executions;
+  }
+
+  /** Returns count of the skipped firings. */
+  public synchronized long getSkipped() {
+    return skipped;
+  }
+
+  /** Returns count of the executions finished with an exception. */
+  public synchronized long getFailures() {
+    return failures;
+  }
+
+  /** Returns start time of the last finished execution in milliseconds since epoch or 0. */
+  public synchronized long getLastStart() {
+    return lastStart;
+  }
+
+  /** Returns duration of the last finished execution in milliseconds. */
+  public synchronized long getLastDuration() {
+    return NANOSECONDS.toMillis(lastDuration);
+  }
+
+  /** Returns duration of the longest execution in milliseconds. */
+  public synchronized long getMaxDuration() {
+    return NANOSECONDS.toMillis(maxDuration);
+  }
+
+  /** Returns average duration of the executions in milliseconds. */
+  public synchronized long getAverageDuration() {
+    return executions == 0 ? 0 : NANOSECONDS.toMillis(totalDuration / executions);
+  }
+
+  /** Returns lag of the start of the last finished execution in milliseconds. */
+  public synchronized long getLastLag() {
+    return NANOSECONDS.toMillis(lastLag);
+  }
+
+  /** Returns the longest lag of the start of an execution in milliseconds. */
+  public synchronized long getMaxLag() {
+    return NANOSECONDS.toMillis(maxLag);
+  }
+
+  @Override
+  public String toString() {
+    return name;
+  }
+}
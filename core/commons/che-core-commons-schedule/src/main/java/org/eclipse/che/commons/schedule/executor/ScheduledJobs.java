@@ -0,0 +1,32 @@
+/*
+ * Copyright (c) 2012-2017 Red Hat, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.commons.schedule.executor;
+
+import static java.util.Collections.unmodifiableList;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import javax.inject.Singleton;
+
+/** Registry of the jobs scheduled by {@link ThreadPullLauncher}. */
+@Singleton
+public class ScheduledJobs {
+  private final List<ScheduledJob> jobs = new CopyOnWriteArrayList<>();
+
+  void add(ScheduledJob job) {
+    jobs.add(job);
+  }
+
+  /** Returns the scheduled jobs in the order they were scheduled. */
+  public List<ScheduledJob> getJobs() {
+    return unmodifiableList(jobs);
+  }
+}
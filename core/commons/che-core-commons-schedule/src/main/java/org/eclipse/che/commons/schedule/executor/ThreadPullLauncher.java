@@ -10,8 +10,10 @@
  */
 package org.eclipse.che.commons.schedule.executor;
 
+import com.google.common.base.Ticker;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import java.text.ParseException;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 import javax.annotation.PreDestroy;
 import javax.inject.Inject;
@@ -25,7 +27,8 @@ import org.slf4j.LoggerFactory;
 
 /**
  * Execute method marked with @ScheduleCron @ScheduleDelay and @ScheduleRate annotations using
- * CronThreadPoolExecutor.
+ * CronThreadPoolExecutor. Each job is wrapped into {@link ScheduledJob} which prevents overlapping
+ * executions and is registered in {@link ScheduledJobs}.
  *
  * @author Sergii Kabashniuk
  */
@@ -33,13 +36,17 @@ import org.slf4j.LoggerFactory;
 public class ThreadPullLauncher implements Launcher {
   private static final Logger LOG = LoggerFactory.getLogger(CronThreadPoolExecutor.class);
   private final CronThreadPoolExecutor service;
+  private final ScheduledJobs jobs;
 
   /**
    * @param corePoolSize the number of threads to keep in the pool, even if they are idle, unless
    *     {@code allowCoreThreadTimeOut} is set
+   * @param jobs registry of the scheduled jobs
    */
   @Inject
-  public ThreadPullLauncher(@Named("schedule.core_pool_size") Integer corePoolSize) {
+  public ThreadPullLauncher(
+      @Named("schedule.core_pool_size") Integer corePoolSize, ScheduledJobs jobs) {
+    this.jobs = jobs;
     this.service =
         new CronThreadPoolExecutor(
             corePoolSize,
@@ -76,7 +83,9 @@ public class ThreadPullLauncher implements Launcher {
     }
     try {
       CronExpression expression = new CronExpression(cron);
-      service.schedule(runnable, expression);
+      ScheduledJob job = new ScheduledJob(runnable.toString(), runnable, Ticker.systemTicker());
+      service.schedule(job, expression);
+      jobs.add(job);
       LOG.debug("Schedule method {} with cron  {} schedule", runnable, cron);
     } catch (ParseException e) {
       LOG.error(e.getLocalizedMessage(), e);
@@ -97,7 +106,17 @@ public class ThreadPullLauncher implements Launcher {
       return;
     }
 
-    service.scheduleWithFixedDelay(runnable, initialDelay, delay, unit);
+    ScheduledJob job =
+        new ScheduledJob(
+            runnable.toString(),
+            ScheduledJob.Type.FIXED_DELAY,
+            runnable,
+            initialDelay,
+            delay,
+            unit,
+            Ticker.systemTicker());
+    service.scheduleWithFixedDelay(job, initialDelay, delay, unit);
+    jobs.add(job);
     LOG.debug(
         "Schedule method {} with fixed initial delay {} delay {} unit {}",
         runnable,
@@ -109,6 +128,12 @@ public class ThreadPullLauncher implements Launcher {
   @Override
   public void scheduleAtFixedRate(
       Runnable runnable, long initialDelay, long period, TimeUnit unit) {
+    scheduleAtFixedRate(runnable, initialDelay, period, 0, unit);
+  }
+
+  @Override
+  public void scheduleAtFixedRate(
+      Runnable runnable, long initialDelay, long period, long jitter, TimeUnit unit) {
     if (period <= 0) {
       LOG.debug(
           "Method {} with fixed rate has not been scheduled (period <= 0). Initial delay {} period {} unit {}",
@@ -119,11 +144,26 @@ public class ThreadPullLauncher implements Launcher {
       return;
     }
 
-    service.scheduleAtFixedRate(runnable, initialDelay, period, unit);
+    long initialDelayNanos = unit.toNanos(initialDelay);
+    if (jitter > 0) {
+      initialDelayNanos += ThreadLocalRandom.current().nextLong(unit.toNanos(jitter));
+    }
+    ScheduledJob job =
+        new ScheduledJob(
+            runnable.toString(),
+            ScheduledJob.Type.FIXED_RATE,
+            runnable,
+            initialDelayNanos,
+            unit.toNanos(period),
+            TimeUnit.NANOSECONDS,
+            Ticker.systemTicker());
+    service.scheduleAtFixedRate(job, initialDelayNanos, unit.toNanos(period), TimeUnit.NANOSECONDS);
+    jobs.add(job);
     LOG.debug(
-        "Schedule method {} with fixed rate. Initial delay {} period {} unit {}",
+        "Schedule method {} with fixed rate. Initial delay {} jitter {} period {} unit {}",
         runnable,
         initialDelay,
+        jitter,
         period,
         unit);
   }
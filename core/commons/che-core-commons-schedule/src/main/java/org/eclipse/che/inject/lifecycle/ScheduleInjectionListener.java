@@ -131,6 +131,9 @@ public class ScheduleInjectionListener<T> extends LifecycleModule implements Inj
         annotation.periodParameterName().isEmpty()
             ? annotation.period()
             : getValue(annotation.periodParameterName()),
+        annotation.jitterParameterName().isEmpty()
+            ? annotation.jitter()
+            : getValue(annotation.jitterParameterName()),
         annotation.unit());
   }
 
@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2012-2017 Red Hat, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.commons.schedule.executor;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+import com.google.common.base.Ticker;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/** Tests for {@link ScheduledJob}. */
+public class ScheduledJobTest {
+
+  private VirtualTicker ticker;
+
+  @BeforeMethod
+  public void setUp() {
+    ticker = new VirtualTicker();
+  }
+
+  @Test
+  public void shouldCoalesceFixedRateFiringsMissedDuringLongExecution() {
+    final AtomicLong executions = new AtomicLong();
+    final ScheduledJob job =
+        new ScheduledJob(
+            "rate",
+            ScheduledJob.Type.FIXED_RATE,
+            () -> ticker.advance(executions.incrementAndGet() == 1 ? 25 : 1),
+            0,
+            10,
+            SECONDS,
+            ticker);
+
+    // the first execution takes 25 seconds
+    job.run();
+    // firings at 10 and 20 seconds are executed by the executor one after another at 25 seconds
+    job.run();
+    job.run();
+
+    assertEquals(executions.get(), 2);
+    assertEquals(job.getExecutions(), 2);
+    assertEquals(job.getSkipped(), 1);
+    assertEquals(job.getLastLag(), 5_000);
+    assertEquals(job.getMaxDuration(), 25_000);
+    assertEquals(job.getLastDuration(), 1_000);
+    assertEquals(job.getAverageDuration(), 13_000);
+  }
+
+  @Test
+  public void shouldNotSkipFixedRateFiringsWhichAreInTime() {
+    final ScheduledJob job =
+        new ScheduledJob(
+            "rate", ScheduledJob.Type.FIXED_RATE, () -> ticker.advance(9), 0, 10, SECONDS, ticker);
+
+    for (int i = 0; i < 5; i++) {
+      job.run();
+      ticker.advance(1);
+    }
+
+    assertEquals(job.getExecutions(), 5);
+    assertEquals(job.getSkipped(), 0);
+    assertEquals(job.getMaxLag(), 0);
+  }
+
+  @Test
+  public void shouldMeasureLagOfFixedDelayJob() {
+    final ScheduledJob job =
+        new ScheduledJob(
+            "delay",
+            ScheduledJob.Type.FIXED_DELAY,
+            () -> ticker.advance(3),
+            5,
+            10,
+            SECONDS,
+            ticker);
+
+    ticker.advance(7);
+    job.run();
+    // next firing is expected 10 seconds after the end of the execution
+    ticker.advance(11);
+    job.run();
+
+    assertEquals(job.getExecutions(), 2);
+    assertEquals(job.getMaxLag(), 2_000);
+    assertEquals(job.getLastLag(), 1_000);
+  }
+
+  @Test
+  public void shouldSkipCronFiringWhileExecutionIsRunning() throws Exception {
+    final CountDownLatch started = new CountDownLatch(1);
+    final CountDownLatch release = new CountDownLatch(1);
+    final ScheduledJob job =
+        new ScheduledJob(
+            "cron",
+            () -> {
+              started.countDown();
+              try {
+                release.await();
+              } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+              }
+            },
+            ticker);
+    final Thread first = new Thread(job.firedAt(System.currentTimeMillis()));
+    first.start();
+    assertTrue(started.await(10, SECONDS));
+
+    job.firedAt(System.currentTimeMillis()).run();
+    assertTrue(job.isRunning());
+    release.countDown();
+    first.join(10_000);
+
+    assertFalse(job.isRunning());
+    assertEquals(job.getExecutions(), 1);
+    assertEquals(job.getSkipped(), 1);
+  }
+
+  @Test
+  public void shouldCountFailedExecutions() {
+    final ScheduledJob job =
+        new ScheduledJob(
+            "failing",
+            ScheduledJob.Type.FIXED_DELAY,
+            () -> {
+              throw new IllegalStateException("failed");
+            },
+            0,
+            10,
+            SECONDS,
+            ticker);
+
+    try {
+      job.run();
+      fail("Exception of the job is expected to be rethrown");
+    } catch (IllegalStateException ignored) {
+    }
+
+    assertFalse(job.isRunning());
+    assertEquals(job.getExecutions(), 1);
+    assertEquals(job.getFailures(), 1);
+  }
+
+  /** Ticker which time is advanced by the test. */
+  private static class VirtualTicker extends Ticker {
+    private final AtomicLong nanos = new AtomicLong();
+
+    void advance(long seconds) {
+      nanos.addAndGet(SECONDS.toNanos(seconds));
+    }
+
+    @Override
+    public long read() {
+      return nanos.get();
+    }
+  }
+}
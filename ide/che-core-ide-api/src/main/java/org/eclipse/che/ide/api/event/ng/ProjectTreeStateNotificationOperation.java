@@ -14,6 +14,8 @@ import static org.eclipse.che.ide.api.resources.ResourceDelta.ADDED;
 import static org.eclipse.che.ide.api.resources.ResourceDelta.REMOVED;
 import static org.eclipse.che.ide.api.resources.ResourceDelta.UPDATED;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.function.BiConsumer;
 import javax.inject.Inject;
 import javax.inject.Singleton;
@@ -24,6 +26,7 @@ import org.eclipse.che.api.project.shared.dto.event.ProjectTreeStateUpdateDto;
 import org.eclipse.che.ide.api.app.AppContext;
 import org.eclipse.che.ide.api.resources.Container;
 import org.eclipse.che.ide.api.resources.ExternalResourceDelta;
+import org.eclipse.che.ide.api.resources.ResourceDelta;
 import org.eclipse.che.ide.resource.Path;
 import org.eclipse.che.ide.util.loging.Log;
 
@@ -31,6 +34,7 @@ import org.eclipse.che.ide.util.loging.Log;
  * Receives project tree status notifications from server side. There are three type of
  * notifications for files and directories in a project tree: creation, removal, modification. Each
  * notification is processed and passed further to an instance of workspace {@link Container}.
+ * Batches of notifications are synchronized with the workspace {@link Container} at once.
  *
  * @author Dmitry Kuleshov
  */
@@ -52,6 +56,32 @@ public class ProjectTreeStateNotificationOperation
         .paramsAsDto(ProjectTreeStateUpdateDto.class)
         .noResult()
         .withBiConsumer(this);
+
+    configurator
+        .newConfiguration()
+        .methodName("event/project-tree-state-changed/batch")
+        .paramsAsListOfDto(ProjectTreeStateUpdateDto.class)
+        .noResult()
+        .withBiConsumer(this::acceptBatch);
+  }
+
+  private void acceptBatch(String endpointId, List<ProjectTreeStateUpdateDto> batch) {
+    final List<ResourceDelta> deltas = new ArrayList<>(batch.size());
+    for (ProjectTreeStateUpdateDto params : batch) {
+      final String path = params.getPath();
+      if (path == null || path.isEmpty()) {
+        appContext.getWorkspaceRoot().synchronize();
+        return;
+      }
+      final Path itemPath = Path.valueOf(path);
+      deltas.add(new ExternalResourceDelta(itemPath, itemPath, toStatus(params.getType())));
+    }
+
+    Log.debug(getClass(), "Received batch of " + deltas.size() + " project tree changes");
+
+    if (!deltas.isEmpty()) {
+      appContext.getWorkspaceRoot().synchronize(deltas.toArray(new ResourceDelta[deltas.size()]));
+    }
   }
 
   @Override
@@ -59,34 +89,7 @@ public class ProjectTreeStateNotificationOperation
     final String path = params.getPath();
     final FileWatcherEventType type = params.getType();
 
-    final int status;
-
-    switch (type) {
-      case CREATED:
-        {
-          status = ADDED;
-
-          break;
-        }
-      case DELETED:
-        {
-          status = REMOVED;
-
-          break;
-        }
-      case MODIFIED:
-        {
-          status = UPDATED;
-
-          break;
-        }
-      default:
-        {
-          status = UPDATED;
-
-          break;
-        }
-    }
+    final int status = toStatus(type);
 
     Log.debug(
         getClass(), "Received request\npath: " + path + "\ntype:" + type + "\nstatus:" + status);
@@ -99,4 +102,16 @@ public class ProjectTreeStateNotificationOperation
           .synchronize(new ExternalResourceDelta(Path.valueOf(path), Path.valueOf(path), status));
     }
   }
+
+  private int toStatus(FileWatcherEventType type) {
+    switch (type) {
+      case CREATED:
+        return ADDED;
+      case DELETED:
+        return REMOVED;
+      case MODIFIED:
+      default:
+        return UPDATED;
+    }
+  }
 }
@@ -1196,6 +1196,9 @@ public interface CoreLocalizationConstant extends Messages {
   @Key("consoles.autoScrollButton.tooltip")
   String consolesAutoScrollButtonTooltip();
 
+  @Key("consoles.earlierOutput.hidden")
+  String consolesEarlierOutputHidden(int count);
+
   @Key("view.processes.command.title")
   String viewProcessesCommandTitle();
 
@@ -11,6 +11,8 @@
 package org.eclipse.che.ide.console;
 
 import static com.google.common.base.Strings.isNullOrEmpty;
+import static java.util.Collections.emptyList;
+import static java.util.stream.Collectors.toList;
 import static org.eclipse.che.api.workspace.shared.Constants.COMMAND_PREVIEW_URL_ATTRIBUTE_NAME;
 
 import com.google.gwt.user.client.ui.AcceptsOneWidget;
@@ -114,6 +116,7 @@ public class CommandOutputConsolePresenter
     }
 
     view.showCommandLine(command.getCommandLine());
+    view.enableEarlierOutput(true);
   }
 
   @Override
@@ -278,6 +281,19 @@ public class CommandOutputConsolePresenter
     view.toggleScrollToEndButton(bottomReached);
   }
 
+  @Override
+  public void onEarlierOutputRequested(int skip, int limit) {
+    execAgentCommandManager
+        .getProcessLogs(machine.getId(), pid, null, null, limit, skip)
+        .onSuccess(
+            logs ->
+                view.printEarlierOutput(
+                    logs.stream()
+                        .map(log -> new ConsoleOutputBuffer.Line(log.getText(), null))
+                        .collect(toList())))
+        .onFailure(() -> view.printEarlierOutput(emptyList()));
+  }
+
   /**
    * Returns the console text.
    *
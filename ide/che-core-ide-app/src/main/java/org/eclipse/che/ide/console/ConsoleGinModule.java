@@ -20,6 +20,7 @@ public class ConsoleGinModule extends AbstractGinModule {
   @Override
   protected void configure() {
     bind(OutputConsoleView.class).to(OutputConsoleViewImpl.class);
+    bindConstant().annotatedWith(Names.named("console.output.max_lines")).to(10_000);
     install(
         new GinFactoryModuleBuilder()
             .implement(
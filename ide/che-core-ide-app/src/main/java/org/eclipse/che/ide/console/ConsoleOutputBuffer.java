@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2012-2017 Red Hat, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.ide.console;
+
+import java.util.List;
+
+/**
+ * Bounded storage of console output lines.
+ *
+ * <p>Lines are kept in a ring buffer and addressed by their index in the whole output, so the view
+ * is able to find out which lines were dropped or added since it was rendered last time. When the
+ * number of lines reaches the limit, the oldest line is dropped. Dropped lines may be put back with
+ * {@link #prepend(List)}, the limit is extended by the number of the restored lines.
+ */
+public class ConsoleOutputBuffer {
+
+  private final int maxLines;
+
+  private Line[] lines;
+  private int head;
+  private int size;
+  private int limit;
+
+  /** Index of the first stored line in the whole output. */
+  private int firstIndex;
+  /** Index of the first line which was printed after the console was cleared. */
+  private int clearedIndex;
+
+  public ConsoleOutputBuffer(int maxLines) {
+    if (maxLines <= 0) {
+      throw new IllegalArgumentException("Max lines number must be positive");
+    }
+    this.maxLines = maxLines;
+    this.limit = maxLines;
+    this.lines = new Line[Math.min(maxLines, 1024)];
+  }
+
+  /** Adds a new line to the end of the buffer, drops the oldest one if the limit is reached. */
+  public void append(String text, String color) {
+    if (size == limit) {
+      lines[head] = null;
+      head = (head + 1) % lines.length;
+      size--;
+      firstIndex++;
+    }
+    ensureCapacity(size + 1);
+    lines[(head + size) % lines.length] = new Line(text, color);
+    size++;
+  }
+
+  /** Replaces the last line of the buffer, appends the line if the buffer is empty. */
+  public void replaceLast(String text, String color) {
+    if (size == 0) {
+      append(text, color);
+    } else {
+      lines[(head + size - 1) % lines.length] = new Line(text, color);
+    }
+  }
+
+  /**
+   * Puts back the lines which were previously dropped from the buffer.
+   *
+   * @param earlier lines preceding the first stored line, in the order of output
+   */
+  public void prepend(List<Line> earlier) {
+    final int count = Math.min(earlier.size(), getHiddenCount());
+    ensureCapacity(size + count);
+    for (int i = 0; i < count; i++) {
+      head = (head - 1 + lines.length) % lines.length;
+      lines[head] = earlier.get(earlier.size() - 1 - i);
+    }
+    size += count;
+    firstIndex -= count;
+    limit = Math.max(limit, size);
+  }
+
+  /** Removes all the lines, the removed lines are not reported as hidden. */
+  public void clear() {
+    lines = new Line[Math.min(maxLines, 1024)];
+    head = 0;
+    firstIndex += size;
+    clearedIndex = firstIndex;
+    size = 0;
+    limit = maxLines;
+  }
+
+  /** Returns the line by its index in the whole output. */
+  public Line get(int index) {
+    if (index < firstIndex || index >= getEndIndex()) {
+      throw new IndexOutOfBoundsException("Line " + index + " is not stored");
+    }
+    return lines[(head + index - firstIndex) % lines.length];
+  }
+
+  /** Returns the index of the first stored line in the whole output. */
+  public int getFirstIndex() {
+    return firstIndex;
+  }
+
+  /** Returns the index following the last stored line in the whole output. */
+  public int getEndIndex() {
+    return firstIndex + size;
+  }
+
+  /** Returns the number of stored lines. */
+  public int size() {
+    return size;
+  }
+
+  /** Returns the number of lines dropped from the buffer since the console was cleared. */
+  public int getHiddenCount() {
+    return firstIndex - clearedIndex;
+  }
+
+  /** Returns the stored text, lines are separated with {@code \r\n}. */
+  public String getText() {
+    final StringBuilder text = new StringBuilder();
+    for (int i = 0; i < size; i++) {
+      text.append(lines[(head + i) % lines.length].getText()).append("\r\n");
+    }
+    return text.toString();
+  }
+
+  private void ensureCapacity(int capacity) {
+    if (capacity <= lines.length) {
+      return;
+    }
+    final Line[] grown = new Line[Math.max(capacity, Math.min(lines.length * 2, limit))];
+    for (int i = 0; i < size; i++) {
+      grown[i] = lines[(head + i) % lines.length];
+    }
+    lines = grown;
+    head = 0;
+  }
+
+  /** Line of the console output. */
+  public static class Line {
+    private final String text;
+    private final String color;
+
+    public Line(String text, String color) {
+      this.text = text;
+      this.color = color;
+    }
+
+    public String getText() {
+      return text;
+    }
+
+    /** Returns the color of the line or {@code null} if the default one should be used. */
+    public String getColor() {
+      return color;
+    }
+  }
+}
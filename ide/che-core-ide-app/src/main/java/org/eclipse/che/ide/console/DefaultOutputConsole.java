@@ -184,6 +184,11 @@ public class DefaultOutputConsole implements OutputConsole, OutputConsoleView.Ac
     view.toggleScrollToEndButton(bottomReached);
   }
 
+  @Override
+  public void onEarlierOutputRequested(int skip, int limit) {
+    // text outputs are not persisted, earlier output can't be requested
+  }
+
   @Override
   public OutputCustomizer getCustomizer() {
     return customizer;
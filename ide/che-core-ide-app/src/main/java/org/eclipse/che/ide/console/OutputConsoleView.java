@@ -10,6 +10,7 @@
  */
 package org.eclipse.che.ide.console;
 
+import java.util.List;
 import org.eclipse.che.ide.api.mvp.View;
 
 /**
@@ -52,6 +53,21 @@ public interface OutputConsoleView extends View<OutputConsoleView.ActionDelegate
    */
   void print(String text, boolean carriageReturn, String color);
 
+  /**
+   * Prints the lines which precede the printed output and were dropped from the console because of
+   * the lines limit.
+   *
+   * @param lines lines in the order of output
+   */
+  void printEarlierOutput(List<ConsoleOutputBuffer.Line> lines);
+
+  /**
+   * Allows or forbids requesting the output lines which were dropped from the console.
+   *
+   * @param enable use <code>true</code> if the dropped lines can be retrieved
+   */
+  void enableEarlierOutput(boolean enable);
+
   /**
    * Returns the console text.
    *
@@ -137,6 +153,14 @@ public interface OutputConsoleView extends View<OutputConsoleView.ActionDelegate
     /** Handle scrolling the output. */
     void onOutputScrolled(boolean bottomReached);
 
+    /**
+     * Handle request for the output lines dropped from the console.
+     *
+     * @param skip number of lines at the end of output which are shown in the console
+     * @param limit number of the preceding lines to retrieve
+     */
+    void onEarlierOutputRequested(int skip, int limit);
+
     /** Returns the customizer for the console output */
     OutputCustomizer getCustomizer();
   }
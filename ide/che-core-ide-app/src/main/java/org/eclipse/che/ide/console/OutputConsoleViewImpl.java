@@ -16,11 +16,11 @@ import static org.eclipse.che.ide.ui.menu.PositionController.HorizontalAlign.MID
 import static org.eclipse.che.ide.ui.menu.PositionController.VerticalAlign.BOTTOM;
 
 import com.google.common.base.Strings;
+import com.google.gwt.animation.client.AnimationScheduler;
 import com.google.gwt.core.client.GWT;
 import com.google.gwt.core.client.Scheduler;
 import com.google.gwt.dom.client.Element;
 import com.google.gwt.dom.client.Node;
-import com.google.gwt.dom.client.NodeList;
 import com.google.gwt.dom.client.PreElement;
 import com.google.gwt.event.dom.client.ClickEvent;
 import com.google.gwt.event.dom.client.ClickHandler;
@@ -41,6 +41,7 @@ import com.google.gwt.user.client.ui.Label;
 import com.google.gwt.user.client.ui.ScrollPanel;
 import com.google.gwt.user.client.ui.Widget;
 import com.google.inject.Inject;
+import com.google.inject.name.Named;
 import java.util.List;
 import org.eclipse.che.ide.CoreLocalizationConstant;
 import org.eclipse.che.ide.FontAwesome;
@@ -52,6 +53,11 @@ import org.vectomatic.dom.svg.ui.SVGImage;
 /**
  * View representation of output console.
  *
+ * <p>Printed lines are kept in a {@link ConsoleOutputBuffer} limited by {@code
+ * console.output.max_lines} and rendered once per animation frame, so a process which produces
+ * lots of output neither grows the page unboundedly nor makes the browser recalculate layout for
+ * each line. Lines dropped from the buffer may be requested back from the delegate.
+ *
  * @author Artem Zatsarynnyi
  * @author Vitaliy Guliy
  */
@@ -70,6 +76,12 @@ public class OutputConsoleViewImpl extends Composite implements OutputConsoleVie
   private static final OutputConsoleViewUiBinder UI_BINDER =
       GWT.create(OutputConsoleViewUiBinder.class);
 
+  /** Maximum number of earlier lines requested at once. */
+  private static final int EARLIER_OUTPUT_CHUNK_SIZE = 500;
+
+  private final CoreLocalizationConstant localization;
+  private final ConsoleOutputBuffer buffer;
+
   private ActionDelegate delegate;
 
   @UiField protected DockLayoutPanel consolePanel;
@@ -86,6 +98,8 @@ public class OutputConsoleViewImpl extends Composite implements OutputConsoleVie
 
   @UiField FlowPanel consoleLines;
 
+  @UiField Anchor earlierOutputLink;
+
   @UiField Anchor previewUrlLabel;
 
   @UiField protected FlowPanel reRunProcessButton;
@@ -109,8 +123,27 @@ public class OutputConsoleViewImpl extends Composite implements OutputConsoleVie
   /** Scroll to the bottom immediately when view become visible. */
   private boolean followScheduled = false;
 
+  /** Range of the buffered lines which are rendered in {@link #consoleLines}. */
+  private int renderedFirst;
+
+  private int renderedEnd;
+
+  /** Index of the first rendered line which was replaced in the buffer. */
+  private int replacedFrom = Integer.MAX_VALUE;
+
+  private boolean renderScheduled;
+
+  private boolean earlierOutputEnabled;
+
+  private boolean earlierOutputRequested;
+
   @Inject
-  public OutputConsoleViewImpl(MachineResources resources, CoreLocalizationConstant localization) {
+  public OutputConsoleViewImpl(
+      MachineResources resources,
+      CoreLocalizationConstant localization,
+      @Named("console.output.max_lines") int maxLines) {
+    this.localization = localization;
+    this.buffer = new ConsoleOutputBuffer(maxLines);
     initWidget(UI_BINDER.createAndBindUi(this));
 
     reRunProcessButton.add(new SVGImage(resources.reRunIcon()));
@@ -123,6 +156,18 @@ public class OutputConsoleViewImpl extends Composite implements OutputConsoleVie
 
     scrollPanel.addDomHandler(this, ScrollEvent.getType());
 
+    earlierOutputLink.addClickHandler(
+        new ClickHandler() {
+          @Override
+          public void onClick(ClickEvent event) {
+            if (!earlierOutputRequested && delegate != null) {
+              earlierOutputRequested = true;
+              delegate.onEarlierOutputRequested(
+                  buffer.size(), Math.min(EARLIER_OUTPUT_CHUNK_SIZE, buffer.getHiddenCount()));
+            }
+          }
+        });
+
     reRunProcessButton.addDomHandler(
         new ClickHandler() {
           @Override
@@ -252,7 +297,11 @@ public class OutputConsoleViewImpl extends Composite implements OutputConsoleVie
 
   @Override
   public void clearConsole() {
+    buffer.clear();
     consoleLines.getElement().setInnerHTML("");
+    renderedFirst = renderedEnd = buffer.getFirstIndex();
+    replacedFrom = Integer.MAX_VALUE;
+    updateEarlierOutputLink();
   }
 
   @Override
@@ -318,14 +367,79 @@ public class OutputConsoleViewImpl extends Composite implements OutputConsoleVie
   @Override
   public void print(final String text, boolean carriageReturn, String color) {
     if (this.carriageReturn) {
-      Node lastChild = consoleLines.getElement().getLastChild();
-      if (lastChild != null) {
-        lastChild.removeFromParent();
-      }
+      buffer.replaceLast(text, color);
+      replacedFrom = Math.min(replacedFrom, buffer.getEndIndex() - 1);
+    } else {
+      buffer.append(text, color);
     }
 
     this.carriageReturn = carriageReturn;
 
+    scheduleRender();
+  }
+
+  @Override
+  public void printEarlierOutput(List<ConsoleOutputBuffer.Line> lines) {
+    earlierOutputRequested = false;
+    buffer.prepend(lines);
+    scheduleRender();
+  }
+
+  @Override
+  public void enableEarlierOutput(boolean enable) {
+    earlierOutputEnabled = enable;
+    updateEarlierOutputLink();
+  }
+
+  @Override
+  public String getText() {
+    return buffer.getText();
+  }
+
+  private void scheduleRender() {
+    if (!renderScheduled) {
+      renderScheduled = true;
+      AnimationScheduler.get().requestAnimationFrame(timestamp -> render());
+    }
+  }
+
+  /** Brings rendered lines in line with the buffer. */
+  private void render() {
+    renderScheduled = false;
+
+    final Element container = consoleLines.getElement();
+    final int first = buffer.getFirstIndex();
+    final int end = buffer.getEndIndex();
+
+    // remove replaced lines from the end and dropped lines from the beginning
+    final int keepEnd = Math.max(renderedFirst, Math.min(replacedFrom, end));
+    for (; renderedEnd > keepEnd; renderedEnd--) {
+      container.getLastChild().removeFromParent();
+    }
+    replacedFrom = Integer.MAX_VALUE;
+    for (; renderedFirst < first && renderedFirst < renderedEnd; renderedFirst++) {
+      container.getFirstChild().removeFromParent();
+    }
+    if (renderedFirst == renderedEnd) {
+      renderedFirst = renderedEnd = first;
+    }
+
+    // render restored earlier lines and new lines
+    final Node firstRendered = container.getFirstChild();
+    for (int i = first; i < renderedFirst; i++) {
+      container.insertBefore(createLine(buffer.get(i)), firstRendered);
+    }
+    renderedFirst = first;
+    for (; renderedEnd < end; renderedEnd++) {
+      container.appendChild(createLine(buffer.get(renderedEnd)));
+    }
+
+    updateEarlierOutputLink();
+    followOutput();
+  }
+
+  private PreElement createLine(ConsoleOutputBuffer.Line line) {
+    final String text = line.getText();
     final SafeHtml colorOutput =
         new SafeHtml() {
           @Override
@@ -364,26 +478,18 @@ public class OutputConsoleViewImpl extends Composite implements OutputConsoleVie
 
     PreElement pre = DOM.createElement("pre").cast();
     pre.setInnerSafeHtml(colorOutput);
-    if (color != null) {
-      pre.getStyle().setColor(color);
+    if (line.getColor() != null) {
+      pre.getStyle().setColor(line.getColor());
     }
-    consoleLines.getElement().appendChild(pre);
-
-    followOutput();
+    return pre;
   }
 
-  @Override
-  public String getText() {
-    String text = "";
-    NodeList<Node> nodes = consoleLines.getElement().getChildNodes();
-
-    for (int i = 0; i < nodes.getLength(); i++) {
-      Node node = nodes.getItem(i);
-      Element element = node.cast();
-      text += element.getInnerText() + "\r\n";
+  private void updateEarlierOutputLink() {
+    final int hidden = buffer.getHiddenCount();
+    earlierOutputLink.setVisible(earlierOutputEnabled && hidden > 0);
+    if (earlierOutputEnabled && hidden > 0) {
+      earlierOutputLink.setText(localization.consolesEarlierOutputHidden(hidden));
     }
-
-    return text;
   }
 
   @Override
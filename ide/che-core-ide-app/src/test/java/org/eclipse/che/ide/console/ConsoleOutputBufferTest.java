@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2012-2017 Red Hat, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.ide.console;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import org.junit.Test;
+
+/** Tests for {@link ConsoleOutputBuffer}. */
+public class ConsoleOutputBufferTest {
+
+  @Test
+  public void shouldDropOldestLinesWhenLimitIsReached() {
+    ConsoleOutputBuffer buffer = new ConsoleOutputBuffer(3);
+
+    for (int i = 0; i < 5; i++) {
+      buffer.append("line" + i, null);
+    }
+
+    assertEquals(3, buffer.size());
+    assertEquals(2, buffer.getFirstIndex());
+    assertEquals(5, buffer.getEndIndex());
+    assertEquals(2, buffer.getHiddenCount());
+    assertEquals("line2", buffer.get(2).getText());
+    assertEquals("line2\r\nline3\r\nline4\r\n", buffer.getText());
+  }
+
+  @Test
+  public void shouldReplaceLastLine() {
+    ConsoleOutputBuffer buffer = new ConsoleOutputBuffer(3);
+    buffer.append("progress 10%", null);
+
+    buffer.replaceLast("progress 20%", "red");
+
+    assertEquals(1, buffer.size());
+    assertEquals("progress 20%", buffer.get(0).getText());
+    assertEquals("red", buffer.get(0).getColor());
+  }
+
+  @Test
+  public void shouldRestoreDroppedLines() {
+    ConsoleOutputBuffer buffer = new ConsoleOutputBuffer(2);
+    for (int i = 0; i < 5; i++) {
+      buffer.append("line" + i, null);
+    }
+
+    buffer.prepend(
+        asList(
+            new ConsoleOutputBuffer.Line("line1", null),
+            new ConsoleOutputBuffer.Line("line2", null)));
+
+    assertEquals(1, buffer.getFirstIndex());
+    assertEquals(1, buffer.getHiddenCount());
+    assertEquals("line1\r\nline2\r\nline3\r\nline4\r\n", buffer.getText());
+
+    // restored lines are dropped first
+    buffer.append("line5", null);
+    assertEquals(2, buffer.getFirstIndex());
+    assertEquals(4, buffer.size());
+  }
+
+  @Test
+  public void shouldNotRestoreMoreLinesThanDropped() {
+    ConsoleOutputBuffer buffer = new ConsoleOutputBuffer(2);
+    for (int i = 0; i < 3; i++) {
+      buffer.append("line" + i, null);
+    }
+
+    buffer.prepend(
+        asList(new ConsoleOutputBuffer.Line("a", null), new ConsoleOutputBuffer.Line("b", null)));
+
+    assertEquals(0, buffer.getFirstIndex());
+    assertEquals("b\r\nline1\r\nline2\r\n", buffer.getText());
+  }
+
+  @Test
+  public void shouldNotReportClearedLinesAsHidden() {
+    ConsoleOutputBuffer buffer = new ConsoleOutputBuffer(2);
+    for (int i = 0; i < 3; i++) {
+      buffer.append("line" + i, null);
+    }
+
+    buffer.clear();
+    buffer.append("line3", null);
+
+    assertEquals(0, buffer.getHiddenCount());
+    assertEquals(3, buffer.getFirstIndex());
+    assertEquals("line3\r\n", buffer.getText());
+    assertNull(buffer.get(3).getColor());
+  }
+}
@@ -10,28 +10,179 @@
  */
 package org.eclipse.che.multiuser.api.permission.server;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.collect.ImmutableSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
 import javax.inject.Inject;
+import javax.inject.Named;
+import javax.inject.Singleton;
 import org.eclipse.che.api.core.ConflictException;
 import org.eclipse.che.api.core.NotFoundException;
 import org.eclipse.che.api.core.ServerException;
+import org.eclipse.che.api.core.notification.EventService;
+import org.eclipse.che.api.core.notification.EventSubscriber;
+import org.eclipse.che.multiuser.api.permission.shared.event.PermissionsEvent;
+import org.eclipse.che.multiuser.api.permission.shared.model.Permissions;
 
 /**
  * Implementation of {@link PermissionChecker} that use {@link PermissionsManager} for checking.
  *
+ * <p>Actions of checked permissions are cached per user, domain and instance, so checking of
+ * several actions or repeated checks do not hit the storage. Cached entry is evicted when
+ * permissions are added, updated or removed on this node. Changes made on other nodes of a cluster
+ * or by storage cascades become visible after {@code che.permissions.cache.ttl_sec}.
+ *
  * @author Sergii Leschenko
  */
+@Singleton
 public class PermissionCheckerImpl implements PermissionChecker {
   private final PermissionsManager permissionsManager;
+  private final EventService eventService;
+  private final EventSubscriber<PermissionsEvent> invalidator;
+  private final Cache<PermissionsKey, Set<String>> actionsCache;
+  /** Incremented on every invalidation so loads racing with changes are not cached. */
+  private final AtomicLong invalidations;
+
+  private final LongAdder loadSuccessCount;
+  private final LongAdder loadExceptionCount;
+  private final LongAdder totalLoadTime;
 
   @Inject
-  public PermissionCheckerImpl(PermissionsManager permissionsManager) {
+  public PermissionCheckerImpl(
+      PermissionsManager permissionsManager,
+      EventService eventService,
+      @Named("che.permissions.cache.max_size") long cacheMaxSize,
+      @Named("che.permissions.cache.ttl_sec") long cacheTtlSec) {
     this.permissionsManager = permissionsManager;
+    this.eventService = eventService;
+    this.actionsCache =
+        CacheBuilder.newBuilder()
+            .maximumSize(cacheMaxSize)
+            .expireAfterWrite(cacheTtlSec, TimeUnit.SECONDS)
+            .recordStats()
+            .build();
+    this.invalidations = new AtomicLong();
+    this.loadSuccessCount = new LongAdder();
+    this.loadExceptionCount = new LongAdder();
+    this.totalLoadTime = new LongAdder();
+    this.invalidator = this::invalidate;
+  }
+
+  @PostConstruct
+  public void subscribe() {
+    eventService.subscribe(invalidator, PermissionsEvent.class);
+  }
+
+  @PreDestroy
+  public void unsubscribe() {
+    eventService.unsubscribe(invalidator, PermissionsEvent.class);
   }
 
   @Override
   public boolean hasPermission(String user, String domain, String instance, String action)
       throws ServerException, NotFoundException, ConflictException {
-    return permissionsManager.exists(user, domain, instance, action)
-        || permissionsManager.exists("*", domain, instance, action);
+    if (!permissionsManager.getDomain(domain).getAllowedActions().contains(action)) {
+      return false;
+    }
+    return getActions(user, domain, instance).contains(action)
+        || getActions("*", domain, instance).contains(action);
+  }
+
+  /**
+   * Returns statistics of the decision cache. Load count and time describe requests to the
+   * permissions storage.
+   */
+  public CacheStats getCacheStats() {
+    return actionsCache
+        .stats()
+        .plus(
+            new CacheStats(
+                0,
+                0,
+                loadSuccessCount.sum(),
+                loadExceptionCount.sum(),
+                totalLoadTime.sum(),
+                0));
+  }
+
+  private Set<String> getActions(String user, String domain, String instance)
+      throws ServerException, NotFoundException, ConflictException {
+    final PermissionsKey key = new PermissionsKey(user, domain, instance);
+    final Set<String> cached = actionsCache.getIfPresent(key);
+    if (cached != null) {
+      return cached;
+    }
+
+    final long invalidationsBeforeLoad = invalidations.get();
+    final long start = System.nanoTime();
+    Set<String> actions;
+    try {
+      actions = ImmutableSet.copyOf(permissionsManager.get(user, domain, instance).getActions());
+    } catch (NotFoundException notFound) {
+      // domain is checked before, so there are no permissions for the user
+      actions = ImmutableSet.of();
+    } catch (ServerException | ConflictException | RuntimeException x) {
+      loadExceptionCount.increment();
+      totalLoadTime.add(System.nanoTime() - start);
+      throw x;
+    }
+    loadSuccessCount.increment();
+    totalLoadTime.add(System.nanoTime() - start);
+
+    if (invalidationsBeforeLoad == invalidations.get()) {
+      actionsCache.put(key, actions);
+    }
+    return actions;
+  }
+
+  private void invalidate(PermissionsEvent event) {
+    final Permissions permissions = event.getPermissions();
+    invalidations.incrementAndGet();
+    if (permissions == null) {
+      actionsCache.invalidateAll();
+    } else {
+      actionsCache.invalidate(
+          new PermissionsKey(
+              permissions.getUserId(), permissions.getDomainId(), permissions.getInstanceId()));
+    }
+  }
+
+  private static final class PermissionsKey {
+    private final String user;
+    private final String domain;
+    private final String instance;
+
+    PermissionsKey(String user, String domain, String instance) {
+      this.user = user == null ? "*" : user;
+      this.domain = domain;
+      this.instance = instance;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (this == obj) {
+        return true;
+      }
+      if (!(obj instanceof PermissionsKey)) {
+        return false;
+      }
+      final PermissionsKey that = (PermissionsKey) obj;
+      return user.equals(that.user)
+          && Objects.equals(domain, that.domain)
+          && Objects.equals(instance, that.instance);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(user, domain, instance);
+    }
   }
 }
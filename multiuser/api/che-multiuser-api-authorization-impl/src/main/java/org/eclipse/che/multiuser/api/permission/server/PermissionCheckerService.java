@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2012-2017 Red Hat, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.multiuser.api.permission.server;
+
+import com.google.common.cache.CacheStats;
+import com.google.common.collect.ImmutableMap;
+import java.util.Map;
+import javax.inject.Inject;
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.MediaType;
+import org.eclipse.che.api.core.rest.Service;
+
+/** REST API for statistics of the permission decision cache of {@link PermissionCheckerImpl}. */
+@Path("/permission-checker")
+public class PermissionCheckerService extends Service {
+
+  private final PermissionCheckerImpl permissionChecker;
+
+  @Inject
+  public PermissionCheckerService(PermissionCheckerImpl permissionChecker) {
+    this.permissionChecker = permissionChecker;
+  }
+
+  @GET
+  @Path("/cache")
+  @Produces(MediaType.APPLICATION_JSON)
+  public Map<String, Long> getCacheStats() {
+    final CacheStats stats = permissionChecker.getCacheStats();
+    return ImmutableMap.<String, Long>builder()
+        .put("hitCount", stats.hitCount())
+        .put("missCount", stats.missCount())
+        .put("evictionCount", stats.evictionCount())
+        .put("loadSuccessCount", stats.loadSuccessCount())
+        .put("loadExceptionCount", stats.loadExceptionCount())
+        .put("averageLoadTimeNanos", (long) stats.averageLoadPenalty())
+        .build();
+  }
+}
@@ -10,49 +10,138 @@
  */
 package org.eclipse.che.multiuser.api.permission.server;
 
+import static java.util.Arrays.asList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
 
-import org.mockito.InjectMocks;
+import org.eclipse.che.api.core.NotFoundException;
+import org.eclipse.che.api.core.notification.EventService;
+import org.eclipse.che.api.core.notification.EventSubscriber;
+import org.eclipse.che.multiuser.api.permission.server.event.PermissionsCreatedEvent;
+import org.eclipse.che.multiuser.api.permission.server.event.PermissionsRemovedEvent;
+import org.eclipse.che.multiuser.api.permission.server.model.impl.AbstractPermissions;
+import org.eclipse.che.multiuser.api.permission.shared.event.PermissionsEvent;
+import org.eclipse.che.multiuser.api.permission.shared.model.Permissions;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
 import org.mockito.Mock;
 import org.mockito.testng.MockitoTestNGListener;
+import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Listeners;
 import org.testng.annotations.Test;
 
 @Listeners(MockitoTestNGListener.class)
 public class PermissionCheckerImplTest {
   @Mock private PermissionsManager permissionsManager;
+  @Mock private EventService eventService;
+  @Mock private AbstractPermissionsDomain<?> domain;
 
-  @InjectMocks private PermissionCheckerImpl permissionChecker;
+  @Captor private ArgumentCaptor<EventSubscriber<PermissionsEvent>> subscriberCaptor;
+
+  private PermissionCheckerImpl permissionChecker;
+
+  @BeforeMethod
+  public void setUp() throws Exception {
+    doReturn(domain).when(permissionsManager).getDomain("domain123");
+    when(domain.getAllowedActions()).thenReturn(asList("test", "read"));
+    when(permissionsManager.get(anyString(), anyString(), anyString()))
+        .thenThrow(new NotFoundException("not found"));
+
+    permissionChecker = new PermissionCheckerImpl(permissionsManager, eventService, 100, 60);
+    permissionChecker.subscribe();
+  }
 
   @Test
   public void shouldCheckExistingDirectUsersPermissions() throws Exception {
-    when(permissionsManager.exists(anyString(), anyString(), anyString(), anyString()))
-        .thenReturn(true);
+    mockPermissions("user123", "test");
 
     boolean hasPermission =
         permissionChecker.hasPermission("user123", "domain123", "instance123", "test");
 
     assertEquals(hasPermission, true);
-    verify(permissionsManager).exists("user123", "domain123", "instance123", "test");
+    verify(permissionsManager).get("user123", "domain123", "instance123");
+    verify(permissionsManager, never()).get("*", "domain123", "instance123");
   }
 
   @Test
   public void shouldCheckExistingPublicPermissionsIfThereIsNoDirectUsersPermissions()
       throws Exception {
-    when(permissionsManager.exists(eq("user123"), anyString(), anyString(), anyString()))
-        .thenReturn(false);
-    when(permissionsManager.exists(eq("*"), anyString(), anyString(), anyString()))
-        .thenReturn(true);
+    mockPermissions("*", "test");
 
     boolean hasPermission =
         permissionChecker.hasPermission("user123", "domain123", "instance123", "test");
 
     assertEquals(hasPermission, true);
-    verify(permissionsManager).exists("user123", "domain123", "instance123", "test");
-    verify(permissionsManager).exists("*", "domain123", "instance123", "test");
+    verify(permissionsManager).get("user123", "domain123", "instance123");
+    verify(permissionsManager).get("*", "domain123", "instance123");
+  }
+
+  @Test
+  public void shouldNotHitStorageWhenActionIsNotAllowedByDomain() throws Exception {
+    assertFalse(permissionChecker.hasPermission("user123", "domain123", "instance123", "write"));
+
+    verify(permissionsManager, never()).get(anyString(), anyString(), anyString());
+  }
+
+  @Test
+  public void shouldCacheActionsOfPermissions() throws Exception {
+    mockPermissions("user123", "test", "read");
+
+    assertTrue(permissionChecker.hasPermission("user123", "domain123", "instance123", "test"));
+    assertTrue(permissionChecker.hasPermission("user123", "domain123", "instance123", "read"));
+    assertTrue(permissionChecker.hasPermission("user123", "domain123", "instance123", "test"));
+
+    verify(permissionsManager, times(1)).get("user123", "domain123", "instance123");
+    assertEquals(permissionChecker.getCacheStats().hitCount(), 2);
+    assertEquals(permissionChecker.getCacheStats().loadSuccessCount(), 1);
+  }
+
+  @Test
+  public void shouldCacheAbsenceOfPermissions() throws Exception {
+    assertFalse(permissionChecker.hasPermission("user123", "domain123", "instance123", "test"));
+    assertFalse(permissionChecker.hasPermission("user123", "domain123", "instance123", "test"));
+
+    verify(permissionsManager, times(1)).get("user123", "domain123", "instance123");
+    verify(permissionsManager, times(1)).get("*", "domain123", "instance123");
+  }
+
+  @Test
+  public void shouldReloadPermissionsWhenTheyAreCreatedOrRemoved() throws Exception {
+    assertFalse(permissionChecker.hasPermission("user123", "domain123", "instance123", "test"));
+
+    Permissions created = mockPermissions("user123", "test");
+    publish(new PermissionsCreatedEvent("admin", created));
+    assertTrue(permissionChecker.hasPermission("user123", "domain123", "instance123", "test"));
+
+    when(permissionsManager.get("user123", "domain123", "instance123"))
+        .thenThrow(new NotFoundException("not found"));
+    publish(new PermissionsRemovedEvent("admin", created));
+    assertFalse(permissionChecker.hasPermission("user123", "domain123", "instance123", "test"));
+
+    verify(permissionsManager, times(3)).get("user123", "domain123", "instance123");
+  }
+
+  private void publish(PermissionsEvent event) {
+    verify(eventService).subscribe(subscriberCaptor.capture(), eq(PermissionsEvent.class));
+    subscriberCaptor.getValue().onEvent(event);
+  }
+
+  private AbstractPermissions mockPermissions(String user, String... actions) throws Exception {
+    AbstractPermissions permissions = mock(AbstractPermissions.class);
+    when(permissions.getUserId()).thenReturn(user);
+    when(permissions.getDomainId()).thenReturn("domain123");
+    when(permissions.getInstanceId()).thenReturn("instance123");
+    when(permissions.getActions()).thenReturn(asList(actions));
+    doReturn(permissions).when(permissionsManager).get(user, "domain123", "instance123");
+    return permissions;
   }
 }
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2012-2017 Red Hat, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.multiuser.api.permission.server;
+
+import static com.jayway.restassured.RestAssured.given;
+import static java.util.Collections.singletonMap;
+import static org.everrest.assured.JettyHttpServer.ADMIN_USER_NAME;
+import static org.everrest.assured.JettyHttpServer.ADMIN_USER_PASSWORD;
+import static org.everrest.assured.JettyHttpServer.SECURE_PATH;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.nullable;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.eclipse.che.api.core.ForbiddenException;
+import org.eclipse.che.commons.env.EnvironmentContext;
+import org.eclipse.che.commons.subject.Subject;
+import org.everrest.assured.EverrestJetty;
+import org.everrest.core.Filter;
+import org.everrest.core.GenericContainerRequest;
+import org.everrest.core.RequestFilter;
+import org.mockito.Mock;
+import org.mockito.testng.MockitoTestNGListener;
+import org.testng.annotations.Listeners;
+import org.testng.annotations.Test;
+
+/** Tests {@link PermissionCheckerServicePermissionsFilter}. */
+@Listeners(value = {EverrestJetty.class, MockitoTestNGListener.class})
+public class PermissionCheckerServicePermissionsFilterTest {
+
+  @SuppressWarnings("unused")
+  private static final PermissionCheckerServicePermissionsFilter serviceFilter =
+      new PermissionCheckerServicePermissionsFilter();
+
+  @SuppressWarnings("unused")
+  private static final EnvironmentFilter envFilter = new EnvironmentFilter();
+
+  @Mock private static Subject subject;
+
+  @Mock private PermissionCheckerService permissionCheckerService;
+
+  @Test
+  public void allPublicMethodsAreFiltered() {
+    Set<String> methods =
+        Arrays.stream(PermissionCheckerService.class.getDeclaredMethods())
+            .filter(m -> Modifier.isPublic(m.getModifiers()))
+            .map(Method::getName)
+            .collect(Collectors.toSet());
+
+    assertEquals(methods, Collections.singleton("getCacheStats"));
+  }
+
+  @Test
+  public void allowsGetCacheStatsForUserWithManageSystemPermission() throws Exception {
+    when(permissionCheckerService.getCacheStats()).thenReturn(singletonMap("hitCount", 0L));
+
+    given()
+        .auth()
+        .basic(ADMIN_USER_NAME, ADMIN_USER_PASSWORD)
+        .when()
+        .get(SECURE_PATH + "/permission-checker/cache")
+        .then()
+        .statusCode(200);
+
+    verify(permissionCheckerService).getCacheStats();
+  }
+
+  @Test
+  public void rejectsGetCacheStatsForUserWithoutManageSystemPermission() throws Exception {
+    doThrow(new ForbiddenException("Not allowed!"))
+        .when(subject)
+        .checkPermission(any(), nullable(String.class), any());
+
+    given()
+        .auth()
+        .basic(ADMIN_USER_NAME, ADMIN_USER_PASSWORD)
+        .when()
+        .get(SECURE_PATH + "/permission-checker/cache")
+        .then()
+        .statusCode(403);
+
+    verify(permissionCheckerService, never()).getCacheStats();
+    verify(subject)
+        .checkPermission(SystemDomain.DOMAIN_ID, null, SystemDomain.MANAGE_SYSTEM_ACTION);
+  }
+
+  @Filter
+  public static class EnvironmentFilter implements RequestFilter {
+    @Override
+    public void doFilter(GenericContainerRequest request) {
+      EnvironmentContext.getCurrent().setSubject(subject);
+    }
+  }
+}
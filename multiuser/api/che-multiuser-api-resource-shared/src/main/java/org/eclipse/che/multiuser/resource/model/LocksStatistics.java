@@ -0,0 +1,36 @@
+/*
+ * Copyright (c) 2012-2017 Red Hat, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.multiuser.resource.model;
+
+/**
+ * Statistics of resources locks which are acquired while resources availability is checked.
+ *
+ * <p>Times are measured since the server start.
+ */
+public interface LocksStatistics {
+  /** Returns the number of acquired locks. */
+  long getAcquired();
+
+  /** Returns the number of locks which are held at the moment. */
+  long getHeld();
+
+  /** Returns total time in milliseconds spent waiting for locks. */
+  long getWaitTimeMs();
+
+  /** Returns the longest time in milliseconds spent waiting for a lock. */
+  long getMaxWaitTimeMs();
+
+  /** Returns total time in milliseconds during which locks were held. */
+  long getHoldTimeMs();
+
+  /** Returns the longest time in milliseconds during which a lock was held. */
+  long getMaxHoldTimeMs();
+}
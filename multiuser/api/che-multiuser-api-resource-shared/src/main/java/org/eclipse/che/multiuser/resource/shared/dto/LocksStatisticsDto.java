@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2012-2017 Red Hat, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.multiuser.resource.shared.dto;
+
+import org.eclipse.che.dto.shared.DTO;
+import org.eclipse.che.multiuser.resource.model.LocksStatistics;
+
+@DTO
+public interface LocksStatisticsDto extends LocksStatistics {
+  @Override
+  long getAcquired();
+
+  void setAcquired(long acquired);
+
+  LocksStatisticsDto withAcquired(long acquired);
+
+  @Override
+  long getHeld();
+
+  void setHeld(long held);
+
+  LocksStatisticsDto withHeld(long held);
+
+  @Override
+  long getWaitTimeMs();
+
+  void setWaitTimeMs(long waitTimeMs);
+
+  LocksStatisticsDto withWaitTimeMs(long waitTimeMs);
+
+  @Override
+  long getMaxWaitTimeMs();
+
+  void setMaxWaitTimeMs(long maxWaitTimeMs);
+
+  LocksStatisticsDto withMaxWaitTimeMs(long maxWaitTimeMs);
+
+  @Override
+  long getHoldTimeMs();
+
+  void setHoldTimeMs(long holdTimeMs);
+
+  LocksStatisticsDto withHoldTimeMs(long holdTimeMs);
+
+  @Override
+  long getMaxHoldTimeMs();
+
+  void setMaxHoldTimeMs(long maxHoldTimeMs);
+
+  LocksStatisticsDto withMaxHoldTimeMs(long maxHoldTimeMs);
+}
@@ -14,10 +14,12 @@ import java.util.stream.Collectors;
 import org.eclipse.che.dto.server.DtoFactory;
 import org.eclipse.che.multiuser.resource.model.AccountLicense;
 import org.eclipse.che.multiuser.resource.model.FreeResourcesLimit;
+import org.eclipse.che.multiuser.resource.model.LocksStatistics;
 import org.eclipse.che.multiuser.resource.model.ProvidedResources;
 import org.eclipse.che.multiuser.resource.model.Resource;
 import org.eclipse.che.multiuser.resource.shared.dto.AccountLicenseDto;
 import org.eclipse.che.multiuser.resource.shared.dto.FreeResourcesLimitDto;
+import org.eclipse.che.multiuser.resource.shared.dto.LocksStatisticsDto;
 import org.eclipse.che.multiuser.resource.shared.dto.ProvidedResourcesDto;
 import org.eclipse.che.multiuser.resource.shared.dto.ResourceDto;
 
@@ -60,6 +62,16 @@ public final class DtoConverter {
                 .collect(Collectors.toList()));
   }
 
+  public static LocksStatisticsDto asDto(LocksStatistics statistics) {
+    return DtoFactory.newDto(LocksStatisticsDto.class)
+        .withAcquired(statistics.getAcquired())
+        .withHeld(statistics.getHeld())
+        .withWaitTimeMs(statistics.getWaitTimeMs())
+        .withMaxWaitTimeMs(statistics.getMaxWaitTimeMs())
+        .withHoldTimeMs(statistics.getHoldTimeMs())
+        .withMaxHoldTimeMs(statistics.getMaxHoldTimeMs());
+  }
+
   private static ProvidedResourcesDto asDto(ProvidedResources providedResources) {
     return DtoFactory.newDto(ProvidedResourcesDto.class)
         .withId(providedResources.getId())
@@ -29,6 +29,7 @@ import org.eclipse.che.api.core.NotFoundException;
 import org.eclipse.che.api.core.ServerException;
 import org.eclipse.che.api.core.rest.Service;
 import org.eclipse.che.multiuser.resource.api.DtoConverter;
+import org.eclipse.che.multiuser.resource.shared.dto.LocksStatisticsDto;
 import org.eclipse.che.multiuser.resource.shared.dto.ResourceDto;
 
 /**
@@ -40,10 +41,13 @@ import org.eclipse.che.multiuser.resource.shared.dto.ResourceDto;
 @Path("/resource")
 public class ResourceUsageService extends Service {
   private final ResourceUsageManager resourceUsageManager;
+  private final ResourcesLocks resourcesLocks;
 
   @Inject
-  public ResourceUsageService(ResourceUsageManager resourceUsageManager) {
+  public ResourceUsageService(
+      ResourceUsageManager resourceUsageManager, ResourcesLocks resourcesLocks) {
     this.resourceUsageManager = resourceUsageManager;
+    this.resourcesLocks = resourcesLocks;
   }
 
   @GET
@@ -112,4 +116,19 @@ public class ResourceUsageService extends Service {
         .map(DtoConverter::asDto)
         .collect(Collectors.toList());
   }
+
+  @GET
+  @Path("/locks")
+  @Produces(APPLICATION_JSON)
+  @ApiOperation(
+    value = "Get statistics of locks acquired while resources availability is checked",
+    response = LocksStatisticsDto.class
+  )
+  @ApiResponses({
+    @ApiResponse(code = 200, message = "The locks statistics are successfully fetched"),
+    @ApiResponse(code = 500, message = "Internal server error occurred")
+  })
+  public LocksStatisticsDto getLocksStatistics() {
+    return DtoConverter.asDto(resourcesLocks.getStatistics());
+  }
 }
@@ -12,9 +12,13 @@ package org.eclipse.che.multiuser.resource.api.usage;
 
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import javax.inject.Inject;
+import javax.inject.Singleton;
 import org.eclipse.che.account.api.AccountManager;
 import org.eclipse.che.account.shared.model.Account;
 import org.eclipse.che.api.core.NotFoundException;
@@ -22,6 +26,7 @@ import org.eclipse.che.api.core.ServerException;
 import org.eclipse.che.commons.lang.concurrent.StripedLocks;
 import org.eclipse.che.commons.lang.concurrent.Unlocker;
 import org.eclipse.che.multiuser.resource.api.ResourceLockKeyProvider;
+import org.eclipse.che.multiuser.resource.model.LocksStatistics;
 
 /**
  * Helps to lock resources while performing operations related to them.
@@ -37,14 +42,24 @@ import org.eclipse.che.multiuser.resource.api.ResourceLockKeyProvider;
  * }
  * </pre>
  *
+ * <p>Time spent waiting for locks and holding them is measured, see {@link #getStatistics()}.
+ *
  * @author Sergii Leschenko
  */
+@Singleton
 public class ResourcesLocks {
 
   private final AccountManager accountManager;
   private final Map<String, ResourceLockKeyProvider> accountTypeToLockProvider;
   private final StripedLocks stripedLocks;
 
+  private final LongAdder acquired = new LongAdder();
+  private final LongAdder held = new LongAdder();
+  private final LongAdder waitTimeNanos = new LongAdder();
+  private final LongAdder holdTimeNanos = new LongAdder();
+  private final LongAccumulator maxWaitTimeNanos = new LongAccumulator(Math::max, 0);
+  private final LongAccumulator maxHoldTimeNanos = new LongAccumulator(Math::max, 0);
+
   @Inject
   public ResourcesLocks(
       Set<ResourceLockKeyProvider> resourceLockKeyProviders, AccountManager accountManager) {
@@ -78,7 +93,31 @@ public class ResourcesLocks {
       lockKey = resourceLockKeyProvider.getLockKey(accountId);
     }
 
-    return stripedLocks.writeLock(lockKey);
+    final long waitStart = System.nanoTime();
+    final Unlocker unlocker = stripedLocks.writeLock(lockKey);
+    final long lockedAt = System.nanoTime();
+    acquired.increment();
+    held.increment();
+    waitTimeNanos.add(lockedAt - waitStart);
+    maxWaitTimeNanos.accumulate(lockedAt - waitStart);
+    return () -> {
+      final long holdTime = System.nanoTime() - lockedAt;
+      unlocker.unlock();
+      held.decrement();
+      holdTimeNanos.add(holdTime);
+      maxHoldTimeNanos.accumulate(holdTime);
+    };
+  }
+
+  /** Returns statistics of locks acquired since the server start. */
+  public LocksStatistics getStatistics() {
+    return new LocksStatisticsImpl(
+        acquired.sum(),
+        held.sum(),
+        TimeUnit.NANOSECONDS.toMillis(waitTimeNanos.sum()),
+        TimeUnit.NANOSECONDS.toMillis(maxWaitTimeNanos.get()),
+        TimeUnit.NANOSECONDS.toMillis(holdTimeNanos.sum()),
+        TimeUnit.NANOSECONDS.toMillis(maxHoldTimeNanos.get()));
   }
 
   public Unlocker lock(String... accountIds) throws NotFoundException, ServerException {
@@ -86,4 +125,58 @@ public class ResourcesLocks {
     // case of resources redistribution
     throw new UnsupportedOperationException("Not implemented.");
   }
+
+  private static class LocksStatisticsImpl implements LocksStatistics {
+    private final long acquired;
+    private final long held;
+    private final long waitTimeMs;
+    private final long maxWaitTimeMs;
+    private final long holdTimeMs;
+    private final long maxHoldTimeMs;
+
+    LocksStatisticsImpl(
+        long acquired,
+        long held,
+        long waitTimeMs,
+        long maxWaitTimeMs,
+        long holdTimeMs,
+        long maxHoldTimeMs) {
+      this.acquired = acquired;
+      this.held = held;
+      this.waitTimeMs = waitTimeMs;
+      this.maxWaitTimeMs = maxWaitTimeMs;
+      this.holdTimeMs = holdTimeMs;
+      this.maxHoldTimeMs = maxHoldTimeMs;
+    }
+
+    @Override
+    public long getAcquired() {
+      return acquired;
+    }
+
+    @Override
+    public long getHeld() {
+      return held;
+    }
+
+    @Override
+    public long getWaitTimeMs() {
+      return waitTimeMs;
+    }
+
+    @Override
+    public long getMaxWaitTimeMs() {
+      return maxWaitTimeMs;
+    }
+
+    @Override
+    public long getHoldTimeMs() {
+      return holdTimeMs;
+    }
+
+    @Override
+    public long getMaxHoldTimeMs() {
+      return maxHoldTimeMs;
+    }
+  }
 }
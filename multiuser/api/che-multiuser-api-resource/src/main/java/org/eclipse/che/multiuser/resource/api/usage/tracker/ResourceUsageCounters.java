@@ -0,0 +1,246 @@
+/*
+ * Copyright (c) 2012-2017 Red Hat, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.multiuser.resource.api.usage.tracker;
+
+import static org.eclipse.che.api.core.model.workspace.WorkspaceStatus.STARTING;
+import static org.eclipse.che.api.core.model.workspace.WorkspaceStatus.STOPPED;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import org.eclipse.che.api.core.NotFoundException;
+import org.eclipse.che.api.core.ServerException;
+import org.eclipse.che.api.core.notification.EventService;
+import org.eclipse.che.api.core.notification.EventSubscriber;
+import org.eclipse.che.api.workspace.server.WorkspaceRuntimes;
+import org.eclipse.che.api.workspace.server.model.impl.EnvironmentImpl;
+import org.eclipse.che.api.workspace.server.model.impl.WorkspaceImpl;
+import org.eclipse.che.api.workspace.server.spi.WorkspaceDao;
+import org.eclipse.che.api.workspace.shared.dto.event.WorkspaceStatusEvent;
+import org.eclipse.che.commons.lang.concurrent.LoggingUncaughtExceptionHandler;
+import org.eclipse.che.commons.schedule.ScheduleDelay;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Maintains per account counters of active workspaces and RAM used by them.
+ *
+ * <p>Counters are updated on {@link WorkspaceStatusEvent workspace status changes}, so usage
+ * checks don't need to load all the workspaces of the account. Events are handled in a single
+ * background thread in the order they are published, the usage of the workspace is recalculated
+ * from its actual runtime. Counters are periodically reconciled with workspace runtimes to fix
+ * possible drift caused by missed events.
+ */
+@Singleton
+public class ResourceUsageCounters {
+  private static final Logger LOG = LoggerFactory.getLogger(ResourceUsageCounters.class);
+
+  private final WorkspaceDao workspaceDao;
+  private final WorkspaceRuntimes runtimes;
+  private final EnvironmentRamCalculator environmentRamCalculator;
+  private final EventService eventService;
+  private final EventSubscriber<WorkspaceStatusEvent> statusSubscriber;
+  private final ExecutorService executor;
+
+  /** Usage of each active workspace, guarded by {@code this}. */
+  private final Map<String, WorkspaceUsage> workspaces = new HashMap<>();
+  /** Aggregated usage of each account which has active workspaces. */
+  private final Map<String, AccountUsage> accounts = new ConcurrentHashMap<>();
+
+  @Inject
+  public ResourceUsageCounters(
+      WorkspaceDao workspaceDao,
+      WorkspaceRuntimes runtimes,
+      EnvironmentRamCalculator environmentRamCalculator,
+      EventService eventService) {
+    this.workspaceDao = workspaceDao;
+    this.runtimes = runtimes;
+    this.environmentRamCalculator = environmentRamCalculator;
+    this.eventService = eventService;
+    this.statusSubscriber = event -> submit(() -> refresh(event.getWorkspaceId()));
+    this.executor =
+        Executors.newSingleThreadExecutor(
+            new ThreadFactoryBuilder()
+                .setNameFormat("ResourceUsageCounters")
+                .setUncaughtExceptionHandler(LoggingUncaughtExceptionHandler.getInstance())
+                .setDaemon(true)
+                .build());
+  }
+
+  @PostConstruct
+  void subscribe() {
+    eventService.subscribe(statusSubscriber, WorkspaceStatusEvent.class);
+    submit(this::doReconcile);
+  }
+
+  @PreDestroy
+  void unsubscribe() {
+    eventService.unsubscribe(statusSubscriber);
+    executor.shutdownNow();
+  }
+
+  /** Returns the number of workspaces which are not stopped and belong to the given account. */
+  public long getRuntimes(String accountId) {
+    final AccountUsage usage = accounts.get(accountId);
+    return usage == null ? 0 : usage.runtimes;
+  }
+
+  /** Returns the amount of RAM in megabytes used by active workspaces of the given account. */
+  public long getRam(String accountId) {
+    final AccountUsage usage = accounts.get(accountId);
+    return usage == null ? 0 : usage.ramMb;
+  }
+
+  /**
+   * Takes into account the usage of the workspace which has just been started, so it is counted
+   * before its status events are handled.
+   *
+   * @param workspace workspace with injected runtime
+   */
+  public void track(WorkspaceImpl workspace) {
+    if (workspace.getStatus() == STOPPED || !runtimes.hasRuntime(workspace.getId())) {
+      return;
+    }
+    try {
+      put(workspace.getId(), workspace.getAccount().getId(), calculateRam(workspace));
+    } catch (ServerException e) {
+      LOG.warn("Unable to calculate RAM of workspace '{}': {}", workspace.getId(), e.getMessage());
+    }
+  }
+
+  /**
+   * Reconciles counters with the actual workspace runtimes. Recalculates usage of all active
+   * workspaces and drops the ones which are stopped.
+   */
+  @ScheduleDelay(
+    initialDelayParameterName = "che.limits.usage.reconcile_period_sec",
+    delayParameterName = "che.limits.usage.reconcile_period_sec"
+  )
+  public void reconcile() {
+    submit(this::doReconcile);
+  }
+
+  @VisibleForTesting
+  void doReconcile() {
+    final Set<String> active = runtimes.getRuntimesIds();
+    final Set<String> tracked;
+    synchronized (this) {
+      tracked = new HashSet<>(workspaces.keySet());
+    }
+    tracked.removeAll(active);
+    for (String stopped : tracked) {
+      remove(stopped);
+    }
+    for (String id : active) {
+      refresh(id);
+    }
+  }
+
+  /** Recalculates usage of the workspace from its current runtime. */
+  @VisibleForTesting
+  void refresh(String workspaceId) {
+    try {
+      final WorkspaceImpl workspace = workspaceDao.get(workspaceId);
+      runtimes.injectRuntime(workspace);
+      if (workspace.getStatus() == STOPPED) {
+        remove(workspaceId);
+      } else {
+        put(workspaceId, workspace.getAccount().getId(), calculateRam(workspace));
+      }
+    } catch (NotFoundException e) {
+      remove(workspaceId);
+    } catch (ServerException e) {
+      LOG.warn(
+          "Unable to refresh resources usage of workspace '{}': {}", workspaceId, e.getMessage());
+    }
+  }
+
+  private long calculateRam(WorkspaceImpl workspace) throws ServerException {
+    if (workspace.getStatus() == STARTING) {
+      // starting workspace may not have all machine in runtime
+      // it is need to calculate ram from environment config
+      final EnvironmentImpl environment =
+          workspace.getConfig().getEnvironments().get(workspace.getRuntime().getActiveEnv());
+      return environmentRamCalculator.calculate(environment);
+    }
+    return workspace
+        .getRuntime()
+        .getMachines()
+        .stream()
+        .mapToInt(machine -> machine.getConfig().getLimits().getRam())
+        .sum();
+  }
+
+  private synchronized void put(String workspaceId, String accountId, long ramMb) {
+    final WorkspaceUsage previous =
+        workspaces.put(workspaceId, new WorkspaceUsage(accountId, ramMb));
+    if (previous != null) {
+      apply(previous.accountId, -1, -previous.ramMb);
+    }
+    apply(accountId, 1, ramMb);
+  }
+
+  private synchronized void remove(String workspaceId) {
+    final WorkspaceUsage previous = workspaces.remove(workspaceId);
+    if (previous != null) {
+      apply(previous.accountId, -1, -previous.ramMb);
+    }
+  }
+
+  private void apply(String accountId, long runtimesDelta, long ramDelta) {
+    accounts.compute(
+        accountId,
+        (id, usage) -> {
+          final long runtimes = (usage == null ? 0 : usage.runtimes) + runtimesDelta;
+          final long ram = (usage == null ? 0 : usage.ramMb) + ramDelta;
+          return runtimes <= 0 ? null : new AccountUsage(runtimes, ram);
+        });
+  }
+
+  private void submit(Runnable task) {
+    try {
+      executor.execute(task);
+    } catch (RejectedExecutionException ignored) {
+      // counters are shutting down
+    }
+  }
+
+  private static class WorkspaceUsage {
+    final String accountId;
+    final long ramMb;
+
+    WorkspaceUsage(String accountId, long ramMb) {
+      this.accountId = accountId;
+      this.ramMb = ramMb;
+    }
+  }
+
+  private static class AccountUsage {
+    final long runtimes;
+    final long ramMb;
+
+    AccountUsage(long runtimes, long ramMb) {
+      this.runtimes = runtimes;
+      this.ramMb = ramMb;
+    }
+  }
+}
@@ -10,17 +10,12 @@
  */
 package org.eclipse.che.multiuser.resource.api.usage.tracker;
 
-import static org.eclipse.che.api.core.model.workspace.WorkspaceStatus.STOPPED;
-
 import java.util.Optional;
 import javax.inject.Inject;
-import javax.inject.Provider;
 import javax.inject.Singleton;
 import org.eclipse.che.account.api.AccountManager;
-import org.eclipse.che.account.shared.model.Account;
 import org.eclipse.che.api.core.NotFoundException;
 import org.eclipse.che.api.core.ServerException;
-import org.eclipse.che.api.workspace.server.WorkspaceManager;
 import org.eclipse.che.multiuser.resource.api.ResourceUsageTracker;
 import org.eclipse.che.multiuser.resource.api.type.RuntimeResourceType;
 import org.eclipse.che.multiuser.resource.model.Resource;
@@ -29,31 +24,29 @@ import org.eclipse.che.multiuser.resource.spi.impl.ResourceImpl;
 /**
  * Tracks usage of {@link RuntimeResourceType} resource.
  *
+ * <p>Usage is taken from {@link ResourceUsageCounters} instead of loading all workspaces of the
+ * account.
+ *
  * @author Sergii Leschenko
  */
 @Singleton
 public class RuntimeResourceUsageTracker implements ResourceUsageTracker {
-  private final Provider<WorkspaceManager> workspaceManagerProvider;
+  private final ResourceUsageCounters usageCounters;
   private final AccountManager accountManager;
 
   @Inject
   public RuntimeResourceUsageTracker(
-      Provider<WorkspaceManager> workspaceManagerProvider, AccountManager accountManager) {
-    this.workspaceManagerProvider = workspaceManagerProvider;
+      ResourceUsageCounters usageCounters, AccountManager accountManager) {
+    this.usageCounters = usageCounters;
     this.accountManager = accountManager;
   }
 
   @Override
   public Optional<Resource> getUsedResource(String accountId)
       throws NotFoundException, ServerException {
-    final Account account = accountManager.getById(accountId);
-    final long currentlyUsedRuntimes =
-        workspaceManagerProvider
-            .get()
-            .getByNamespace(account.getName(), false)
-            .stream()
-            .filter(ws -> STOPPED != ws.getStatus())
-            .count();
+    // ensures that account exists
+    accountManager.getById(accountId);
+    final long currentlyUsedRuntimes = usageCounters.getRuntimes(accountId);
     if (currentlyUsedRuntimes > 0) {
       return Optional.of(
           new ResourceImpl(
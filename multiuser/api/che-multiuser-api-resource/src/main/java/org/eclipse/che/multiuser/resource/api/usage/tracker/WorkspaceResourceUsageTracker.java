@@ -10,7 +10,6 @@
  */
 package org.eclipse.che.multiuser.resource.api.usage.tracker;
 
-import java.util.List;
 import java.util.Optional;
 import javax.inject.Inject;
 import javax.inject.Provider;
@@ -20,7 +19,6 @@ import org.eclipse.che.account.shared.model.Account;
 import org.eclipse.che.api.core.NotFoundException;
 import org.eclipse.che.api.core.ServerException;
 import org.eclipse.che.api.workspace.server.WorkspaceManager;
-import org.eclipse.che.api.workspace.server.model.impl.WorkspaceImpl;
 import org.eclipse.che.multiuser.resource.api.ResourceUsageTracker;
 import org.eclipse.che.multiuser.resource.api.type.WorkspaceResourceType;
 import org.eclipse.che.multiuser.resource.model.Resource;
@@ -47,12 +45,16 @@ public class WorkspaceResourceUsageTracker implements ResourceUsageTracker {
   public Optional<Resource> getUsedResource(String accountId)
       throws NotFoundException, ServerException {
     final Account account = accountManager.getById(accountId);
-    final List<WorkspaceImpl> accountWorkspaces =
-        workspaceManagerProvider.get().getByNamespace(account.getName(), false);
-    if (!accountWorkspaces.isEmpty()) {
+    // only the total count is needed, so a single item page is requested
+    final long accountWorkspaces =
+        workspaceManagerProvider
+            .get()
+            .getByNamespace(account.getName(), false, 1, 0)
+            .getTotalItemsCount();
+    if (accountWorkspaces > 0) {
       return Optional.of(
           new ResourceImpl(
-              WorkspaceResourceType.ID, accountWorkspaces.size(), WorkspaceResourceType.UNIT));
+              WorkspaceResourceType.ID, accountWorkspaces, WorkspaceResourceType.UNIT));
     } else {
       return Optional.empty();
     }
@@ -46,6 +46,7 @@ import org.eclipse.che.multiuser.resource.api.type.WorkspaceResourceType;
 import org.eclipse.che.multiuser.resource.api.usage.ResourceUsageManager;
 import org.eclipse.che.multiuser.resource.api.usage.ResourcesLocks;
 import org.eclipse.che.multiuser.resource.api.usage.tracker.EnvironmentRamCalculator;
+import org.eclipse.che.multiuser.resource.api.usage.tracker.ResourceUsageCounters;
 import org.eclipse.che.multiuser.resource.model.Resource;
 import org.eclipse.che.multiuser.resource.spi.impl.ResourceImpl;
 
@@ -65,6 +66,7 @@ public class LimitsCheckingWorkspaceManager extends WorkspaceManager {
   private final ResourceUsageManager resourceUsageManager;
   private final ResourcesLocks resourcesLocks;
   private final AccountManager accountManager;
+  private final ResourceUsageCounters usageCounters;
 
   private final long maxRamPerEnvMB;
 
@@ -82,7 +84,8 @@ public class LimitsCheckingWorkspaceManager extends WorkspaceManager {
       @Named("che.limits.workspace.env.ram") String maxRamPerEnv,
       EnvironmentRamCalculator environmentRamCalculator,
       ResourceUsageManager resourceUsageManager,
-      ResourcesLocks resourcesLocks) {
+      ResourcesLocks resourcesLocks,
+      ResourceUsageCounters usageCounters) {
     super(
         workspaceDao,
         runtimes,
@@ -97,6 +100,7 @@ public class LimitsCheckingWorkspaceManager extends WorkspaceManager {
     this.resourceUsageManager = resourceUsageManager;
     this.resourcesLocks = resourcesLocks;
     this.accountManager = accountManager;
+    this.usageCounters = usageCounters;
   }
 
   @Override
@@ -139,7 +143,11 @@ public class LimitsCheckingWorkspaceManager extends WorkspaceManager {
       checkRamResourcesAvailability(
           accountId, workspace.getNamespace(), workspace.getConfig(), envName);
 
-      return super.startWorkspace(workspaceId, envName, restore);
+      // usage counters are updated asynchronously, so the started workspace is tracked
+      // before the lock is released to make it visible for the next checks
+      final WorkspaceImpl started = super.startWorkspace(workspaceId, envName, restore);
+      usageCounters.track(started);
+      return started;
     }
   }
 
@@ -155,7 +163,9 @@ public class LimitsCheckingWorkspaceManager extends WorkspaceManager {
       checkRuntimeResourceAvailability(accountId);
       checkRamResourcesAvailability(accountId, namespace, config, null);
 
-      return super.startWorkspace(config, namespace, isTemporary);
+      final WorkspaceImpl started = super.startWorkspace(config, namespace, isTemporary);
+      usageCounters.track(started);
+      return started;
     }
   }
 
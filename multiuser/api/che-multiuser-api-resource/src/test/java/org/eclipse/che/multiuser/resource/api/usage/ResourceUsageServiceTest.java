@@ -27,6 +27,8 @@ import com.jayway.restassured.response.Response;
 import java.util.List;
 import org.eclipse.che.api.core.rest.ApiExceptionMapper;
 import org.eclipse.che.dto.server.DtoFactory;
+import org.eclipse.che.multiuser.resource.model.LocksStatistics;
+import org.eclipse.che.multiuser.resource.shared.dto.LocksStatisticsDto;
 import org.eclipse.che.multiuser.resource.shared.dto.ResourceDto;
 import org.eclipse.che.multiuser.resource.spi.impl.ResourceImpl;
 import org.everrest.assured.EverrestJetty;
@@ -54,6 +56,8 @@ public class ResourceUsageServiceTest {
   @Mock ResourceImpl resource;
 
   @Mock private ResourceUsageManager resourceUsageManager;
+  @Mock private ResourcesLocks resourcesLocks;
+  @Mock private LocksStatistics locksStatistics;
 
   @InjectMocks private ResourceUsageService service;
 
@@ -130,6 +134,32 @@ public class ResourceUsageServiceTest {
     assertEquals(fetchedResource.getUnit(), RESOURCE_UNIT);
   }
 
+  @Test
+  public void shouldReturnLocksStatistics() throws Exception {
+    when(resourcesLocks.getStatistics()).thenReturn(locksStatistics);
+    when(locksStatistics.getAcquired()).thenReturn(10L);
+    when(locksStatistics.getHeld()).thenReturn(1L);
+    when(locksStatistics.getMaxWaitTimeMs()).thenReturn(25L);
+    when(locksStatistics.getMaxHoldTimeMs()).thenReturn(300L);
+
+    final Response response =
+        given()
+            .auth()
+            .basic(ADMIN_USER_NAME, ADMIN_USER_PASSWORD)
+            .contentType("application/json")
+            .when()
+            .get(SECURE_PATH + "/resource/locks");
+
+    assertEquals(response.statusCode(), 200);
+    final LocksStatisticsDto statistics =
+        DtoFactory.getInstance()
+            .createDtoFromJson(response.body().print(), LocksStatisticsDto.class);
+    assertEquals(statistics.getAcquired(), 10L);
+    assertEquals(statistics.getHeld(), 1L);
+    assertEquals(statistics.getMaxWaitTimeMs(), 25L);
+    assertEquals(statistics.getMaxHoldTimeMs(), 300L);
+  }
+
   private static <T> List<T> unwrapDtoList(Response response, Class<T> dtoClass) {
     return DtoFactory.getInstance()
         .createListDtoFromJson(response.body().print(), dtoClass)
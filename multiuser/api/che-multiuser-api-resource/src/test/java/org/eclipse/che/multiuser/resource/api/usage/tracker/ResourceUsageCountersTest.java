@@ -0,0 +1,204 @@
+/*
+ * Copyright (c) 2012-2017 Red Hat, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.multiuser.resource.api.usage.tracker;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonMap;
+import static org.eclipse.che.api.core.model.workspace.WorkspaceStatus.RUNNING;
+import static org.eclipse.che.api.core.model.workspace.WorkspaceStatus.STARTING;
+import static org.eclipse.che.api.core.model.workspace.WorkspaceStatus.STOPPED;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import org.eclipse.che.account.spi.AccountImpl;
+import org.eclipse.che.api.core.NotFoundException;
+import org.eclipse.che.api.core.model.workspace.WorkspaceStatus;
+import org.eclipse.che.api.core.notification.EventService;
+import org.eclipse.che.api.machine.server.model.impl.MachineConfigImpl;
+import org.eclipse.che.api.machine.server.model.impl.MachineImpl;
+import org.eclipse.che.api.machine.server.model.impl.MachineLimitsImpl;
+import org.eclipse.che.api.workspace.server.WorkspaceRuntimes;
+import org.eclipse.che.api.workspace.server.model.impl.EnvironmentImpl;
+import org.eclipse.che.api.workspace.server.model.impl.WorkspaceConfigImpl;
+import org.eclipse.che.api.workspace.server.model.impl.WorkspaceImpl;
+import org.eclipse.che.api.workspace.server.model.impl.WorkspaceRuntimeImpl;
+import org.eclipse.che.api.workspace.server.spi.WorkspaceDao;
+import org.eclipse.che.api.workspace.shared.dto.event.WorkspaceStatusEvent;
+import org.mockito.Mock;
+import org.mockito.testng.MockitoTestNGListener;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Listeners;
+import org.testng.annotations.Test;
+
+/** Tests for {@link ResourceUsageCounters}. */
+@Listeners(MockitoTestNGListener.class)
+public class ResourceUsageCountersTest {
+  private static final String ACCOUNT_ID = "account123";
+
+  @Mock private WorkspaceDao workspaceDao;
+  @Mock private WorkspaceRuntimes runtimes;
+  @Mock private EnvironmentRamCalculator environmentRamCalculator;
+  @Mock private EventService eventService;
+
+  /** Workspace id to its actual state as seen by workspace runtimes. */
+  private Map<String, WorkspaceImpl> actual;
+
+  private ResourceUsageCounters counters;
+
+  @BeforeMethod
+  public void setUp() throws Exception {
+    actual = new HashMap<>();
+    when(runtimes.getRuntimesIds()).thenAnswer(inv -> new HashSet<>(actual.keySet()));
+    when(workspaceDao.get(any(String.class)))
+        .thenAnswer(
+            inv -> {
+              final String id = inv.getArgument(0);
+              if (!actual.containsKey(id)) {
+                throw new NotFoundException("Workspace " + id + " was not found");
+              }
+              return new WorkspaceImpl(actual.get(id));
+            });
+    doAnswer(
+            inv -> {
+              final WorkspaceImpl workspace = inv.getArgument(0);
+              final WorkspaceImpl state = actual.get(workspace.getId());
+              workspace.setStatus(state.getStatus());
+              workspace.setRuntime(state.getRuntime());
+              return null;
+            })
+        .when(runtimes)
+        .injectRuntime(any());
+
+    counters =
+        new ResourceUsageCounters(workspaceDao, runtimes, environmentRamCalculator, eventService);
+  }
+
+  @AfterMethod
+  public void tearDown() {
+    counters.unsubscribe();
+  }
+
+  @Test
+  public void shouldSubscribeOnWorkspaceStatusEvents() {
+    counters.subscribe();
+
+    verify(eventService).subscribe(any(), eq(WorkspaceStatusEvent.class));
+  }
+
+  @Test
+  public void shouldSumRamOfMachinesOfRunningWorkspaces() {
+    actual.put("ws1", createWorkspace("ws1", RUNNING, 1000, 500));
+    actual.put("ws2", createWorkspace("ws2", RUNNING, 500));
+
+    counters.refresh("ws1");
+    counters.refresh("ws2");
+
+    assertEquals(counters.getRuntimes(ACCOUNT_ID), 2);
+    assertEquals(counters.getRam(ACCOUNT_ID), 2000);
+  }
+
+  @Test
+  public void shouldCalculateRamOfStartingWorkspaceFromEnvironment() throws Exception {
+    actual.put("ws1", createWorkspace("ws1", STARTING, 500));
+    when(environmentRamCalculator.calculate(any())).thenReturn(3000L);
+
+    counters.refresh("ws1");
+
+    assertEquals(counters.getRuntimes(ACCOUNT_ID), 1);
+    assertEquals(counters.getRam(ACCOUNT_ID), 3000);
+  }
+
+  @Test
+  public void shouldRecalculateUsageWhenWorkspaceStatusChanges() throws Exception {
+    actual.put("ws1", createWorkspace("ws1", STARTING));
+    when(environmentRamCalculator.calculate(any())).thenReturn(3000L);
+    counters.refresh("ws1");
+
+    actual.put("ws1", createWorkspace("ws1", RUNNING, 1000, 1000));
+    counters.refresh("ws1");
+
+    assertEquals(counters.getRuntimes(ACCOUNT_ID), 1);
+    assertEquals(counters.getRam(ACCOUNT_ID), 2000);
+  }
+
+  @Test
+  public void shouldDropUsageOfStoppedWorkspace() {
+    actual.put("ws1", createWorkspace("ws1", RUNNING, 1000));
+    counters.refresh("ws1");
+
+    actual.put("ws1", createWorkspace("ws1", STOPPED));
+    counters.refresh("ws1");
+
+    assertEquals(counters.getRuntimes(ACCOUNT_ID), 0);
+    assertEquals(counters.getRam(ACCOUNT_ID), 0);
+  }
+
+  @Test
+  public void shouldTrackStartedWorkspace() throws Exception {
+    final WorkspaceImpl started = createWorkspace("ws1", STARTING);
+    when(runtimes.hasRuntime("ws1")).thenReturn(true);
+    when(environmentRamCalculator.calculate(any())).thenReturn(1500L);
+
+    counters.track(started);
+
+    assertEquals(counters.getRuntimes(ACCOUNT_ID), 1);
+    assertEquals(counters.getRam(ACCOUNT_ID), 1500);
+  }
+
+  @Test
+  public void shouldReconcileCountersWithWorkspaceRuntimes() {
+    actual.put("ws1", createWorkspace("ws1", RUNNING, 1000));
+    actual.put("ws2", createWorkspace("ws2", RUNNING, 500));
+    counters.refresh("ws1");
+    counters.refresh("ws2");
+    // events of ws2 stop and ws3 start are missed
+    actual.remove("ws2");
+    actual.put("ws3", createWorkspace("ws3", RUNNING, 2000));
+
+    counters.doReconcile();
+
+    assertEquals(counters.getRuntimes(ACCOUNT_ID), 2);
+    assertEquals(counters.getRam(ACCOUNT_ID), 3000);
+  }
+
+  private static WorkspaceImpl createWorkspace(
+      String id, WorkspaceStatus status, Integer... machineRams) {
+    final List<MachineImpl> machines = new ArrayList<>(machineRams.length);
+    for (Integer machineRam : asList(machineRams)) {
+      machines.add(
+          MachineImpl.builder()
+              .setConfig(
+                  MachineConfigImpl.builder().setLimits(new MachineLimitsImpl(machineRam)).build())
+              .build());
+    }
+    return WorkspaceImpl.builder()
+        .setId(id)
+        .setAccount(new AccountImpl(ACCOUNT_ID, "testAccount", "test"))
+        .setConfig(
+            WorkspaceConfigImpl.builder()
+                .setDefaultEnv("default")
+                .setEnvironments(singletonMap("default", new EnvironmentImpl()))
+                .build())
+        .setRuntime(status == STOPPED ? null : new WorkspaceRuntimeImpl("default", machines))
+        .setStatus(status)
+        .build();
+  }
+}
@@ -279,6 +279,7 @@ public class LimitsCheckingWorkspaceManagerTest {
               maxRamPerEnv,
               environmentRamCalculator,
               resourceUsageManager,
+              null,
               null));
     }
 
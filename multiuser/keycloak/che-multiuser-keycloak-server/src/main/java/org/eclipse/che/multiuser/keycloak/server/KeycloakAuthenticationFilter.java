@@ -10,25 +10,19 @@
  */
 package org.eclipse.che.multiuser.keycloak.server;
 
-import com.google.gson.Gson;
-import com.google.gson.reflect.TypeToken;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Hashing;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jws;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureException;
-import java.io.BufferedReader;
+import io.jsonwebtoken.SigningKeyResolver;
 import java.io.IOException;
-import java.io.InputStreamReader;
-import java.lang.reflect.Type;
-import java.net.HttpURLConnection;
-import java.net.URL;
-import java.security.KeyFactory;
-import java.security.NoSuchAlgorithmException;
-import java.security.PublicKey;
-import java.security.spec.InvalidKeySpecException;
-import java.security.spec.X509EncodedKeySpec;
-import java.util.Base64;
-import java.util.Map;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
 import javax.inject.Inject;
 import javax.inject.Named;
 import javax.inject.Singleton;
@@ -43,29 +37,38 @@ import org.eclipse.che.multiuser.keycloak.shared.KeycloakConstants;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Verifies JWT of the request and sets it into the request attribute {@code token}.
+ *
+ * <p>Signature verification is expensive, so verified tokens are kept in memory until they expire,
+ * but not longer than {@link #VERIFIED_TOKENS_TTL_SEC}. Tokens are identified by SHA-256 of their
+ * content, the tokens themselves are not stored.
+ */
 @Singleton
 public class KeycloakAuthenticationFilter extends AbstractKeycloakFilter {
-  private static final Gson GSON = new Gson();
-  private static final Type STRING_MAP_TYPE = new TypeToken<Map<String, String>>() {}.getType();
-
   private static final Logger LOG = LoggerFactory.getLogger(KeycloakAuthenticationFilter.class);
 
-  private String authServerUrl;
-  private String realm;
-  private long allowedClockSkewSec;
-  private PublicKey publicKey = null;
-  private RequestTokenExtractor tokenExtractor;
+  private static final long VERIFIED_TOKENS_CACHE_SIZE = 10_000;
+  private static final long VERIFIED_TOKENS_TTL_SEC = 5 * 60;
+
+  private final long allowedClockSkewSec;
+  private final RequestTokenExtractor tokenExtractor;
+  private final SigningKeyResolver signingKeyResolver;
+  private final Cache<String, Jws<Claims>> verifiedTokens;
 
   @Inject
   public KeycloakAuthenticationFilter(
-      @Named(KeycloakConstants.AUTH_SERVER_URL_SETTING) String authServerUrl,
-      @Named(KeycloakConstants.REALM_SETTING) String realm,
       @Named(KeycloakConstants.ALLOWED_CLOCK_SKEW_SEC) long allowedClockSkewSec,
-      RequestTokenExtractor tokenExtractor) {
-    this.authServerUrl = authServerUrl;
-    this.realm = realm;
+      RequestTokenExtractor tokenExtractor,
+      KeycloakSigningKeyResolver signingKeyResolver) {
     this.allowedClockSkewSec = allowedClockSkewSec;
     this.tokenExtractor = tokenExtractor;
+    this.signingKeyResolver = signingKeyResolver;
+    this.verifiedTokens =
+        CacheBuilder.newBuilder()
+            .maximumSize(VERIFIED_TOKENS_CACHE_SIZE)
+            .expireAfterWrite(VERIFIED_TOKENS_TTL_SEC, TimeUnit.SECONDS)
+            .build();
   }
 
   @Override
@@ -88,72 +91,40 @@ public class KeycloakAuthenticationFilter extends AbstractKeycloakFilter {
 
     Jws<Claims> jwt;
     try {
-      jwt =
-          Jwts.parser()
-              .setAllowedClockSkewSeconds(allowedClockSkewSec)
-              .setSigningKey(getJwtPublicKey(false))
-              .parseClaimsJws(token);
+      jwt = verify(token);
       LOG.debug("JWT = ", jwt);
       // OK, we can trust this JWT
-    } catch (SignatureException
-        | NoSuchAlgorithmException
-        | InvalidKeySpecException
-        | IllegalArgumentException e) {
+    } catch (SignatureException | IllegalArgumentException e) {
       // don't trust the JWT!
       LOG.error("Failed verifying the JWT token", e);
-      try {
-        LOG.info("Retrying after updating the public key", e);
-        jwt =
-            Jwts.parser()
-                .setAllowedClockSkewSeconds(allowedClockSkewSec)
-                .setSigningKey(getJwtPublicKey(true))
-                .parseClaimsJws(token);
-        LOG.debug("JWT = ", jwt);
-        // OK, we can trust this JWT
-      } catch (SignatureException
-          | NoSuchAlgorithmException
-          | InvalidKeySpecException
-          | IllegalArgumentException ee) {
-        // don't trust the JWT!
-        LOG.error("Failed verifying the JWT token after public key update", e);
-        send403(res);
-        return;
-      }
+      send403(res);
+      return;
     }
     request.setAttribute("token", jwt);
     chain.doFilter(req, res);
   }
 
-  private synchronized PublicKey getJwtPublicKey(boolean reset)
-      throws NoSuchAlgorithmException, InvalidKeySpecException {
-    if (reset) {
-      publicKey = null;
-    }
-    if (publicKey == null) {
-      HttpURLConnection conn = null;
-      try {
-        URL url = new URL(authServerUrl + "/realms/" + realm);
-        LOG.info("Pulling realm public key from URL : {}", url);
-        conn = (HttpURLConnection) url.openConnection();
-        conn.setRequestMethod("GET");
-        Map<String, String> realmSettings;
-        try (BufferedReader in = new BufferedReader(new InputStreamReader(conn.getInputStream()))) {
-          realmSettings = GSON.fromJson(in, STRING_MAP_TYPE);
-        }
-        String encodedPublicKey = realmSettings.get("public_key");
-        byte[] decoded = Base64.getDecoder().decode(encodedPublicKey);
-        X509EncodedKeySpec keySpec = new X509EncodedKeySpec(decoded);
-        KeyFactory kf = KeyFactory.getInstance("RSA");
-        publicKey = kf.generatePublic(keySpec);
-      } catch (IOException e) {
-        LOG.error("Exception during retrieval of the Keycloak realm public key", e);
-      } finally {
-        if (conn != null) {
-          conn.disconnect();
-        }
-      }
+  private Jws<Claims> verify(String token) {
+    final String tokenHash = Hashing.sha256().hashString(token, UTF_8).toString();
+    final Jws<Claims> cached = verifiedTokens.getIfPresent(tokenHash);
+    if (cached != null && !isExpired(cached)) {
+      return cached;
     }
-    return publicKey;
+    // expired token is parsed again, so it is rejected the same way as not cached one
+    final Jws<Claims> jwt =
+        Jwts.parser()
+            .setAllowedClockSkewSeconds(allowedClockSkewSec)
+            .setSigningKeyResolver(signingKeyResolver)
+            .parseClaimsJws(token);
+    verifiedTokens.put(tokenHash, jwt);
+    return jwt;
+  }
+
+  private boolean isExpired(Jws<Claims> jwt) {
+    final Date expiration = jwt.getBody().getExpiration();
+    return expiration != null
+        && expiration.getTime() + TimeUnit.SECONDS.toMillis(allowedClockSkewSec)
+            < System.currentTimeMillis();
   }
 
   private void send403(ServletResponse res) throws IOException {
@@ -13,11 +13,18 @@ package org.eclipse.che.multiuser.keycloak.server;
 import static java.util.Collections.emptyList;
 import static org.eclipse.che.commons.lang.NameGenerator.generate;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.Striped;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwt;
 import java.io.IOException;
 import java.security.Principal;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import javax.servlet.FilterChain;
@@ -31,7 +38,10 @@ import org.eclipse.che.api.core.ConflictException;
 import org.eclipse.che.api.core.NotFoundException;
 import org.eclipse.che.api.core.ServerException;
 import org.eclipse.che.api.core.model.user.User;
+import org.eclipse.che.api.core.notification.EventService;
+import org.eclipse.che.api.core.notification.EventSubscriber;
 import org.eclipse.che.api.user.server.UserManager;
+import org.eclipse.che.api.user.server.event.UserRemovedEvent;
 import org.eclipse.che.api.user.server.model.impl.UserImpl;
 import org.eclipse.che.commons.auth.token.RequestTokenExtractor;
 import org.eclipse.che.commons.env.EnvironmentContext;
@@ -48,18 +58,45 @@ import org.eclipse.che.multiuser.api.permission.server.PermissionChecker;
 @Singleton
 public class KeycloakEnvironmentInitalizationFilter extends AbstractKeycloakFilter {
 
+  private static final long USERS_CACHE_SIZE = 10_000;
+  private static final long USERS_CACHE_TTL_SEC = 60;
+
   private final UserManager userManager;
   private final RequestTokenExtractor tokenExtractor;
   private final PermissionChecker permissionChecker;
+  private final EventService eventService;
+  private final EventSubscriber<UserRemovedEvent> userRemovedSubscriber;
+  /** Users identified by subject of the token, changes of users become visible after TTL. */
+  private final Cache<String, User> users;
+  private final Striped<Lock> createLocks;
 
   @Inject
   public KeycloakEnvironmentInitalizationFilter(
       UserManager userManager,
       RequestTokenExtractor tokenExtractor,
-      PermissionChecker permissionChecker) {
+      PermissionChecker permissionChecker,
+      EventService eventService) {
     this.userManager = userManager;
     this.tokenExtractor = tokenExtractor;
     this.permissionChecker = permissionChecker;
+    this.eventService = eventService;
+    this.users =
+        CacheBuilder.newBuilder()
+            .maximumSize(USERS_CACHE_SIZE)
+            .expireAfterWrite(USERS_CACHE_TTL_SEC, TimeUnit.SECONDS)
+            .build();
+    this.createLocks = Striped.lock(16);
+    this.userRemovedSubscriber = event -> users.invalidate(event.getUserId());
+  }
+
+  @PostConstruct
+  public void subscribe() {
+    eventService.subscribe(userRemovedSubscriber, UserRemovedEvent.class);
+  }
+
+  @PreDestroy
+  public void unsubscribe() {
+    eventService.unsubscribe(userRemovedSubscriber, UserRemovedEvent.class);
   }
 
   @Override
@@ -108,21 +145,30 @@ public class KeycloakEnvironmentInitalizationFilter extends AbstractKeycloakFilt
 
   private User getOrCreateUser(String id, String email, String username)
       throws ServerException, ConflictException {
+    final User cached = users.getIfPresent(id);
+    if (cached != null) {
+      return cached;
+    }
     Optional<User> user = getUser(id);
     if (!user.isPresent()) {
-      synchronized (this) {
+      final Lock lock = createLocks.get(id);
+      lock.lock();
+      try {
         user = getUser(id);
         if (!user.isPresent()) {
           final UserImpl cheUser = new UserImpl(id, email, username, generate("", 12), emptyList());
           try {
-            return userManager.create(cheUser, false);
+            user = Optional.of(userManager.create(cheUser, false));
           } catch (ConflictException ex) {
             cheUser.setName(generate(cheUser.getName(), 4));
-            return userManager.create(cheUser, false);
+            user = Optional.of(userManager.create(cheUser, false));
           }
         }
+      } finally {
+        lock.unlock();
       }
     }
+    users.put(id, user.get());
     return user.get();
   }
 
@@ -0,0 +1,189 @@
+/*
+ * Copyright (c) 2012-2017 Red Hat, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.multiuser.keycloak.server;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.gson.Gson;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.math.BigInteger;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.spec.RSAPublicKeySpec;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.inject.Inject;
+import javax.inject.Named;
+import javax.inject.Singleton;
+import org.eclipse.che.commons.lang.concurrent.LoggingUncaughtExceptionHandler;
+import org.eclipse.che.multiuser.keycloak.shared.KeycloakConstants;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Resolves keys for verification of JWT signatures using the JSON Web Key Set published by the
+ * Keycloak realm.
+ *
+ * <p>Keys are refreshed periodically in background, so rotation of realm keys does not require
+ * fetching keys on the request path. When a token is signed with a key which is not known yet, keys
+ * are refreshed immediately, but not more often than once per {@link #MIN_REFRESH_INTERVAL_MS},
+ * so forged tokens cannot make the server flood Keycloak with requests.
+ */
+@Singleton
+public class KeycloakSigningKeyResolver extends SigningKeyResolverAdapter {
+  private static final Logger LOG = LoggerFactory.getLogger(KeycloakSigningKeyResolver.class);
+  private static final Gson GSON = new Gson();
+
+  private static final long MIN_REFRESH_INTERVAL_MS = 10_000;
+  private static final int TIMEOUT_MS = 10_000;
+
+  private final String certsUrl;
+  private final long refreshPeriodSec;
+  private final long minRefreshIntervalMs;
+  private final ScheduledExecutorService refresher;
+
+  private volatile Map<String, PublicKey> keys = ImmutableMap.of();
+  private long lastRefreshTime;
+
+  @Inject
+  public KeycloakSigningKeyResolver(
+      @Named(KeycloakConstants.AUTH_SERVER_URL_SETTING) String authServerUrl,
+      @Named(KeycloakConstants.REALM_SETTING) String realm,
+      @Named("che.keycloak.jwks.refresh_period_sec") long refreshPeriodSec) {
+    this(authServerUrl, realm, refreshPeriodSec, MIN_REFRESH_INTERVAL_MS);
+  }
+
+  KeycloakSigningKeyResolver(
+      String authServerUrl, String realm, long refreshPeriodSec, long minRefreshIntervalMs) {
+    this.certsUrl = authServerUrl + "/realms/" + realm + "/protocol/openid-connect/certs";
+    this.refreshPeriodSec = refreshPeriodSec;
+    this.minRefreshIntervalMs = minRefreshIntervalMs;
+    this.refresher =
+        Executors.newSingleThreadScheduledExecutor(
+            new ThreadFactoryBuilder()
+                .setNameFormat("KeycloakKeysRefresher")
+                .setUncaughtExceptionHandler(LoggingUncaughtExceptionHandler.getInstance())
+                .setDaemon(true)
+                .build());
+  }
+
+  @PostConstruct
+  public void start() {
+    refresher.scheduleWithFixedDelay(this::refresh, 0, refreshPeriodSec, TimeUnit.SECONDS);
+  }
+
+  @PreDestroy
+  public void stop() {
+    refresher.shutdownNow();
+  }
+
+  @Override
+  public Key resolveSigningKey(JwsHeader header, Claims claims) {
+    final String keyId = header.getKeyId();
+    PublicKey key = findKey(keyId);
+    if (key == null) {
+      key = refreshAndFindKey(keyId);
+    }
+    if (key == null) {
+      // parser rejects the token with this exception
+      throw new IllegalArgumentException("Unknown signing key '" + keyId + "'");
+    }
+    return key;
+  }
+
+  private PublicKey findKey(String keyId) {
+    final Map<String, PublicKey> current = keys;
+    if (keyId != null) {
+      return current.get(keyId);
+    }
+    // tokens without key id are issued by realms with single key
+    return current.size() == 1 ? current.values().iterator().next() : null;
+  }
+
+  private synchronized PublicKey refreshAndFindKey(String keyId) {
+    // keys might be refreshed while waiting for the lock
+    final PublicKey key = findKey(keyId);
+    if (key != null || System.currentTimeMillis() - lastRefreshTime < minRefreshIntervalMs) {
+      return key;
+    }
+    refresh();
+    return findKey(keyId);
+  }
+
+  /** Fetches the realm keys, keeps previously fetched keys if Keycloak is not available. */
+  synchronized void refresh() {
+    lastRefreshTime = System.currentTimeMillis();
+    HttpURLConnection conn = null;
+    try {
+      conn = (HttpURLConnection) new URL(certsUrl).openConnection();
+      conn.setRequestMethod("GET");
+      conn.setConnectTimeout(TIMEOUT_MS);
+      conn.setReadTimeout(TIMEOUT_MS);
+      JsonWebKeySet keySet;
+      try (BufferedReader in = new BufferedReader(new InputStreamReader(conn.getInputStream()))) {
+        keySet = GSON.fromJson(in, JsonWebKeySet.class);
+      }
+      final ImmutableMap.Builder<String, PublicKey> fetched = ImmutableMap.builder();
+      final KeyFactory keyFactory = KeyFactory.getInstance("RSA");
+      for (JsonWebKey jwk : keySet.keys) {
+        if (jwk.kid != null
+            && "RSA".equals(jwk.kty)
+            && (jwk.use == null || "sig".equals(jwk.use))) {
+          final Base64.Decoder decoder = Base64.getUrlDecoder();
+          fetched.put(
+              jwk.kid,
+              keyFactory.generatePublic(
+                  new RSAPublicKeySpec(
+                      new BigInteger(1, decoder.decode(jwk.n)),
+                      new BigInteger(1, decoder.decode(jwk.e)))));
+        }
+      }
+      final Map<String, PublicKey> newKeys = fetched.build();
+      if (!newKeys.keySet().equals(keys.keySet())) {
+        LOG.info("Realm signing keys updated from {}: {}", certsUrl, newKeys.keySet());
+      }
+      keys = newKeys;
+    } catch (IOException | GeneralSecurityException | RuntimeException e) {
+      LOG.error("Exception during retrieval of the Keycloak realm keys from " + certsUrl, e);
+    } finally {
+      if (conn != null) {
+        conn.disconnect();
+      }
+    }
+  }
+
+  private static class JsonWebKeySet {
+    List<JsonWebKey> keys;
+  }
+
+  private static class JsonWebKey {
+    String kid;
+    String kty;
+    String use;
+    String n;
+    String e;
+  }
+}
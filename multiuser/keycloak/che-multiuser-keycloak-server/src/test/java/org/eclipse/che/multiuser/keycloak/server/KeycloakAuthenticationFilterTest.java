@@ -0,0 +1,193 @@
+/*
+ * Copyright (c) 2012-2017 Red Hat, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.multiuser.keycloak.server;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+
+import com.sun.net.httpserver.HttpServer;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.interfaces.RSAPublicKey;
+import java.util.Base64;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.servlet.FilterChain;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import org.eclipse.che.commons.auth.token.RequestTokenExtractor;
+import org.mockito.Mock;
+import org.mockito.testng.MockitoTestNGListener;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Listeners;
+import org.testng.annotations.Test;
+
+/** Tests {@link KeycloakAuthenticationFilter} against a local fake of Keycloak keys endpoint. */
+@Listeners(MockitoTestNGListener.class)
+public class KeycloakAuthenticationFilterTest {
+  @Mock private RequestTokenExtractor tokenExtractor;
+  @Mock private HttpServletRequest request;
+  @Mock private HttpServletResponse response;
+  @Mock private FilterChain chain;
+
+  private final Map<String, KeyPair> realmKeys = new LinkedHashMap<>();
+  private final AtomicInteger keysRequests = new AtomicInteger();
+
+  private HttpServer keyServer;
+  private KeycloakSigningKeyResolver keyResolver;
+  private KeycloakAuthenticationFilter filter;
+
+  @BeforeMethod
+  public void setUp() throws Exception {
+    realmKeys.clear();
+    realmKeys.put("key1", generateKeyPair());
+
+    keyServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+    keyServer.createContext(
+        "/auth/realms/che/protocol/openid-connect/certs",
+        exchange -> {
+          keysRequests.incrementAndGet();
+          final byte[] body = keySetJson().getBytes(UTF_8);
+          exchange.getResponseHeaders().add("Content-Type", "application/json");
+          exchange.sendResponseHeaders(200, body.length);
+          try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+          }
+        });
+    keyServer.start();
+
+    final String authServerUrl = "http://localhost:" + keyServer.getAddress().getPort() + "/auth";
+    keyResolver = spy(new KeycloakSigningKeyResolver(authServerUrl, "che", 300, 0));
+    keyResolver.refresh();
+    keysRequests.set(0);
+    filter = new KeycloakAuthenticationFilter(3, tokenExtractor, keyResolver);
+
+    when(request.getScheme()).thenReturn("http");
+  }
+
+  @AfterMethod
+  public void tearDown() {
+    keyResolver.stop();
+    keyServer.stop(0);
+  }
+
+  @Test
+  public void shouldVerifySignatureOfTheSameTokenOnce() throws Exception {
+    final String token = createToken("key1", 60_000);
+    when(tokenExtractor.getToken(request)).thenReturn(token);
+
+    filter.doFilter(request, response, chain);
+    filter.doFilter(request, response, chain);
+
+    verify(chain, times(2)).doFilter(request, response);
+    verify(response, never()).sendError(403);
+    verify(request, times(2)).setAttribute(eq("token"), any());
+    verify(keyResolver, times(1)).resolveSigningKey(any(JwsHeader.class), any(Claims.class));
+    assertEquals(keysRequests.get(), 0);
+  }
+
+  @Test
+  public void shouldFetchKeysWhenTokenIsSignedWithRotatedKey() throws Exception {
+    realmKeys.put("key2", generateKeyPair());
+    when(tokenExtractor.getToken(request)).thenReturn(createToken("key2", 60_000));
+
+    filter.doFilter(request, response, chain);
+
+    verify(chain).doFilter(request, response);
+    assertEquals(keysRequests.get(), 1);
+  }
+
+  @Test
+  public void shouldRejectTokenSignedWithUnknownKey() throws Exception {
+    final KeyPair foreign = generateKeyPair();
+    final String token =
+        Jwts.builder()
+            .setHeaderParam("kid", "key1")
+            .setSubject("user123")
+            .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+            .signWith(SignatureAlgorithm.RS256, foreign.getPrivate())
+            .compact();
+    when(tokenExtractor.getToken(request)).thenReturn(token);
+
+    filter.doFilter(request, response, chain);
+
+    verify(response).sendError(403);
+    verify(chain, never()).doFilter(request, response);
+  }
+
+  @Test
+  public void shouldRejectTokenWithKeyIdUnknownByKeycloak() throws Exception {
+    final KeyPair foreign = generateKeyPair();
+    final String token =
+        Jwts.builder()
+            .setHeaderParam("kid", "unknown")
+            .setSubject("user123")
+            .signWith(SignatureAlgorithm.RS256, foreign.getPrivate())
+            .compact();
+    when(tokenExtractor.getToken(request)).thenReturn(token);
+
+    filter.doFilter(request, response, chain);
+
+    verify(response).sendError(403);
+    verify(chain, never()).doFilter(request, response);
+    assertEquals(keysRequests.get(), 1);
+  }
+
+  private String createToken(String keyId, long ttlMs) {
+    return Jwts.builder()
+        .setHeaderParam("kid", keyId)
+        .setSubject("user123")
+        .setExpiration(new Date(System.currentTimeMillis() + ttlMs))
+        .signWith(SignatureAlgorithm.RS256, realmKeys.get(keyId).getPrivate())
+        .compact();
+  }
+
+  private String keySetJson() {
+    final Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+    final StringBuilder json = new StringBuilder("{\"keys\":[");
+    for (Map.Entry<String, KeyPair> entry : realmKeys.entrySet()) {
+      final RSAPublicKey key = (RSAPublicKey) entry.getValue().getPublic();
+      if (json.charAt(json.length() - 1) != '[') {
+        json.append(',');
+      }
+      json.append("{\"kid\":\"")
+          .append(entry.getKey())
+          .append("\",\"kty\":\"RSA\",\"alg\":\"RS256\",\"use\":\"sig\",\"n\":\"")
+          .append(encoder.encodeToString(key.getModulus().toByteArray()))
+          .append("\",\"e\":\"")
+          .append(encoder.encodeToString(key.getPublicExponent().toByteArray()))
+          .append("\"}");
+    }
+    return json.append("]}").toString();
+  }
+
+  private static KeyPair generateKeyPair() throws Exception {
+    final KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+    generator.initialize(2048);
+    return generator.generateKeyPair();
+  }
+}
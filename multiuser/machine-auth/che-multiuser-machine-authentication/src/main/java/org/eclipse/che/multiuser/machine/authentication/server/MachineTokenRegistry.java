@@ -13,27 +13,30 @@ package org.eclipse.che.multiuser.machine.authentication.server;
 import static java.lang.String.format;
 import static org.eclipse.che.commons.lang.NameGenerator.generate;
 
-import com.google.common.collect.HashBasedTable;
-import com.google.common.collect.Table;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.ConcurrentHashMap;
 import javax.inject.Singleton;
 import org.eclipse.che.api.core.NotFoundException;
 
 /**
- * Table-based storage of machine security tokens. Table rows is workspace id's, columns - user
- * id's. Table is synchronized externally as required by its javadoc.
+ * Concurrent storage of machine security tokens.
+ *
+ * <p>Tokens are grouped by workspace id, then by user id, so all the tokens of a workspace are
+ * invalidated at once. Each group is modified atomically within its {@link
+ * ConcurrentHashMap#compute} call. The reverse token to user index is maintained along with the
+ * groups, so resolving a user by token, which happens for each request authenticated with machine
+ * token, doesn't block and doesn't depend on the number of tokens.
  *
  * @author Max Shaposhnik (mshaposhnik@codenvy.com)
- * @see HashBasedTable
  */
 @Singleton
 public class MachineTokenRegistry {
 
-  private final Table<String, String, String> tokens = HashBasedTable.create();
-  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+  /** Workspace id -> (user id -> token). */
+  private final ConcurrentHashMap<String, Map<String, String>> tokens = new ConcurrentHashMap<>();
+  /** Token -> user id. */
+  private final ConcurrentHashMap<String, String> tokenUsers = new ConcurrentHashMap<>();
 
   /**
    * Generates new machine security token for given user and workspace.
@@ -43,14 +46,21 @@ public class MachineTokenRegistry {
    * @return generated token value
    */
   public String generateToken(String userId, String workspaceId) {
-    lock.writeLock().lock();
-    try {
-      final String token = generate("machine", 128);
-      tokens.put(workspaceId, userId, token);
-      return token;
-    } finally {
-      lock.writeLock().unlock();
-    }
+    final String token = generate("machine", 128);
+    tokens.compute(
+        workspaceId,
+        (wsId, wsTokens) -> {
+          if (wsTokens == null) {
+            wsTokens = new ConcurrentHashMap<>();
+          }
+          final String previous = wsTokens.put(userId, token);
+          if (previous != null) {
+            tokenUsers.remove(previous);
+          }
+          tokenUsers.put(token, userId);
+          return wsTokens;
+        });
+    return token;
   }
 
   /**
@@ -63,16 +73,24 @@ public class MachineTokenRegistry {
    * @throws NotFoundException when there is no running workspace with given id
    */
   public String getOrCreateToken(String userId, String workspaceId) throws NotFoundException {
-    lock.writeLock().lock();
-    try {
-      final Map<String, String> wsRow = tokens.row(workspaceId);
-      if (wsRow.isEmpty()) {
-        throw new NotFoundException(format("No running workspace found with id %s", workspaceId));
-      }
-      return wsRow.get(userId) == null ? generateToken(userId, workspaceId) : wsRow.get(userId);
-    } finally {
-      lock.writeLock().unlock();
+    final String[] token = new String[1];
+    tokens.computeIfPresent(
+        workspaceId,
+        (wsId, wsTokens) -> {
+          token[0] =
+              wsTokens.computeIfAbsent(
+                  userId,
+                  id -> {
+                    final String generated = generate("machine", 128);
+                    tokenUsers.put(generated, id);
+                    return generated;
+                  });
+          return wsTokens;
+        });
+    if (token[0] == null) {
+      throw new NotFoundException(format("No running workspace found with id %s", workspaceId));
     }
+    return token[0];
   }
 
   /**
@@ -82,17 +100,11 @@ public class MachineTokenRegistry {
    * @throws NotFoundException when no token exists for given user and workspace
    */
   public String getUserId(String token) throws NotFoundException {
-    lock.readLock().lock();
-    try {
-      for (Table.Cell<String, String, String> tokenCell : tokens.cellSet()) {
-        if (tokenCell.getValue().equals(token)) {
-          return tokenCell.getColumnKey();
-        }
-      }
+    final String userId = tokenUsers.get(token);
+    if (userId == null) {
       throw new NotFoundException("User not found for token " + token);
-    } finally {
-      lock.readLock().unlock();
     }
+    return userId;
   }
 
   /**
@@ -102,13 +114,14 @@ public class MachineTokenRegistry {
    * @return the copy of the tokens row, where row is a map where key is user id and value is token
    */
   public Map<String, String> removeTokens(String workspaceId) {
-    lock.writeLock().lock();
-    try {
-      final Map<String, String> rowCopy = new HashMap<>(tokens.row(workspaceId));
-      tokens.row(workspaceId).clear();
-      return rowCopy;
-    } finally {
-      lock.writeLock().unlock();
-    }
+    final Map<String, String> removed = new HashMap<>();
+    tokens.computeIfPresent(
+        workspaceId,
+        (wsId, wsTokens) -> {
+          removed.putAll(wsTokens);
+          wsTokens.values().forEach(tokenUsers::remove);
+          return null;
+        });
+    return removed;
   }
 }
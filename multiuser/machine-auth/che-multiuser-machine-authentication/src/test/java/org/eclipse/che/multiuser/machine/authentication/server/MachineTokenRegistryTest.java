@@ -14,8 +14,14 @@ import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertTrue;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import org.eclipse.che.api.core.NotFoundException;
 import org.testng.annotations.Test;
 
@@ -45,6 +51,88 @@ public class MachineTokenRegistryTest {
     assertFalse(exists(registry, "user3", "workspace123"));
   }
 
+  @Test
+  public void shouldResolveUserByToken() throws Exception {
+    final MachineTokenRegistry registry = new MachineTokenRegistry();
+
+    final String token1 = registry.generateToken("user1", "workspace123");
+    final String token2 = registry.getOrCreateToken("user2", "workspace123");
+
+    assertEquals(registry.getUserId(token1), "user1");
+    assertEquals(registry.getUserId(token2), "user2");
+    assertEquals(registry.getOrCreateToken("user2", "workspace123"), token2);
+  }
+
+  @Test(expectedExceptions = NotFoundException.class)
+  public void shouldNotResolveUserByRegeneratedToken() throws Exception {
+    final MachineTokenRegistry registry = new MachineTokenRegistry();
+    final String token = registry.generateToken("user1", "workspace123");
+    registry.generateToken("user1", "workspace123");
+
+    registry.getUserId(token);
+  }
+
+  @Test(expectedExceptions = NotFoundException.class)
+  public void shouldNotResolveUserByTokenOfStoppedWorkspace() throws Exception {
+    final MachineTokenRegistry registry = new MachineTokenRegistry();
+    final String token = registry.generateToken("user1", "workspace123");
+    registry.removeTokens("workspace123");
+
+    registry.getUserId(token);
+  }
+
+  @Test
+  public void shouldKeepTokenIndexConsistentUnderConcurrentModification() throws Exception {
+    final MachineTokenRegistry registry = new MachineTokenRegistry();
+    final Map<String, String> tokenToUser = new ConcurrentHashMap<>();
+    final ExecutorService executor = Executors.newFixedThreadPool(8);
+    try {
+      final List<Future<?>> tasks = new ArrayList<>();
+      for (int i = 0; i < 1000; i++) {
+        final String userId = "user" + i % 7;
+        final String workspaceId = "workspace" + i % 10;
+        tasks.add(
+            executor.submit(
+                () -> {
+                  tokenToUser.put(registry.generateToken(userId, workspaceId), userId);
+                  if (userId.equals("user0")) {
+                    registry.removeTokens(workspaceId);
+                  }
+                }));
+      }
+      for (Future<?> task : tasks) {
+        task.get();
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    int resolvable = 0;
+    for (Map.Entry<String, String> entry : tokenToUser.entrySet()) {
+      if (resolves(registry, entry.getKey())) {
+        assertEquals(registry.getUserId(entry.getKey()), entry.getValue());
+        resolvable++;
+      }
+    }
+    int stored = 0;
+    for (int i = 0; i < 10; i++) {
+      stored += registry.removeTokens("workspace" + i).size();
+    }
+    assertEquals(resolvable, stored);
+    for (String token : tokenToUser.keySet()) {
+      assertFalse(resolves(registry, token));
+    }
+  }
+
+  private static boolean resolves(MachineTokenRegistry registry, String token) {
+    try {
+      registry.getUserId(token);
+      return true;
+    } catch (NotFoundException e) {
+      return false;
+    }
+  }
+
   private static boolean exists(MachineTokenRegistry registry, String user, String workspace) {
     try {
       registry.getOrCreateToken(user, workspace);
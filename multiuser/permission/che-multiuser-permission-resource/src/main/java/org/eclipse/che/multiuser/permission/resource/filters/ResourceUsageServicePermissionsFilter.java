@@ -45,6 +45,7 @@ public class ResourceUsageServicePermissionsFilter extends CheMethodInvokerFilte
   static final String GET_TOTAL_RESOURCES_METHOD = "getTotalResources";
   static final String GET_AVAILABLE_RESOURCES_METHOD = "getAvailableResources";
   static final String GET_USED_RESOURCES_METHOD = "getUsedResources";
+  static final String GET_LOCKS_STATISTICS_METHOD = "getLocksStatistics";
 
   private final AccountManager accountManager;
   private final Map<String, AccountPermissionsChecker> permissionsCheckers;
@@ -77,6 +78,15 @@ public class ResourceUsageServicePermissionsFilter extends CheMethodInvokerFilte
         accountId = ((String) arguments[0]);
         break;
 
+      case GET_LOCKS_STATISTICS_METHOD:
+        if (!EnvironmentContext.getCurrent()
+            .getSubject()
+            .hasPermission(SystemDomain.DOMAIN_ID, null, SystemDomain.MANAGE_SYSTEM_ACTION)) {
+          throw new ForbiddenException(
+              "The user does not have permission to perform this operation");
+        }
+        return;
+
       default:
         throw new ForbiddenException("The user does not have permission to perform this operation");
     }
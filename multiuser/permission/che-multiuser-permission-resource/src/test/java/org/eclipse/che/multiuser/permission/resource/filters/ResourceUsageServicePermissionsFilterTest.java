@@ -98,11 +98,12 @@ public class ResourceUsageServicePermissionsFilterTest {
             .collect(Collectors.toList());
 
     // then
-    assertEquals(collect.size(), 3);
+    assertEquals(collect.size(), 4);
     assertTrue(collect.contains(ResourceUsageServicePermissionsFilter.GET_TOTAL_RESOURCES_METHOD));
     assertTrue(
         collect.contains(ResourceUsageServicePermissionsFilter.GET_AVAILABLE_RESOURCES_METHOD));
     assertTrue(collect.contains(ResourceUsageServicePermissionsFilter.GET_USED_RESOURCES_METHOD));
+    assertTrue(collect.contains(ResourceUsageServicePermissionsFilter.GET_LOCKS_STATISTICS_METHOD));
   }
 
   @Test
@@ -160,6 +161,37 @@ public class ResourceUsageServicePermissionsFilterTest {
     verify(service).getUsedResources("account123");
   }
 
+  @Test
+  public void shouldAllowAdminToGetLocksStatistics() throws Exception {
+    when(subject.hasPermission(
+            nullable(String.class), nullable(String.class), nullable(String.class)))
+        .thenReturn(true);
+
+    given()
+        .auth()
+        .basic(ADMIN_USER_NAME, ADMIN_USER_PASSWORD)
+        .expect()
+        .statusCode(204)
+        .when()
+        .get(SECURE_PATH + "/resource/locks");
+
+    verify(subject).hasPermission(SystemDomain.DOMAIN_ID, null, SystemDomain.MANAGE_SYSTEM_ACTION);
+    verify(service).getLocksStatistics();
+  }
+
+  @Test
+  public void shouldDenyGettingLocksStatisticsWhenUserIsNotAdmin() throws Exception {
+    given()
+        .auth()
+        .basic(ADMIN_USER_NAME, ADMIN_USER_PASSWORD)
+        .expect()
+        .statusCode(403)
+        .when()
+        .get(SECURE_PATH + "/resource/locks");
+
+    verify(service, never()).getLocksStatistics();
+  }
+
   @Test(dataProvider = "coveredPaths")
   public void shouldDenyRequestWhenUserDoesNotHasPermissionsToSeeResources(String path)
       throws Exception {
@@ -83,7 +83,9 @@ public class WorkspacePermissionsFilter extends CheMethodInvokerFilter {
     switch (methodName) {
       case "getSettings":
       case "getWorkspaces":
-        // methods accessible to every user
+      case "getStatuses":
+        // methods accessible to every user,
+        // statuses are fetched only for the workspaces which user can read
         return;
 
       case "getByNamespace":
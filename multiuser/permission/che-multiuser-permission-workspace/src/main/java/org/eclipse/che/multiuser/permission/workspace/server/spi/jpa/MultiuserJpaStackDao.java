@@ -14,7 +14,10 @@ import static java.lang.String.format;
 import static java.util.Objects.requireNonNull;
 
 import com.google.inject.persist.Transactional;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 import javax.inject.Inject;
 import javax.inject.Provider;
@@ -112,6 +115,25 @@ public class MultiuserJpaStackDao implements StackDao {
     }
   }
 
+  @Override
+  @Transactional
+  public Set<String> getExistingIds(Collection<String> ids) throws ServerException {
+    requireNonNull(ids, "Required non-null ids");
+    if (ids.isEmpty()) {
+      return new HashSet<>();
+    }
+    try {
+      return new HashSet<>(
+          managerProvider
+              .get()
+              .createNamedQuery("Stack.getExistingIds", String.class)
+              .setParameter("ids", ids)
+              .getResultList());
+    } catch (RuntimeException x) {
+      throw new ServerException(x.getLocalizedMessage(), x);
+    }
+  }
+
   @Override
   @Transactional
   public List<StackImpl> searchStacks(
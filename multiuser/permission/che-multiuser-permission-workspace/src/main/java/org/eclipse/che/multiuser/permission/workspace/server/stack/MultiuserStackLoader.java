@@ -10,10 +10,8 @@
  */
 package org.eclipse.che.multiuser.permission.workspace.server.stack;
 
-import static java.lang.String.format;
 import static java.util.Collections.singletonList;
 
-import java.nio.file.Path;
 import java.util.Map;
 import javax.inject.Inject;
 import javax.inject.Named;
@@ -27,9 +25,8 @@ import org.eclipse.che.api.workspace.server.stack.StackLoader;
 import org.eclipse.che.api.workspace.server.stack.image.StackIcon;
 import org.eclipse.che.api.workspace.shared.stack.Stack;
 import org.eclipse.che.core.db.DBInitializer;
+import org.eclipse.che.core.db.seed.JpaSeedChecksumDao;
 import org.eclipse.che.multiuser.permission.workspace.server.spi.jpa.JpaStackPermissionsDao;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 /**
  * Class for loading list predefined {@link Stack} to the {@link StackDao} and set {@link StackIcon}
@@ -44,8 +41,6 @@ public class MultiuserStackLoader extends StackLoader {
 
   public static final String CHE_PREDEFINED_STACKS = "che.predefined.stacks";
 
-  private static final Logger LOG = LoggerFactory.getLogger(MultiuserStackLoader.class);
-
   private final JpaStackPermissionsDao permissionsDao;
 
   @Inject
@@ -55,23 +50,20 @@ public class MultiuserStackLoader extends StackLoader {
       @Named(CHE_PREDEFINED_STACKS) Map<String, String> stacks2images,
       StackDao stackDao,
       JpaStackPermissionsDao permissionsDao,
-      DBInitializer dbInitializer) {
-    super(reloadStacksOnStart, stacks2images, stackDao, dbInitializer);
+      DBInitializer dbInitializer,
+      JpaSeedChecksumDao checksumDao) {
+    super(reloadStacksOnStart, stacks2images, stackDao, dbInitializer, checksumDao);
     this.permissionsDao = permissionsDao;
   }
 
-  protected void loadStack(StackImpl stack, Path imagePath) {
-    setIconData(stack, imagePath);
+  @Override
+  protected void loadStack(StackImpl stack) throws ServerException, ConflictException {
     try {
-      try {
-        stackDao.update(stack);
-      } catch (NotFoundException ignored) {
-        stackDao.create(stack);
-      }
-      permissionsDao.store(
-          new StackPermissionsImpl("*", stack.getId(), singletonList(StackDomain.SEARCH)));
-    } catch (ServerException | ConflictException ex) {
-      LOG.warn(format("Failed to load stack with id '%s' ", stack.getId()), ex.getMessage());
+      stackDao.update(stack);
+    } catch (NotFoundException ignored) {
+      stackDao.create(stack);
     }
+    permissionsDao.store(
+        new StackPermissionsImpl("*", stack.getId(), singletonList(StackDomain.SEARCH)));
   }
 }
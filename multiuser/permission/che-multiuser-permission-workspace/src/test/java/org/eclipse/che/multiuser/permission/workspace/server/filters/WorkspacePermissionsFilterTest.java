@@ -15,7 +15,6 @@ import static org.everrest.assured.JettyHttpServer.ADMIN_USER_NAME;
 import static org.everrest.assured.JettyHttpServer.ADMIN_USER_PASSWORD;
 import static org.everrest.assured.JettyHttpServer.SECURE_PATH;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.nullable;
@@ -225,8 +224,30 @@ public class WorkspacePermissionsFilterTest {
             .when()
             .get(SECURE_PATH + "/workspace");
 
-    assertEquals(response.getStatusCode(), 200);
-    verify(workspaceService).getWorkspaces(any(), anyInt(), nullable(String.class));
+    assertEquals(response.getStatusCode(), 204);
+    verify(workspaceService)
+        .getWorkspaces(
+            nullable(Integer.class),
+            nullable(Integer.class),
+            nullable(String.class),
+            nullable(Boolean.class));
+    verify(permissionsFilter, never()).checkAccountPermissions(anyString(), any());
+    verifyZeroInteractions(subject);
+  }
+
+  @Test
+  public void shouldNotCheckPermissionsOnWorkspaceStatusesGetting() throws Exception {
+    final Response response =
+        given()
+            .auth()
+            .basic(ADMIN_USER_NAME, ADMIN_USER_PASSWORD)
+            .contentType("application/json")
+            .queryParam("id", "workspace123")
+            .when()
+            .get(SECURE_PATH + "/workspace/status");
+
+    assertEquals(response.getStatusCode(), 204);
+    verify(workspaceService).getStatuses(any(), nullable(Boolean.class));
     verify(permissionsFilter, never()).checkAccountPermissions(anyString(), any());
     verifyZeroInteractions(subject);
   }
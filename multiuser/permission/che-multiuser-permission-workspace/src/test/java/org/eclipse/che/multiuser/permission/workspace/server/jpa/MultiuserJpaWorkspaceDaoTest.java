@@ -10,15 +10,22 @@
  */
 package org.eclipse.che.multiuser.permission.workspace.server.jpa;
 
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.function.Function.identity;
+import static java.util.stream.Collectors.toMap;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertTrue;
 
 import com.google.inject.Guice;
 import com.google.inject.Injector;
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import javax.persistence.EntityManager;
 import org.eclipse.che.account.spi.AccountImpl;
+import org.eclipse.che.api.core.Page;
 import org.eclipse.che.api.user.server.model.impl.UserImpl;
 import org.eclipse.che.api.workspace.server.model.impl.WorkspaceConfigImpl;
 import org.eclipse.che.api.workspace.server.model.impl.WorkspaceImpl;
@@ -132,4 +139,64 @@ public class MultiuserJpaWorkspaceDaoTest {
     assertTrue(results.contains(workspaces[0]));
     assertTrue(results.contains(workspaces[1]));
   }
+
+  @Test
+  public void shouldGetPageOfWorkspacesByPermissions() throws Exception {
+    final Page<WorkspaceImpl> first = dao.getWorkspaces(users[0].getId(), 1, 0);
+    final Page<WorkspaceImpl> second = dao.getWorkspaces(users[0].getId(), 1, 1);
+
+    assertEquals(first.getTotalItemsCount(), 2);
+    assertEquals(first.getItemsCount(), 1);
+    assertEquals(second.getItemsCount(), 1);
+    assertEquals(first.getItems().get(0), workspaces[0]);
+    assertEquals(second.getItems().get(0), workspaces[1]);
+  }
+
+  @Test
+  public void shouldGetPageOfSummariesOfReadableWorkspacesByIds() throws Exception {
+    final Page<WorkspaceImpl> page =
+        dao.getWorkspaceSummaries(users[0].getId(), asList("ws2", "ws3"), 30, 0);
+
+    assertEquals(page.getTotalItemsCount(), 1);
+    assertEquals(page.getItems().get(0).getId(), "ws2");
+  }
+
+  @Test
+  public void shouldGetPageOfSummariesOfReadableWorkspacesExceptGivenIds() throws Exception {
+    final Page<WorkspaceImpl> page =
+        dao.getWorkspaceSummariesExcept(users[0].getId(), asList("ws1", "ws3"), 30, 0);
+
+    assertEquals(page.getTotalItemsCount(), 1);
+    assertEquals(page.getItems().get(0).getId(), "ws2");
+  }
+
+  @Test
+  public void shouldGetSummariesOfWorkspacesByPermissions() throws Exception {
+    final Page<WorkspaceImpl> page = dao.getWorkspaceSummaries(users[0].getId(), 30, 0);
+
+    assertEquals(page.getTotalItemsCount(), 2);
+    final Map<String, WorkspaceImpl> summaries =
+        page.getItems().stream().collect(toMap(WorkspaceImpl::getId, identity()));
+    assertEquals(summaries.keySet(), new HashSet<>(asList("ws1", "ws2")));
+    final WorkspaceImpl summary = summaries.get("ws1");
+    assertEquals(summary.getConfig().getName(), "wrksp1");
+    assertEquals(summary.getNamespace(), account.getName());
+    assertTrue(summary.getConfig().getEnvironments().isEmpty());
+  }
+
+  @Test
+  public void shouldGetSummariesOfReadableWorkspacesByIds() throws Exception {
+    final List<WorkspaceImpl> summaries =
+        dao.getWorkspaceSummaries(users[0].getId(), asList("ws1", "ws3", "non-existing"));
+
+    assertEquals(summaries.size(), 1);
+    assertEquals(summaries.get(0).getId(), "ws1");
+    assertEquals(summaries.get(0).getConfig().getName(), "wrksp1");
+    assertEquals(summaries.get(0).getNamespace(), account.getName());
+  }
+
+  @Test
+  public void shouldReturnEmptyListWhenNoIdsGiven() throws Exception {
+    assertTrue(dao.getWorkspaceSummaries(users[0].getId(), emptyList()).isEmpty());
+  }
 }
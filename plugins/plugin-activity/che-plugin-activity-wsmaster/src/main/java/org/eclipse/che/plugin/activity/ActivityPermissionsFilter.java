@@ -19,6 +19,7 @@ import org.eclipse.che.api.core.ForbiddenException;
 import org.eclipse.che.commons.env.EnvironmentContext;
 import org.eclipse.che.commons.subject.Subject;
 import org.eclipse.che.everrest.CheMethodInvokerFilter;
+import org.eclipse.che.multiuser.api.permission.server.SystemDomain;
 import org.everrest.core.Filter;
 import org.everrest.core.resource.GenericResourceMethod;
 
@@ -47,6 +48,10 @@ public class ActivityPermissionsFilter extends CheMethodInvokerFilter {
           action = USE;
           break;
         }
+      case "getMetrics":
+        currentSubject.checkPermission(
+            SystemDomain.DOMAIN_ID, null, SystemDomain.MANAGE_SYSTEM_ACTION);
+        return;
       default:
         throw new ForbiddenException("The user does not have permission to perform this operation");
     }
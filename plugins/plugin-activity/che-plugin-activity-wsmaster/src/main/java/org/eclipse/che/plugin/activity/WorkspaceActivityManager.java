@@ -14,10 +14,18 @@ import static org.eclipse.che.activity.shared.Constants.ACTIVITY_CHECKER;
 import static org.eclipse.che.api.workspace.shared.Constants.WORKSPACE_STOPPED_BY;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.inject.Inject;
+import java.util.HashMap;
 import java.util.Map;
+import java.util.PriorityQueue;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
 import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
 import javax.inject.Named;
 import javax.inject.Singleton;
 import org.eclipse.che.api.core.ConflictException;
@@ -28,6 +36,7 @@ import org.eclipse.che.api.core.notification.EventService;
 import org.eclipse.che.api.core.notification.EventSubscriber;
 import org.eclipse.che.api.workspace.server.WorkspaceManager;
 import org.eclipse.che.api.workspace.shared.dto.event.WorkspaceStatusEvent;
+import org.eclipse.che.commons.lang.concurrent.LoggingUncaughtExceptionHandler;
 import org.eclipse.che.commons.schedule.ScheduleRate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -41,6 +50,12 @@ import org.slf4j.LoggerFactory;
  * one minute rate. If workspace idle timeout is negative, then workspace would not be stopped
  * automatically.
  *
+ * <p>Expiration times are kept in a queue ordered by deadline, so the scheduler only looks at the
+ * workspaces which may be expired. Deadlines of stopped workspaces are not searched in the queue,
+ * they are dropped when polled as they are no longer the scheduled deadline of the workspace.
+ * Activity reported by agents is collected with {@link #recordActivity(String, long)} and applied
+ * once per scheduler run. Expired workspaces are stopped in parallel by a bounded pool.
+ *
  * @author Anton Korneta
  */
 @Singleton
@@ -50,20 +65,40 @@ public class WorkspaceActivityManager {
 
   private final long timeout;
   private final Map<String, Long> activeWorkspaces;
+  private final Map<String, Long> pendingActivity;
+  private final PriorityQueue<Expiration> deadlines;
+  private final Map<String, Expiration> scheduled;
+  private final ExecutorService stopExecutor;
   private final EventService eventService;
   private final EventSubscriber<?> workspaceEventsSubscriber;
 
+  private final LongAdder stoppedCount = new LongAdder();
+  private final LongAdder totalStopLagMs = new LongAdder();
+  private final LongAccumulator maxStopLagMs = new LongAccumulator(Math::max, 0);
+
   protected final WorkspaceManager workspaceManager;
 
   @Inject
   public WorkspaceActivityManager(
       WorkspaceManager workspaceManager,
       EventService eventService,
-      @Named("che.workspace.agent.dev.inactive_stop_timeout_ms") long timeout) {
+      @Named("che.workspace.agent.dev.inactive_stop_timeout_ms") long timeout,
+      @Named("che.workspace.activity_stop_threads") int stopThreads) {
     this.timeout = timeout;
     this.workspaceManager = workspaceManager;
     this.eventService = eventService;
     this.activeWorkspaces = new ConcurrentHashMap<>();
+    this.pendingActivity = new ConcurrentHashMap<>();
+    this.deadlines = new PriorityQueue<>();
+    this.scheduled = new HashMap<>();
+    this.stopExecutor =
+        Executors.newFixedThreadPool(
+            stopThreads,
+            new ThreadFactoryBuilder()
+                .setNameFormat("WorkspaceActivityManager-stop-%d")
+                .setUncaughtExceptionHandler(LoggingUncaughtExceptionHandler.getInstance())
+                .setDaemon(true)
+                .build());
     this.workspaceEventsSubscriber =
         new EventSubscriber<WorkspaceStatusEvent>() {
           @Override
@@ -84,6 +119,11 @@ public class WorkspaceActivityManager {
                 break;
               case STOPPED:
                 activeWorkspaces.remove(event.getWorkspaceId());
+                pendingActivity.remove(event.getWorkspaceId());
+                // queued deadline is dropped on poll, a new one is scheduled once workspace runs
+                synchronized (deadlines) {
+                  scheduled.remove(event.getWorkspaceId());
+                }
                 break;
               default:
                 // do nothing
@@ -102,13 +142,31 @@ public class WorkspaceActivityManager {
     try {
       long timeout = getIdleTimeout(wsId);
       if (timeout > 0) {
-        activeWorkspaces.put(wsId, activityTime + timeout);
+        final long expiration = activityTime + timeout;
+        if (activeWorkspaces.put(wsId, expiration) == null) {
+          synchronized (deadlines) {
+            schedule(new Expiration(wsId, expiration));
+          }
+        }
       }
     } catch (NotFoundException | ServerException e) {
       LOG.error(e.getLocalizedMessage(), e);
     }
   }
 
+  /**
+   * Records the activity of the workspace, the expiry period is updated on the next scheduler run.
+   * Activity of workspaces which are not tracked, e.g. not running ones, is ignored.
+   *
+   * @param wsId workspace identifier
+   * @param activityTime moment in which the activity occurred
+   */
+  public void recordActivity(String wsId, long activityTime) {
+    if (activeWorkspaces.containsKey(wsId)) {
+      pendingActivity.merge(wsId, activityTime, Math::max);
+    }
+  }
+
   protected long getIdleTimeout(String workspaceId) throws NotFoundException, ServerException {
     if (timeout > 0) {
       return timeout;
@@ -118,28 +176,97 @@ public class WorkspaceActivityManager {
   }
 
   @ScheduleRate(periodParameterName = "che.workspace.activity_check_scheduler_period_s")
-  private void invalidate() {
+  @VisibleForTesting
+  void invalidate() {
+    flushActivity();
     final long currentTime = System.currentTimeMillis();
-    for (Map.Entry<String, Long> workspaceExpireEntry : activeWorkspaces.entrySet()) {
-      if (workspaceExpireEntry.getValue() <= currentTime) {
-        try {
-          String workspaceId = workspaceExpireEntry.getKey();
-          Workspace workspace = workspaceManager.getWorkspace(workspaceId);
-          workspace.getAttributes().put(WORKSPACE_STOPPED_BY, ACTIVITY_CHECKER);
-          workspaceManager.updateWorkspace(workspaceId, workspace);
-          workspaceManager.stopWorkspace(workspaceId);
-        } catch (NotFoundException ignored) {
-          // workspace no longer exists, no need to do anything
-        } catch (ConflictException e) {
-          LOG.warn(e.getLocalizedMessage());
-        } catch (Exception ex) {
-          LOG.error(ex.getLocalizedMessage());
-          LOG.debug(ex.getLocalizedMessage(), ex);
-        } finally {
-          activeWorkspaces.remove(workspaceExpireEntry.getKey());
+    int expired = 0;
+    synchronized (deadlines) {
+      while (!deadlines.isEmpty() && deadlines.peek().expiration <= currentTime) {
+        final Expiration head = deadlines.poll();
+        if (scheduled.get(head.workspaceId) != head) {
+          // workspace is stopped after the deadline was scheduled
+          continue;
+        }
+        final Long actual = activeWorkspaces.get(head.workspaceId);
+        if (actual == null) {
+          scheduled.remove(head.workspaceId);
+          continue;
+        }
+        if (actual > head.expiration) {
+          // activity happened after the deadline was scheduled
+          schedule(new Expiration(head.workspaceId, actual));
+        } else if (activeWorkspaces.remove(head.workspaceId, actual)) {
+          scheduled.remove(head.workspaceId);
+          expired++;
+          stopExecutor.execute(() -> stopExpired(head.workspaceId, head.expiration));
+        } else {
+          // activity was updated or workspace was stopped concurrently
+          final Long updated = activeWorkspaces.get(head.workspaceId);
+          if (updated != null) {
+            schedule(new Expiration(head.workspaceId, updated));
+          } else {
+            scheduled.remove(head.workspaceId);
+          }
         }
       }
     }
+    if (expired > 0) {
+      LOG.info("Stopping {} workspaces due to inactivity", expired);
+    }
+  }
+
+  /** Queues the deadline replacing the scheduled one, must be called under the queue lock. */
+  private void schedule(Expiration expiration) {
+    scheduled.put(expiration.workspaceId, expiration);
+    deadlines.offer(expiration);
+  }
+
+  /** Applies the activity collected since the previous scheduler run. */
+  private void flushActivity() {
+    for (String wsId : pendingActivity.keySet()) {
+      final Long activityTime = pendingActivity.remove(wsId);
+      if (activityTime != null && activeWorkspaces.containsKey(wsId)) {
+        update(wsId, activityTime);
+      }
+    }
+  }
+
+  private void stopExpired(String workspaceId, long expiration) {
+    final long lag = Math.max(0, System.currentTimeMillis() - expiration);
+    stoppedCount.increment();
+    totalStopLagMs.add(lag);
+    maxStopLagMs.accumulate(lag);
+    try {
+      Workspace workspace = workspaceManager.getWorkspace(workspaceId);
+      workspace.getAttributes().put(WORKSPACE_STOPPED_BY, ACTIVITY_CHECKER);
+      workspaceManager.updateWorkspace(workspaceId, workspace);
+      workspaceManager.stopWorkspace(workspaceId);
+      LOG.debug("Workspace '{}' stopped by inactivity, {} ms after expiration", workspaceId, lag);
+    } catch (NotFoundException ignored) {
+      // workspace no longer exists, no need to do anything
+    } catch (ConflictException e) {
+      LOG.warn(e.getLocalizedMessage());
+    } catch (Exception ex) {
+      LOG.error(ex.getLocalizedMessage());
+      LOG.debug(ex.getLocalizedMessage(), ex);
+    }
+  }
+
+  /** Returns the number of workspaces which were stopped due to inactivity. */
+  public long getStoppedCount() {
+    return stoppedCount.sum();
+  }
+
+  /** Returns average time in milliseconds between workspace expiration and its stop. */
+  public long getAverageStopLagMs() {
+    final long stopped = stoppedCount.sum();
+    return stopped == 0 ? 0 : totalStopLagMs.sum() / stopped;
+  }
+
+  /** Returns the longest time in milliseconds between workspace expiration and its stop. */
+  public long getMaxStopLagMs() {
+    return maxStopLagMs.get();
   }
 
   @VisibleForTesting
@@ -147,4 +274,24 @@ public class WorkspaceActivityManager {
   public void subscribe() {
     eventService.subscribe(workspaceEventsSubscriber);
   }
+
+  @PreDestroy
+  void shutdown() {
+    stopExecutor.shutdownNow();
+  }
+
+  private static class Expiration implements Comparable<Expiration> {
+    final String workspaceId;
+    final long expiration;
+
+    Expiration(String workspaceId, long expiration) {
+      this.workspaceId = workspaceId;
+      this.expiration = expiration;
+    }
+
+    @Override
+    public int compareTo(Expiration other) {
+      return Long.compare(expiration, other.expiration);
+    }
+  }
 }
@@ -10,23 +10,21 @@
  */
 package org.eclipse.che.plugin.activity;
 
-import static org.eclipse.che.api.core.model.workspace.WorkspaceStatus.RUNNING;
-
+import com.google.common.collect.ImmutableMap;
 import io.swagger.annotations.ApiOperation;
 import io.swagger.annotations.ApiParam;
 import io.swagger.annotations.ApiResponse;
 import io.swagger.annotations.ApiResponses;
 import javax.inject.Inject;
+import java.util.Map;
 import javax.inject.Singleton;
+import javax.ws.rs.GET;
 import javax.ws.rs.PUT;
 import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
-import org.eclipse.che.api.core.ForbiddenException;
-import org.eclipse.che.api.core.NotFoundException;
-import org.eclipse.che.api.core.ServerException;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.MediaType;
 import org.eclipse.che.api.core.rest.Service;
-import org.eclipse.che.api.workspace.server.WorkspaceManager;
-import org.eclipse.che.api.workspace.server.model.impl.WorkspaceImpl;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -42,13 +40,10 @@ public class WorkspaceActivityService extends Service {
   private static final Logger LOG = LoggerFactory.getLogger(WorkspaceActivityService.class);
 
   private final WorkspaceActivityManager workspaceActivityManager;
-  private final WorkspaceManager workspaceManager;
 
   @Inject
-  public WorkspaceActivityService(
-      WorkspaceActivityManager workspaceActivityManager, WorkspaceManager wsManager) {
+  public WorkspaceActivityService(WorkspaceActivityManager workspaceActivityManager) {
     this.workspaceActivityManager = workspaceActivityManager;
-    this.workspaceManager = wsManager;
   }
 
   @PUT
@@ -58,12 +53,24 @@ public class WorkspaceActivityService extends Service {
     notes = "Notifies workspace activity to prevent stop by timeout when workspace is used."
   )
   @ApiResponses(@ApiResponse(code = 204, message = "Activity counted"))
-  public void active(@ApiParam(value = "Workspace id") @PathParam("wsId") String wsId)
-      throws ForbiddenException, NotFoundException, ServerException {
-    final WorkspaceImpl workspace = workspaceManager.getWorkspace(wsId);
-    if (workspace.getStatus() == RUNNING) {
-      workspaceActivityManager.update(wsId, System.currentTimeMillis());
-      LOG.debug("Updated activity on workspace {}", wsId);
-    }
+  public void active(@ApiParam(value = "Workspace id") @PathParam("wsId") String wsId) {
+    // activity of not running workspaces is ignored by the manager
+    workspaceActivityManager.recordActivity(wsId, System.currentTimeMillis());
+    LOG.debug("Recorded activity on workspace {}", wsId);
+  }
+
+  @GET
+  @Path("/metrics")
+  @Produces(MediaType.APPLICATION_JSON)
+  @ApiOperation(
+    value = "Get metrics of stopping inactive workspaces",
+    notes = "Returns the number of stopped workspaces and the lag between expiration and stop."
+  )
+  @ApiResponses(@ApiResponse(code = 200, message = "The response contains the metrics"))
+  public Map<String, Long> getMetrics() {
+    return ImmutableMap.of(
+        "stoppedCount", workspaceActivityManager.getStoppedCount(),
+        "averageStopLagMs", workspaceActivityManager.getAverageStopLagMs(),
+        "maxStopLagMs", workspaceActivityManager.getMaxStopLagMs());
   }
 }
@@ -11,14 +11,18 @@
 package org.eclipse.che.plugin.activity;
 
 import static com.jayway.restassured.RestAssured.given;
+import static java.util.Collections.singletonMap;
 import static org.eclipse.che.multiuser.permission.workspace.server.WorkspaceDomain.DOMAIN_ID;
 import static org.eclipse.che.multiuser.permission.workspace.server.WorkspaceDomain.USE;
 import static org.everrest.assured.JettyHttpServer.ADMIN_USER_NAME;
 import static org.everrest.assured.JettyHttpServer.ADMIN_USER_PASSWORD;
 import static org.everrest.assured.JettyHttpServer.SECURE_PATH;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.nullable;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.testng.Assert.assertEquals;
@@ -27,6 +31,7 @@ import com.jayway.restassured.response.Response;
 import org.eclipse.che.api.core.ForbiddenException;
 import org.eclipse.che.commons.env.EnvironmentContext;
 import org.eclipse.che.commons.subject.Subject;
+import org.eclipse.che.multiuser.api.permission.server.SystemDomain;
 import org.everrest.assured.EverrestJetty;
 import org.everrest.core.Filter;
 import org.everrest.core.GenericContainerRequest;
@@ -97,6 +102,41 @@ public class ActivityPermissionsFilterTest {
     assertEquals(response.getStatusCode(), 403);
   }
 
+  @Test
+  public void shouldCheckManageSystemPermissionOnGettingMetrics() throws Exception {
+    when(service.getMetrics()).thenReturn(singletonMap("stoppedCount", 0L));
+
+    final Response response =
+        given()
+            .auth()
+            .basic(ADMIN_USER_NAME, ADMIN_USER_PASSWORD)
+            .when()
+            .get(SECURE_PATH + "/activity/metrics");
+
+    assertEquals(response.getStatusCode(), 200);
+    verify(service).getMetrics();
+    verify(subject)
+        .checkPermission(SystemDomain.DOMAIN_ID, null, SystemDomain.MANAGE_SYSTEM_ACTION);
+  }
+
+  @Test
+  public void shouldThrowExceptionWhenGettingMetricsWithoutManageSystemPermission()
+      throws Exception {
+    doThrow(new ForbiddenException("Not allowed!"))
+        .when(subject)
+        .checkPermission(any(), nullable(String.class), any());
+
+    final Response response =
+        given()
+            .auth()
+            .basic(ADMIN_USER_NAME, ADMIN_USER_PASSWORD)
+            .when()
+            .get(SECURE_PATH + "/activity/metrics");
+
+    assertEquals(response.getStatusCode(), 403);
+    verify(service, never()).getMetrics();
+  }
+
   @Test(expectedExceptions = ForbiddenException.class)
   public void shouldThrowExceptionWhenCallingUnlistedMethod() throws Exception {
 
@@ -10,7 +10,10 @@
  */
 package org.eclipse.che.plugin.activity;
 
+import static java.util.Collections.singleton;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.testng.Assert.assertEquals;
@@ -18,6 +21,7 @@ import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertTrue;
 
 import java.lang.reflect.Field;
+import java.util.Collection;
 import java.util.Map;
 import org.eclipse.che.account.api.AccountManager;
 import org.eclipse.che.account.shared.model.Account;
@@ -31,6 +35,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.Mock;
 import org.mockito.testng.MockitoTestNGListener;
+import org.testng.annotations.AfterMethod;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Listeners;
 import org.testng.annotations.Test;
@@ -56,7 +61,7 @@ public class WorkspaceActivityManagerTest {
   @BeforeMethod
   private void setUp() throws Exception {
     activityManager =
-        new WorkspaceActivityManager(workspaceManager, eventService, EXPIRE_PERIOD_MS);
+        new WorkspaceActivityManager(workspaceManager, eventService, EXPIRE_PERIOD_MS, 2);
 
     when(account.getName()).thenReturn("accountName");
     when(account.getId()).thenReturn("account123");
@@ -66,6 +71,11 @@ public class WorkspaceActivityManagerTest {
     when(workspace.getNamespace()).thenReturn("accountName");
   }
 
+  @AfterMethod
+  public void tearDown() {
+    activityManager.shutdown();
+  }
+
   @Test
   public void shouldAddNewActiveWorkspace() throws Exception {
     final String wsId = "testWsId";
@@ -133,13 +143,108 @@ public class WorkspaceActivityManagerTest {
     assertTrue(activeWorkspaces.isEmpty());
   }
 
+  @Test
+  public void shouldStopExpiredWorkspaces() throws Exception {
+    final long now = System.currentTimeMillis();
+    activityManager.update("expired1", 1000L);
+    activityManager.update("active", now);
+    activityManager.update("expired2", 2000L);
+
+    activityManager.invalidate();
+
+    verify(workspaceManager, timeout(1000)).stopWorkspace("expired1");
+    verify(workspaceManager, timeout(1000)).stopWorkspace("expired2");
+    verify(workspaceManager, never()).stopWorkspace("active");
+    final Map<String, Long> activeWorkspaces = getActiveWorkspaces(activityManager);
+    assertEquals(activeWorkspaces.keySet(), singleton("active"));
+  }
+
+  @Test
+  public void shouldNotStopWorkspaceWhichActivityWasRecordedAfterExpiration() throws Exception {
+    final String wsId = "testWsId";
+    final long now = System.currentTimeMillis();
+    activityManager.update(wsId, 1000L);
+
+    activityManager.recordActivity(wsId, now);
+    activityManager.invalidate();
+    activityManager.invalidate();
+
+    verify(workspaceManager, never()).stopWorkspace(wsId);
+    assertEquals((long) getActiveWorkspaces(activityManager).get(wsId), now + EXPIRE_PERIOD_MS);
+  }
+
+  @Test
+  public void shouldIgnoreActivityOfNotTrackedWorkspace() throws Exception {
+    activityManager.recordActivity("testWsId", System.currentTimeMillis());
+
+    activityManager.invalidate();
+
+    assertTrue(getActiveWorkspaces(activityManager).isEmpty());
+  }
+
+  @Test
+  public void shouldMeasureStopLag() throws Exception {
+    final long expiredAt = System.currentTimeMillis() - EXPIRE_PERIOD_MS - 5000;
+    activityManager.update("testWsId", expiredAt);
+
+    activityManager.invalidate();
+
+    verify(workspaceManager, timeout(1000)).stopWorkspace("testWsId");
+    assertEquals(activityManager.getStoppedCount(), 1);
+    assertTrue(activityManager.getMaxStopLagMs() >= 5000);
+  }
+
+  @Test
+  public void shouldDropDeadlinesOfStoppedWorkspace() throws Exception {
+    final String wsId = "testWsId";
+    activityManager.subscribe();
+    verify(eventService).subscribe(captor.capture());
+    final EventSubscriber<WorkspaceStatusEvent> subscriber = captor.getValue();
+    activityManager.update(wsId, 1000L);
+    subscriber.onEvent(
+        DtoFactory.newDto(WorkspaceStatusEvent.class)
+            .withEventType(WorkspaceStatusEvent.EventType.STOPPED)
+            .withWorkspaceId(wsId));
+
+    activityManager.invalidate();
+
+    verify(workspaceManager, never()).stopWorkspace(wsId);
+    assertTrue(((Collection<?>) getField(activityManager, "deadlines")).isEmpty());
+    assertTrue(((Map<?, ?>) getField(activityManager, "scheduled")).isEmpty());
+  }
+
+  @Test
+  public void shouldStopRestartedWorkspaceOnlyByItsLastDeadline() throws Exception {
+    final String wsId = "testWsId";
+    activityManager.subscribe();
+    verify(eventService).subscribe(captor.capture());
+    final EventSubscriber<WorkspaceStatusEvent> subscriber = captor.getValue();
+    activityManager.update(wsId, 1000L);
+    subscriber.onEvent(
+        DtoFactory.newDto(WorkspaceStatusEvent.class)
+            .withEventType(WorkspaceStatusEvent.EventType.STOPPED)
+            .withWorkspaceId(wsId));
+    activityManager.update(wsId, 2000L);
+
+    activityManager.invalidate();
+
+    verify(workspaceManager, timeout(1000)).stopWorkspace(wsId);
+    assertEquals(activityManager.getStoppedCount(), 1);
+    assertTrue(((Collection<?>) getField(activityManager, "deadlines")).isEmpty());
+  }
+
   @SuppressWarnings("unchecked")
   private Map<String, Long> getActiveWorkspaces(WorkspaceActivityManager workspaceActivityManager)
       throws Exception {
+    return (Map<String, Long>) getField(workspaceActivityManager, "activeWorkspaces");
+  }
+
+  private Object getField(WorkspaceActivityManager workspaceActivityManager, String name)
+      throws Exception {
     for (Field field : workspaceActivityManager.getClass().getDeclaredFields()) {
       field.setAccessible(true);
-      if (field.getName().equals("activeWorkspaces")) {
-        return (Map<String, Long>) field.get(workspaceActivityManager);
+      if (field.getName().equals(name)) {
+        return field.get(workspaceActivityManager);
       }
     }
     throw new IllegalAccessException();
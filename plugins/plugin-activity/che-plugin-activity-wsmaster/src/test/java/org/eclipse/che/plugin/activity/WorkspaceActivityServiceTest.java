@@ -14,19 +14,11 @@ import static com.jayway.restassured.RestAssured.given;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
-import static org.mockito.Mockito.verifyZeroInteractions;
 import static org.mockito.Mockito.when;
 import static org.testng.Assert.assertEquals;
 
 import com.jayway.restassured.response.Response;
-import org.eclipse.che.account.spi.AccountImpl;
-import org.eclipse.che.api.core.NotFoundException;
-import org.eclipse.che.api.core.ServerException;
-import org.eclipse.che.api.core.model.workspace.WorkspaceStatus;
 import org.eclipse.che.api.core.rest.ApiExceptionMapper;
-import org.eclipse.che.api.workspace.server.WorkspaceManager;
-import org.eclipse.che.api.workspace.server.model.impl.WorkspaceConfigImpl;
-import org.eclipse.che.api.workspace.server.model.impl.WorkspaceImpl;
 import org.eclipse.che.commons.env.EnvironmentContext;
 import org.eclipse.che.commons.subject.Subject;
 import org.eclipse.che.commons.subject.SubjectImpl;
@@ -37,7 +29,6 @@ import org.everrest.core.RequestFilter;
 import org.mockito.Mock;
 import org.mockito.testng.MockitoTestNGListener;
 import org.testng.annotations.BeforeMethod;
-import org.testng.annotations.DataProvider;
 import org.testng.annotations.Listeners;
 import org.testng.annotations.Test;
 
@@ -61,49 +52,38 @@ public class WorkspaceActivityServiceTest {
   private static final Subject TEST_USER = new SubjectImpl("name", USER_ID, "token", false);
   @Mock private WorkspaceActivityManager workspaceActivityManager;
 
-  @Mock private WorkspaceManager workspaceManager;
-
   private WorkspaceActivityService workspaceActivityService;
 
   @BeforeMethod
   public void setUp() {
-    workspaceActivityService =
-        new WorkspaceActivityService(workspaceActivityManager, workspaceManager);
+    workspaceActivityService = new WorkspaceActivityService(workspaceActivityManager);
   }
 
   @Test
-  public void shouldUpdateWorkspaceActivityOfRunningWorkspace()
-      throws NotFoundException, ServerException {
-    // given
-    final WorkspaceImpl workspace = createWorkspace(USER_ID, WorkspaceStatus.RUNNING);
-    when(workspaceManager.getWorkspace(WORKSPACE_ID)).thenReturn(workspace);
-
+  public void shouldRecordWorkspaceActivity() {
     // when
     Response response = given().when().put(SERVICE_PATH + '/' + WORKSPACE_ID);
 
     // then
     assertEquals(response.getStatusCode(), 204);
-    verify(workspaceActivityManager).update(eq(WORKSPACE_ID), anyLong());
+    verify(workspaceActivityManager).recordActivity(eq(WORKSPACE_ID), anyLong());
   }
 
-  @Test(dataProvider = "wsStatus")
-  public void shouldNotUpdateWorkspaceActivityOfStartingWorkspace(WorkspaceStatus status)
-      throws NotFoundException, ServerException {
+  @Test
+  public void shouldReturnStopMetrics() {
     // given
-    final WorkspaceImpl workspace = createWorkspace(USER_ID, status);
-    when(workspaceManager.getWorkspace(WORKSPACE_ID)).thenReturn(workspace);
-    // when
-    Response response = given().when().put(SERVICE_PATH + '/' + WORKSPACE_ID);
+    when(workspaceActivityManager.getStoppedCount()).thenReturn(3L);
+    when(workspaceActivityManager.getAverageStopLagMs()).thenReturn(200L);
+    when(workspaceActivityManager.getMaxStopLagMs()).thenReturn(500L);
 
-    assertEquals(response.getStatusCode(), 204);
-    verifyZeroInteractions(workspaceActivityManager);
-  }
+    // when
+    Response response = given().when().get(SERVICE_PATH + "/metrics");
 
-  @DataProvider(name = "wsStatus")
-  public Object[][] getWorkspaceStatus() {
-    return new Object[][] {
-      {WorkspaceStatus.STARTING}, {WorkspaceStatus.STOPPED}, {WorkspaceStatus.STOPPING}
-    };
+    // then
+    assertEquals(response.getStatusCode(), 200);
+    assertEquals(response.jsonPath().getLong("stoppedCount"), 3L);
+    assertEquals(response.jsonPath().getLong("averageStopLagMs"), 200L);
+    assertEquals(response.jsonPath().getLong("maxStopLagMs"), 500L);
   }
 
   @Filter
@@ -112,16 +92,4 @@ public class WorkspaceActivityServiceTest {
       EnvironmentContext.getCurrent().setSubject(TEST_USER);
     }
   }
-
-  private WorkspaceImpl createWorkspace(String namespace, WorkspaceStatus status) {
-    final WorkspaceConfigImpl config =
-        WorkspaceConfigImpl.builder().setName("dev-workspace").setDefaultEnv("dev-env").build();
-
-    return WorkspaceImpl.builder()
-        .setConfig(config)
-        .generateId()
-        .setAccount(new AccountImpl("accountId", namespace, "test"))
-        .setStatus(status)
-        .build();
-  }
 }
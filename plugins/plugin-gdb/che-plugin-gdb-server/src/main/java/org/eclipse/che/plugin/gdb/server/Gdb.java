@@ -11,13 +11,17 @@
 package org.eclipse.che.plugin.gdb.server;
 
 import static java.lang.String.format;
+import static java.util.concurrent.TimeUnit.SECONDS;
 
-import java.io.BufferedWriter;
 import java.io.IOException;
-import java.io.OutputStreamWriter;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
 import javax.validation.constraints.NotNull;
 import org.eclipse.che.api.core.util.AbstractLineConsumer;
 import org.eclipse.che.api.core.util.LineConsumer;
@@ -26,6 +30,7 @@ import org.eclipse.che.api.debug.shared.model.Location;
 import org.eclipse.che.api.debugger.server.exceptions.DebuggerException;
 import org.eclipse.che.commons.annotation.Nullable;
 import org.eclipse.che.plugin.gdb.server.exception.GdbException;
+import org.eclipse.che.plugin.gdb.server.exception.GdbParseException;
 import org.eclipse.che.plugin.gdb.server.exception.GdbTerminatedException;
 import org.eclipse.che.plugin.gdb.server.parser.GdbBacktrace;
 import org.eclipse.che.plugin.gdb.server.parser.GdbBreak;
@@ -58,14 +63,20 @@ public class Gdb extends GdbProcess {
   private static final Logger LOG = LoggerFactory.getLogger(GdbProcess.class);
   private static final String PROCESS_NAME = "gdb";
   private static final String OUTPUT_SEPARATOR = "(gdb) ";
+  /** Timeout of the output of commands which don't resume the debugged program. */
+  private static final long OUTPUT_TIMEOUT_SEC = 60;
 
   private GdbVersion gdbVersion;
 
   Gdb() throws IOException {
-    super(OUTPUT_SEPARATOR, PROCESS_NAME);
+    this(PROCESS_NAME);
+  }
+
+  Gdb(String... commands) throws IOException {
+    super(OUTPUT_SEPARATOR, commands);
 
     try {
-      gdbVersion = GdbVersion.parse(grabGdbOutput());
+      gdbVersion = GdbVersion.parse(grabGdbOutput(initialOutput, PROCESS_NAME, false));
     } catch (InterruptedException | DebuggerException e) {
       LOG.error(e.getMessage(), e);
       gdbVersion = new GdbVersion("Unknown", "Unknown");
@@ -83,7 +94,7 @@ public class Gdb extends GdbProcess {
 
   /** `run` command. */
   public GdbRun run() throws IOException, InterruptedException, DebuggerException {
-    GdbOutput gdbOutput = sendCommand("run");
+    GdbOutput gdbOutput = sendResumingCommand("run");
     return GdbRun.parse(gdbOutput);
   }
 
@@ -164,26 +175,26 @@ public class Gdb extends GdbProcess {
 
   /** `continue` command. */
   public GdbContinue cont() throws IOException, InterruptedException, DebuggerException {
-    GdbOutput gdbOutput = sendCommand("continue");
+    GdbOutput gdbOutput = sendResumingCommand("continue");
     return GdbContinue.parse(gdbOutput);
   }
 
   /** `step` command. */
   public GdbInfoLine step() throws IOException, InterruptedException, DebuggerException {
-    sendCommand("step");
+    sendResumingCommand("step");
     return infoLine();
   }
 
   /** `finish` command. */
   public GdbInfoLine finish() throws IOException, InterruptedException, DebuggerException {
-    sendCommand("finish");
+    sendResumingCommand("finish");
     return infoLine();
   }
 
   /** `next` command. */
   @Nullable
   public GdbInfoLine next() throws IOException, InterruptedException, DebuggerException {
-    sendCommand("next");
+    sendResumingCommand("next");
 
     GdbInfoProgram gdbInfoProgram = infoProgram();
     if (gdbInfoProgram.getStoppedAddress() == null) {
@@ -196,7 +207,9 @@ public class Gdb extends GdbProcess {
   /** `quit` command. */
   public void quit() throws IOException, GdbException, InterruptedException {
     try {
-      sendCommand("quit", false);
+      synchronized (this) {
+        send("quit");
+      }
     } finally {
       stop();
     }
@@ -281,6 +294,47 @@ public class Gdb extends GdbProcess {
     return GdbInfoLocals.parse(gdbOutput);
   }
 
+  /**
+   * Returns local variables and arguments of the current frame. Both `info locals` and `info args`
+   * commands are sent at once, no other command is sent in between.
+   */
+  public synchronized Map<String, String> infoFrameVariables()
+      throws IOException, InterruptedException, DebuggerException {
+    CompletableFuture<GdbOutput> locals = send("info locals");
+    CompletableFuture<GdbOutput> args = send("info args");
+
+    Map<String, String> variables =
+        GdbInfoLocals.parse(grabGdbOutput(locals, "info locals", false)).getVariables();
+    variables.putAll(GdbInfoArgs.parse(grabGdbOutput(args, "info args", false)).getVariables());
+    return variables;
+  }
+
+  /**
+   * `ptype` command for several variables, the commands are sent at once, no other command is sent
+   * in between.
+   *
+   * @return types of the variables, type of a variable is empty if it can't be recognized
+   */
+  public synchronized Map<String, String> ptype(Collection<String> variables)
+      throws IOException, InterruptedException, DebuggerException {
+    Map<String, CompletableFuture<GdbOutput>> outputs = new LinkedHashMap<>();
+    for (String variable : variables) {
+      outputs.put(variable, send("ptype " + variable));
+    }
+
+    Map<String, String> types = new LinkedHashMap<>();
+    for (Map.Entry<String, CompletableFuture<GdbOutput>> e : outputs.entrySet()) {
+      GdbOutput gdbOutput = grabGdbOutput(e.getValue(), "ptype " + e.getKey(), false);
+      try {
+        types.put(e.getKey(), GdbPType.parse(gdbOutput).getType());
+      } catch (GdbParseException pe) {
+        LOG.warn(pe.getMessage(), pe);
+        types.put(e.getKey(), "");
+      }
+    }
+    return types;
+  }
+
   /** `info line` command. */
   public GdbInfoLine infoLine() throws IOException, InterruptedException, DebuggerException {
     GdbOutput gdbOutput = sendCommand("info line");
@@ -293,25 +347,37 @@ public class Gdb extends GdbProcess {
     return GdbInfoProgram.parse(gdbOutput);
   }
 
-  private GdbOutput sendCommand(String command)
-      throws IOException, GdbTerminatedException, InterruptedException {
-    return sendCommand(command, true);
+  /**
+   * Sends the command and waits for its output. Commands are sent under the lock of this instance,
+   * so outputs of the commands sent from different threads are not interleaved.
+   */
+  private synchronized GdbOutput sendCommand(String command)
+      throws IOException, GdbException, InterruptedException {
+    return grabGdbOutput(send(command), command, false);
   }
 
-  private synchronized GdbOutput sendCommand(String command, boolean grabOutput)
-      throws IOException, GdbTerminatedException, InterruptedException {
-    LOG.debug(command);
-
-    BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(process.getOutputStream()));
-    writer.write(command);
-    writer.newLine();
-    writer.flush();
-
-    return grabOutput ? grabGdbOutput() : null;
+  /**
+   * Sends the command which resumes the debugged program. The output is printed only when the
+   * program stops, so it is awaited without timeout.
+   */
+  private synchronized GdbOutput sendResumingCommand(String command)
+      throws IOException, GdbException, InterruptedException {
+    return grabGdbOutput(send(command), command, true);
   }
 
-  private GdbOutput grabGdbOutput() throws InterruptedException, GdbTerminatedException {
-    GdbOutput gdbOutput = outputs.take();
+  private GdbOutput grabGdbOutput(
+      CompletableFuture<GdbOutput> output, String command, boolean untilStopped)
+      throws InterruptedException, GdbException {
+    GdbOutput gdbOutput;
+    try {
+      gdbOutput = untilStopped ? output.get() : output.get(OUTPUT_TIMEOUT_SEC, SECONDS);
+    } catch (ExecutionException e) {
+      throw new GdbTerminatedException(e.getMessage(), e);
+    } catch (TimeoutException e) {
+      // the late output completes the abandoned response, so outputs of next commands still match
+      throw new GdbException(
+          format("GDB hasn't answered '%s' in %d seconds", command, OUTPUT_TIMEOUT_SEC), e);
+    }
     if (gdbOutput.isTerminated()) {
       String errorMsg = "GDB has been terminated with output: " + gdbOutput.getOutput();
       LOG.error(errorMsg);
@@ -420,20 +420,14 @@ public class GdbDebugger implements Debugger {
   @Override
   public StackFrameDump dumpStackFrame() throws DebuggerException {
     try {
-      Map<String, String> locals = gdb.infoLocals().getVariables();
-      locals.putAll(gdb.infoArgs().getVariables());
+      Map<String, String> locals = gdb.infoFrameVariables();
+      Map<String, String> types = gdb.ptype(locals.keySet());
 
       List<Variable> variables = new ArrayList<>(locals.size());
       for (Map.Entry<String, String> e : locals.entrySet()) {
         String varName = e.getKey();
         String varValue = e.getValue();
-        String varType;
-        try {
-          varType = gdb.ptype(varName).getType();
-        } catch (GdbParseException pe) {
-          LOG.warn(pe.getMessage(), pe);
-          varType = "";
-        }
+        String varType = types.getOrDefault(varName, "");
 
         VariablePath variablePath = new VariablePathImpl(singletonList(varName));
         VariableImpl variable =
@@ -10,37 +10,61 @@
  */
 package org.eclipse.che.plugin.gdb.server;
 
-import static java.lang.Math.min;
-
+import java.io.BufferedWriter;
 import java.io.IOException;
-import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
 import java.lang.reflect.Field;
 import java.nio.charset.StandardCharsets;
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.BlockingQueue;
-import org.eclipse.che.commons.annotation.Nullable;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
 import org.eclipse.che.plugin.gdb.server.parser.GdbOutput;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-/** @author Anatoliy Bazko */
+/**
+ * Runs a GDB process and correlates the commands sent to the process with its outputs.
+ *
+ * <p>The output of the process is read by a dedicated thread which blocks on the stream and splits
+ * the output into responses by {@code outputSeparator} as soon as the data arrives. The process
+ * handles the commands one by one and answers them in the same order, so the responses are
+ * correlated with the commands in FIFO order. That allows to send several commands without waiting
+ * for the responses to the previous ones.
+ *
+ * @author Anatoliy Bazko
+ */
 public abstract class GdbProcess {
   private static final Logger LOG = LoggerFactory.getLogger(GdbProcess.class);
-  private static final int MAX_CAPACITY = 1000;
   private static final int MAX_OUTPUT = 4096;
+  private static final int READ_BUFFER_SIZE = 1024;
 
   protected int pid;
   protected final Process process;
   protected final String outputSeparator;
-  protected final BlockingQueue<GdbOutput> outputs;
+  /** Output of the process printed before the first separator, e.g. greeting of GDB. */
+  protected final CompletableFuture<GdbOutput> initialOutput;
+
   protected final Thread outputReader;
 
+  private final Deque<CompletableFuture<GdbOutput>> pending;
+  private final Writer writer;
+
+  private GdbOutput terminatedOutput;
+
   public GdbProcess(String outputSeparator, String... commands) throws IOException {
     this.outputSeparator = outputSeparator;
-    this.outputs = new ArrayBlockingQueue<>(MAX_CAPACITY);
+    this.pending = new ArrayDeque<>();
+    this.initialOutput = new CompletableFuture<>();
+    this.pending.add(initialOutput);
 
-    ProcessBuilder processBuilder = new ProcessBuilder(commands);
+    ProcessBuilder processBuilder = new ProcessBuilder(commands).redirectErrorStream(true);
     process = processBuilder.start();
+    writer =
+        new BufferedWriter(
+            new OutputStreamWriter(process.getOutputStream(), StandardCharsets.UTF_8));
 
     outputReader = new OutputReader(commands[0] + " output reader");
     outputReader.setDaemon(true);
@@ -60,14 +84,63 @@ public abstract class GdbProcess {
     }
   }
 
+  /**
+   * Sends the command to the process.
+   *
+   * @return the output of the process in response to the command, the output is marked as
+   *     terminated if the process exited before answering
+   */
+  protected CompletableFuture<GdbOutput> send(String command) throws IOException {
+    LOG.debug(command);
+
+    CompletableFuture<GdbOutput> response = new CompletableFuture<>();
+    synchronized (pending) {
+      if (terminatedOutput != null) {
+        response.complete(terminatedOutput);
+        return response;
+      }
+      pending.add(response);
+      try {
+        writer.write(command);
+        writer.write('\n');
+        writer.flush();
+      } catch (IOException e) {
+        pending.remove(response);
+        throw e;
+      }
+    }
+    return response;
+  }
+
   /** Stops process. */
   protected void stop() {
     outputReader.interrupt();
-    outputs.clear();
     process.destroy();
   }
 
-  /** Continuously reads process output and store in the {@code #outputs}. */
+  private void onOutput(GdbOutput gdbOutput) {
+    LOG.debug(gdbOutput.getOutput());
+
+    CompletableFuture<GdbOutput> response;
+    synchronized (pending) {
+      response = pending.poll();
+    }
+    if (response != null) {
+      response.complete(gdbOutput);
+    }
+  }
+
+  private void onTerminated(GdbOutput gdbOutput) {
+    synchronized (pending) {
+      terminatedOutput = gdbOutput;
+      for (CompletableFuture<GdbOutput> response : pending) {
+        response.complete(gdbOutput);
+      }
+      pending.clear();
+    }
+  }
+
+  /** Reads process output and splits it into responses as soon as the data arrives. */
   private class OutputReader extends Thread {
 
     public OutputReader(String name) {
@@ -77,77 +150,36 @@ public abstract class GdbProcess {
     @Override
     public void run() {
       StringBuilder buf = new StringBuilder();
-
-      while (!isInterrupted()) {
-        if (!process.isAlive()) {
-          outputs.add(GdbOutput.of(buf.toString(), true));
-          break;
-        }
-
-        try {
-          InputStream in = getInput();
-          if (in != null) {
-            String data = read(in);
-            if (!data.isEmpty()) {
-              buf.append(data);
-              if (buf.length() > MAX_OUTPUT) {
-                buf.delete(0, buf.length() - MAX_OUTPUT);
-              }
-            }
+      char[] chars = new char[READ_BUFFER_SIZE];
+      int searchFrom = 0;
+
+      try (Reader in = new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8)) {
+        int read;
+        while ((read = in.read(chars)) != -1) {
+          buf.append(chars, 0, read);
+
+          int indexOf;
+          while ((indexOf = buf.indexOf(outputSeparator, searchFrom)) >= 0) {
+            onOutput(GdbOutput.of(buf.substring(0, indexOf)));
+            buf.delete(0, indexOf + outputSeparator.length());
+            searchFrom = 0;
           }
-        } catch (IOException e) {
-          LOG.error(e.getMessage(), e);
-        }
 
-        if (buf.length() > 0) {
-          extractOutput(buf);
+          if (buf.length() > MAX_OUTPUT) {
+            buf.delete(0, buf.length() - MAX_OUTPUT);
+          }
+          // the separator may be split between reads
+          searchFrom = Math.max(0, buf.length() - outputSeparator.length() + 1);
         }
-
-        try {
-          Thread.sleep(100);
-        } catch (InterruptedException e) {
-          break;
+      } catch (IOException e) {
+        if (!isInterrupted()) {
+          LOG.error(e.getMessage(), e);
         }
+      } finally {
+        onTerminated(GdbOutput.of(buf.toString(), true));
       }
 
       LOG.debug(getName() + " has been stopped");
     }
-
-    private InputStream getInput() throws IOException {
-      return hasError()
-          ? process.getErrorStream()
-          : (hasInput()
-              ? (hasError() ? process.getErrorStream() : process.getInputStream())
-              : null);
-    }
-
-    private void extractOutput(StringBuilder buf) {
-      int indexOf;
-      while ((indexOf = buf.indexOf(outputSeparator)) >= 0) {
-        GdbOutput gdbOutput = GdbOutput.of(buf.substring(0, indexOf));
-        outputs.add(gdbOutput);
-
-        LOG.debug(gdbOutput.getOutput());
-
-        buf.delete(0, indexOf + outputSeparator.length());
-      }
-    }
-
-    private boolean hasError() throws IOException {
-      return process.getErrorStream().available() != 0;
-    }
-
-    private boolean hasInput() throws IOException {
-      return process.getInputStream().available() != 0;
-    }
-
-    @Nullable
-    private String read(InputStream in) throws IOException {
-      int available = min(in.available(), MAX_OUTPUT);
-      byte[] buf = new byte[available];
-      int read = in.read(buf, 0, available);
-
-      return new String(buf, 0, read, StandardCharsets.UTF_8);
-    }
   }
 }
@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2012-2017 Red Hat, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.plugin.gdb.server;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.eclipse.che.plugin.gdb.server.parser.GdbInfoLine;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/** Tests correlation of commands and outputs of {@link GdbProcess} against a fake GDB script. */
+public class GdbProcessTest {
+
+  private static final String FAKE_GDB =
+      "printf 'GNU gdb (GDB) 7.12\\nCopyright (C) 2016 Free Software Foundation, Inc.\\n(gdb) '\n"
+          + "n=0\n"
+          + "while read cmd; do\n"
+          + "  case \"$cmd\" in\n"
+          + "    'info line') printf 'Line %s of \"h.cpp\" starts at address 0x1"
+          + " and ends at 0x2.\\n' \"$n\"; n=$((n+1)) ;;\n"
+          + "    'info locals') printf 'i = 0\\nj = 1\\n' ;;\n"
+          + "    'info args') printf 'argc = 1\\n' ;;\n"
+          + "    ptype*) printf 'type = int\\n' ;;\n"
+          + "    print*) printf '$1 = %s\\n' \"${cmd#print }\" ;;\n"
+          + "    quit) exit 0 ;;\n"
+          + "  esac\n"
+          + "  printf '(gdb) '\n"
+          + "done\n";
+
+  private static final int STEPS = 100;
+
+  private Gdb gdb;
+
+  @BeforeMethod
+  public void setUp() throws Exception {
+    gdb = new Gdb("sh", "-c", FAKE_GDB);
+  }
+
+  @AfterMethod
+  public void tearDown() throws Exception {
+    gdb.stop();
+  }
+
+  @Test
+  public void shouldParseGreeting() throws Exception {
+    assertEquals(gdb.getGdbVersion().getName(), "GNU gdb (GDB)");
+    assertEquals(gdb.getGdbVersion().getVersion(), "7.12");
+  }
+
+  @Test
+  public void shouldStepWithoutPollingDelay() throws Exception {
+    // warm up
+    gdb.step();
+
+    long start = System.nanoTime();
+    for (int i = 1; i <= STEPS; i++) {
+      GdbInfoLine gdbInfoLine = gdb.step();
+      assertEquals(gdbInfoLine.getLocation().getLineNumber(), i);
+    }
+    long stepMillis = (System.nanoTime() - start) / 1_000_000 / STEPS;
+
+    // every step takes two round trips, each of them used to wait up to 100ms for the output
+    assertTrue(stepMillis < 20, "Step took " + stepMillis + " ms");
+  }
+
+  @Test
+  public void shouldCorrelateOutputsOfConcurrentCommands() throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    try {
+      List<Future<?>> futures = new ArrayList<>();
+      for (int t = 0; t < 8; t++) {
+        final int thread = t;
+        futures.add(
+            executor.submit(
+                () -> {
+                  for (int i = 0; i < 50; i++) {
+                    String expression = "var_" + thread + "_" + i;
+                    assertEquals(gdb.print(expression).getValue(), expression);
+                  }
+                  return null;
+                }));
+      }
+      for (Future<?> future : futures) {
+        future.get();
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void shouldSendFrameCommandsAtOnce() throws Exception {
+    Map<String, String> variables = gdb.infoFrameVariables();
+    Map<String, String> types = gdb.ptype(variables.keySet());
+
+    assertEquals(variables, ImmutableMap.of("i", "0", "j", "1", "argc", "1"));
+    assertEquals(types.keySet(), variables.keySet());
+    assertTrue(types.values().stream().allMatch("int"::equals));
+  }
+
+  @Test
+  public void shouldNotInterleaveFrameCommandsWithConcurrentCommands() throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      Future<?> frames =
+          executor.submit(
+              () -> {
+                for (int i = 0; i < 50; i++) {
+                  Map<String, String> variables = gdb.infoFrameVariables();
+                  assertEquals(variables.keySet(), ImmutableSet.of("i", "j", "argc"));
+                  assertEquals(gdb.ptype(variables.keySet()).keySet(), variables.keySet());
+                }
+                return null;
+              });
+      Future<?> prints =
+          executor.submit(
+              () -> {
+                for (int i = 0; i < 200; i++) {
+                  assertEquals(gdb.print("var_" + i).getValue(), "var_" + i);
+                }
+                return null;
+              });
+      frames.get();
+      prints.get();
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+}
@@ -64,6 +64,7 @@ import org.eclipse.che.api.debug.shared.model.action.StepOutAction;
 import org.eclipse.che.api.debug.shared.model.action.StepOverAction;
 import org.eclipse.che.api.debug.shared.model.impl.BreakpointImpl;
 import org.eclipse.che.api.debug.shared.model.impl.DebuggerInfoImpl;
+import org.eclipse.che.api.debug.shared.model.impl.SimpleValueImpl;
 import org.eclipse.che.api.debug.shared.model.impl.ThreadStateImpl;
 import org.eclipse.che.api.debug.shared.model.impl.event.BreakpointActivatedEventImpl;
 import org.eclipse.che.api.debug.shared.model.impl.event.DisconnectEventImpl;
@@ -76,6 +77,7 @@ import org.eclipse.che.plugin.jdb.server.expression.ExpressionParser;
 import org.eclipse.che.plugin.jdb.server.model.JdbLocation;
 import org.eclipse.che.plugin.jdb.server.model.JdbMethod;
 import org.eclipse.che.plugin.jdb.server.model.JdbStackFrame;
+import org.eclipse.che.plugin.jdb.server.model.JdbValue;
 import org.eclipse.che.plugin.jdb.server.utils.JavaDebuggerUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -117,6 +119,8 @@ public class JavaDebugger implements EventsHandler, Debugger {
   private ThreadReference thread;
   /** Current stack frame. Not <code>null</code> is thread suspended, e.g breakpoint reached. */
   private JdbStackFrame stackFrame;
+  /** Mirrors of threads, frames and values fetched since the target VM has been suspended. */
+  private SuspendedStateCache suspendedState;
   /** Lock for synchronization debug processes. */
   private Lock lock = new ReentrantLock();
 
@@ -172,6 +176,7 @@ public class JavaDebugger implements EventsHandler, Debugger {
       } catch (InterruptedException ignored) {
       }
     }
+    suspendedState = new SuspendedStateCache(vm);
     eventsCollector = new EventsCollector(vm.eventQueue(), this);
     LOG.debug("Connect {}:{}", host, port);
   }
@@ -377,7 +382,7 @@ public class JavaDebugger implements EventsHandler, Debugger {
   public StackFrameDump getStackFrameDump(long threadId, int frameIndex) throws DebuggerException {
     lock.lock();
     try {
-      return new JdbStackFrame(getJdiStackFrame(threadId, frameIndex));
+      return suspendedState.getFrame(threadId, frameIndex);
     } finally {
       lock.unlock();
     }
@@ -387,7 +392,7 @@ public class JavaDebugger implements EventsHandler, Debugger {
   public List<ThreadState> getThreadDump() throws DebuggerException {
     List<ThreadState> threadStates = new LinkedList<>();
 
-    for (ThreadReference t : vm.allThreads()) {
+    for (ThreadReference t : getThreadsMirrors()) {
       List<JdbStackFrame> frames = new LinkedList<>();
       try {
         for (StackFrame f : t.frames()) {
@@ -410,6 +415,44 @@ public class JavaDebugger implements EventsHandler, Debugger {
 
     return threadStates;
   }
+
+  @Override
+  public List<ThreadState> getThreads() throws DebuggerException {
+    lock.lock();
+    try {
+      List<ThreadState> threadStates = new ArrayList<>();
+      for (ThreadReference t : getThreadsMirrors()) {
+        threadStates.add(
+            new ThreadStateImpl(
+                t.uniqueID(),
+                t.name(),
+                t.threadGroup().name(),
+                toThreadStatus(t.status()),
+                t.isSuspended(),
+                emptyList()));
+      }
+      return threadStates;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public List<StackFrameDump> getStackFrames(long threadId, int start, int count)
+      throws DebuggerException {
+    lock.lock();
+    try {
+      List<StackFrameDump> frames = new ArrayList<>();
+      for (StackFrame f : suspendedState.getFrames(threadId, start, count)) {
+        frames.add(
+            new JdbStackFrame(f, emptyList(), emptyList(), new JdbLocation(f, new JdbMethod(f))));
+      }
+      return frames;
+    } finally {
+      lock.unlock();
+    }
+  }
+
   /**
    * Get value of variable with specified path. Each item in path is name of variable.
    *
@@ -470,7 +513,44 @@ public class JavaDebugger implements EventsHandler, Debugger {
   @Override
   public SimpleValue getValue(VariablePath variablePath, long threadId, int frameIndex)
       throws DebuggerException {
-    JdbStackFrame jdbStackFrame = new JdbStackFrame(getJdiStackFrame(threadId, frameIndex));
+    lock.lock();
+    try {
+      Optional<? extends Variable> targetVar = findVariable(variablePath, threadId, frameIndex);
+      if (!targetVar.isPresent()) {
+        return null;
+      }
+
+      return targetVar.get().getValue();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public SimpleValue getValue(
+      VariablePath variablePath, long threadId, int frameIndex, int start, int count)
+      throws DebuggerException {
+    lock.lock();
+    try {
+      Optional<? extends Variable> targetVar = findVariable(variablePath, threadId, frameIndex);
+      if (!targetVar.isPresent()) {
+        return null;
+      }
+
+      SimpleValue value = targetVar.get().getValue();
+      if (value instanceof JdbValue) {
+        return new SimpleValueImpl(
+            ((JdbValue) value).getVariables(start, count), value.getString());
+      }
+      return new SimpleValueImpl(value.getString());
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private Optional<? extends Variable> findVariable(
+      VariablePath variablePath, long threadId, int frameIndex) throws DebuggerException {
+    JdbStackFrame jdbStackFrame = suspendedState.getFrame(threadId, frameIndex);
 
     Optional<? extends Variable> targetVar;
 
@@ -502,11 +582,7 @@ public class JavaDebugger implements EventsHandler, Debugger {
               .findAny();
     }
 
-    if (!targetVar.isPresent()) {
-      return null;
-    }
-
-    return targetVar.get().getValue();
+    return targetVar;
   }
 
   @Override
@@ -562,6 +638,7 @@ public class JavaDebugger implements EventsHandler, Debugger {
       }
     } finally {
       if (resume) {
+        suspendedState.invalidate();
         eventSet.resume();
       }
     }
@@ -711,19 +788,15 @@ public class JavaDebugger implements EventsHandler, Debugger {
       return parser.evaluate(new Evaluator(vm, jdiStackFrame));
     } catch (ExpressionException e) {
       throw new DebuggerException(e.getMessage(), e);
+    } finally {
+      // evaluation may change values or resume the thread to invoke methods
+      suspendedState.invalidate();
     }
   }
 
   private StackFrame getJdiStackFrame(long threadId, int frameIndex) throws DebuggerException {
     try {
-      for (ThreadReference t : vm.allThreads()) {
-        if (t.uniqueID() == threadId) {
-          return t.frame(frameIndex);
-        }
-      }
-
-      throw new DebuggerException(
-          format("Frame '%d' in thread '%d' not found.", frameIndex, threadId));
+      return suspendedState.getThread(threadId).frame(frameIndex);
     } catch (IncompatibleThreadStateException e) {
       throw new DebuggerException("Thread is not suspended", e);
     } catch (IndexOutOfBoundsException e) {
@@ -732,6 +805,14 @@ public class JavaDebugger implements EventsHandler, Debugger {
     }
   }
 
+  private List<ThreadReference> getThreadsMirrors() {
+    if (thread == null) {
+      // threads may start and die while target VM is running
+      suspendedState.invalidate();
+    }
+    return suspendedState.getThreads();
+  }
+
   private ThreadReference getCurrentThread() throws DebuggerException {
     if (thread == null) {
       throw new DebuggerException("Target Java VM is not suspended. ");
@@ -752,6 +833,7 @@ public class JavaDebugger implements EventsHandler, Debugger {
   }
 
   private void setCurrentThread(ThreadReference t) {
+    suspendedState.invalidate();
     stackFrame = null;
     thread = t;
   }
@@ -761,6 +843,7 @@ public class JavaDebugger implements EventsHandler, Debugger {
   }
 
   private void invalidateCurrentThread() {
+    suspendedState.invalidate();
     this.thread = null;
     invalidateCurrentFrame();
   }
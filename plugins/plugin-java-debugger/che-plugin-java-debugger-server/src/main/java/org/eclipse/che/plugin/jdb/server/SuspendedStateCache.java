@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2012-2017 Red Hat, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.plugin.jdb.server;
+
+import static java.lang.String.format;
+
+import com.sun.jdi.IncompatibleThreadStateException;
+import com.sun.jdi.StackFrame;
+import com.sun.jdi.ThreadReference;
+import com.sun.jdi.VirtualMachine;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.eclipse.che.api.debugger.server.exceptions.DebuggerException;
+import org.eclipse.che.plugin.jdb.server.model.JdbStackFrame;
+
+/**
+ * Caches mirrors of threads and stack frames of the suspended target VM. Stack frames keep the
+ * mirrors of their variables and values, so the values fetched once are reused until the target VM
+ * is resumed. Mirrors of stack frames become invalid as soon as their thread is resumed, so the
+ * cache must be invalidated every time the target VM or any of its threads is resumed.
+ */
+class SuspendedStateCache {
+  private final VirtualMachine vm;
+  private final Map<Long, Map<Integer, JdbStackFrame>> frames;
+
+  private Map<Long, ThreadReference> threads;
+
+  SuspendedStateCache(VirtualMachine vm) {
+    this.vm = vm;
+    this.frames = new HashMap<>();
+  }
+
+  /** Returns all threads of the target VM. */
+  synchronized List<ThreadReference> getThreads() {
+    return new ArrayList<>(threads().values());
+  }
+
+  /** Returns thread with the given unique id. */
+  synchronized ThreadReference getThread(long threadId) throws DebuggerException {
+    ThreadReference thread = threads().get(threadId);
+    if (thread == null) {
+      throw new DebuggerException(format("Thread '%d' not found.", threadId));
+    }
+    return thread;
+  }
+
+  /**
+   * Returns frames of the thread from {@code start} to {@code start + count} exclusive, the list is
+   * shorter if the thread has less frames.
+   */
+  synchronized List<StackFrame> getFrames(long threadId, int start, int count)
+      throws DebuggerException {
+    ThreadReference thread = getThread(threadId);
+    try {
+      int frameCount = thread.frameCount();
+      if (start >= frameCount || count <= 0) {
+        return Collections.emptyList();
+      }
+      return thread.frames(start, Math.min(count, frameCount - start));
+    } catch (IncompatibleThreadStateException e) {
+      throw new DebuggerException("Thread is not suspended", e);
+    }
+  }
+
+  /** Returns the frame of the thread, variables of the frame are fetched on demand. */
+  synchronized JdbStackFrame getFrame(long threadId, int frameIndex) throws DebuggerException {
+    Map<Integer, JdbStackFrame> threadFrames =
+        frames.computeIfAbsent(threadId, id -> new HashMap<>());
+    JdbStackFrame frame = threadFrames.get(frameIndex);
+    if (frame == null) {
+      try {
+        frame = new JdbStackFrame(getThread(threadId).frame(frameIndex));
+      } catch (IncompatibleThreadStateException e) {
+        throw new DebuggerException("Thread is not suspended", e);
+      } catch (IndexOutOfBoundsException e) {
+        throw new DebuggerException(
+            format("Frame '%d' in thread '%d' not found.", frameIndex, threadId));
+      }
+      threadFrames.put(frameIndex, frame);
+    }
+    return frame;
+  }
+
+  /** Drops all cached mirrors. */
+  synchronized void invalidate() {
+    threads = null;
+    frames.clear();
+  }
+
+  private Map<Long, ThreadReference> threads() {
+    if (threads == null) {
+      threads = new LinkedHashMap<>();
+      for (ThreadReference thread : vm.allThreads()) {
+        threads.put(thread.uniqueID(), thread);
+      }
+    }
+    return threads;
+  }
+}
@@ -15,6 +15,7 @@ import com.sun.jdi.ReferenceType;
 import com.sun.jdi.Value;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
 import org.eclipse.che.api.debug.shared.model.Field;
 import org.eclipse.che.api.debug.shared.model.SimpleValue;
 import org.eclipse.che.api.debug.shared.model.VariablePath;
@@ -32,6 +33,7 @@ public class JdbField implements Field {
   private final ReferenceType type;
   private final ObjectReference object;
   private final VariablePath parentPath;
+  private final AtomicReference<SimpleValue> value = new AtomicReference<>();
 
   public JdbField(com.sun.jdi.Field jdiField, ObjectReference object, VariablePath parentPath) {
     this.jdiField = jdiField;
@@ -79,11 +81,16 @@ public class JdbField implements Field {
 
   @Override
   public SimpleValue getValue() {
-    Value value = object == null ? type.getValue(jdiField) : object.getValue(jdiField);
-    if (value == null) {
-      return new JdbNullValue();
+    if (value.get() == null) {
+      synchronized (value) {
+        if (value.get() == null) {
+          Value jdiValue = object == null ? type.getValue(jdiField) : object.getValue(jdiField);
+          value.set(
+              jdiValue == null ? new JdbNullValue() : new JdbValue(jdiValue, getVariablePath()));
+        }
+      }
     }
-    return new JdbValue(value, getVariablePath());
+    return value.get();
   }
 
   @Override
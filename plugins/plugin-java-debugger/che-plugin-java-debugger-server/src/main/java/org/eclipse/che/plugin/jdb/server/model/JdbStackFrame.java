@@ -10,14 +10,18 @@
  */
 package org.eclipse.che.plugin.jdb.server.model;
 
+import com.sun.jdi.LocalVariable;
 import com.sun.jdi.ObjectReference;
 import com.sun.jdi.ReferenceType;
+import com.sun.jdi.Value;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 import org.eclipse.che.api.debug.shared.model.Field;
 import org.eclipse.che.api.debug.shared.model.Location;
+import org.eclipse.che.api.debug.shared.model.SimpleValue;
 import org.eclipse.che.api.debug.shared.model.StackFrameDump;
 import org.eclipse.che.api.debug.shared.model.Variable;
 import org.eclipse.che.api.debug.shared.model.impl.VariablePathImpl;
@@ -103,11 +107,13 @@ public class JdbStackFrame implements StackFrameDump {
       synchronized (variables) {
         if (variables.get() == null) {
           try {
+            // fetch values of all variables at once
+            List<LocalVariable> visibleVariables = jdiStackFrame.visibleVariables();
+            Map<LocalVariable, Value> values = jdiStackFrame.getValues(visibleVariables);
             variables.set(
-                jdiStackFrame
-                    .visibleVariables()
+                visibleVariables
                     .stream()
-                    .map(v -> new JdbVariable(jdiStackFrame, v))
+                    .map(v -> new JdbVariable(toSimpleValue(values.get(v), v), v))
                     .collect(Collectors.toList()));
           } catch (Exception e) {
             variables.set(Collections.emptyList());
@@ -119,6 +125,12 @@ public class JdbStackFrame implements StackFrameDump {
     return variables.get();
   }
 
+  private static SimpleValue toSimpleValue(Value value, LocalVariable variable) {
+    return value == null
+        ? new JdbNullValue()
+        : new JdbValue(value, new VariablePathImpl(variable.name()));
+  }
+
   @Override
   public Location getLocation() {
     return location;
@@ -14,9 +14,12 @@ import com.sun.jdi.ArrayReference;
 import com.sun.jdi.ObjectReference;
 import com.sun.jdi.PrimitiveValue;
 import com.sun.jdi.Value;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 import org.eclipse.che.api.debug.shared.model.SimpleValue;
@@ -31,11 +34,13 @@ import org.eclipse.che.api.debug.shared.model.VariablePath;
 public class JdbValue implements SimpleValue {
   private final Value jdiValue;
   private final AtomicReference<List<Variable>> variables;
+  private final Map<Integer, Variable> arrayElements;
   private final VariablePath variablePath;
 
   public JdbValue(Value jdiValue, VariablePath variablePath) {
     this.jdiValue = jdiValue;
     this.variables = new AtomicReference<>();
+    this.arrayElements = new HashMap<>();
     this.variablePath = variablePath;
   }
 
@@ -55,8 +60,9 @@ public class JdbValue implements SimpleValue {
             variables.set(new LinkedList<>());
 
             ArrayReference array = (ArrayReference) jdiValue;
-            for (int i = 0; i < array.length(); i++) {
-              variables.get().add(new JdbArrayElement(array.getValue(i), i, variablePath));
+            List<Value> values = array.length() == 0 ? Collections.emptyList() : array.getValues();
+            for (int i = 0; i < values.size(); i++) {
+              variables.get().add(new JdbArrayElement(values.get(i), i, variablePath));
             }
           } else {
             ObjectReference object = (ObjectReference) jdiValue;
@@ -76,6 +82,53 @@ public class JdbValue implements SimpleValue {
     return variables.get();
   }
 
+  /**
+   * Returns nested variables from {@code start} to {@code start + count} exclusive. Elements of an
+   * array are fetched from the target VM by the page, not as a whole, and kept for the next
+   * requests.
+   */
+  public List<Variable> getVariables(int start, int count) {
+    List<Variable> all = variables.get();
+    if (all == null && isArray()) {
+      ArrayReference array = (ArrayReference) jdiValue;
+      int from = Math.min(Math.max(start, 0), array.length());
+      int length = Math.min(Math.max(count, 0), array.length() - from);
+      if (length == 0) {
+        return Collections.emptyList();
+      }
+
+      synchronized (arrayElements) {
+        int firstMissing = from;
+        while (firstMissing < from + length && arrayElements.containsKey(firstMissing)) {
+          firstMissing++;
+        }
+        int lastMissing = from + length - 1;
+        while (lastMissing >= firstMissing && arrayElements.containsKey(lastMissing)) {
+          lastMissing--;
+        }
+        if (firstMissing <= lastMissing) {
+          List<Value> values = array.getValues(firstMissing, lastMissing - firstMissing + 1);
+          for (int i = 0; i < values.size(); i++) {
+            arrayElements.putIfAbsent(
+                firstMissing + i,
+                new JdbArrayElement(values.get(i), firstMissing + i, variablePath));
+          }
+        }
+
+        List<Variable> page = new ArrayList<>(length);
+        for (int i = from; i < from + length; i++) {
+          page.add(arrayElements.get(i));
+        }
+        return page;
+      }
+    }
+
+    all = getVariables();
+    int from = Math.min(Math.max(start, 0), all.size());
+    int to = Math.min(from + Math.max(count, 0), all.size());
+    return new ArrayList<>(all.subList(from, to));
+  }
+
   private boolean isArray() {
     return jdiValue instanceof ArrayReference;
   }
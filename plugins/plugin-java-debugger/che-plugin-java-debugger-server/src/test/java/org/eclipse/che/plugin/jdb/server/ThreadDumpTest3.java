@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2012-2017 Red Hat, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.plugin.jdb.server;
+
+import static java.lang.Integer.parseInt;
+import static java.lang.System.getProperty;
+import static java.util.Collections.singletonList;
+import static org.eclipse.che.plugin.jdb.server.util.JavaDebuggerUtils.ensureSuspendAtDesiredLocation;
+import static org.eclipse.che.plugin.jdb.server.util.JavaDebuggerUtils.findMainThreadId;
+import static org.eclipse.che.plugin.jdb.server.util.JavaDebuggerUtils.terminateVirtualMachineQuietly;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import org.eclipse.che.api.debug.shared.model.Location;
+import org.eclipse.che.api.debug.shared.model.SimpleValue;
+import org.eclipse.che.api.debug.shared.model.StackFrameDump;
+import org.eclipse.che.api.debug.shared.model.ThreadState;
+import org.eclipse.che.api.debug.shared.model.Variable;
+import org.eclipse.che.api.debug.shared.model.event.DebuggerEvent;
+import org.eclipse.che.api.debug.shared.model.impl.BreakpointImpl;
+import org.eclipse.che.api.debug.shared.model.impl.LocationImpl;
+import org.eclipse.che.api.debug.shared.model.impl.VariablePathImpl;
+import org.eclipse.che.api.debug.shared.model.impl.action.StartActionImpl;
+import org.eclipse.che.plugin.jdb.server.util.ProjectApiUtils;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+/** Test paged inspection of the suspended process which runs 2000 threads. */
+public class ThreadDumpTest3 {
+  private static final int WORKERS = 2000;
+
+  private JavaDebugger debugger;
+  private BlockingQueue<DebuggerEvent> events = new ArrayBlockingQueue<>(10);
+
+  @BeforeClass
+  public void setUp() throws Exception {
+    ProjectApiUtils.ensure();
+
+    debugger = new JavaDebugger("localhost", parseInt(getProperty("debug.port")), events::add);
+    Location location =
+        new LocationImpl(
+            "/test/src/org/eclipse/ThreadDumpTest3.java", 28, false, -1, "/test", null, -1);
+    BreakpointImpl breakpoint = new BreakpointImpl(location);
+
+    debugger.start(new StartActionImpl(singletonList(breakpoint)));
+    ensureSuspendAtDesiredLocation(location, events);
+  }
+
+  @AfterClass
+  public void tearDown() throws Exception {
+    if (debugger != null) {
+      terminateVirtualMachineQuietly(debugger);
+    }
+  }
+
+  @Test
+  public void shouldGetThreadsWithoutFramesFasterThanThreadDump() throws Exception {
+    long start = System.currentTimeMillis();
+    List<ThreadState> threads = debugger.getThreads();
+    long threadsTime = System.currentTimeMillis() - start;
+
+    start = System.currentTimeMillis();
+    List<ThreadState> threadDump = debugger.getThreadDump();
+    long threadDumpTime = System.currentTimeMillis() - start;
+
+    assertEquals(threads.stream().filter(t -> t.getName().startsWith("Worker-")).count(), WORKERS);
+    assertEquals(threads.size(), threadDump.size());
+    assertTrue(threads.stream().allMatch(t -> t.getFrames().isEmpty()));
+    assertTrue(
+        threadsTime < threadDumpTime,
+        "Threads took " + threadsTime + " ms, thread dump took " + threadDumpTime + " ms");
+  }
+
+  @Test
+  public void shouldGetFramesByPage() throws Exception {
+    long workerId =
+        debugger
+            .getThreads()
+            .stream()
+            .filter(t -> t.getName().equals("Worker-0"))
+            .findAny()
+            .get()
+            .getId();
+
+    List<StackFrameDump> firstPage = debugger.getStackFrames(workerId, 0, 10);
+    List<StackFrameDump> rest = debugger.getStackFrames(workerId, 10, Integer.MAX_VALUE);
+
+    assertEquals(firstPage.size(), 10);
+    // 21 nested calls of block() are on the stack
+    assertTrue(firstPage.size() + rest.size() > 21);
+    assertTrue(debugger.getStackFrames(workerId, 1000, 10).isEmpty());
+    for (StackFrameDump frame : firstPage) {
+      assertTrue(frame.getVariables().isEmpty());
+      assertTrue(frame.getFields().isEmpty());
+    }
+  }
+
+  @Test
+  public void shouldGetArrayElementsByPage() throws Exception {
+    long mainId = findMainThreadId(debugger);
+
+    SimpleValue value =
+        debugger.getValue(new VariablePathImpl(singletonList("array")), mainId, 0, 99_990, 100);
+
+    List<? extends Variable> elements = value.getVariables();
+    assertEquals(elements.size(), 10);
+    assertEquals(elements.get(0).getName(), "[99990]");
+    assertEquals(elements.get(9).getName(), "[99999]");
+    assertEquals(elements.get(9).getValue().getString(), "0");
+  }
+
+  @Test
+  public void shouldReuseFrameUntilResume() throws Exception {
+    long mainId = findMainThreadId(debugger);
+
+    assertSame(debugger.getStackFrameDump(mainId, 0), debugger.getStackFrameDump(mainId, 0));
+  }
+}
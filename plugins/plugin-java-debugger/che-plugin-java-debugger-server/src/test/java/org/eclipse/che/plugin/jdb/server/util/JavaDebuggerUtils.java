@@ -90,7 +90,7 @@ public class JavaDebuggerUtils {
    */
   public static long findMainThreadId(JavaDebugger javaDebugger) throws DebuggerException {
     Optional<ThreadState> main =
-        javaDebugger.getThreadDump().stream().filter(t -> t.getName().equals("main")).findAny();
+        javaDebugger.getThreads().stream().filter(t -> t.getName().equals("main")).findAny();
     main.orElseThrow(() -> new DebuggerException("Main thread not found"));
     return main.get().getId();
   }
@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2012-2017 Red Hat, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse;
+
+import java.util.concurrent.CountDownLatch;
+
+public class ThreadDumpTest3 {
+
+    public static void main(String[] args) throws Exception {
+        CountDownLatch started = new CountDownLatch(2000);
+        CountDownLatch release = new CountDownLatch(1);
+        for (int i = 0; i < 2000; i++) {
+            Thread thread = new Thread(() -> block(20, started, release), "Worker-" + i);
+            thread.setDaemon(true);
+            thread.start();
+        }
+        started.await();
+        int[] array = new int[100000];
+
+        release.countDown();
+    }
+
+    private static void block(int depth, CountDownLatch started, CountDownLatch release) {
+        if (depth > 0) {
+            block(depth - 1, started, release);
+            return;
+        }
+
+        started.countDown();
+        try {
+            release.await();
+        } catch (InterruptedException ignored) {
+        }
+    }
+}
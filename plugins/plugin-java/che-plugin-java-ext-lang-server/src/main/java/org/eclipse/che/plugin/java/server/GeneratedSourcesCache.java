@@ -0,0 +1,272 @@
+/*
+ * Copyright (c) 2012-2017 Red Hat, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.plugin.java.server;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+import com.google.common.hash.Hashing;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import com.google.inject.name.Named;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.PreDestroy;
+import org.eclipse.che.commons.lang.concurrent.LoggingUncaughtExceptionHandler;
+import org.eclipse.jdt.core.IClassFile;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.internal.core.JavaModelStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Caches sources generated by {@link SourcesFromBytecodeGenerator} on disk.
+ *
+ * <p>Generated sources are stored under {@code <cache dir>/<jar hash>/<type fqn>.java}, so they
+ * survive workspace agent restarts and are automatically invalidated when the content of the
+ * library changes. Generation runs on a bounded pool, concurrent requests for the same type share a
+ * single generation, and the remaining classes of the requested package are generated in
+ * background as they are likely to be opened next.
+ */
+@Singleton
+public class GeneratedSourcesCache {
+  private static final Logger LOG = LoggerFactory.getLogger(GeneratedSourcesCache.class);
+
+  private static final int PREFETCH_QUEUE_SIZE = 256;
+
+  private final SourcesFromBytecodeGenerator sourcesGenerator;
+  private final Path cacheDir;
+  private final ExecutorService generators;
+  private final ThreadPoolExecutor prefetcher;
+  private final Map<String, CompletableFuture<String>> inProgress;
+  private final Map<String, JarHash> jarHashes;
+
+  @Inject
+  public GeneratedSourcesCache(
+      SourcesFromBytecodeGenerator sourcesGenerator,
+      @Named("che.jdt.generated_sources.dir") String cacheDir,
+      @Named("che.jdt.generated_sources.threads") int threads) {
+    this.sourcesGenerator = sourcesGenerator;
+    this.cacheDir = Paths.get(cacheDir);
+    this.inProgress = new ConcurrentHashMap<>();
+    this.jarHashes = new ConcurrentHashMap<>();
+    this.generators =
+        Executors.newFixedThreadPool(
+            threads,
+            new ThreadFactoryBuilder()
+                .setNameFormat("GeneratedSourcesCache-Generator-%d")
+                .setUncaughtExceptionHandler(LoggingUncaughtExceptionHandler.getInstance())
+                .setDaemon(true)
+                .build());
+    // prefetching is best effort, tasks which don't fit the queue are silently dropped
+    this.prefetcher =
+        new ThreadPoolExecutor(
+            1,
+            1,
+            0L,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(PREFETCH_QUEUE_SIZE),
+            new ThreadFactoryBuilder()
+                .setNameFormat("GeneratedSourcesCache-Prefetcher-%d")
+                .setUncaughtExceptionHandler(LoggingUncaughtExceptionHandler.getInstance())
+                .setDaemon(true)
+                .build(),
+            new ThreadPoolExecutor.DiscardPolicy());
+  }
+
+  /**
+   * Returns stub sources for the given class file, generating them if they are not cached yet.
+   * Schedules background generation for the other classes of the same package.
+   *
+   * @param classFile binary class file without attached sources
+   * @return generated sources
+   * @throws JavaModelException when sources can't be generated
+   */
+  public String getSource(IClassFile classFile) throws JavaModelException {
+    final IType type = classFile.getType();
+    final String key = cacheKey(type);
+    try {
+      final String source = getOrGenerate(key, type).get();
+      prefetchPackage(classFile);
+      return source;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new JavaModelException(
+          new JavaModelStatus(0, "Interrupted while generating sources for " + key));
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof JavaModelException) {
+        throw (JavaModelException) e.getCause();
+      }
+      throw new JavaModelException(new JavaModelStatus(0, e.getCause().getMessage()));
+    }
+  }
+
+  @PreDestroy
+  void stop() {
+    prefetcher.shutdownNow();
+    generators.shutdownNow();
+  }
+
+  private CompletableFuture<String> getOrGenerate(String key, IType type) {
+    if (key == null) {
+      final CompletableFuture<String> future = new CompletableFuture<>();
+      generators.execute(
+          () -> {
+            try {
+              future.complete(sourcesGenerator.generateSource(type));
+            } catch (Exception e) {
+              future.completeExceptionally(e);
+            }
+          });
+      return future;
+    }
+    final CompletableFuture<String> existing = inProgress.get(key);
+    if (existing != null) {
+      return existing;
+    }
+    final CompletableFuture<String> future = new CompletableFuture<>();
+    final CompletableFuture<String> raced = inProgress.putIfAbsent(key, future);
+    if (raced != null) {
+      return raced;
+    }
+    generators.execute(
+        () -> {
+          try {
+            future.complete(readOrGenerate(key, type));
+          } catch (Exception e) {
+            future.completeExceptionally(e);
+          } finally {
+            inProgress.remove(key);
+          }
+        });
+    return future;
+  }
+
+  private String readOrGenerate(String key, IType type) throws JavaModelException {
+    final Path cached = cacheDir.resolve(key);
+    if (Files.exists(cached)) {
+      try {
+        return new String(Files.readAllBytes(cached), UTF_8);
+      } catch (IOException e) {
+        LOG.warn("Can't read cached sources {}: {}", cached, e.getMessage());
+      }
+    }
+    final String source = sourcesGenerator.generateSource(type);
+    store(cached, source);
+    return source;
+  }
+
+  private void store(Path target, String source) {
+    try {
+      Files.createDirectories(target.getParent());
+      final Path tmp = Files.createTempFile(target.getParent(), target.getFileName().toString(), "");
+      Files.write(tmp, source.getBytes(UTF_8));
+      Files.move(tmp, target, REPLACE_EXISTING, ATOMIC_MOVE);
+    } catch (IOException e) {
+      LOG.warn("Can't store generated sources {}: {}", target, e.getMessage());
+    }
+  }
+
+  private void prefetchPackage(IClassFile classFile) {
+    final IJavaElement parent = classFile.getParent();
+    if (!(parent instanceof IPackageFragment)) {
+      return;
+    }
+    prefetcher.execute(
+        () -> {
+          try {
+            for (IClassFile sibling : ((IPackageFragment) parent).getClassFiles()) {
+              // inner classes are generated as a part of the outer class
+              if (sibling.getElementName().indexOf('$') != -1
+                  || sibling.getSourceRange() != null) {
+                continue;
+              }
+              final IType type = sibling.getType();
+              final String key = cacheKey(type);
+              if (key != null && !Files.exists(cacheDir.resolve(key))) {
+                getOrGenerate(key, type).join();
+              }
+            }
+          } catch (Exception e) {
+            LOG.debug("Can't prefetch sources for package " + parent.getElementName(), e);
+          }
+        });
+  }
+
+  /**
+   * Returns relative cache path for the type, or {@code null} when the type doesn't come from a
+   * library archive and so its generated sources must not be cached.
+   */
+  private String cacheKey(IType type) {
+    final IPackageFragmentRoot root =
+        (IPackageFragmentRoot) type.getAncestor(IJavaElement.PACKAGE_FRAGMENT_ROOT);
+    if (root == null || !root.isArchive()) {
+      return null;
+    }
+    final File jar = root.getPath().toFile();
+    if (!jar.isFile()) {
+      return null;
+    }
+    final String hash;
+    try {
+      hash = jarHash(jar);
+    } catch (IOException e) {
+      LOG.warn("Can't compute hash of {}: {}", jar, e.getMessage());
+      return null;
+    }
+    return hash + File.separatorChar + type.getFullyQualifiedName() + ".java";
+  }
+
+  /** Jar content hash, recomputed only when jar's size or modification time changes. */
+  private String jarHash(File jar) throws IOException {
+    final JarHash known = jarHashes.get(jar.getPath());
+    if (known != null && known.length == jar.length() && known.lastModified == jar.lastModified()) {
+      return known.hash;
+    }
+    final JarHash computed =
+        new JarHash(
+            jar.length(),
+            jar.lastModified(),
+            com.google.common.io.Files.asByteSource(jar).hash(Hashing.sha1()).toString());
+    jarHashes.put(jar.getPath(), computed);
+    return computed.hash;
+  }
+
+  private static class JarHash {
+    final long length;
+    final long lastModified;
+    final String hash;
+
+    JarHash(long length, long lastModified, String hash) {
+      this.length = length;
+      this.lastModified = lastModified;
+      this.hash = hash;
+    }
+  }
+}
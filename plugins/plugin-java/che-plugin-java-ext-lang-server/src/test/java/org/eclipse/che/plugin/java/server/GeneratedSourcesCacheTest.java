@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2012-2017 Red Hat, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.plugin.java.server;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+
+import com.google.common.io.Files;
+import java.io.File;
+import org.eclipse.che.commons.lang.IoUtil;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.jdt.core.IClassFile;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.IType;
+import org.mockito.Mock;
+import org.mockito.testng.MockitoTestNGListener;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Listeners;
+import org.testng.annotations.Test;
+
+/** Tests for {@link GeneratedSourcesCache}. */
+@Listeners(MockitoTestNGListener.class)
+public class GeneratedSourcesCacheTest {
+
+  @Mock private SourcesFromBytecodeGenerator generator;
+  @Mock private IClassFile classFile;
+  @Mock private IType type;
+  @Mock private IPackageFragmentRoot root;
+
+  private File tmpDir;
+  private File jar;
+  private File cacheDir;
+
+  @BeforeMethod
+  public void setUp() throws Exception {
+    tmpDir = Files.createTempDir();
+    cacheDir = new File(tmpDir, "cache");
+    jar = new File(tmpDir, "lib.jar");
+    Files.write("jar content", jar, UTF_8);
+
+    IPath jarPath = mock(IPath.class);
+    when(jarPath.toFile()).thenReturn(jar);
+    when(root.isArchive()).thenReturn(true);
+    when(root.getPath()).thenReturn(jarPath);
+    when(type.getAncestor(IJavaElement.PACKAGE_FRAGMENT_ROOT)).thenReturn(root);
+    when(type.getFullyQualifiedName()).thenReturn("org.test.Type");
+    when(classFile.getType()).thenReturn(type);
+    when(generator.generateSource(type)).thenReturn("class Type {}");
+  }
+
+  @AfterMethod
+  public void tearDown() {
+    IoUtil.deleteRecursive(tmpDir);
+  }
+
+  @Test
+  public void generatesSourcesOnlyOnce() throws Exception {
+    GeneratedSourcesCache cache = new GeneratedSourcesCache(generator, cacheDir.getPath(), 1);
+
+    assertEquals(cache.getSource(classFile), "class Type {}");
+    assertEquals(cache.getSource(classFile), "class Type {}");
+
+    verify(generator, times(1)).generateSource(type);
+  }
+
+  @Test
+  public void readsSourcesGeneratedByPreviousInstance() throws Exception {
+    new GeneratedSourcesCache(generator, cacheDir.getPath(), 1).getSource(classFile);
+
+    GeneratedSourcesCache cache = new GeneratedSourcesCache(generator, cacheDir.getPath(), 1);
+
+    assertEquals(cache.getSource(classFile), "class Type {}");
+    verify(generator, times(1)).generateSource(type);
+  }
+
+  @Test
+  public void regeneratesSourcesWhenJarChanges() throws Exception {
+    GeneratedSourcesCache cache = new GeneratedSourcesCache(generator, cacheDir.getPath(), 1);
+    cache.getSource(classFile);
+
+    Files.write("new jar content", jar, UTF_8);
+    when(generator.generateSource(type)).thenReturn("class Type { int f; }");
+
+    assertEquals(cache.getSource(classFile), "class Type { int f; }");
+    verify(generator, times(2)).generateSource(type);
+  }
+}
@@ -12,7 +12,9 @@ package org.eclipse.che.plugin.java.server.che;
 
 import static org.fest.assertions.Assertions.assertThat;
 
+import com.google.common.io.Files;
 import org.eclipse.che.ide.ext.java.shared.OpenDeclarationDescriptor;
+import org.eclipse.che.plugin.java.server.GeneratedSourcesCache;
 import org.eclipse.che.plugin.java.server.JavaNavigation;
 import org.eclipse.che.plugin.java.server.SourcesFromBytecodeGenerator;
 import org.junit.Ignore;
@@ -23,7 +25,10 @@ import org.junit.Test;
 @Ignore
 public class FindDeclarationTest extends BaseTest {
 
-  private JavaNavigation navigation = new JavaNavigation(new SourcesFromBytecodeGenerator());
+  private JavaNavigation navigation =
+      new JavaNavigation(
+          new GeneratedSourcesCache(
+              new SourcesFromBytecodeGenerator(), Files.createTempDir().getPath(), 1));
 
   @Test
   public void testFindClassIsNotNullOrEmpty() throws Exception {
@@ -51,6 +51,21 @@ public class PublishDiagnosticsReceiver {
         .withConsumer(params -> provider.get().processDiagnostics(params));
   }
 
+  @Inject
+  private void configureBatchReceiver(
+      Provider<PublishDiagnosticsProcessor> provider, RequestHandlerConfigurator configurator) {
+    configurator
+        .newConfiguration()
+        .methodName("textDocument/publishDiagnostics/batch")
+        .paramsAsListOfDto(ExtendedPublishDiagnosticsParams.class)
+        .noResult()
+        .withConsumer(
+            diagnostics -> {
+              PublishDiagnosticsProcessor processor = provider.get();
+              diagnostics.forEach(processor::processDiagnostics);
+            });
+  }
+
   private void subscribe(RequestTransmitter transmitter) {
     transmitter
         .newRequest()
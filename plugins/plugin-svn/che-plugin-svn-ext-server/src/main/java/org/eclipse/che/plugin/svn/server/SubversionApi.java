@@ -18,6 +18,7 @@ import static org.eclipse.che.plugin.svn.server.utils.InfoUtils.getRepositoryRoo
 import static org.eclipse.che.plugin.svn.server.utils.SubversionUtils.recognizeProjectUri;
 
 import com.google.common.base.Predicate;
+import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Iterables;
 import com.google.common.io.Files;
 import com.google.common.net.MediaType;
@@ -32,6 +33,7 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 import javax.inject.Inject;
 import javax.validation.constraints.NotNull;
@@ -41,6 +43,7 @@ import org.eclipse.che.api.core.ApiException;
 import org.eclipse.che.api.core.ErrorCodes;
 import org.eclipse.che.api.core.ServerException;
 import org.eclipse.che.api.core.UnauthorizedException;
+import org.eclipse.che.api.core.util.CommandLine;
 import org.eclipse.che.api.core.util.LineConsumerFactory;
 import org.eclipse.che.api.vfs.util.DeleteOnCloseFileInputStream;
 import org.eclipse.che.commons.annotation.Nullable;
@@ -93,15 +96,38 @@ public class SubversionApi {
 
   private static Logger LOG = LoggerFactory.getLogger(SubversionApi.class);
 
+  /** Commands which don't modify the working copy, so its cached status is kept. */
+  private static final Set<String> READ_ONLY_COMMANDS =
+      ImmutableSet.of(
+          "cat", "diff", "export", "info", "list", "log", "propget", "proplist", "status");
+
+  /** Options followed by a value, used to find the command name among the arguments. */
+  private static final Set<String> OPTIONS_WITH_VALUE =
+      ImmutableSet.of(
+          "--accept",
+          "--changelist",
+          "--depth",
+          "--message",
+          "--password",
+          "--revision",
+          "--set-depth",
+          "--username",
+          "-F",
+          "-m");
+
   private final RepositoryUrlProvider repositoryUrlProvider;
   private final SshScriptProvider sshScriptProvider;
+  private final SubversionStatusCache statusCache;
   protected LineConsumerFactory svnOutputPublisherFactory;
 
   @Inject
   public SubversionApi(
-      RepositoryUrlProvider repositoryUrlProvider, SshScriptProvider sshScriptProvider) {
+      RepositoryUrlProvider repositoryUrlProvider,
+      SshScriptProvider sshScriptProvider,
+      SubversionStatusCache statusCache) {
     this.repositoryUrlProvider = repositoryUrlProvider;
     this.sshScriptProvider = sshScriptProvider;
+    this.statusCache = statusCache;
   }
 
   /**
@@ -406,8 +432,19 @@ public class SubversionApi {
     // Command Name
     cliArgs.add("status");
 
-    final CommandLineResult result =
-        runCommand(null, cliArgs, projectPath, addWorkingCopyPathIfNecessary(request.getPaths()));
+    final List<String> paths = addWorkingCopyPathIfNecessary(request.getPaths());
+    final List<String> cached =
+        statusCache.getStatus(
+            projectPath, paths, request, targets -> loadXmlStatus(projectPath, targets));
+    if (cached != null) {
+      return DtoFactory.getInstance()
+          .createDto(CLIOutputResponse.class)
+          .withCommand(new CommandLine("svn").add(cliArgs).add(paths).toString())
+          .withOutput(cached)
+          .withErrOutput(new ArrayList<>());
+    }
+
+    final CommandLineResult result = runCommand(null, cliArgs, projectPath, paths);
 
     return DtoFactory.getInstance()
         .createDto(CLIOutputResponse.class)
@@ -416,6 +453,26 @@ public class SubversionApi {
         .withErrOutput(result.getStderr());
   }
 
+  /**
+   * Loads the status of the targets by a single "svn status --xml" for the status cache.
+   *
+   * @return the output or {@code null} if Subversion reported a warning for some of the targets
+   */
+  private List<String> loadXmlStatus(File projectPath, List<String> targets)
+      throws SubversionException, UnauthorizedException {
+    final List<String> cliArgs = defaultArgs();
+
+    cliArgs.add("--xml");
+    cliArgs.add("--verbose");
+    cliArgs.add("--no-ignore");
+    cliArgs.add("--ignore-externals");
+    cliArgs.add("status");
+
+    final CommandLineResult result = runCommand(null, cliArgs, projectPath, targets);
+
+    return result.getExitCode() == 0 ? result.getStdout() : null;
+  }
+
   /**
    * Perform an "svn checkout" based on the request.
    *
@@ -1071,6 +1128,9 @@ public class SubversionApi {
       if (sshEnvironment != null) {
         sshEnvironment.cleanUp();
       }
+      if (!isReadOnly(args)) {
+        statusCache.invalidate(projectPath);
+      }
     }
 
     if (result.getExitCode() != 0) {
@@ -1103,6 +1163,22 @@ public class SubversionApi {
     return result;
   }
 
+  /** Checks whether the command of the arguments doesn't modify the working copy. */
+  private static boolean isReadOnly(List<String> args) {
+    final Iterator<String> iterator = args.iterator();
+    while (iterator.hasNext()) {
+      final String arg = iterator.next();
+      if (OPTIONS_WITH_VALUE.contains(arg)) {
+        if (iterator.hasNext()) {
+          iterator.next();
+        }
+      } else if (!arg.startsWith("-")) {
+        return READ_ONLY_COMMANDS.contains(arg);
+      }
+    }
+    return false;
+  }
+
   public String getRepositoryUrl(final String projectPath) throws SubversionException {
     return repositoryUrlProvider.getRepositoryUrl(projectPath);
   }
@@ -41,6 +41,7 @@ public class SubversionModule extends AbstractModule {
         .to(SubversionValueProviderFactory.class);
 
     bind(SubversionService.class);
+    bind(SubversionStatusCache.class);
     bind(RepositoryUrlProvider.class).to(RepositoryUrlProviderImpl.class);
 
     bind(SubversionConfigurationChecker.class).asEagerSingleton();
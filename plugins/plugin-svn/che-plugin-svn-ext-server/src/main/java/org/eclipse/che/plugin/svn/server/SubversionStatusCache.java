@@ -0,0 +1,486 @@
+/*
+ * Copyright (c) 2012-2017 Red Hat, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.plugin.svn.server;
+
+import static com.google.common.base.Strings.isNullOrEmpty;
+
+import java.io.File;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.inject.Inject;
+import javax.inject.Named;
+import javax.inject.Singleton;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import org.eclipse.che.api.core.UnauthorizedException;
+import org.eclipse.che.api.vfs.watcher.FileWatcherManager;
+import org.eclipse.che.commons.annotation.Nullable;
+import org.eclipse.che.plugin.svn.shared.Depth;
+import org.eclipse.che.plugin.svn.shared.StatusRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Caches the status of Subversion working copies, so that the status requests which the IDE sends
+ * after every change do not fork an {@code svn} process each.
+ *
+ * <p>Status of the targets missing in the cache is loaded by a single {@code svn status --xml}
+ * invocation, which is parsed by a streaming XML reader into the lines of the plain {@code svn
+ * status} output. The cached targets of a working copy are dropped when any file of the working
+ * copy is changed or a command modifying the working copy is run. Requests and targets which the
+ * plain output can't be reproduced for, e.g. conflicts, changelists or externals, are not served
+ * from the cache.
+ */
+@Singleton
+public class SubversionStatusCache {
+
+  private static final Logger LOG = LoggerFactory.getLogger(SubversionStatusCache.class);
+
+  private static final String ADMIN_DIR = ".svn";
+  private static final String WC_DB = "wc.db";
+
+  private final FileWatcherManager watcherManager;
+  private final Path root;
+  private final ConcurrentMap<Path, WorkingCopy> workingCopies = new ConcurrentHashMap<>();
+
+  private int watcherId;
+
+  /** Loads the status of the targets in XML format. */
+  @FunctionalInterface
+  interface XmlStatusLoader {
+    /**
+     * Runs {@code svn status --xml --verbose --no-ignore --ignore-externals} for the targets.
+     *
+     * @return the output lines or {@code null} if the status of the targets can't be cached
+     */
+    @Nullable
+    List<String> load(List<String> targets) throws SubversionException, UnauthorizedException;
+  }
+
+  @Inject
+  public SubversionStatusCache(
+      FileWatcherManager watcherManager, @Named("che.user.workspaces.storage") File root) {
+    this.watcherManager = watcherManager;
+    this.root = root.toPath().normalize().toAbsolutePath();
+  }
+
+  @PostConstruct
+  public void startWatcher() {
+    watcherId =
+        watcherManager.registerByMatcher(
+            this::isWatched, this::invalidate, this::invalidate, this::invalidate);
+  }
+
+  @PreDestroy
+  public void stopWatcher() {
+    watcherManager.unRegisterByMatcher(watcherId);
+  }
+
+  /**
+   * Returns the plain {@code svn status} output for the request.
+   *
+   * @param projectPath the working copy
+   * @param targets the targets of the request, relative to the working copy
+   * @param request the status request
+   * @param loader loads the status of the targets which are not cached yet
+   * @return the output lines or {@code null} if the request can't be served from the cache
+   */
+  @Nullable
+  List<String> getStatus(
+      File projectPath, List<String> targets, StatusRequest request, XmlStatusLoader loader)
+      throws SubversionException, UnauthorizedException {
+    if (!isCacheable(request, targets)) {
+      return null;
+    }
+    final Path key = toKey(projectPath);
+    final WorkingCopy workingCopy = workingCopies.computeIfAbsent(key, k -> new WorkingCopy());
+
+    final Map<String, TargetStatus> statuses = new HashMap<>();
+    final Set<String> missing = new LinkedHashSet<>();
+    for (String target : targets) {
+      final TargetStatus status = workingCopy.targets.get(target);
+      if (status != null) {
+        statuses.put(target, status);
+      } else {
+        missing.add(target);
+      }
+    }
+
+    if (!missing.isEmpty()) {
+      final List<String> xml = loader.load(new ArrayList<>(missing));
+      if (xml == null) {
+        return null;
+      }
+      final Map<String, TargetStatus> loaded;
+      try {
+        loaded = parse(xml);
+      } catch (XMLStreamException e) {
+        LOG.warn("Can't parse status of working copy {}: {}", projectPath, e.getMessage());
+        return null;
+      }
+      if (!loaded.keySet().containsAll(missing)) {
+        return null;
+      }
+      workingCopy.putAll(loaded);
+      statuses.putAll(loaded);
+    }
+
+    final List<String> output = new ArrayList<>();
+    for (String target : targets) {
+      final TargetStatus status = statuses.get(target);
+      if (!status.cacheable) {
+        return null;
+      }
+      for (Entry entry : status.entries) {
+        if (entry.isShown(request.isShowUnversioned(), request.isShowIgnored())) {
+          output.add(entry.toString());
+        }
+      }
+    }
+    return output;
+  }
+
+  /** Drops the cached status of the working copy. */
+  public void invalidate(File projectPath) {
+    final WorkingCopy workingCopy = workingCopies.remove(toKey(projectPath));
+    if (workingCopy != null) {
+      workingCopy.invalidate();
+    }
+  }
+
+  /** Drops the cached status of the working copies containing the item with the internal path. */
+  private void invalidate(String internalPath) {
+    final Path path = root.resolve(internalPath.substring(1)).normalize();
+    if (isAdministrative(path) && !path.getFileName().toString().startsWith(WC_DB)) {
+      return;
+    }
+    workingCopies
+        .entrySet()
+        .removeIf(
+            entry -> {
+              if (path.startsWith(entry.getKey())) {
+                entry.getValue().invalidate();
+                return true;
+              }
+              return false;
+            });
+  }
+
+  /**
+   * Directories of working copies are watched, so a change of any item in them is reported. The
+   * administrative directory is watched too, for the working copy database which is changed by the
+   * commands run from a terminal, but not its subdirectories. The watcher matches a path only when
+   * it first sees it, so the matcher doesn't depend on what is cached at the moment.
+   */
+  private boolean isWatched(Path path) {
+    final Path normalized = path.toAbsolutePath().normalize();
+    if (!normalized.startsWith(root) || !Files.isDirectory(normalized)) {
+      return false;
+    }
+    if (isAdminDir(normalized)) {
+      return true;
+    }
+    for (Path dir = normalized; dir != null && dir.startsWith(root); dir = dir.getParent()) {
+      if (isAdminDir(dir)) {
+        return false;
+      }
+      if (Files.isDirectory(dir.resolve(ADMIN_DIR))) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static boolean isAdminDir(Path path) {
+    return path.getFileName() != null && ADMIN_DIR.equals(path.getFileName().toString());
+  }
+
+  private static boolean isAdministrative(Path path) {
+    for (Path name : path) {
+      if (ADMIN_DIR.equals(name.toString())) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static Path toKey(File projectPath) {
+    return projectPath.toPath().normalize().toAbsolutePath();
+  }
+
+  private static boolean isCacheable(StatusRequest request, List<String> targets) {
+    if (request.isShowUpdates()
+        || request.isVerbose()
+        || (request.getChangeLists() != null && !request.getChangeLists().isEmpty())
+        || !(isNullOrEmpty(request.getDepth())
+            || Depth.FULLY_RECURSIVE.getValue().equals(request.getDepth()))
+        || (request.isShowIgnored() && !request.isShowUnversioned())) {
+      return false;
+    }
+    for (String target : targets) {
+      if (target.isEmpty()
+          || target.startsWith("/")
+          || target.startsWith("^")
+          || target.contains("://")
+          || target.contains("@")
+          || new File(target).isAbsolute()
+          || Arrays.asList(target.split("[/\\\\]")).contains("..")) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Parses the output of {@code svn status --xml --verbose}.
+   *
+   * @return status of the targets by the target paths
+   */
+  static Map<String, TargetStatus> parse(List<String> xml) throws XMLStreamException {
+    final XMLInputFactory factory = XMLInputFactory.newInstance();
+    factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+    factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+    final XMLStreamReader reader = factory.createXMLStreamReader(new LinesReader(xml));
+
+    final Map<String, TargetStatus> statuses = new HashMap<>();
+    try {
+      TargetStatus target = null;
+      String entryPath = null;
+      char[] columns = null;
+      while (reader.hasNext()) {
+        final int event = reader.next();
+        if (event == XMLStreamConstants.START_ELEMENT) {
+          switch (reader.getLocalName()) {
+            case "target":
+              target = new TargetStatus();
+              statuses.put(reader.getAttributeValue(null, "path"), target);
+              break;
+            case "changelist":
+              if (target != null) {
+                target.cacheable = false;
+              }
+              break;
+            case "entry":
+              entryPath = reader.getAttributeValue(null, "path");
+              break;
+            case "wc-status":
+              columns = toColumns(reader);
+              if (target != null && !isReproducible(reader)) {
+                target.cacheable = false;
+              }
+              break;
+            case "lock":
+              if (columns != null) {
+                columns[5] = 'K';
+              }
+              break;
+            default:
+          }
+        } else if (event == XMLStreamConstants.END_ELEMENT
+            && "wc-status".equals(reader.getLocalName())) {
+          if (target != null && entryPath != null && columns != null) {
+            target.entries.add(new Entry(columns, entryPath));
+          }
+          columns = null;
+        }
+      }
+    } finally {
+      reader.close();
+    }
+    return statuses;
+  }
+
+  /** Builds the seven status columns of the plain output from the attributes of wc-status. */
+  private static char[] toColumns(XMLStreamReader reader) {
+    final char[] columns = {' ', ' ', ' ', ' ', ' ', ' ', ' '};
+    columns[0] = toItemCode(reader.getAttributeValue(null, "item"));
+    final String props = reader.getAttributeValue(null, "props");
+    if ("conflicted".equals(props)) {
+      columns[1] = 'C';
+    } else if ("modified".equals(props)) {
+      columns[1] = 'M';
+    }
+    if (isTrue(reader, "wc-locked")) {
+      columns[2] = 'L';
+    }
+    if (isTrue(reader, "copied")) {
+      columns[3] = '+';
+    }
+    if (isTrue(reader, "switched")) {
+      columns[4] = 'S';
+    }
+    if (isTrue(reader, "tree-conflicted")) {
+      columns[6] = 'C';
+    }
+    return columns;
+  }
+
+  /**
+   * Plain output of conflicted, moved and external items contains additional lines, such items are
+   * not served from the cache.
+   */
+  private static boolean isReproducible(XMLStreamReader reader) {
+    final String item = reader.getAttributeValue(null, "item");
+    return !"conflicted".equals(item)
+        && !"external".equals(item)
+        && !"conflicted".equals(reader.getAttributeValue(null, "props"))
+        && !isTrue(reader, "tree-conflicted")
+        && !isTrue(reader, "file-external")
+        && reader.getAttributeValue(null, "moved-from") == null
+        && reader.getAttributeValue(null, "moved-to") == null;
+  }
+
+  private static boolean isTrue(XMLStreamReader reader, String attribute) {
+    return "true".equals(reader.getAttributeValue(null, attribute));
+  }
+
+  private static char toItemCode(String item) {
+    if (item == null) {
+      return ' ';
+    }
+    switch (item) {
+      case "added":
+        return 'A';
+      case "conflicted":
+        return 'C';
+      case "deleted":
+        return 'D';
+      case "ignored":
+        return 'I';
+      case "incomplete":
+      case "missing":
+        return '!';
+      case "modified":
+        return 'M';
+      case "obstructed":
+        return '~';
+      case "replaced":
+        return 'R';
+      case "unversioned":
+        return '?';
+      case "external":
+        return 'X';
+      default:
+        return ' ';
+    }
+  }
+
+  /** Reads the lines one by one separated by line feeds, without joining them to a string. */
+  private static class LinesReader extends Reader {
+    final Iterator<String> lines;
+    String line;
+    int position;
+
+    LinesReader(List<String> lines) {
+      this.lines = lines.iterator();
+    }
+
+    @Override
+    public int read(char[] buffer, int offset, int length) {
+      if (length == 0) {
+        return 0;
+      }
+      if (line == null || position > line.length()) {
+        if (!lines.hasNext()) {
+          return -1;
+        }
+        line = lines.next();
+        position = 0;
+      }
+      if (position == line.length()) {
+        buffer[offset] = '\n';
+        position++;
+        return 1;
+      }
+      final int count = Math.min(length, line.length() - position);
+      line.getChars(position, position + count, buffer, offset);
+      position += count;
+      return count;
+    }
+
+    @Override
+    public void close() {
+      line = null;
+    }
+  }
+
+  /** Cached targets of a working copy. */
+  private static class WorkingCopy {
+    final Map<String, TargetStatus> targets = new ConcurrentHashMap<>();
+    boolean invalidated;
+
+    /** Loaded status is dropped if the working copy was changed while it was loading. */
+    synchronized void putAll(Map<String, TargetStatus> loaded) {
+      if (!invalidated) {
+        targets.putAll(loaded);
+      }
+    }
+
+    synchronized void invalidate() {
+      invalidated = true;
+      targets.clear();
+    }
+  }
+
+  /** Status of the items of a single target. */
+  static class TargetStatus {
+    final List<Entry> entries = new ArrayList<>();
+    boolean cacheable = true;
+  }
+
+  /** Status of a single item, in the order of the plain output. */
+  static class Entry {
+    final char[] columns;
+    final String path;
+
+    Entry(char[] columns, String path) {
+      this.columns = columns;
+      this.path = path;
+    }
+
+    /** Items without any changes are listed by verbose status only. */
+    boolean isShown(boolean showUnversioned, boolean showIgnored) {
+      switch (columns[0]) {
+        case '?':
+          return showUnversioned;
+        case 'I':
+          return showIgnored;
+        default:
+          for (char column : columns) {
+            if (column != ' ') {
+              return true;
+            }
+          }
+          return false;
+      }
+    }
+
+    @Override
+    public String toString() {
+      return new String(columns) + ' ' + path;
+    }
+  }
+}
@@ -18,15 +18,19 @@ import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import javax.ws.rs.core.Response;
+import org.eclipse.che.api.vfs.watcher.FileWatcherManager;
 import org.eclipse.che.commons.lang.ZipUtils;
 import org.eclipse.che.dto.server.DtoFactory;
 import org.eclipse.che.plugin.ssh.key.script.SshKeyProvider;
 import org.eclipse.che.plugin.ssh.key.script.SshScriptProvider;
 import org.eclipse.che.plugin.svn.server.repository.RepositoryUrlProvider;
+import org.eclipse.che.plugin.svn.server.upstream.UpstreamUtils;
 import org.eclipse.che.plugin.svn.server.utils.TestUtils;
 import org.eclipse.che.plugin.svn.shared.CLIOutputResponse;
 import org.eclipse.che.plugin.svn.shared.CLIOutputWithRevisionResponse;
@@ -40,6 +44,8 @@ import org.eclipse.che.plugin.svn.shared.ListResponse;
 import org.eclipse.che.plugin.svn.shared.MoveRequest;
 import org.eclipse.che.plugin.svn.shared.PropertyDeleteRequest;
 import org.eclipse.che.plugin.svn.shared.PropertySetRequest;
+import org.eclipse.che.plugin.svn.shared.RevertRequest;
+import org.eclipse.che.plugin.svn.shared.StatusRequest;
 import org.eclipse.che.plugin.svn.shared.SubversionItem;
 import org.eclipse.che.plugin.svn.shared.SwitchRequest;
 import org.eclipse.che.plugin.svn.shared.UpdateRequest;
@@ -55,6 +61,7 @@ public class SubversionApiITest {
 
   @Mock private RepositoryUrlProvider repositoryUrlProvider;
   @Mock private SshKeyProvider sshKeyProvider;
+  @Mock private FileWatcherManager fileWatcherManager;
 
   private SubversionApi subversionApi;
   private File repoRoot;
@@ -71,7 +78,10 @@ public class SubversionApiITest {
     tmpDir.toFile().deleteOnExit();
 
     this.subversionApi =
-        new SubversionApi(repositoryUrlProvider, new SshScriptProvider(sshKeyProvider));
+        new SubversionApi(
+            repositoryUrlProvider,
+            new SshScriptProvider(sshKeyProvider),
+            new SubversionStatusCache(fileWatcherManager, tmpDir.toFile()));
   }
 
   /**
@@ -411,4 +421,53 @@ public class SubversionApiITest {
     SubversionItem subversionItem = response.getItems().get(0);
     assertEquals(subversionItem.getProjectUri(), repoUrl.substring(0, repoUrl.length() - 1));
   }
+
+  /**
+   * Tests for {@link SubversionApi#status(StatusRequest)} served from the status cache.
+   *
+   * @throws Exception if anything goes wrong
+   */
+  @Test
+  public void testStatusMatchesCommandLine() throws Exception {
+    subversionApi.checkout(
+        DtoFactory.getInstance()
+            .createDto(CheckoutRequest.class)
+            .withProjectPath(tmpAbsolutePath)
+            .withUrl(repoUrl + "/trunk"));
+    Files.write(tmpDir.resolve("A/mu"), "modified".getBytes());
+    Files.write(tmpDir.resolve("A/B/unversioned"), "unversioned".getBytes());
+    Files.delete(tmpDir.resolve("A/D/gamma"));
+
+    assertEquals(status(), svnStatus("."));
+    assertEquals(status("A/mu", "A/B"), svnStatus("A/mu", "A/B"));
+    assertEquals(status("A/D/G"), svnStatus("A/D/G"));
+
+    // reverting the working copy drops the cached status
+    subversionApi.revert(
+        DtoFactory.getInstance()
+            .createDto(RevertRequest.class)
+            .withProjectPath(tmpAbsolutePath)
+            .withPaths(Arrays.asList("A/mu", "A/D/gamma")));
+
+    assertEquals(status(), svnStatus("."));
+    assertEquals(status(), Collections.singletonList("?       A/B/unversioned"));
+  }
+
+  private List<String> status(String... paths) throws Exception {
+    return subversionApi
+        .status(
+            DtoFactory.getInstance()
+                .createDto(StatusRequest.class)
+                .withProjectPath(tmpAbsolutePath)
+                .withPaths(new ArrayList<>(Arrays.asList(paths)))
+                .withShowUnversioned(true))
+        .getOutput();
+  }
+
+  private List<String> svnStatus(String... paths) throws Exception {
+    final String[] args = new String[paths.length + 1];
+    args[0] = "status";
+    System.arraycopy(paths, 0, args, 1, paths.length);
+    return UpstreamUtils.executeCommandLine(null, "svn", args, -1, tmpDir.toFile()).getStdout();
+  }
 }
@@ -0,0 +1,258 @@
+/*
+ * Copyright (c) 2012-2017 Red Hat, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.plugin.svn.server;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import com.google.inject.multibindings.Multibinder;
+import com.google.inject.name.Names;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import org.eclipse.che.api.vfs.watcher.FileWatcherByPathMatcher;
+import org.eclipse.che.api.vfs.watcher.FileWatcherManager;
+import org.eclipse.che.dto.server.DtoFactory;
+import org.eclipse.che.inject.lifecycle.DestroyErrorHandler;
+import org.eclipse.che.inject.lifecycle.DestroyModule;
+import org.eclipse.che.inject.lifecycle.Destroyer;
+import org.eclipse.che.inject.lifecycle.InitModule;
+import org.eclipse.che.plugin.svn.shared.StatusRequest;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+/** Tests for {@link SubversionStatusCache}. */
+@RunWith(MockitoJUnitRunner.class)
+public class SubversionStatusCacheTest {
+
+  private static final File PROJECT = new File("/projects/project");
+  private static final long WATCH_TIMEOUT_MS = 10_000;
+
+  private static final String TRUNK =
+      "<target path=\".\">"
+          + "<entry path=\".\"><wc-status item=\"normal\" props=\"none\" revision=\"1\">"
+          + "<commit revision=\"1\"><author>user</author></commit></wc-status></entry>"
+          + "<entry path=\"A\"><wc-status item=\"normal\" props=\"modified\" revision=\"1\"/>"
+          + "</entry>"
+          + "<entry path=\"A/mu\"><wc-status item=\"modified\" props=\"none\" revision=\"1\">"
+          + "<lock><token>opaquelocktoken</token></lock></wc-status></entry>"
+          + "<entry path=\"A/B/lambda\"><wc-status item=\"normal\" props=\"none\" revision=\"1\"/>"
+          + "</entry>"
+          + "<entry path=\"A/D/gamma\"><wc-status item=\"missing\" props=\"none\"/></entry>"
+          + "<entry path=\"A/new\"><wc-status item=\"added\" props=\"none\" copied=\"true\"/>"
+          + "</entry>"
+          + "<entry path=\"build\"><wc-status item=\"ignored\" props=\"none\"/></entry>"
+          + "<entry path=\"notes.txt\"><wc-status item=\"unversioned\" props=\"none\"/></entry>"
+          + "</target>";
+
+  private static final String CONFLICTED =
+      "<target path=\"A/D\">"
+          + "<entry path=\"A/D/G/pi\"><wc-status item=\"conflicted\" props=\"none\"/></entry>"
+          + "</target>";
+
+  @Rule public TemporaryFolder rootFolder = new TemporaryFolder();
+
+  @Mock private FileWatcherManager watcherManager;
+
+  private SubversionStatusCache cache;
+  private List<List<String>> loads;
+
+  @Before
+  public void setUp() {
+    cache = new SubversionStatusCache(watcherManager, new File("/projects"));
+    loads = new ArrayList<>();
+  }
+
+  @Test
+  public void shouldReproducePlainStatusOutput() throws Exception {
+    List<String> status = cache.getStatus(PROJECT, singletonList("."), request(), this::load);
+
+    assertEquals(
+        asList(
+            " M      A",
+            "M    K  A/mu",
+            "!       A/D/gamma",
+            "A  +    A/new",
+            "?       notes.txt"),
+        status);
+  }
+
+  @Test
+  public void shouldFilterUnversionedAndIgnoredItems() throws Exception {
+    StatusRequest quiet = request().withShowUnversioned(false);
+    StatusRequest noIgnore = request().withShowIgnored(true);
+
+    assertEquals(
+        asList(" M      A", "M    K  A/mu", "!       A/D/gamma", "A  +    A/new"),
+        cache.getStatus(PROJECT, singletonList("."), quiet, this::load));
+    assertEquals(
+        asList(
+            " M      A",
+            "M    K  A/mu",
+            "!       A/D/gamma",
+            "A  +    A/new",
+            "I       build",
+            "?       notes.txt"),
+        cache.getStatus(PROJECT, singletonList("."), noIgnore, this::load));
+  }
+
+  @Test
+  public void shouldLoadStatusOnceUntilInvalidated() throws Exception {
+    cache.getStatus(PROJECT, singletonList("."), request(), this::load);
+    cache.getStatus(PROJECT, singletonList("."), request().withShowIgnored(true), this::load);
+    cache.invalidate(PROJECT);
+    cache.getStatus(PROJECT, singletonList("."), request(), this::load);
+
+    assertEquals(asList(singletonList("."), singletonList(".")), loads);
+  }
+
+  @Test
+  public void shouldLoadMissingTargetsInSingleInvocation() throws Exception {
+    cache.getStatus(PROJECT, singletonList("."), request(), this::load);
+
+    assertNull(cache.getStatus(PROJECT, asList(".", "A/D", "A/D"), request(), this::load));
+    assertEquals(asList(singletonList("."), singletonList("A/D")), loads);
+  }
+
+  @Test
+  public void shouldNotServeRequestsWhichCanNotBeReproduced() throws Exception {
+    assertNull(
+        cache.getStatus(
+            PROJECT, singletonList("."), request().withShowUpdates(true), this::load));
+    assertNull(
+        cache.getStatus(PROJECT, singletonList("."), request().withVerbose(true), this::load));
+    assertNull(cache.getStatus(PROJECT, singletonList("../other"), request(), this::load));
+    assertNull(cache.getStatus(PROJECT, singletonList("/etc"), request(), this::load));
+    assertEquals(0, loads.size());
+  }
+
+  @Test
+  public void shouldInvalidateCachedStatusWhenVersionedFileIsChanged() throws Exception {
+    final File project = createWorkingCopy();
+    final Injector injector = createWatchingInjector();
+    try {
+      final SubversionStatusCache watchedCache = startWatching(injector, project);
+
+      Files.write(project.toPath().resolve("A/mu"), "changed".getBytes());
+
+      awaitLoads(watchedCache, project, 2);
+    } finally {
+      injector.getInstance(Destroyer.class).destroy();
+    }
+  }
+
+  @Test
+  public void shouldInvalidateCachedStatusWhenWorkingCopyDatabaseIsChanged() throws Exception {
+    final File project = createWorkingCopy();
+    final Injector injector = createWatchingInjector();
+    try {
+      final SubversionStatusCache watchedCache = startWatching(injector, project);
+
+      Files.write(project.toPath().resolve(".svn/wc.db"), "changed".getBytes());
+
+      awaitLoads(watchedCache, project, 2);
+    } finally {
+      injector.getInstance(Destroyer.class).destroy();
+    }
+  }
+
+  private File createWorkingCopy() throws IOException {
+    final File project = rootFolder.newFolder("project");
+    Files.createDirectories(project.toPath().resolve("A"));
+    Files.createDirectories(project.toPath().resolve(".svn"));
+    Files.write(project.toPath().resolve("A/mu"), "mu".getBytes());
+    Files.write(project.toPath().resolve(".svn/wc.db"), "db".getBytes());
+    return project;
+  }
+
+  /** Creates the file watching components the way the workspace agent does. */
+  private Injector createWatchingInjector() {
+    return Guice.createInjector(
+        new InitModule(PostConstruct.class),
+        new DestroyModule(PreDestroy.class, DestroyErrorHandler.LOG_HANDLER),
+        new AbstractModule() {
+          @Override
+          protected void configure() {
+            bind(File.class)
+                .annotatedWith(Names.named("che.user.workspaces.storage"))
+                .toInstance(rootFolder.getRoot());
+            Multibinder.newSetBinder(
+                binder(), PathMatcher.class, Names.named("che.user.workspaces.storage.excludes"));
+            try {
+              bind(WatchService.class).toInstance(FileSystems.getDefault().newWatchService());
+            } catch (IOException e) {
+              throw new IllegalStateException(e);
+            }
+          }
+        });
+  }
+
+  /**
+   * The tree walker reports the items to the watcher when it sees them first, that is before the
+   * status of the working copy is cached.
+   */
+  private SubversionStatusCache startWatching(Injector injector, File project) throws Exception {
+    final SubversionStatusCache watchedCache = injector.getInstance(SubversionStatusCache.class);
+    final FileWatcherByPathMatcher walker = injector.getInstance(FileWatcherByPathMatcher.class);
+    try (Stream<Path> paths = Files.walk(rootFolder.getRoot().toPath())) {
+      paths.forEach(walker);
+    }
+    watchedCache.getStatus(project, singletonList("."), request(), this::load);
+    watchedCache.getStatus(project, singletonList("."), request(), this::load);
+    assertEquals(1, loads.size());
+    return watchedCache;
+  }
+
+  private void awaitLoads(SubversionStatusCache watchedCache, File project, int count)
+      throws Exception {
+    final long deadline = System.currentTimeMillis() + WATCH_TIMEOUT_MS;
+    while (loads.size() < count && System.currentTimeMillis() < deadline) {
+      Thread.sleep(100);
+      watchedCache.getStatus(project, singletonList("."), request(), this::load);
+    }
+    assertEquals(count, loads.size());
+  }
+
+  private StatusRequest request() {
+    return DtoFactory.getInstance()
+        .createDto(StatusRequest.class)
+        .withProjectPath(PROJECT.getPath())
+        .withShowUnversioned(true);
+  }
+
+  private List<String> load(List<String> targets) {
+    loads.add(targets);
+    StringBuilder xml = new StringBuilder("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<status>");
+    for (String target : targets) {
+      xml.append(".".equals(target) ? TRUNK : CONFLICTED);
+    }
+    return asList(xml.append("</status>").toString().split("(?=<entry)"));
+  }
+}
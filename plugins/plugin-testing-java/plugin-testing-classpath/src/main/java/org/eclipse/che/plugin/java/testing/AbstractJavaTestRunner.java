@@ -20,11 +20,12 @@ import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Random;
-import org.eclipse.che.api.testing.server.framework.TestRunner;
+import org.eclipse.che.api.testing.server.framework.ShardingTestRunner;
 import org.eclipse.che.api.testing.shared.TestDetectionContext;
 import org.eclipse.che.api.testing.shared.TestExecutionContext;
 import org.eclipse.che.api.testing.shared.TestPosition;
 import org.eclipse.che.dto.server.DtoFactory;
+import org.eclipse.che.plugin.java.testing.JavaTestIndex.TestMethodPosition;
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.IPath;
@@ -34,7 +35,6 @@ import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.IJavaElement;
 import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.IMethod;
-import org.eclipse.jdt.core.ISourceRange;
 import org.eclipse.jdt.core.IType;
 import org.eclipse.jdt.core.JavaModelException;
 import org.eclipse.jdt.internal.core.JavaModelManager;
@@ -45,7 +45,7 @@ import org.slf4j.LoggerFactory;
  * Abstract java test runner. Can recognize test methods, find java project and compilation unit by
  * path.
  */
-public abstract class AbstractJavaTestRunner implements TestRunner {
+public abstract class AbstractJavaTestRunner implements ShardingTestRunner {
   private static final Logger LOG = LoggerFactory.getLogger(AbstractJavaTestRunner.class);
   private static final String TEST_OUTPUT_FOLDER = "/test-output";
 
@@ -84,16 +84,21 @@ public abstract class AbstractJavaTestRunner implements TestRunner {
 
     try {
       ICompilationUnit compilationUnit = findCompilationUnitByPath(javaProject, filePath);
+      List<TestMethodPosition> tests =
+          javaTestFinder.findTestMethods(compilationUnit, getName(), this::isTestMethod);
       if (context.getOffset() == -1) {
-        addAllTestsMethod(result, compilationUnit);
+        addAllTestsMethod(result, tests);
       } else {
         IJavaElement element = compilationUnit.getElementAt(context.getOffset());
         if (element != null && element.getElementType() == IJavaElement.METHOD) {
-          if (isTestMethod((IMethod) element, compilationUnit)) {
-            result.add(createTestPosition((IMethod) element));
+          int nameOffset = ((IMethod) element).getNameRange().getOffset();
+          for (TestMethodPosition test : tests) {
+            if (test.nameOffset == nameOffset) {
+              result.add(createTestPosition(test));
+            }
           }
         } else {
-          addAllTestsMethod(result, compilationUnit);
+          addAllTestsMethod(result, tests);
         }
       }
     } catch (JavaModelException e) {
@@ -103,27 +108,19 @@ public abstract class AbstractJavaTestRunner implements TestRunner {
     return result;
   }
 
-  private void addAllTestsMethod(List<TestPosition> result, ICompilationUnit compilationUnit)
-      throws JavaModelException {
-    for (IType type : compilationUnit.getAllTypes()) {
-      for (IMethod method : type.getMethods()) {
-        if (isTestMethod(method, compilationUnit)) {
-          result.add(createTestPosition(method));
-        }
-      }
+  private void addAllTestsMethod(List<TestPosition> result, List<TestMethodPosition> tests) {
+    for (TestMethodPosition test : tests) {
+      result.add(createTestPosition(test));
     }
   }
 
-  private TestPosition createTestPosition(IMethod method) throws JavaModelException {
-    ISourceRange nameRange = method.getNameRange();
-    ISourceRange sourceRange = method.getSourceRange();
-
+  private TestPosition createTestPosition(TestMethodPosition test) {
     return DtoFactory.newDto(TestPosition.class)
         .withFrameworkName(getName())
-        .withTestName(method.getElementName())
-        .withTestNameStartOffset(nameRange.getOffset())
-        .withTestNameLength(nameRange.getLength())
-        .withTestBodyLength(sourceRange.getLength());
+        .withTestName(test.name)
+        .withTestNameStartOffset(test.nameOffset)
+        .withTestNameLength(test.nameLength)
+        .withTestBodyLength(test.bodyLength);
   }
 
   /**
@@ -236,6 +233,26 @@ public abstract class AbstractJavaTestRunner implements TestRunner {
     return emptyList();
   }
 
+  /**
+   * Finds test classes which can be split across several processes.
+   *
+   * @param context information about test runner
+   * @param methodAnnotation java annotation which describes test method in the test framework
+   * @param classAnnotation java annotation which describes test class in the test framework
+   * @return list of full qualified names of test classes, empty list if a test method is selected
+   */
+  protected List<String> findTestClasses(
+      TestExecutionContext context, String methodAnnotation, String classAnnotation) {
+    if (context.getContextType() == TestExecutionContext.ContextType.CURSOR_POSITION) {
+      return emptyList();
+    }
+    IJavaProject javaProject = getJavaProject(context.getProjectPath());
+    if (!javaProject.exists()) {
+      return emptyList();
+    }
+    return findTests(context, javaProject, methodAnnotation, classAnnotation);
+  }
+
   @Override
   public int getDebugPort() {
     return debugPort;
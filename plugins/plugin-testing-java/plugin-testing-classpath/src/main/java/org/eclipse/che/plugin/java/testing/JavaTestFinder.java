@@ -14,10 +14,13 @@ import static com.google.common.base.Strings.isNullOrEmpty;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
 
+import com.google.inject.Inject;
 import com.google.inject.Singleton;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.function.BiPredicate;
+import org.eclipse.che.plugin.java.testing.JavaTestIndex.TestMethodPosition;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.Path;
 import org.eclipse.jdt.core.Flags;
@@ -49,6 +52,13 @@ import org.slf4j.LoggerFactory;
 public class JavaTestFinder {
   private static final Logger LOG = LoggerFactory.getLogger(JavaTestFinder.class);
 
+  private final JavaTestIndex testIndex;
+
+  @Inject
+  public JavaTestFinder(JavaTestIndex testIndex) {
+    this.testIndex = testIndex;
+  }
+
   /**
    * Finds test method related to the cursor position.
    *
@@ -119,7 +129,26 @@ public class JavaTestFinder {
    */
   public List<String> findClassesInProject(
       IJavaProject project, String testMethodAnnotation, String testClassAnnotation) {
-    return findClassesInContainer(project, testMethodAnnotation, testClassAnnotation);
+    return testIndex.getTestClasses(
+        project,
+        testMethodAnnotation + '\n' + testClassAnnotation,
+        () -> searchClassesInContainer(project, testMethodAnnotation, testClassAnnotation));
+  }
+
+  /**
+   * Finds test methods of the compilation unit.
+   *
+   * @param compilationUnit compilation unit of class
+   * @param frameworkName name of the test framework
+   * @param isTest checks whether the method is test method in the test framework
+   * @return test methods in the order they are declared
+   */
+  List<TestMethodPosition> findTestMethods(
+      ICompilationUnit compilationUnit,
+      String frameworkName,
+      BiPredicate<IMethod, ICompilationUnit> isTest)
+      throws JavaModelException {
+    return testIndex.getTestMethods(compilationUnit, frameworkName, isTest);
   }
 
   /**
@@ -175,6 +204,14 @@ public class JavaTestFinder {
 
   private List<String> findClassesInContainer(
       IJavaElement container, String testMethodAnnotation, String testClassAnnotation) {
+    List<String> result =
+        searchClassesInContainer(container, testMethodAnnotation, testClassAnnotation);
+    return result == null ? emptyList() : result;
+  }
+
+  /** Returns test classes of the container or {@code null} if the container can't be searched. */
+  private List<String> searchClassesInContainer(
+      IJavaElement container, String testMethodAnnotation, String testClassAnnotation) {
     List<String> result = new LinkedList<>();
     IRegion region = getRegion(container);
     try {
@@ -221,6 +258,7 @@ public class JavaTestFinder {
     } catch (CoreException e) {
 
       LOG.info("Can't build project hierarchy.", e);
+      return null;
     }
 
     return result;
@@ -0,0 +1,249 @@
+/*
+ * Copyright (c) 2012-2017 Red Hat, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.plugin.java.testing;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.unmodifiableList;
+
+import com.google.inject.Singleton;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiPredicate;
+import java.util.function.Supplier;
+import javax.annotation.PreDestroy;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IMethod;
+import org.eclipse.jdt.core.ISourceRange;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.JavaModelException;
+
+/**
+ * In-memory index of test methods and test classes found in java projects.
+ *
+ * <p>Test methods are indexed per compilation unit and test framework, the entries are bound to the
+ * modification stamp of the compilation unit resource. Test classes are indexed per project and
+ * pair of test annotations. The index is kept up to date by java element deltas: a change of a
+ * compilation unit drops its test methods and the test classes of its project, a change of the
+ * project structure or classpath drops everything indexed for the project.
+ */
+@Singleton
+public class JavaTestIndex implements IElementChangedListener {
+
+  private static final int PROJECT_STRUCTURE_CHANGE =
+      IJavaElementDelta.F_CLASSPATH_CHANGED
+          | IJavaElementDelta.F_RESOLVED_CLASSPATH_CHANGED
+          | IJavaElementDelta.F_OPENED
+          | IJavaElementDelta.F_CLOSED
+          | IJavaElementDelta.F_ADDED_TO_CLASSPATH
+          | IJavaElementDelta.F_REMOVED_FROM_CLASSPATH
+          | IJavaElementDelta.F_ARCHIVE_CONTENT_CHANGED
+          | IJavaElementDelta.F_REORDER;
+
+  private final ConcurrentMap<String, CompilationUnitTests> compilationUnits =
+      new ConcurrentHashMap<>();
+  private final ConcurrentMap<String, Map<String, List<String>>> projectClasses =
+      new ConcurrentHashMap<>();
+  /** Incremented on each invalidation, results computed before it are not indexed. */
+  private final AtomicLong generation = new AtomicLong();
+
+  public JavaTestIndex() {
+    JavaCore.addElementChangedListener(
+        this, ElementChangedEvent.POST_CHANGE | ElementChangedEvent.POST_RECONCILE);
+  }
+
+  @PreDestroy
+  public void stop() {
+    JavaCore.removeElementChangedListener(this);
+  }
+
+  /**
+   * Returns test methods of the compilation unit, scans the compilation unit only if it is not
+   * indexed for the framework yet or it was changed since it was indexed.
+   *
+   * @param compilationUnit compilation unit to find tests in
+   * @param frameworkName name of the test framework, test methods are indexed per framework
+   * @param isTest checks whether the method of the compilation unit is a test method
+   * @return test methods in the order they are declared
+   */
+  List<TestMethodPosition> getTestMethods(
+      ICompilationUnit compilationUnit,
+      String frameworkName,
+      BiPredicate<IMethod, ICompilationUnit> isTest)
+      throws JavaModelException {
+    final String handle = compilationUnit.getHandleIdentifier();
+    final long modificationStamp = getModificationStamp(compilationUnit);
+    final long scanGeneration = generation.get();
+
+    CompilationUnitTests entry = compilationUnits.get(handle);
+    if (entry != null && entry.modificationStamp == modificationStamp) {
+      final List<TestMethodPosition> tests = entry.tests.get(frameworkName);
+      if (tests != null) {
+        return tests;
+      }
+    }
+
+    final List<TestMethodPosition> tests = scanTestMethods(compilationUnit, isTest);
+    if (modificationStamp != IResource.NULL_STAMP) {
+      synchronized (this) {
+        if (generation.get() == scanGeneration) {
+          compilationUnits
+              .compute(
+                  handle,
+                  (key, existing) ->
+                      existing == null || existing.modificationStamp != modificationStamp
+                          ? new CompilationUnitTests(
+                              compilationUnit.getJavaProject().getElementName(), modificationStamp)
+                          : existing)
+              .tests
+              .put(frameworkName, tests);
+        }
+      }
+    }
+    return tests;
+  }
+
+  /**
+   * Returns test classes of the project, runs the scanner only if the project is not indexed for
+   * the given annotations yet or it was changed since it was indexed.
+   *
+   * @param project java project
+   * @param annotationsKey identifies the test annotations the scanner searches for
+   * @param scanner finds fully qualified names of the project test classes, returns {@code null} if
+   *     the project can't be scanned
+   */
+  List<String> getTestClasses(
+      IJavaProject project, String annotationsKey, Supplier<List<String>> scanner) {
+    final String projectName = project.getElementName();
+    final long scanGeneration = generation.get();
+
+    final Map<String, List<String>> indexed = projectClasses.get(projectName);
+    if (indexed != null) {
+      final List<String> classes = indexed.get(annotationsKey);
+      if (classes != null) {
+        return classes;
+      }
+    }
+
+    final List<String> scanned = scanner.get();
+    if (scanned == null) {
+      return emptyList();
+    }
+    final List<String> classes = unmodifiableList(new ArrayList<>(scanned));
+    synchronized (this) {
+      if (generation.get() == scanGeneration) {
+        projectClasses
+            .computeIfAbsent(projectName, key -> new ConcurrentHashMap<>())
+            .put(annotationsKey, classes);
+      }
+    }
+    return classes;
+  }
+
+  @Override
+  public void elementChanged(ElementChangedEvent event) {
+    processDelta(event.getDelta());
+  }
+
+  private void processDelta(IJavaElementDelta delta) {
+    final IJavaElement element = delta.getElement();
+    switch (element.getElementType()) {
+      case IJavaElement.JAVA_MODEL:
+        break;
+      case IJavaElement.JAVA_PROJECT:
+      case IJavaElement.PACKAGE_FRAGMENT_ROOT:
+      case IJavaElement.PACKAGE_FRAGMENT:
+        if (delta.getKind() != IJavaElementDelta.CHANGED
+            || (delta.getFlags() & PROJECT_STRUCTURE_CHANGE) != 0) {
+          invalidateProject(element.getJavaProject().getElementName());
+          return;
+        }
+        break;
+      case IJavaElement.COMPILATION_UNIT:
+        invalidateCompilationUnit((ICompilationUnit) element);
+        return;
+      default:
+        return;
+    }
+    for (IJavaElementDelta child : delta.getAffectedChildren()) {
+      processDelta(child);
+    }
+  }
+
+  private synchronized void invalidateCompilationUnit(ICompilationUnit compilationUnit) {
+    generation.incrementAndGet();
+    compilationUnits.remove(compilationUnit.getHandleIdentifier());
+    // test classes include subclasses of test classes, so any change may affect them
+    projectClasses.remove(compilationUnit.getJavaProject().getElementName());
+  }
+
+  private synchronized void invalidateProject(String projectName) {
+    generation.incrementAndGet();
+    compilationUnits.values().removeIf(entry -> entry.projectName.equals(projectName));
+    projectClasses.remove(projectName);
+  }
+
+  private static long getModificationStamp(ICompilationUnit compilationUnit) {
+    final IResource resource = compilationUnit.getResource();
+    return resource == null ? IResource.NULL_STAMP : resource.getModificationStamp();
+  }
+
+  private static List<TestMethodPosition> scanTestMethods(
+      ICompilationUnit compilationUnit, BiPredicate<IMethod, ICompilationUnit> isTest)
+      throws JavaModelException {
+    final List<TestMethodPosition> tests = new ArrayList<>();
+    for (IType type : compilationUnit.getAllTypes()) {
+      for (IMethod method : type.getMethods()) {
+        if (isTest.test(method, compilationUnit)) {
+          tests.add(new TestMethodPosition(method));
+        }
+      }
+    }
+    return unmodifiableList(tests);
+  }
+
+  private static class CompilationUnitTests {
+    final String projectName;
+    final long modificationStamp;
+    final Map<String, List<TestMethodPosition>> tests = new ConcurrentHashMap<>();
+
+    CompilationUnitTests(String projectName, long modificationStamp) {
+      this.projectName = projectName;
+      this.modificationStamp = modificationStamp;
+    }
+  }
+
+  /** Position of the test method in the source of the compilation unit. */
+  static class TestMethodPosition {
+    final String name;
+    final int nameOffset;
+    final int nameLength;
+    final int bodyLength;
+
+    TestMethodPosition(IMethod method) throws JavaModelException {
+      final ISourceRange nameRange = method.getNameRange();
+      this.name = method.getElementName();
+      this.nameOffset = nameRange.getOffset();
+      this.nameLength = nameRange.getLength();
+      this.bodyLength = method.getSourceRange().getLength();
+    }
+  }
+}
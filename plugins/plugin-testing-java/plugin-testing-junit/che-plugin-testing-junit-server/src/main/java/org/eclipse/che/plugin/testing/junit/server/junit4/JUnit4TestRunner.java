@@ -60,7 +60,25 @@ public class JUnit4TestRunner extends AbstractJavaTestRunner {
   public ProcessHandler execute(TestExecutionContext context) {
     IJavaProject javaProject = getJavaProject(context.getProjectPath());
     if (javaProject.exists()) {
-      return startTestProcess(javaProject, context);
+      return startTestProcess(javaProject, context, findTests(context, javaProject));
+    }
+
+    return null;
+  }
+
+  @Override
+  public List<String> findTestClasses(TestExecutionContext context) {
+    return findTestClasses(
+        context,
+        JavaTestAnnotations.JUNIT4X_TEST.getName(),
+        JavaTestAnnotations.JUNIT4X_RUN_WITH.getName());
+  }
+
+  @Override
+  public ProcessHandler execute(TestExecutionContext context, List<String> testClasses) {
+    IJavaProject javaProject = getJavaProject(context.getProjectPath());
+    if (javaProject.exists()) {
+      return startTestProcess(javaProject, context, testClasses);
     }
 
     return null;
@@ -94,7 +112,16 @@ public class JUnit4TestRunner extends AbstractJavaTestRunner {
     }
   }
 
-  private ProcessHandler startTestProcess(IJavaProject javaProject, TestExecutionContext context) {
+  private List<String> findTests(TestExecutionContext context, IJavaProject javaProject) {
+    return findTests(
+        context,
+        javaProject,
+        JavaTestAnnotations.JUNIT4X_TEST.getName(),
+        JavaTestAnnotations.JUNIT4X_RUN_WITH.getName());
+  }
+
+  private ProcessHandler startTestProcess(
+      IJavaProject javaProject, TestExecutionContext context, List<String> suite) {
     JavaParameters parameters = new JavaParameters();
     parameters.setJavaExecutable(System.getProperty("java.home") + "/bin/java");
     parameters.setMainClassName(MAIN_CLASS_NAME);
@@ -106,12 +133,6 @@ public class JUnit4TestRunner extends AbstractJavaTestRunner {
     classPath.add(ClasspathUtil.getJarPathForClass(CheJUnitCoreRunner.class));
     parameters.getClassPath().addAll(classPath);
 
-    List<String> suite =
-        findTests(
-            context,
-            javaProject,
-            JavaTestAnnotations.JUNIT4X_TEST.getName(),
-            JavaTestAnnotations.JUNIT4X_RUN_WITH.getName());
     for (String element : suite) {
       parameters.getParametersList().add(element);
     }
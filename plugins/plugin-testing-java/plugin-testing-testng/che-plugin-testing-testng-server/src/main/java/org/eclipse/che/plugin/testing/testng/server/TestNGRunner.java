@@ -11,6 +11,7 @@
 package org.eclipse.che.plugin.testing.testng.server;
 
 import static com.google.common.base.Strings.isNullOrEmpty;
+import static java.util.Collections.emptyList;
 import static java.util.Collections.emptyMap;
 import static java.util.Collections.singletonList;
 
@@ -18,6 +19,7 @@ import com.beust.jcommander.JCommander;
 import com.google.inject.name.Named;
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -77,14 +79,51 @@ public class TestNGRunner extends AbstractJavaTestRunner {
   public ProcessHandler execute(TestExecutionContext context) {
     IJavaProject javaProject = getJavaProject(context.getProjectPath());
     if (javaProject.exists()) {
-      return startTestProcess(javaProject, context);
+      return startTestProcess(javaProject, context, createSuite(context, javaProject));
     }
 
     return null;
   }
 
-  private ProcessHandler startTestProcess(IJavaProject javaProject, TestExecutionContext context) {
-    File suiteFile = createSuite(context, javaProject);
+  @Override
+  public List<String> findTestClasses(TestExecutionContext context) {
+    String filePath = context.getFilePath();
+    if (!isNullOrEmpty(filePath) && filePath.endsWith(".xml")) {
+      return emptyList();
+    }
+    return findTestClasses(context, JavaTestAnnotations.TESTNG_TEST.getName(), "");
+  }
+
+  @Override
+  @Nullable
+  public ProcessHandler execute(TestExecutionContext context, List<String> testClasses) {
+    IJavaProject javaProject = getJavaProject(context.getProjectPath());
+    if (!javaProject.exists()) {
+      return null;
+    }
+    // processes run concurrently, so each one needs its own suite file
+    File suiteDirectory;
+    try {
+      suiteDirectory =
+          Files.createTempDirectory(
+                  new File(System.getProperty(JAVA_IO_TMPDIR)).toPath(), "che-testng-shard")
+              .toFile();
+      suiteDirectory.deleteOnExit();
+    } catch (IOException e) {
+      LOG.error("Can't create TestNG suite directory", e);
+      return null;
+    }
+    File suiteFile =
+        suiteUtil.writeSuite(
+            suiteDirectory.getAbsolutePath(),
+            javaProject.getElementName(),
+            createContainerSuite(testClasses));
+    suiteFile.deleteOnExit();
+    return startTestProcess(javaProject, context, suiteFile);
+  }
+
+  private ProcessHandler startTestProcess(
+      IJavaProject javaProject, TestExecutionContext context, File suiteFile) {
     if (suiteFile == null) {
       throw new RuntimeException("Can't create TestNG suite xml file.");
     }
@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2012-2017 Red Hat, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.ecipse.che.plugin.testing.testng.server;
+
+import static java.util.Collections.singletonList;
+import static org.ecipse.che.plugin.testing.testng.server.TestSetUpUtil.addSourceContainer;
+import static org.ecipse.che.plugin.testing.testng.server.TestSetUpUtil.createJavaProject;
+import static org.ecipse.che.plugin.testing.testng.server.TestSetUpUtil.getTestNgClassPath;
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.util.List;
+import org.eclipse.che.api.project.server.type.AttributeValue;
+import org.eclipse.che.api.testing.shared.TestDetectionContext;
+import org.eclipse.che.api.testing.shared.TestPosition;
+import org.eclipse.che.dto.server.DtoFactory;
+import org.eclipse.che.plugin.java.testing.JavaTestAnnotations;
+import org.eclipse.che.plugin.java.testing.JavaTestFinder;
+import org.eclipse.che.plugin.java.testing.JavaTestIndex;
+import org.eclipse.che.plugin.testing.testng.server.TestNGRunner;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.JavaCore;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/** Tests for {@link JavaTestIndex}. */
+public class JavaTestIndexTest extends BaseTest {
+
+  private static final String PROJECT = "testIndex";
+  private static final int TEST_CLASSES = 5_000;
+
+  private IJavaProject javaProject;
+  private IPackageFragment packageFragment;
+  private JavaTestIndex testIndex;
+  private JavaTestFinder testFinder;
+  private TestNGRunner runner;
+
+  @BeforeMethod
+  public void setUp() throws Exception {
+    javaProject = createJavaProject(PROJECT, "bin");
+    IPackageFragmentRoot packageFragmentRoot = addSourceContainer(javaProject, "src", "bin");
+    javaProject.setRawClasspath(getTestNgClassPath('/' + PROJECT + "/src"), null);
+    projectRegistry
+        .getProject(PROJECT)
+        .getAttributeEntries()
+        .put("language", new AttributeValue(singletonList(JavaCore.NATURE_ID)));
+    packageFragment = packageFragmentRoot.createPackageFragment("test", false, null);
+
+    testIndex = new JavaTestIndex();
+    testFinder = new JavaTestFinder(testIndex);
+    runner = new TestNGRunner("", testFinder, null, null);
+  }
+
+  @AfterMethod
+  public void tearDown() throws Exception {
+    testIndex.stop();
+    if (javaProject != null) {
+      TestSetUpUtil.delete(javaProject);
+    }
+  }
+
+  @Test
+  public void indexedLookupsShouldBeFasterThanColdScans() throws Exception {
+    for (int i = 0; i < TEST_CLASSES; i++) {
+      packageFragment.createCompilationUnit(
+          "T" + i + ".java", testClass("T" + i, "foo", "bar"), false, null);
+    }
+
+    long start = System.nanoTime();
+    List<String> coldClasses = findTestClasses();
+    int coldPositions = detectAllTests();
+    long coldTime = System.nanoTime() - start;
+
+    start = System.nanoTime();
+    List<String> indexedClasses = findTestClasses();
+    int indexedPositions = detectAllTests();
+    long indexedTime = System.nanoTime() - start;
+
+    assertThat(coldClasses).hasSize(TEST_CLASSES);
+    assertThat(indexedClasses).isEqualTo(coldClasses);
+    assertThat(coldPositions).isEqualTo(2 * TEST_CLASSES);
+    assertThat(indexedPositions).isEqualTo(coldPositions);
+    assertThat(indexedTime)
+        .overridingErrorMessage(
+            String.format(
+                "Cold scans took %d ms, indexed lookups took %d ms",
+                coldTime / 1_000_000, indexedTime / 1_000_000))
+        .isLessThan(coldTime);
+  }
+
+  @Test
+  public void changedCompilationUnitShouldBeRescanned() throws Exception {
+    packageFragment.createCompilationUnit("T.java", testClass("T", "foo"), false, null);
+    assertThat(detectTests("T")).hasSize(1);
+
+    packageFragment.createCompilationUnit("T.java", testClass("T", "foo", "bar"), true, null);
+
+    List<TestPosition> positions = detectTests("T");
+    assertThat(positions).hasSize(2);
+    assertThat(positions.get(1).getTestName()).isEqualTo("bar");
+  }
+
+  @Test
+  public void testClassesShouldBeRescannedWhenClassIsAdded() throws Exception {
+    packageFragment.createCompilationUnit("A.java", testClass("A", "foo"), false, null);
+    assertThat(findTestClasses()).containsOnly("test.A");
+
+    packageFragment.createCompilationUnit("B.java", testClass("B", "foo"), false, null);
+
+    assertThat(findTestClasses()).containsOnly("test.A", "test.B");
+  }
+
+  private List<String> findTestClasses() {
+    return testFinder.findClassesInProject(
+        javaProject, JavaTestAnnotations.TESTNG_TEST.getName(), "");
+  }
+
+  private int detectAllTests() {
+    int positions = 0;
+    for (int i = 0; i < TEST_CLASSES; i++) {
+      positions += detectTests("T" + i).size();
+    }
+    return positions;
+  }
+
+  private List<TestPosition> detectTests(String className) {
+    TestDetectionContext context = DtoFactory.newDto(TestDetectionContext.class);
+    context.setProjectPath('/' + PROJECT);
+    context.setFilePath('/' + PROJECT + "/src/test/" + className + ".java");
+    context.setOffset(-1);
+    return runner.detectTests(context);
+  }
+
+  private static String testClass(String name, String... testMethods) {
+    StringBuilder source = new StringBuilder();
+    source.append("package test;\n");
+    source.append("import org.testng.annotations.Test;\n");
+    source.append("public class ").append(name).append(" {\n");
+    for (String testMethod : testMethods) {
+      source.append("    @Test\n");
+      source.append("    public void ").append(testMethod).append("() {\n");
+      source.append("    }\n");
+    }
+    source.append("    public void helper() {\n");
+    source.append("    }\n");
+    source.append("}\n");
+    return source.toString();
+  }
+}
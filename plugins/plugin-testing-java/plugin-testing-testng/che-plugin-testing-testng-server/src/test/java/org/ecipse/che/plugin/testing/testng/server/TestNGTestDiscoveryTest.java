@@ -24,6 +24,7 @@ import org.eclipse.che.api.project.server.RegisteredProject;
 import org.eclipse.che.api.testing.shared.TestDetectionContext;
 import org.eclipse.che.api.testing.shared.TestPosition;
 import org.eclipse.che.plugin.java.testing.JavaTestFinder;
+import org.eclipse.che.plugin.java.testing.JavaTestIndex;
 import org.eclipse.che.plugin.testing.testng.server.TestNGRunner;
 import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.IJavaProject;
@@ -38,13 +39,15 @@ import org.testng.annotations.Test;
 public class TestNGTestDiscoveryTest extends BaseTest {
 
   private IJavaProject javaProject;
+  private JavaTestIndex testIndex;
   private JavaTestFinder testNGTestFinder;
   private IPackageFragment packageFragment;
 
   @BeforeMethod
   public void setUp() throws Exception {
     javaProject = createJavaProject("testDiscovery", "bin");
-    testNGTestFinder = new JavaTestFinder();
+    testIndex = new JavaTestIndex();
+    testNGTestFinder = new JavaTestFinder(testIndex);
     IPackageFragmentRoot packageFragmentRoot = addSourceContainer(javaProject, "src", "bin");
     javaProject.setRawClasspath(getTestNgClassPath("/testDiscovery/src"), null);
 
@@ -57,6 +60,7 @@ public class TestNGTestDiscoveryTest extends BaseTest {
 
   @AfterMethod
   public void tearDown() throws Exception {
+    testIndex.stop();
     if (javaProject != null) {
       TestSetUpUtil.delete(javaProject);
     }
@@ -63,6 +63,12 @@ public class TestingHandler implements TestingMessageVisitor {
         .paramsAsString()
         .noResult()
         .withConsumer(this::handleTestingMessage);
+    configurator
+        .newConfiguration()
+        .methodName(Constants.TESTING_RPC_BATCH_METHOD_NAME)
+        .paramsAsListOfString()
+        .noResult()
+        .withConsumer(messages -> messages.forEach(this::handleTestingMessage));
   }
 
   private void handleTestingMessage(String jsonMessage) {
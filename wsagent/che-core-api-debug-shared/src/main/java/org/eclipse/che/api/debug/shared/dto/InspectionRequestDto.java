@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2012-2017 Red Hat, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.api.debug.shared.dto;
+
+import org.eclipse.che.dto.shared.DTO;
+
+/**
+ * Request for a page of threads, frames or nested variables of the suspended process, see
+ * `debugger/threads`, `debugger/frames` and `debugger/value` JSON RPC methods.
+ */
+@DTO
+public interface InspectionRequestDto {
+
+  /** Returns the debug session id. */
+  String getSessionId();
+
+  void setSessionId(String sessionId);
+
+  InspectionRequestDto withSessionId(String sessionId);
+
+  /** Returns the unique thread id. */
+  long getThreadId();
+
+  void setThreadId(long threadId);
+
+  InspectionRequestDto withThreadId(long threadId);
+
+  /** Returns the frame index inside thread. */
+  int getFrameIndex();
+
+  void setFrameIndex(int frameIndex);
+
+  InspectionRequestDto withFrameIndex(int frameIndex);
+
+  /** Returns the path to the variable to get the value of. */
+  VariablePathDto getVariablePath();
+
+  void setVariablePath(VariablePathDto variablePath);
+
+  InspectionRequestDto withVariablePath(VariablePathDto variablePath);
+
+  /** Returns the index of the first item of the page. */
+  int getStart();
+
+  void setStart(int start);
+
+  InspectionRequestDto withStart(int start);
+
+  /** Returns the maximum number of items in the page. */
+  int getCount();
+
+  void setCount(int count);
+
+  InspectionRequestDto withCount(int count);
+}
@@ -10,8 +10,10 @@
  */
 package org.eclipse.che.api.debugger.server;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.stream.Collectors;
 import org.eclipse.che.api.debug.shared.model.Breakpoint;
 import org.eclipse.che.api.debug.shared.model.DebuggerInfo;
 import org.eclipse.che.api.debug.shared.model.Location;
@@ -29,6 +31,8 @@ import org.eclipse.che.api.debug.shared.model.event.BreakpointActivatedEvent;
 import org.eclipse.che.api.debug.shared.model.event.DebuggerEvent;
 import org.eclipse.che.api.debug.shared.model.event.DisconnectEvent;
 import org.eclipse.che.api.debug.shared.model.event.SuspendEvent;
+import org.eclipse.che.api.debug.shared.model.impl.SimpleValueImpl;
+import org.eclipse.che.api.debug.shared.model.impl.ThreadStateImpl;
 import org.eclipse.che.api.debugger.server.exceptions.DebuggerException;
 
 /**
@@ -244,6 +248,76 @@ public interface Debugger {
     return Collections.emptyList();
   }
 
+  /**
+   * Gets threads without their frames. Frames of a thread can be fetched page by page with {@link
+   * #getStackFrames(long, int, int)}.
+   *
+   * @return threads of the process, {@link ThreadState#getFrames()} of each thread is empty
+   * @throws DebuggerException if any error occur
+   */
+  default List<ThreadState> getThreads() throws DebuggerException {
+    return getThreadDump()
+        .stream()
+        .map(
+            t ->
+                new ThreadStateImpl(
+                    t.getId(),
+                    t.getName(),
+                    t.getGroupName(),
+                    t.getStatus(),
+                    t.isSuspended(),
+                    Collections.emptyList()))
+        .collect(Collectors.toList());
+  }
+
+  /**
+   * Gets a page of frames of the thread. Fields and variables of the frames are not included, use
+   * {@link #getStackFrameDump(long, int)} to get them.
+   *
+   * @param threadId the unique thread id
+   * @param start the index of the first frame of the page
+   * @param count the maximum number of frames in the page
+   * @return frames of the page, empty list if the thread has no more frames
+   * @throws DebuggerException if any error occur
+   */
+  default List<StackFrameDump> getStackFrames(long threadId, int start, int count)
+      throws DebuggerException {
+    for (ThreadState thread : getThreadDump()) {
+      if (thread.getId() == threadId) {
+        List<? extends StackFrameDump> frames = thread.getFrames();
+        int from = Math.min(Math.max(start, 0), frames.size());
+        int to = Math.min(from + Math.max(count, 0), frames.size());
+        return new ArrayList<>(frames.subList(from, to));
+      }
+    }
+    throw new DebuggerException(String.format("Thread '%d' not found.", threadId));
+  }
+
+  /**
+   * Gets the value of the given variable with a page of its nested variables, e.g. fields of an
+   * object or elements of an array.
+   *
+   * @param variablePath the path to the variable
+   * @param threadId the unique thread id
+   * @param frameIndex the frame index inside thread
+   * @param start the index of the first nested variable of the page
+   * @param count the maximum number of nested variables in the page
+   * @return {@link SimpleValue} or {@code null} if variable not found
+   * @throws DebuggerException if any error occur
+   */
+  default SimpleValue getValue(
+      VariablePath variablePath, long threadId, int frameIndex, int start, int count)
+      throws DebuggerException {
+    SimpleValue value = getValue(variablePath, threadId, frameIndex);
+    if (value == null) {
+      return null;
+    }
+    List<? extends Variable> variables = value.getVariables();
+    int from = Math.min(Math.max(start, 0), variables.size());
+    int to = Math.min(from + Math.max(count, 0), variables.size());
+    return new SimpleValueImpl(new ArrayList<>(variables.subList(from, to)), value.getString());
+  }
+
   /** Is used to send back any events to client. */
   interface DebuggerCallback {
     void onEvent(DebuggerEvent event);
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2012-2017 Red Hat, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.api.debugger.server;
+
+import static java.lang.String.format;
+import static java.util.stream.Collectors.toList;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.inject.Singleton;
+import java.util.List;
+import javax.inject.Inject;
+import org.eclipse.che.api.core.jsonrpc.commons.JsonRpcException;
+import org.eclipse.che.api.core.jsonrpc.commons.RequestHandlerConfigurator;
+import org.eclipse.che.api.debug.shared.dto.InspectionRequestDto;
+import org.eclipse.che.api.debug.shared.dto.SimpleValueDto;
+import org.eclipse.che.api.debug.shared.dto.StackFrameDumpDto;
+import org.eclipse.che.api.debug.shared.dto.ThreadStateDto;
+import org.eclipse.che.api.debug.shared.dto.VariablePathDto;
+import org.eclipse.che.api.debug.shared.model.SimpleValue;
+import org.eclipse.che.api.debug.shared.model.impl.VariablePathImpl;
+import org.eclipse.che.api.debugger.server.exceptions.DebuggerException;
+
+/**
+ * Provides paged inspection of the suspended process over JSON RPC. Threads are sent without
+ * frames, frames are sent without variables and nested variables of a value are sent page by page,
+ * so the client fetches only what is shown to the user.
+ */
+@Singleton
+public class DebuggerJsonRpcService {
+  private static final String DEBUGGER_THREADS = "debugger/threads";
+  private static final String DEBUGGER_FRAMES = "debugger/frames";
+  private static final String DEBUGGER_VALUE = "debugger/value";
+
+  private final DebuggerManager debuggerManager;
+
+  @Inject
+  public DebuggerJsonRpcService(DebuggerManager debuggerManager) {
+    this.debuggerManager = debuggerManager;
+  }
+
+  @Inject
+  private void configureThreadsHandler(RequestHandlerConfigurator configurator) {
+    configurator
+        .newConfiguration()
+        .methodName(DEBUGGER_THREADS)
+        .paramsAsDto(InspectionRequestDto.class)
+        .resultAsListOfDto(ThreadStateDto.class)
+        .withFunction(this::getThreads);
+  }
+
+  @Inject
+  private void configureFramesHandler(RequestHandlerConfigurator configurator) {
+    configurator
+        .newConfiguration()
+        .methodName(DEBUGGER_FRAMES)
+        .paramsAsDto(InspectionRequestDto.class)
+        .resultAsListOfDto(StackFrameDumpDto.class)
+        .withFunction(this::getStackFrames);
+  }
+
+  @Inject
+  private void configureValueHandler(RequestHandlerConfigurator configurator) {
+    configurator
+        .newConfiguration()
+        .methodName(DEBUGGER_VALUE)
+        .paramsAsDto(InspectionRequestDto.class)
+        .resultAsDto(SimpleValueDto.class)
+        .withFunction(this::getValue);
+  }
+
+  @VisibleForTesting
+  List<ThreadStateDto> getThreads(InspectionRequestDto request) {
+    try {
+      return debuggerManager
+          .getDebugger(request.getSessionId())
+          .getThreads()
+          .stream()
+          .map(DtoConverter::asDto)
+          .collect(toList());
+    } catch (DebuggerException e) {
+      throw new JsonRpcException(500, e.getMessage());
+    }
+  }
+
+  @VisibleForTesting
+  List<StackFrameDumpDto> getStackFrames(InspectionRequestDto request) {
+    try {
+      return debuggerManager
+          .getDebugger(request.getSessionId())
+          .getStackFrames(request.getThreadId(), request.getStart(), request.getCount())
+          .stream()
+          .map(DtoConverter::asDto)
+          .collect(toList());
+    } catch (DebuggerException e) {
+      throw new JsonRpcException(500, e.getMessage());
+    }
+  }
+
+  @VisibleForTesting
+  SimpleValueDto getValue(InspectionRequestDto request) {
+    VariablePathDto variablePath = request.getVariablePath();
+    if (variablePath == null
+        || variablePath.getPath() == null
+        || variablePath.getPath().isEmpty()) {
+      throw new JsonRpcException(400, "Variable path required");
+    }
+    try {
+      SimpleValue value =
+          debuggerManager
+              .getDebugger(request.getSessionId())
+              .getValue(
+                  new VariablePathImpl(variablePath.getPath()),
+                  request.getThreadId(),
+                  request.getFrameIndex(),
+                  request.getStart(),
+                  request.getCount());
+      if (value == null) {
+        throw new JsonRpcException(
+            404, format("Variable '%s' not found", String.join(".", variablePath.getPath())));
+      }
+      return DtoConverter.asDto(value);
+    } catch (DebuggerException e) {
+      throw new JsonRpcException(500, e.getMessage());
+    }
+  }
+}
@@ -28,6 +28,7 @@ public class DebuggerModule extends AbstractModule {
     bind(DebuggerService.class);
     bind(DebuggerWebSocketMessenger.class);
     bind(DebuggerJsonRpcMessenger.class);
+    bind(DebuggerJsonRpcService.class);
 
     bind(DebuggerActionProvider.class);
     Multibinder.newSetBinder(binder(), DebuggerFactory.class);
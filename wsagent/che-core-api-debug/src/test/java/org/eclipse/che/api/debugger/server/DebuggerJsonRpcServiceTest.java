@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2012-2017 Red Hat, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.api.debugger.server;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.eclipse.che.dto.server.DtoFactory.newDto;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.fail;
+
+import java.util.List;
+import org.eclipse.che.api.core.jsonrpc.commons.JsonRpcException;
+import org.eclipse.che.api.debug.shared.dto.InspectionRequestDto;
+import org.eclipse.che.api.debug.shared.dto.SimpleValueDto;
+import org.eclipse.che.api.debug.shared.dto.ThreadStateDto;
+import org.eclipse.che.api.debug.shared.dto.VariablePathDto;
+import org.eclipse.che.api.debug.shared.model.ThreadStatus;
+import org.eclipse.che.api.debug.shared.model.impl.SimpleValueImpl;
+import org.eclipse.che.api.debug.shared.model.impl.ThreadStateImpl;
+import org.eclipse.che.api.debug.shared.model.impl.VariableImpl;
+import org.eclipse.che.api.debug.shared.model.impl.VariablePathImpl;
+import org.eclipse.che.api.debugger.server.exceptions.DebuggerException;
+import org.mockito.Mock;
+import org.mockito.testng.MockitoTestNGListener;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Listeners;
+import org.testng.annotations.Test;
+
+/** Tests {@link DebuggerJsonRpcService}. */
+@Listeners(MockitoTestNGListener.class)
+public class DebuggerJsonRpcServiceTest {
+  private static final String SESSION_ID = "session";
+
+  @Mock private DebuggerManager debuggerManager;
+  @Mock private Debugger debugger;
+
+  private DebuggerJsonRpcService service;
+
+  @BeforeMethod
+  public void setUp() throws Exception {
+    when(debuggerManager.getDebugger(SESSION_ID)).thenReturn(debugger);
+    service = new DebuggerJsonRpcService(debuggerManager);
+  }
+
+  @Test
+  public void shouldReturnThreadsWithoutFrames() throws Exception {
+    when(debugger.getThreads())
+        .thenReturn(
+            singletonList(
+                new ThreadStateImpl(1, "main", "main", ThreadStatus.RUNNING, true, emptyList())));
+
+    List<ThreadStateDto> threads =
+        service.getThreads(newDto(InspectionRequestDto.class).withSessionId(SESSION_ID));
+
+    assertEquals(threads.size(), 1);
+    assertEquals(threads.get(0).getId(), 1);
+    assertEquals(threads.get(0).getFrames(), emptyList());
+  }
+
+  @Test
+  public void shouldReturnPageOfNestedVariables() throws Exception {
+    VariablePathImpl path = new VariablePathImpl(asList("array", "[5]"));
+    when(debugger.getValue(new VariablePathImpl(singletonList("array")), 1, 0, 5, 1))
+        .thenReturn(
+            new SimpleValueImpl(
+                singletonList(new VariableImpl("int", "[5]", new SimpleValueImpl("5"), true, path)),
+                "int[10]"));
+
+    SimpleValueDto value = service.getValue(newRequest(singletonList("array"), 5, 1));
+
+    assertEquals(value.getString(), "int[10]");
+    assertEquals(value.getVariables().size(), 1);
+    assertEquals(value.getVariables().get(0).getName(), "[5]");
+  }
+
+  @Test
+  public void shouldRespondWithBadRequestWhenVariablePathIsMissing() throws Exception {
+    try {
+      service.getValue(newDto(InspectionRequestDto.class).withSessionId(SESSION_ID));
+      fail("Expected error is not thrown");
+    } catch (JsonRpcException e) {
+      assertEquals(e.getCode(), 400);
+    }
+    verifyZeroInteractions(debugger);
+  }
+
+  @Test
+  public void shouldRespondWithBadRequestWhenVariablePathIsEmpty() throws Exception {
+    try {
+      service.getValue(newRequest(emptyList(), 0, 10));
+      fail("Expected error is not thrown");
+    } catch (JsonRpcException e) {
+      assertEquals(e.getCode(), 400);
+    }
+    verifyZeroInteractions(debugger);
+  }
+
+  @Test
+  public void shouldRespondWithNotFoundWhenVariableDoesNotExist() throws Exception {
+    try {
+      service.getValue(newRequest(asList("this", "unknown"), 0, 10));
+      fail("Expected error is not thrown");
+    } catch (JsonRpcException e) {
+      assertEquals(e.getCode(), 404);
+    }
+    verify(debugger).getValue(any(), anyLong(), anyInt(), anyInt(), anyInt());
+  }
+
+  @Test
+  public void shouldRespondWithServerErrorWhenDebuggerFails() throws Exception {
+    when(debugger.getValue(any(), anyLong(), anyInt(), anyInt(), anyInt()))
+        .thenThrow(new DebuggerException("Thread is not suspended"));
+
+    try {
+      service.getValue(newRequest(singletonList("var"), 0, 10));
+      fail("Expected error is not thrown");
+    } catch (JsonRpcException e) {
+      assertEquals(e.getCode(), 500);
+    }
+  }
+
+  private static InspectionRequestDto newRequest(List<String> path, int start, int count) {
+    return newDto(InspectionRequestDto.class)
+        .withSessionId(SESSION_ID)
+        .withThreadId(1)
+        .withFrameIndex(0)
+        .withVariablePath(newDto(VariablePathDto.class).withPath(path))
+        .withStart(start)
+        .withCount(count);
+  }
+}
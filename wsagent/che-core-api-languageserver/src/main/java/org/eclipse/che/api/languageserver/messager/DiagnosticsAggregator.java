@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2012-2017 Red Hat, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.api.languageserver.messager;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.eclipse.che.api.languageserver.shared.model.ExtendedPublishDiagnosticsParams;
+
+/**
+ * Accumulates diagnostics published by language servers, keeping only the latest diagnostics of
+ * each document per language server. Each notification replaces the whole set of the document
+ * diagnostics, so the previous ones are of no use once the new ones arrive.
+ *
+ * <p>Instances are thread safe.
+ */
+class DiagnosticsAggregator {
+  private final Map<String, ExtendedPublishDiagnosticsParams> pending = new LinkedHashMap<>();
+
+  private long firstChangeTime;
+  private long lastChangeTime;
+
+  synchronized void add(ExtendedPublishDiagnosticsParams diagnostics, long time) {
+    if (pending.isEmpty()) {
+      firstChangeTime = time;
+    }
+    lastChangeTime = time;
+    pending.put(
+        diagnostics.getLanguageServerId() + '\n' + diagnostics.getParams().getUri(), diagnostics);
+  }
+
+  /**
+   * Returns {@code true} when there are pending diagnostics and no new diagnostics were added
+   * during {@code quietPeriod}, or pending diagnostics are older than {@code maxDelay}.
+   */
+  synchronized boolean isReady(long now, long quietPeriod, long maxDelay) {
+    return !pending.isEmpty()
+        && (now - lastChangeTime >= quietPeriod || now - firstChangeTime >= maxDelay);
+  }
+
+  /** Returns the latest diagnostics in the order documents were first reported and resets. */
+  synchronized List<ExtendedPublishDiagnosticsParams> drain() {
+    final List<ExtendedPublishDiagnosticsParams> diagnostics = new ArrayList<>(pending.values());
+    pending.clear();
+    return diagnostics;
+  }
+}
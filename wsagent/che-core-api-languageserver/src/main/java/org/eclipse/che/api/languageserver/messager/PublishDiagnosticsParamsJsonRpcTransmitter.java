@@ -10,40 +10,88 @@
  */
 package org.eclipse.che.api.languageserver.messager;
 
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.stream.Collectors.toList;
+import static org.slf4j.LoggerFactory.getLogger;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.util.List;
 import java.util.Set;
 import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import javax.annotation.PreDestroy;
 import javax.inject.Inject;
+import javax.inject.Named;
 import javax.inject.Singleton;
+import org.eclipse.che.api.core.jsonrpc.commons.JsonRpcMarshaller;
+import org.eclipse.che.api.core.jsonrpc.commons.JsonRpcParams;
+import org.eclipse.che.api.core.jsonrpc.commons.JsonRpcRequest;
 import org.eclipse.che.api.core.jsonrpc.commons.RequestHandlerConfigurator;
-import org.eclipse.che.api.core.jsonrpc.commons.RequestTransmitter;
 import org.eclipse.che.api.core.notification.EventService;
+import org.eclipse.che.api.core.websocket.commons.WebSocketMessageTransmitter;
 import org.eclipse.che.api.languageserver.server.dto.DtoServerImpls.ExtendedPublishDiagnosticsParamsDto;
 import org.eclipse.che.api.languageserver.shared.model.ExtendedPublishDiagnosticsParams;
+import org.eclipse.che.commons.lang.concurrent.LoggingUncaughtExceptionHandler;
 import org.eclipse.lsp4j.PublishDiagnosticsParams;
+import org.slf4j.Logger;
 
-/** Transmits 'textDocument/publishDiagnostics' over the JSON-RPC */
+/**
+ * Transmits 'textDocument/publishDiagnostics' over the JSON-RPC.
+ *
+ * <p>Diagnostics are coalesced, only the latest diagnostics of each document are kept, and sent as
+ * a single 'textDocument/publishDiagnostics/batch' notification once language servers are quiet
+ * for the debounce window (but not later than {@link #MAX_DELAY_FACTOR} windows after the first
+ * diagnostics), so a rebuild doesn't flood the clients with outdated diagnostics. The notification
+ * is serialized once and the same message is sent to every subscribed endpoint.
+ */
 @Singleton
 public class PublishDiagnosticsParamsJsonRpcTransmitter {
+  private static final Logger LOG = getLogger(PublishDiagnosticsParamsJsonRpcTransmitter.class);
+
+  private static final String OUTGOING_METHOD = "textDocument/publishDiagnostics/batch";
+  private static final int MAX_DELAY_FACTOR = 5;
+
   private final Set<String> endpointIds = new CopyOnWriteArraySet<>();
+  private final DiagnosticsAggregator aggregator = new DiagnosticsAggregator();
+
+  private final JsonRpcMarshaller marshaller;
+  private final WebSocketMessageTransmitter transmitter;
+  private final long debounceMs;
+  private final ScheduledExecutorService flusher;
 
   @Inject
-  private void subscribe(EventService eventService, RequestTransmitter requestTransmitter) {
-    eventService.subscribe(
-        event -> {
-          PublishDiagnosticsParams params = event.getParams();
-          if (params.getUri() != null) {
-            params.setUri(params.getUri().substring(16));
-          }
-          endpointIds.forEach(
-              endpointId ->
-                  requestTransmitter
-                      .newRequest()
-                      .endpointId(endpointId)
-                      .methodName("textDocument/publishDiagnostics")
-                      .paramsAsDto(new ExtendedPublishDiagnosticsParamsDto(event))
-                      .sendAndSkipResult());
-        },
-        ExtendedPublishDiagnosticsParams.class);
+  public PublishDiagnosticsParamsJsonRpcTransmitter(
+      EventService eventService,
+      JsonRpcMarshaller marshaller,
+      WebSocketMessageTransmitter transmitter,
+      @Named("che.languageserver.diagnostics.debounce_ms") long debounceMs) {
+    this.marshaller = marshaller;
+    this.transmitter = transmitter;
+    this.debounceMs = debounceMs;
+    if (debounceMs > 0) {
+      final long period = Math.max(10, debounceMs / 4);
+      this.flusher =
+          Executors.newSingleThreadScheduledExecutor(
+              new ThreadFactoryBuilder()
+                  .setNameFormat("PublishDiagnostics-Flusher")
+                  .setUncaughtExceptionHandler(LoggingUncaughtExceptionHandler.getInstance())
+                  .setDaemon(true)
+                  .build());
+      this.flusher.scheduleWithFixedDelay(
+          () -> flush(System.currentTimeMillis()), period, period, MILLISECONDS);
+    } else {
+      this.flusher = null;
+    }
+    eventService.subscribe(this::onDiagnostics, ExtendedPublishDiagnosticsParams.class);
+  }
+
+  @PreDestroy
+  void stop() {
+    if (flusher != null) {
+      flusher.shutdownNow();
+    }
   }
 
   @Inject
@@ -53,7 +101,7 @@ public class PublishDiagnosticsParamsJsonRpcTransmitter {
         .methodName("textDocument/publishDiagnostics/subscribe")
         .noParams()
         .noResult()
-        .withConsumer(endpointIds::add);
+        .withConsumer(this::subscribe);
   }
 
   @Inject
@@ -63,6 +111,55 @@ public class PublishDiagnosticsParamsJsonRpcTransmitter {
         .methodName("textDocument/publishDiagnostics/unsubscribe")
         .noParams()
         .noResult()
-        .withConsumer(endpointIds::remove);
+        .withConsumer(this::unsubscribe);
+  }
+
+  void subscribe(String endpointId) {
+    endpointIds.add(endpointId);
+  }
+
+  void unsubscribe(String endpointId) {
+    endpointIds.remove(endpointId);
+  }
+
+  private void onDiagnostics(ExtendedPublishDiagnosticsParams event) {
+    PublishDiagnosticsParams params = event.getParams();
+    if (params.getUri() != null) {
+      params.setUri(params.getUri().substring(16));
+    }
+    final long now = System.currentTimeMillis();
+    aggregator.add(event, now);
+    if (flusher == null) {
+      flush(now);
+    }
+  }
+
+  /** Sends pending diagnostics to the subscribed endpoints if the debounce window has passed. */
+  @VisibleForTesting
+  void flush(long now) {
+    if (!aggregator.isReady(now, debounceMs, debounceMs * MAX_DELAY_FACTOR)) {
+      return;
+    }
+    final List<ExtendedPublishDiagnosticsParams> diagnostics = aggregator.drain();
+    if (endpointIds.isEmpty()) {
+      return;
+    }
+    final String message =
+        marshaller.marshall(
+            new JsonRpcRequest(
+                null,
+                OUTGOING_METHOD,
+                new JsonRpcParams(
+                    diagnostics
+                        .stream()
+                        .map(ExtendedPublishDiagnosticsParamsDto::new)
+                        .collect(toList()))));
+    for (String endpointId : endpointIds) {
+      try {
+        transmitter.transmit(endpointId, message);
+      } catch (RuntimeException e) {
+        LOG.error("Can't send diagnostics to endpoint " + endpointId, e);
+      }
+    }
   }
 }
@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2012-2017 Red Hat, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.api.languageserver.messager;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import java.util.ArrayList;
+import java.util.List;
+import org.eclipse.che.api.core.jsonrpc.commons.JsonRpcMarshaller;
+import org.eclipse.che.api.core.jsonrpc.commons.JsonRpcParams;
+import org.eclipse.che.api.core.jsonrpc.commons.JsonRpcRequest;
+import org.eclipse.che.api.core.jsonrpc.impl.GsonJsonRpcMarshaller;
+import org.eclipse.che.api.core.notification.EventService;
+import org.eclipse.che.api.core.websocket.commons.WebSocketMessageTransmitter;
+import org.eclipse.che.api.languageserver.registry.CheLanguageClient;
+import org.eclipse.che.api.languageserver.server.dto.DtoServerImpls.ExtendedPublishDiagnosticsParamsDto;
+import org.eclipse.che.api.languageserver.shared.model.ExtendedPublishDiagnosticsParams;
+import org.eclipse.lsp4j.Diagnostic;
+import org.eclipse.lsp4j.DiagnosticSeverity;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.PublishDiagnosticsParams;
+import org.eclipse.lsp4j.Range;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/** Tests for {@link PublishDiagnosticsParamsJsonRpcTransmitter}. */
+public class PublishDiagnosticsParamsJsonRpcTransmitterTest {
+
+  private static final int EVENTS = 10_000;
+  private static final int DOCUMENTS = 100;
+  private static final String[] ENDPOINTS = {"endpoint1", "endpoint2", "endpoint3"};
+
+  private EventService eventService;
+  private JsonRpcMarshaller marshaller;
+  private CountingTransmitter transmitter;
+  private PublishDiagnosticsParamsJsonRpcTransmitter diagnosticsTransmitter;
+
+  @BeforeMethod
+  public void setUp() {
+    eventService = new EventService();
+    marshaller = new GsonJsonRpcMarshaller(new JsonParser(), new Gson());
+    transmitter = new CountingTransmitter();
+    diagnosticsTransmitter =
+        new PublishDiagnosticsParamsJsonRpcTransmitter(
+            eventService, marshaller, transmitter, 60_000);
+    for (String endpoint : ENDPOINTS) {
+      diagnosticsTransmitter.subscribe(endpoint);
+    }
+  }
+
+  @AfterMethod
+  public void tearDown() {
+    diagnosticsTransmitter.stop();
+  }
+
+  @Test
+  public void shouldSendLatestDiagnosticsInSingleBatchPerEndpoint() {
+    final CheLanguageClient languageServer = new CheLanguageClient(eventService, null, "fake-ls");
+    long unbatchedBytes = 0;
+    for (int i = 0; i < EVENTS; i++) {
+      final PublishDiagnosticsParams params = diagnostics(i);
+      languageServer.publishDiagnostics(params);
+      // message the transmitter used to send for each event to each endpoint
+      final String single =
+          marshaller.marshall(
+              new JsonRpcRequest(
+                  null,
+                  "textDocument/publishDiagnostics",
+                  new JsonRpcParams(
+                      new ExtendedPublishDiagnosticsParamsDto(
+                          new ExtendedPublishDiagnosticsParams("fake-ls", params)))));
+      unbatchedBytes += single.length() * ENDPOINTS.length;
+    }
+    assertEquals(transmitter.messages.size(), 0);
+
+    diagnosticsTransmitter.flush(Long.MAX_VALUE);
+
+    assertEquals(transmitter.messages.size(), ENDPOINTS.length);
+    assertEquals(transmitter.endpoints, asList(ENDPOINTS));
+    // the same message is reused for all the endpoints
+    assertTrue(transmitter.messages.stream().allMatch(m -> m == transmitter.messages.get(0)));
+    final long batchedBytes = transmitter.messages.stream().mapToLong(String::length).sum();
+    assertTrue(
+        batchedBytes * 50 < unbatchedBytes,
+        "Batched " + batchedBytes + " bytes, unbatched " + unbatchedBytes + " bytes");
+
+    final JsonArray batch =
+        new JsonParser()
+            .parse(transmitter.messages.get(0))
+            .getAsJsonObject()
+            .getAsJsonArray("params");
+    assertEquals(batch.size(), DOCUMENTS);
+    final JsonObject first = batch.get(0).getAsJsonObject().getAsJsonObject("params");
+    assertEquals(first.get("uri").getAsString(), "/project/File0.java");
+    assertEquals(
+        first
+            .getAsJsonArray("diagnostics")
+            .get(0)
+            .getAsJsonObject()
+            .get("message")
+            .getAsString(),
+        "problem " + (EVENTS - DOCUMENTS));
+  }
+
+  @Test
+  public void shouldNotSendDiagnosticsUntilDebounceWindowPasses() {
+    eventService.publish(new ExtendedPublishDiagnosticsParams("fake-ls", diagnostics(0)));
+
+    diagnosticsTransmitter.flush(System.currentTimeMillis());
+
+    assertEquals(transmitter.messages.size(), 0);
+  }
+
+  @Test
+  public void shouldSendDiagnosticsImmediatelyWhenDebounceIsDisabled() {
+    diagnosticsTransmitter.stop();
+    diagnosticsTransmitter =
+        new PublishDiagnosticsParamsJsonRpcTransmitter(eventService, marshaller, transmitter, 0);
+    diagnosticsTransmitter.subscribe("endpoint");
+
+    eventService.publish(new ExtendedPublishDiagnosticsParams("fake-ls", diagnostics(0)));
+
+    assertEquals(transmitter.endpoints, singletonList("endpoint"));
+  }
+
+  @Test
+  public void shouldNotSendDiagnosticsToUnsubscribedEndpoints() {
+    for (String endpoint : ENDPOINTS) {
+      diagnosticsTransmitter.unsubscribe(endpoint);
+    }
+    eventService.publish(new ExtendedPublishDiagnosticsParams("fake-ls", diagnostics(0)));
+
+    diagnosticsTransmitter.flush(Long.MAX_VALUE);
+
+    assertEquals(transmitter.messages.size(), 0);
+  }
+
+  private static PublishDiagnosticsParams diagnostics(int event) {
+    final Diagnostic diagnostic =
+        new Diagnostic(
+            new Range(new Position(event, 0), new Position(event, 10)),
+            "problem " + event,
+            DiagnosticSeverity.Error,
+            "fake-ls");
+    return new PublishDiagnosticsParams(
+        "file:///projects/project/File" + event % DOCUMENTS + ".java", singletonList(diagnostic));
+  }
+
+  private static class CountingTransmitter implements WebSocketMessageTransmitter {
+    final List<String> endpoints = new ArrayList<>();
+    final List<String> messages = new ArrayList<>();
+
+    @Override
+    public synchronized void transmit(String endpointId, String message) {
+      endpoints.add(endpointId);
+      messages.add(message);
+    }
+  }
+}
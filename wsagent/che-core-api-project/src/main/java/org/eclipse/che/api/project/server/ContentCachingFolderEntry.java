@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2012-2017 Red Hat, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.api.project.server;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.eclipse.che.api.core.ServerException;
+import org.eclipse.che.api.vfs.Path;
+import org.eclipse.che.api.vfs.VirtualFile;
+import org.eclipse.che.api.vfs.VirtualFileFilter;
+
+/**
+ * Read-only view of a folder which shares content of small files between all the entries obtained
+ * from it. Used while estimating project types, so that value providers of different project types
+ * reading the same descriptor (pom.xml, package.json, etc.) hit the file system only once per
+ * request.
+ *
+ * <p>The view is supposed to be short living, the cached content is never invalidated.
+ */
+class ContentCachingFolderEntry extends FolderEntry {
+  /** Files bigger than this are read directly. */
+  private static final long MAX_CACHED_FILE_SIZE = 1024 * 1024;
+
+  private final Map<Path, byte[]> contents;
+
+  ContentCachingFolderEntry(FolderEntry folder) throws ServerException {
+    this(folder.getVirtualFile(), folder.projectRegistry, new ConcurrentHashMap<>());
+  }
+
+  private ContentCachingFolderEntry(
+      VirtualFile virtualFile, ProjectRegistry registry, Map<Path, byte[]> contents)
+      throws ServerException {
+    super(virtualFile, registry);
+    this.contents = contents;
+  }
+
+  @Override
+  public VirtualFileEntry getChild(String path) throws ServerException {
+    final VirtualFile child = getVirtualFile().getChild(Path.of(path));
+    return child == null ? null : wrap(child);
+  }
+
+  @Override
+  public FolderEntry getChildFolder(String path) throws ServerException {
+    final VirtualFile child = getVirtualFile().getChild(Path.of(path));
+    return child == null || child.isFile() ? null : (FolderEntry) wrap(child);
+  }
+
+  @Override
+  public List<FileEntry> getChildFiles() throws ServerException {
+    final List<FileEntry> children = new ArrayList<>();
+    for (VirtualFile child : getVirtualFile().getChildren(VirtualFile::isFile)) {
+      children.add((FileEntry) wrap(child));
+    }
+    return children;
+  }
+
+  @Override
+  public List<FolderEntry> getChildFolders() throws ServerException {
+    final List<FolderEntry> children = new ArrayList<>();
+    for (VirtualFile child : getVirtualFile().getChildren(VirtualFile::isFolder)) {
+      children.add((FolderEntry) wrap(child));
+    }
+    return children;
+  }
+
+  @Override
+  public List<VirtualFileEntry> getChildren(VirtualFileFilter filter) throws ServerException {
+    final List<VirtualFileEntry> children = new ArrayList<>();
+    for (VirtualFile child : getVirtualFile().getChildren(filter)) {
+      children.add(wrap(child));
+    }
+    return children;
+  }
+
+  private VirtualFileEntry wrap(VirtualFile file) throws ServerException {
+    if (file.isFile()) {
+      return new ContentCachingFileEntry(file, projectRegistry, contents);
+    }
+    return new ContentCachingFolderEntry(file, projectRegistry, contents);
+  }
+
+  private static class ContentCachingFileEntry extends FileEntry {
+    private final Map<Path, byte[]> contents;
+
+    ContentCachingFileEntry(
+        VirtualFile virtualFile, ProjectRegistry registry, Map<Path, byte[]> contents)
+        throws ServerException {
+      super(virtualFile, registry);
+      this.contents = contents;
+    }
+
+    @Override
+    public InputStream getInputStream() throws IOException, ServerException {
+      if (getVirtualFile().getLength() > MAX_CACHED_FILE_SIZE) {
+        return super.getInputStream();
+      }
+      return new ByteArrayInputStream(contentAsBytes());
+    }
+
+    @Override
+    public byte[] contentAsBytes() throws ServerException {
+      if (getVirtualFile().getLength() > MAX_CACHED_FILE_SIZE) {
+        return super.contentAsBytes();
+      }
+      final Path path = getVirtualFile().getPath();
+      final byte[] cached = contents.get(path);
+      if (cached != null) {
+        return cached;
+      }
+      final byte[] content = super.contentAsBytes();
+      contents.put(path, content);
+      return content;
+    }
+  }
+}
@@ -14,6 +14,7 @@ import static com.google.common.base.Strings.isNullOrEmpty;
 import static java.lang.String.format;
 import static org.eclipse.che.api.core.ErrorCodes.NOT_UPDATED_PROJECT;
 import static org.eclipse.che.api.vfs.watcher.FileWatcherManager.EMPTY_CONSUMER;
+import static org.eclipse.che.commons.lang.concurrent.ThreadLocalPropagateContext.wrap;
 
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import java.io.IOException;
@@ -22,8 +23,10 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 import javax.annotation.PostConstruct;
 import javax.annotation.PreDestroy;
@@ -125,7 +128,7 @@ public class ProjectManager {
     rootProjcetOperationSetId =
         fileWatcherManager.registerByPath(
             rootPath,
-            EMPTY_CONSUMER,
+            folderPath -> projectRegistry.invalidateUnconfiguredFolders(),
             EMPTY_CONSUMER,
             projectPath -> {
               try {
@@ -588,23 +591,78 @@ public class ProjectManager {
    */
   public List<ProjectTypeResolution> resolveSources(String path, boolean transientOnly)
       throws ServerException, NotFoundException {
-    final List<ProjectTypeResolution> resolutions = new ArrayList<>();
+    return resolveSources(path, transientOnly, false);
+  }
 
-    for (ProjectType type :
+  /**
+   * Estimates to which project types the folder can be converted to.
+   *
+   * <p>Project types are estimated concurrently, value providers of all the types share content of
+   * the files they read. Resolutions are returned in {@link
+   * ProjectTypeRegistry#CHILD_TO_PARENT_COMPARATOR} order.
+   *
+   * @param path to the folder
+   * @param transientOnly whether it can be estimated to the transient types of Project only
+   * @param firstPrimaryOnly whether estimation should stop at the first matched primary type,
+   *     estimations of the types following it are cancelled
+   * @return list of matched resolutions
+   * @throws ServerException
+   * @throws NotFoundException
+   */
+  public List<ProjectTypeResolution> resolveSources(
+      String path, boolean transientOnly, boolean firstPrimaryOnly)
+      throws ServerException, NotFoundException {
+    final FolderEntry baseFolder = asFolder(path);
+    if (baseFolder == null) {
+      throw new NotFoundException("Folder not found: " + path);
+    }
+    final FolderEntry sharedFolder = new ContentCachingFolderEntry(baseFolder);
+
+    final List<ProjectTypeDef> types = new ArrayList<>();
+    final List<Future<ProjectTypeResolution>> estimations = new ArrayList<>();
+    for (ProjectTypeDef type :
         projectTypeRegistry.getProjectTypes(ProjectTypeRegistry.CHILD_TO_PARENT_COMPARATOR)) {
       if (transientOnly && type.isPersisted()) {
         continue;
       }
+      types.add(type);
+      estimations.add(executor.submit(wrap(() -> type.resolveSources(sharedFolder))));
+    }
 
-      final ProjectTypeResolution resolution = estimateProject(path, type.getId());
-      if (resolution.matched()) {
-        resolutions.add(resolution);
+    final List<ProjectTypeResolution> resolutions = new ArrayList<>();
+    try {
+      for (int i = 0; i < estimations.size(); i++) {
+        final ProjectTypeResolution resolution = getEstimation(estimations.get(i));
+        if (resolution.matched()) {
+          resolutions.add(resolution);
+          if (firstPrimaryOnly && types.get(i).isPrimaryable()) {
+            break;
+          }
+        }
       }
+    } finally {
+      estimations.forEach(estimation -> estimation.cancel(true));
     }
 
     return resolutions;
   }
 
+  private ProjectTypeResolution getEstimation(Future<ProjectTypeResolution> estimation)
+      throws ServerException {
+    try {
+      return estimation.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new ServerException("Interrupted while estimating project types");
+    } catch (ExecutionException e) {
+      final Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      throw new ServerException(cause.getLocalizedMessage(), cause);
+    }
+  }
+
   /**
    * deletes item including project
    *
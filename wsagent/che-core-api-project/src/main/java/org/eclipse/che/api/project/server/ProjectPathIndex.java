@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2012-2017 Red Hat, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.api.project.server;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Path trie of registered project paths used by {@link ProjectRegistry}.
+ *
+ * <p>Looking up the closest project owning a path takes O(depth of the path) and listing projects
+ * under a path takes O(size of the sub-tree), independently of the total number of registered
+ * projects. Paths are expected to be absolute and normalized, e.g. {@code /project/module}.
+ *
+ * <p>Instances are thread safe.
+ */
+class ProjectPathIndex {
+  private final Node root = new Node();
+
+  /** Adds the project path to the index. */
+  synchronized void add(String path) {
+    Node node = root;
+    for (String segment : segments(path)) {
+      node = node.children.computeIfAbsent(segment, k -> new Node());
+    }
+    node.project = true;
+  }
+
+  /** Removes the project path from the index, projects under the path are kept. */
+  synchronized void remove(String path) {
+    final String[] segments = segments(path);
+    final Node[] nodes = new Node[segments.length + 1];
+    nodes[0] = root;
+    for (int i = 0; i < segments.length; i++) {
+      nodes[i + 1] = nodes[i].children.get(segments[i]);
+      if (nodes[i + 1] == null) {
+        return;
+      }
+    }
+    nodes[segments.length].project = false;
+    // prune nodes which neither are projects nor have projects under them
+    for (int i = segments.length; i > 0; i--) {
+      final Node node = nodes[i];
+      if (node.project || !node.children.isEmpty()) {
+        break;
+      }
+      nodes[i - 1].children.remove(segments[i - 1]);
+    }
+  }
+
+  /**
+   * Returns the path of the project located on the given path or the closest project which
+   * contains it, or {@code null} if there is no such project.
+   */
+  synchronized String getOwner(String path) {
+    Node node = root;
+    String owner = root.project ? "/" : null;
+    final StringBuilder current = new StringBuilder();
+    for (String segment : segments(path)) {
+      node = node.children.get(segment);
+      if (node == null) {
+        break;
+      }
+      current.append('/').append(segment);
+      if (node.project) {
+        owner = current.toString();
+      }
+    }
+    return owner;
+  }
+
+  /** Returns paths of all the projects located under the given path, excluding the path itself. */
+  synchronized List<String> getDescendants(String path) {
+    Node node = root;
+    for (String segment : segments(path)) {
+      node = node.children.get(segment);
+      if (node == null) {
+        return new ArrayList<>();
+      }
+    }
+    final List<String> result = new ArrayList<>();
+    collect(node, path.endsWith("/") ? path.substring(0, path.length() - 1) : path, result);
+    return result;
+  }
+
+  /** Removes all the paths from the index. */
+  synchronized void clear() {
+    root.children.clear();
+    root.project = false;
+  }
+
+  private static void collect(Node node, String prefix, List<String> result) {
+    for (Map.Entry<String, Node> child : node.children.entrySet()) {
+      final String childPath = prefix + '/' + child.getKey();
+      if (child.getValue().project) {
+        result.add(childPath);
+      }
+      collect(child.getValue(), childPath, result);
+    }
+  }
+
+  private static String[] segments(String path) {
+    final String trimmed = path.startsWith("/") ? path.substring(1) : path;
+    return trimmed.isEmpty() ? new String[0] : trimmed.split("/");
+  }
+
+  private static class Node {
+    final Map<String, Node> children = new HashMap<>();
+    boolean project;
+  }
+}
@@ -15,7 +15,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.Collectors;
 import javax.annotation.PostConstruct;
 import javax.inject.Inject;
 import javax.inject.Singleton;
@@ -47,6 +46,7 @@ public class ProjectRegistry {
   private static final Logger LOG = LoggerFactory.getLogger(ProjectRegistry.class);
 
   private final Map<String, RegisteredProject> projects;
+  private final ProjectPathIndex projectPaths;
   private final WorkspaceProjectsSyncer workspaceHolder;
   private final VirtualFileSystem vfs;
   private final ProjectTypeRegistry projectTypeRegistry;
@@ -55,6 +55,7 @@ public class ProjectRegistry {
   private final EventService eventService;
 
   private boolean initialized;
+  private volatile boolean unconfiguredFoldersDetected;
 
   @Inject
   public ProjectRegistry(
@@ -66,6 +67,7 @@ public class ProjectRegistry {
       throws ServerException {
     this.eventService = eventService;
     this.projects = new ConcurrentHashMap<>();
+    this.projectPaths = new ProjectPathIndex();
     this.workspaceHolder = workspaceHolder;
     this.vfs = vfsProvider.getVirtualFileSystem();
     this.projectTypeRegistry = projectTypeRegistry;
@@ -88,6 +90,7 @@ public class ProjectRegistry {
       putProject(projectConfig, projectFolder, false, false);
     }
 
+    unconfiguredFoldersDetected = false;
     initUnconfiguredFolders();
 
     initialized = true;
@@ -130,13 +133,7 @@ public class ProjectRegistry {
 
     initUnconfiguredFolders();
 
-    final Path root = Path.of(absolutizePath(parentPath));
-
-    return projects
-        .keySet()
-        .stream()
-        .filter(key -> Path.of(key).isChild(root))
-        .collect(Collectors.toList());
+    return projectPaths.getDescendants(Path.of(absolutizePath(parentPath)).toString());
   }
 
   /**
@@ -146,23 +143,19 @@ public class ProjectRegistry {
   public RegisteredProject getParentProject(String path) {
     checkInitializationState();
 
-    // return this if a project
-    if (getProject(path) != null) {
-      return getProject(path);
-    }
+    initUnconfiguredFolders();
 
-    // otherwise try to find matched parent
-    Path test;
-    while ((test = Path.of(path).getParent()) != null) {
-      final RegisteredProject project = projects.get(test.toString());
-      if (project != null) {
-        return project;
-      }
+    final String owner = projectPaths.getOwner(Path.of(absolutizePath(path)).toString());
 
-      path = test.toString();
-    }
+    return owner == null ? null : projects.get(owner);
+  }
 
-    return null;
+  /**
+   * Marks unconfigured folders on root for re-detection, they are looked up on the next access to
+   * the registry. Should be called when folders are created on root outside of the Project API.
+   */
+  public void invalidateUnconfiguredFolders() {
+    unconfiguredFoldersDetected = false;
   }
 
   /**
@@ -182,6 +175,7 @@ public class ProjectRegistry {
     final RegisteredProject project =
         new RegisteredProject(folder, config, updated, detected, this.projectTypeRegistry);
     projects.put(project.getPath(), project);
+    projectPaths.add(project.getPath());
 
     return project;
   }
@@ -195,8 +189,8 @@ public class ProjectRegistry {
   void removeProjects(String path) throws ServerException {
 
     List<RegisteredProject> removed = new ArrayList<>();
-    Optional.ofNullable(projects.remove(path)).ifPresent(removed::add);
-    getProjects(path).forEach(p -> Optional.ofNullable(projects.remove(p)).ifPresent(removed::add));
+    Optional.ofNullable(unregister(path)).ifPresent(removed::add);
+    getProjects(path).forEach(p -> Optional.ofNullable(unregister(p)).ifPresent(removed::add));
 
     removed.forEach(
         registeredProject ->
@@ -308,7 +302,7 @@ public class ProjectRegistry {
       newMixins.remove(type);
     } else if (newType.equals(type)) {
       if (project.isDetected()) {
-        projects.remove(project.getPath());
+        unregister(project.getPath());
         return null;
       }
 
@@ -337,8 +331,22 @@ public class ProjectRegistry {
     return (path.startsWith("/")) ? path : "/".concat(path);
   }
 
-  /** Try to initialize projects from unconfigured folders on root. */
+  private RegisteredProject unregister(String path) {
+    projectPaths.remove(path);
+    // removed folder may still exist on root and has to be detected again
+    unconfiguredFoldersDetected = false;
+    return projects.remove(path);
+  }
+
+  /**
+   * Try to initialize projects from unconfigured folders on root. Folders are listed only once
+   * after initialization or {@link #invalidateUnconfiguredFolders()}.
+   */
   private void initUnconfiguredFolders() {
+    if (unconfiguredFoldersDetected) {
+      return;
+    }
+    unconfiguredFoldersDetected = true;
     try {
       for (FolderEntry folder : root.getChildFolders()) {
         // .che folder is reserved for internal use
@@ -26,6 +26,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -50,6 +51,7 @@ import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.MultivaluedMap;
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
 import javax.ws.rs.core.UriInfo;
 import org.apache.commons.fileupload.FileItem;
 import org.apache.tika.Tika;
@@ -347,10 +349,19 @@ public class ProjectService extends Service {
   @Produces(MediaType.APPLICATION_JSON)
   public List<SourceEstimation> resolveSources(
       @ApiParam(value = "Path to requested project", required = true) @PathParam("path")
-          String path)
+          String path,
+      @ApiParam(
+            value =
+                "Whether estimation should stop at the first matched primary project type. "
+                    + "If not specified ?firstPrimaryOnly=false is used by default"
+          )
+          @DefaultValue("false")
+          @QueryParam("firstPrimaryOnly")
+          boolean firstPrimaryOnly)
       throws NotFoundException, ForbiddenException, ServerException, ConflictException {
     List<SourceEstimation> estimations = new ArrayList<>();
-    for (ProjectTypeResolution resolution : projectManager.resolveSources(path, false)) {
+    for (ProjectTypeResolution resolution :
+        projectManager.resolveSources(path, false, firstPrimaryOnly)) {
       if (resolution.matched()) {
         final HashMap<String, List<String>> attributes = new HashMap<>();
         for (Map.Entry<String, Value> attr : resolution.getProvidedAttributes().entrySet()) {
@@ -768,7 +779,7 @@ public class ProjectService extends Service {
       baseProjectFolder.getVirtualFile().unzip(zip, true, stripNumber);
     }
 
-    return resolveSources(path);
+    return resolveSources(path, false);
   }
 
   @POST
@@ -824,7 +835,7 @@ public class ProjectService extends Service {
     @ApiResponse(code = 404, message = "Not found"),
     @ApiResponse(code = 500, message = "Internal Server Error")
   })
-  public InputStream exportZip(
+  public Response exportZip(
       @ApiParam(value = "Path to resource to be exported") @PathParam("path") String path)
       throws NotFoundException, ForbiddenException, ServerException {
 
@@ -834,7 +845,18 @@ public class ProjectService extends Service {
       throw new NotFoundException("Folder not found " + path);
     }
 
-    return folder.getVirtualFile().zip();
+    // archive is written directly to the response while the folder is traversed,
+    // the response has no content length so it is sent with chunked transfer encoding
+    final VirtualFile virtualFile = folder.getVirtualFile();
+    final StreamingOutput archive =
+        output -> {
+          try {
+            virtualFile.zip(output);
+          } catch (ForbiddenException | ServerException e) {
+            throw new IOException(e.getMessage(), e);
+          }
+        };
+    return Response.ok(archive, ExtMediaType.APPLICATION_ZIP).build();
   }
 
   @GET
@@ -877,15 +899,34 @@ public class ProjectService extends Service {
     @ApiResponse(code = 500, message = "Internal Server Error")
   })
   public List<ItemReference> getChildren(
-      @ApiParam(value = "Path to a project", required = true) @PathParam("parent") String path)
-      throws NotFoundException, ForbiddenException, ServerException {
+      @ApiParam(value = "Path to a project", required = true) @PathParam("parent") String path,
+      @ApiParam(
+            value =
+                "Name of the last item of the previous page. If specified, children are sorted by "
+                    + "name and only those which follow the given name are returned"
+          )
+          @QueryParam("after")
+          String after,
+      @ApiParam(value = "Maximum number of items to return. If not specified all items are returned")
+          @DefaultValue("-1")
+          @QueryParam("maxItems")
+          int maxItems)
+      throws NotFoundException, ForbiddenException, ServerException, BadRequestException {
+    if (maxItems == 0 || maxItems < -1) {
+      throw new BadRequestException("The number of items to return must be a positive integer");
+    }
     final FolderEntry folder = projectManager.asFolder(path);
 
     if (folder == null) {
       throw new NotFoundException("Parent not found for " + path);
     }
 
-    final List<VirtualFileEntry> children = folder.getChildren();
+    final List<VirtualFileEntry> children;
+    if (after == null && maxItems == -1) {
+      children = folder.getChildren();
+    } else {
+      children = getChildrenPage(folder, after, maxItems);
+    }
     final ArrayList<ItemReference> result = new ArrayList<>(children.size());
     for (VirtualFileEntry child : children) {
       if (child.isFile()) {
@@ -1122,6 +1163,22 @@ public class ProjectService extends Service {
     return virtualFile;
   }
 
+  /**
+   * Returns children of the folder sorted by name which follow the {@code after} name. Paging by
+   * name keeps the cursor stable while children are being added or removed, and only the items of
+   * the requested page get links and VCS status injected.
+   */
+  private List<VirtualFileEntry> getChildrenPage(FolderEntry folder, String after, int maxItems)
+      throws ServerException {
+    final List<VirtualFileEntry> children =
+        folder.getChildren(file -> after == null || file.getName().compareTo(after) > 0);
+    children.sort(Comparator.comparing(VirtualFileEntry::getName));
+    if (maxItems != -1 && children.size() > maxItems) {
+      return new ArrayList<>(children.subList(0, maxItems));
+    }
+    return children;
+  }
+
   private List<TreeElement> getTree(FolderEntry folder, int depth, boolean includeFiles)
       throws ServerException, NotFoundException {
     if (depth == 0) {
@@ -169,6 +169,8 @@ public abstract class ProjectTypeDef implements ProjectType {
 
   public ProjectTypeResolution resolveSources(FolderEntry projectFolder) {
     Map<String, Value> matchAttrs = new HashMap<>();
+    // attributes usually share a provider, create it (and let it parse project files) only once
+    Map<ValueProviderFactory, ValueProvider> providers = new HashMap<>();
     for (Map.Entry<String, Attribute> entry : attributes.entrySet()) {
       Attribute attr = entry.getValue();
       String name = entry.getKey();
@@ -180,7 +182,9 @@ public abstract class ProjectTypeDef implements ProjectType {
           Value value;
           String errorMessage = "";
           try {
-            value = new AttributeValue(factory.newInstance(projectFolder).getValues(name));
+            ValueProvider provider =
+                providers.computeIfAbsent(factory, f -> f.newInstance(projectFolder));
+            value = new AttributeValue(provider.getValues(name));
           } catch (ValueStorageException e) {
             value = null;
             errorMessage = e.getLocalizedMessage();
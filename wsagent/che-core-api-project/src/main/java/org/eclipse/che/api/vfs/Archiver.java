@@ -10,15 +10,51 @@
  */
 package org.eclipse.che.api.vfs;
 
+import com.google.common.io.ByteStreams;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.io.SequenceInputStream;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import org.eclipse.che.api.core.ConflictException;
 import org.eclipse.che.api.core.ForbiddenException;
 import org.eclipse.che.api.core.ServerException;
+import org.eclipse.che.commons.lang.concurrent.LoggingUncaughtExceptionHandler;
 
 /** Archiver for compressing and extracting content of folder. */
 public abstract class Archiver {
+  /** Number of threads reading and writing content of archive entries, shared by all archivers. */
+  protected static final int IO_THREADS =
+      Math.max(2, Math.min(4, Runtime.getRuntime().availableProcessors()));
+
+  /**
+   * Max number of entries processed in background per archive. Together with {@link
+   * #MAX_IN_MEMORY_ENTRY_SIZE} limits memory used by single archive operation.
+   */
+  protected static final int MAX_PENDING_ENTRIES = 4 * IO_THREADS;
+
+  /** Entries bigger than this are never loaded in memory. */
+  protected static final int MAX_IN_MEMORY_ENTRY_SIZE = 1024 * 1024;
+
+  private static final ExecutorService IO_EXECUTOR =
+      Executors.newFixedThreadPool(
+          IO_THREADS,
+          new ThreadFactoryBuilder()
+              .setNameFormat("Archiver-IO-%d")
+              .setUncaughtExceptionHandler(LoggingUncaughtExceptionHandler.getInstance())
+              .setDaemon(true)
+              .build());
+
   protected final VirtualFile folder;
 
   protected Archiver(VirtualFile folder) {
@@ -50,4 +86,141 @@ public abstract class Archiver {
    */
   public abstract void extract(InputStream compressedInput, boolean overwrite, int stripNumber)
       throws IOException, ForbiddenException, ConflictException, ServerException;
+
+  /**
+   * Checks whether content of {@code folder} may be updated from several threads. Only folders
+   * backed by local file system allow that, in-memory implementation is not thread safe.
+   */
+  protected boolean isConcurrentWriteSupported() {
+    return folder.toIoFile() != null;
+  }
+
+  /**
+   * Writes extracted entries to {@link #folder}. Small entries are buffered in memory and written
+   * by background threads when folder supports concurrent updates, so reading of the archive stream
+   * is not blocked by disk writes. All writes must be completed with {@link #flush()}.
+   */
+  protected class EntryWriter implements AutoCloseable {
+    private final IoTaskQueue<Path> writes = new IoTaskQueue<>();
+    private final Set<Path> pendingPaths = new HashSet<>();
+    private final boolean concurrent = isConcurrentWriteSupported();
+
+    /**
+     * Creates or updates file {@code name} in {@code parent} with {@code content}. Content stream
+     * is fully consumed before this method returns.
+     */
+    public void write(VirtualFile parent, String name, InputStream content, boolean overwrite)
+        throws IOException, ForbiddenException, ConflictException, ServerException {
+      final Path path = parent.getPath().newPath(name);
+      if (pendingPaths.contains(path)) {
+        // the same file is met twice in archive, let the previous write complete first
+        flush();
+      }
+      final VirtualFile file = parent.getChild(Path.of(name));
+      if (file != null && !overwrite) {
+        throw new ConflictException(String.format("File '%s' already exists", file.getPath()));
+      }
+      if (concurrent) {
+        final byte[] head =
+            ByteStreams.toByteArray(ByteStreams.limit(content, MAX_IN_MEMORY_ENTRY_SIZE + 1));
+        if (head.length <= MAX_IN_MEMORY_ENTRY_SIZE) {
+          if (writes.isFull()) {
+            pendingPaths.remove(writes.take());
+          }
+          pendingPaths.add(path);
+          writes.submit(
+              () -> {
+                doWrite(parent, name, file, new ByteArrayInputStream(head));
+                return path;
+              });
+          return;
+        }
+        content = new SequenceInputStream(new ByteArrayInputStream(head), content);
+      }
+      doWrite(parent, name, file, content);
+    }
+
+    /** Waits until all the pending writes are completed. */
+    public void flush() throws IOException, ForbiddenException, ConflictException, ServerException {
+      while (!writes.isEmpty()) {
+        writes.take();
+      }
+      pendingPaths.clear();
+    }
+
+    @Override
+    public void close() {
+      writes.close();
+    }
+
+    private void doWrite(VirtualFile parent, String name, VirtualFile file, InputStream content)
+        throws ForbiddenException, ConflictException, ServerException {
+      if (file == null) {
+        parent.createFile(name, content);
+      } else {
+        file.updateContent(content);
+      }
+    }
+  }
+
+  /** Callable which may throw checked exceptions of virtual file system. */
+  @FunctionalInterface
+  protected interface IoTask<T> {
+    T call() throws IOException, ForbiddenException, ConflictException, ServerException;
+  }
+
+  /**
+   * Queue of background tasks of single archive operation. At most {@link #MAX_PENDING_ENTRIES}
+   * tasks are pending at the same time, results are consumed in submission order.
+   */
+  protected static class IoTaskQueue<T> implements AutoCloseable {
+    private final Deque<Future<T>> pending = new ArrayDeque<>();
+
+    /** Returns {@code true} if next submission requires to take oldest result first. */
+    boolean isFull() {
+      return pending.size() >= MAX_PENDING_ENTRIES;
+    }
+
+    boolean isEmpty() {
+      return pending.isEmpty();
+    }
+
+    void submit(IoTask<T> task) {
+      pending.add(IO_EXECUTOR.submit((Callable<T>) task::call));
+    }
+
+    /** Waits for the oldest submitted task and returns its result. */
+    T take() throws IOException, ForbiddenException, ConflictException, ServerException {
+      final Future<T> future = pending.poll();
+      try {
+        return future.get();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new ServerException("Interrupted while processing archive", e);
+      } catch (ExecutionException e) {
+        final Throwable cause = e.getCause();
+        if (cause instanceof IOException) {
+          throw (IOException) cause;
+        } else if (cause instanceof ForbiddenException) {
+          throw (ForbiddenException) cause;
+        } else if (cause instanceof ConflictException) {
+          throw (ConflictException) cause;
+        } else if (cause instanceof ServerException) {
+          throw (ServerException) cause;
+        } else if (cause instanceof RuntimeException) {
+          throw (RuntimeException) cause;
+        }
+        throw new ServerException(cause.getMessage(), cause);
+      }
+    }
+
+    /** Cancels all the pending tasks, e.g. when archive operation failed. */
+    @Override
+    public void close() {
+      for (Future<T> future : pending) {
+        future.cancel(true);
+      }
+      pending.clear();
+    }
+  }
 }
@@ -14,6 +14,8 @@ import com.google.common.io.ByteStreams;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
 import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
 import org.apache.commons.compress.archivers.tar.TarArchiveInputStream;
 import org.apache.commons.compress.archivers.tar.TarArchiveOutputStream;
@@ -35,24 +37,39 @@ public class TarArchiver extends Archiver {
   @Override
   public void compress(OutputStream tarOutput, VirtualFileFilter filter)
       throws IOException, ServerException {
-    try (TarArchiveOutputStream tarOutputStream = new TarArchiveOutputStream(tarOutput)) {
-      tarOutputStream.setLongFileMode(TarArchiveOutputStream.LONGFILE_POSIX);
-      folder.accept(
-          new VirtualFileVisitor() {
-            @Override
-            public void visit(VirtualFile visitedVirtualFile) throws ServerException {
-              if (filter.accept(visitedVirtualFile)) {
-                if (!visitedVirtualFile.equals(folder)) {
-                  addTarEntry(visitedVirtualFile, tarOutputStream);
-                }
-                if (visitedVirtualFile.isFolder()) {
-                  for (VirtualFile child : visitedVirtualFile.getChildren()) {
-                    child.accept(this);
-                  }
+    final List<VirtualFile> entries = new ArrayList<>();
+    folder.accept(
+        new VirtualFileVisitor() {
+          @Override
+          public void visit(VirtualFile visitedVirtualFile) throws ServerException {
+            if (filter.accept(visitedVirtualFile)) {
+              if (!visitedVirtualFile.equals(folder)) {
+                entries.add(visitedVirtualFile);
+              }
+              if (visitedVirtualFile.isFolder()) {
+                for (VirtualFile child : visitedVirtualFile.getChildren()) {
+                  child.accept(this);
                 }
               }
             }
-          });
+          }
+        });
+
+    // Content of small entries is read in background, entries are written in traversal order.
+    try (TarArchiveOutputStream tarOutputStream = new TarArchiveOutputStream(tarOutput);
+        IoTaskQueue<PreparedTarEntry> prepared = new IoTaskQueue<>()) {
+      tarOutputStream.setLongFileMode(TarArchiveOutputStream.LONGFILE_POSIX);
+      for (VirtualFile entry : entries) {
+        if (prepared.isFull()) {
+          addTarEntry(prepared.take(), tarOutputStream);
+        }
+        prepared.submit(() -> prepareTarEntry(entry));
+      }
+      while (!prepared.isEmpty()) {
+        addTarEntry(prepared.take(), tarOutputStream);
+      }
+    } catch (ForbiddenException | ConflictException e) {
+      throw new ServerException(e.getServiceError());
     }
   }
 
@@ -64,33 +81,52 @@ public class TarArchiver extends Archiver {
     return tarPath.toString();
   }
 
-  private void addTarEntry(VirtualFile virtualFile, TarArchiveOutputStream tarOutputStream)
-      throws ServerException {
-    try {
-      TarArchiveEntry tarEntry = new TarArchiveEntry(getTarEntryName(virtualFile));
-      if (virtualFile.isFolder()) {
-        tarEntry.setModTime(0);
-        tarOutputStream.putArchiveEntry(tarEntry);
-      } else {
-        tarEntry.setSize(virtualFile.getLength());
-        tarEntry.setModTime(virtualFile.getLastModificationDate());
-        tarOutputStream.putArchiveEntry(tarEntry);
-        try (InputStream content = virtualFile.getContent()) {
-          ByteStreams.copy(content, tarOutputStream);
-        }
+  private PreparedTarEntry prepareTarEntry(VirtualFile virtualFile)
+      throws ForbiddenException, ServerException {
+    TarArchiveEntry tarEntry = new TarArchiveEntry(getTarEntryName(virtualFile));
+    if (virtualFile.isFolder()) {
+      tarEntry.setModTime(0);
+      return new PreparedTarEntry(virtualFile, tarEntry, null);
+    }
+    final long length = virtualFile.getLength();
+    final byte[] content =
+        length <= MAX_IN_MEMORY_ENTRY_SIZE ? virtualFile.getContentAsBytes() : null;
+    tarEntry.setSize(content != null ? content.length : length);
+    tarEntry.setModTime(virtualFile.getLastModificationDate());
+    return new PreparedTarEntry(virtualFile, tarEntry, content);
+  }
+
+  private void addTarEntry(PreparedTarEntry entry, TarArchiveOutputStream tarOutputStream)
+      throws IOException, ForbiddenException, ServerException {
+    tarOutputStream.putArchiveEntry(entry.tarEntry);
+    if (entry.content != null) {
+      tarOutputStream.write(entry.content);
+    } else if (entry.virtualFile.isFile()) {
+      try (InputStream content = entry.virtualFile.getContent()) {
+        ByteStreams.copy(content, tarOutputStream);
       }
-      tarOutputStream.closeArchiveEntry();
-    } catch (ForbiddenException e) {
-      throw new ServerException(e.getServiceError());
-    } catch (IOException e) {
-      throw new ServerException(e.getMessage(), e);
+    }
+    tarOutputStream.closeArchiveEntry();
+  }
+
+  private static class PreparedTarEntry {
+    final VirtualFile virtualFile;
+    final TarArchiveEntry tarEntry;
+    /** Content of the entry or {@code null} if content is too big to be kept in memory. */
+    final byte[] content;
+
+    PreparedTarEntry(VirtualFile virtualFile, TarArchiveEntry tarEntry, byte[] content) {
+      this.virtualFile = virtualFile;
+      this.tarEntry = tarEntry;
+      this.content = content;
     }
   }
 
   @Override
   public void extract(InputStream tarInput, boolean overwrite, int stripNumber)
       throws IOException, ForbiddenException, ConflictException, ServerException {
-    try (TarArchiveInputStream tarInputStream = new TarArchiveInputStream(tarInput)) {
+    try (TarArchiveInputStream tarInputStream = new TarArchiveInputStream(tarInput);
+        EntryWriter writer = new EntryWriter()) {
       InputStream notClosableInputStream = new NotClosableInputStream(tarInputStream);
       TarArchiveEntry tarEntry;
       while ((tarEntry = tarInputStream.getNextTarEntry()) != null) {
@@ -121,18 +157,9 @@ public class TarArchiver extends Archiver {
           extractFolder = neededParent;
         }
 
-        String fileName = relativePath.getName();
-        VirtualFile file = extractFolder.getChild(Path.of(fileName));
-        if (file == null) {
-          extractFolder.createFile(fileName, notClosableInputStream);
-        } else {
-          if (overwrite) {
-            file.updateContent(notClosableInputStream);
-          } else {
-            throw new ConflictException(String.format("File '%s' already exists", file.getPath()));
-          }
-        }
+        writer.write(extractFolder, relativePath.getName(), notClosableInputStream, overwrite);
       }
+      writer.flush();
     }
   }
 }
@@ -482,6 +482,17 @@ public interface VirtualFile extends Comparable<VirtualFile> {
    */
   InputStream zip() throws ForbiddenException, ServerException;
 
+  /**
+   * Writes content of folder denoted by this VirtualFile as zip archive to {@code output}. Unlike
+   * {@link #zip()} archive is not spooled to temporary storage, so it may be streamed to a client
+   * while it is being created.
+   *
+   * @param output output for zipped content of folder, it is not closed by this method
+   * @throws ForbiddenException if this item does not denote a folder
+   * @throws ServerException if other error occurs
+   */
+  void zip(OutputStream output) throws ForbiddenException, ServerException;
+
   /**
    * Extracts zip archive to the folder denoted by this VirtualFile.
    *
@@ -510,6 +521,16 @@ public interface VirtualFile extends Comparable<VirtualFile> {
    */
   InputStream tar() throws ForbiddenException, ServerException;
 
+  /**
+   * Writes content of folder denoted by this VirtualFile as TAR archive to {@code output}. Unlike
+   * {@link #tar()} archive is not spooled to temporary storage.
+   *
+   * @param output output for content of folder as TAR archive, it is not closed by this method
+   * @throws ForbiddenException if this item does not denote a folder
+   * @throws ServerException if other error occurs
+   */
+  void tar(OutputStream output) throws ForbiddenException, ServerException;
+
   /**
    * Extracts tar archive to the folder denoted by this VirtualFile.
    *
@@ -10,10 +10,16 @@
  */
 package org.eclipse.che.api.vfs;
 
+import com.google.common.collect.ImmutableSet;
 import com.google.common.io.ByteStreams;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipInputStream;
 import java.util.zip.ZipOutputStream;
@@ -24,6 +30,15 @@ import org.eclipse.che.api.vfs.util.NotClosableInputStream;
 import org.eclipse.che.api.vfs.util.ZipContent;
 
 public class ZipArchiver extends Archiver {
+  /**
+   * Extensions of files which content is already compressed, such files are stored as is if they
+   * fit in memory, bigger ones are deflated without compression.
+   */
+  private static final Set<String> COMPRESSED_EXTENSIONS =
+      ImmutableSet.of(
+          "zip", "jar", "war", "ear", "gz", "tgz", "bz2", "xz", "7z", "png", "jpg", "jpeg", "gif",
+          "mp3", "mp4", "woff", "woff2");
+
   public ZipArchiver(VirtualFile folder) {
     super(folder);
   }
@@ -36,23 +51,39 @@ public class ZipArchiver extends Archiver {
   @Override
   public void compress(OutputStream zipOutput, VirtualFileFilter filter)
       throws IOException, ServerException {
-    try (ZipOutputStream zipOutputStream = new ZipOutputStream(zipOutput)) {
-      folder.accept(
-          new VirtualFileVisitor() {
-            @Override
-            public void visit(VirtualFile visitedVirtualFile) throws ServerException {
-              if (filter.accept(visitedVirtualFile)) {
-                if (!visitedVirtualFile.equals(folder)) {
-                  addZipEntry(visitedVirtualFile, zipOutputStream);
-                }
-                if (visitedVirtualFile.isFolder()) {
-                  for (VirtualFile child : visitedVirtualFile.getChildren()) {
-                    child.accept(this);
-                  }
+    final List<VirtualFile> entries = new ArrayList<>();
+    folder.accept(
+        new VirtualFileVisitor() {
+          @Override
+          public void visit(VirtualFile visitedVirtualFile) throws ServerException {
+            if (filter.accept(visitedVirtualFile)) {
+              if (!visitedVirtualFile.equals(folder)) {
+                entries.add(visitedVirtualFile);
+              }
+              if (visitedVirtualFile.isFolder()) {
+                for (VirtualFile child : visitedVirtualFile.getChildren()) {
+                  child.accept(this);
                 }
               }
             }
-          });
+          }
+        });
+
+    // Content of entries is read and checksums of stored entries are counted in background,
+    // entries are written to the output in the order of the tree traversal.
+    try (ZipOutputStream zipOutputStream = new ZipOutputStream(zipOutput);
+        IoTaskQueue<PreparedZipEntry> prepared = new IoTaskQueue<>()) {
+      for (VirtualFile entry : entries) {
+        if (prepared.isFull()) {
+          addZipEntry(prepared.take(), zipOutputStream);
+        }
+        prepared.submit(() -> prepareZipEntry(entry));
+      }
+      while (!prepared.isEmpty()) {
+        addZipEntry(prepared.take(), zipOutputStream);
+      }
+    } catch (ForbiddenException | ConflictException e) {
+      throw new ServerException(e.getServiceError());
     }
   }
 
@@ -64,31 +95,76 @@ public class ZipArchiver extends Archiver {
     return zipPath.toString();
   }
 
-  private void addZipEntry(VirtualFile virtualFile, ZipOutputStream zipOutputStream)
-      throws ServerException {
-    try {
-      ZipEntry zipEntry = new ZipEntry(getZipEntryName(virtualFile));
-      zipOutputStream.putNextEntry(zipEntry);
-      if (virtualFile.isFolder()) {
-        zipEntry.setTime(0);
-      } else {
-        try (InputStream content = virtualFile.getContent()) {
-          ByteStreams.copy(content, zipOutputStream);
-        }
-        zipEntry.setTime(virtualFile.getLastModificationDate());
+  private PreparedZipEntry prepareZipEntry(VirtualFile virtualFile)
+      throws IOException, ForbiddenException, ServerException {
+    ZipEntry zipEntry = new ZipEntry(getZipEntryName(virtualFile));
+    if (virtualFile.isFolder()) {
+      zipEntry.setTime(0);
+      return new PreparedZipEntry(virtualFile, zipEntry, null, false);
+    }
+    zipEntry.setTime(virtualFile.getLastModificationDate());
+
+    final long length = virtualFile.getLength();
+    final byte[] content =
+        length <= MAX_IN_MEMORY_ENTRY_SIZE ? virtualFile.getContentAsBytes() : null;
+    final boolean compressed = isCompressed(virtualFile.getName());
+    if (compressed && content != null) {
+      // no sense to deflate already compressed content, size and checksum of stored entry must be
+      // known before the entry is written, so they are counted from the content which is written
+      final CRC32 crc = new CRC32();
+      crc.update(content);
+      zipEntry.setMethod(ZipEntry.STORED);
+      zipEntry.setSize(content.length);
+      zipEntry.setCompressedSize(content.length);
+      zipEntry.setCrc(crc.getValue());
+    }
+    return new PreparedZipEntry(virtualFile, zipEntry, content, compressed);
+  }
+
+  private void addZipEntry(PreparedZipEntry entry, ZipOutputStream zipOutputStream)
+      throws IOException, ForbiddenException, ServerException {
+    // big already compressed files are streamed, so they can't be stored since checksum of stored
+    // entry must be known in advance, they are deflated without compression instead
+    zipOutputStream.setLevel(
+        entry.compressed ? Deflater.NO_COMPRESSION : Deflater.DEFAULT_COMPRESSION);
+    zipOutputStream.putNextEntry(entry.zipEntry);
+    if (entry.content != null) {
+      zipOutputStream.write(entry.content);
+    } else if (entry.virtualFile.isFile()) {
+      try (InputStream content = entry.virtualFile.getContent()) {
+        ByteStreams.copy(content, zipOutputStream);
       }
-      zipOutputStream.closeEntry();
-    } catch (ForbiddenException e) {
-      throw new ServerException(e.getServiceError());
-    } catch (IOException e) {
-      throw new ServerException(e.getMessage(), e);
+    }
+    zipOutputStream.closeEntry();
+  }
+
+  private static boolean isCompressed(String name) {
+    final int dot = name.lastIndexOf('.');
+    return dot > 0 && COMPRESSED_EXTENSIONS.contains(name.substring(dot + 1).toLowerCase());
+  }
+
+  private static class PreparedZipEntry {
+    final VirtualFile virtualFile;
+    final ZipEntry zipEntry;
+    /** Content of the entry or {@code null} if content is too big to be kept in memory. */
+    final byte[] content;
+    /** Whether content of the entry is already compressed. */
+    final boolean compressed;
+
+    PreparedZipEntry(
+        VirtualFile virtualFile, ZipEntry zipEntry, byte[] content, boolean compressed) {
+      this.virtualFile = virtualFile;
+      this.zipEntry = zipEntry;
+      this.content = content;
+      this.compressed = compressed;
     }
   }
 
   @Override
   public void extract(InputStream zipInput, boolean overwrite, int stripNumber)
       throws IOException, ForbiddenException, ConflictException, ServerException {
-    try (ZipInputStream zip = new ZipInputStream(ZipContent.of(zipInput).getContent())) {
+    try (ZipInputStream zip = new ZipInputStream(ZipContent.of(zipInput).getContent());
+        EntryWriter writer = new EntryWriter()) {
       InputStream notClosableInputStream = new NotClosableInputStream(zip);
       ZipEntry zipEntry;
       while ((zipEntry = zip.getNextEntry()) != null) {
@@ -119,19 +195,10 @@ public class ZipArchiver extends Archiver {
           extractFolder = neededParent;
         }
 
-        String fileName = relativePath.getName();
-        VirtualFile file = extractFolder.getChild(Path.of(fileName));
-        if (file == null) {
-          extractFolder.createFile(fileName, notClosableInputStream);
-        } else {
-          if (overwrite) {
-            file.updateContent(notClosableInputStream);
-          } else {
-            throw new ConflictException(String.format("File '%s' already exists", file.getPath()));
-          }
-        }
+        writer.write(extractFolder, relativePath.getName(), notClosableInputStream, overwrite);
         zip.closeEntry();
       }
+      writer.flush();
     }
   }
 }
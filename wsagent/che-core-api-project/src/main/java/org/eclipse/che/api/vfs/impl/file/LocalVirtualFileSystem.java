@@ -64,6 +64,7 @@ import org.eclipse.che.api.vfs.VirtualFileSystem;
 import org.eclipse.che.api.vfs.search.Searcher;
 import org.eclipse.che.api.vfs.search.SearcherProvider;
 import org.eclipse.che.api.vfs.util.DeleteOnCloseFileInputStream;
+import org.eclipse.che.api.vfs.util.NotClosableOutputStream;
 import org.eclipse.che.commons.lang.IoUtil;
 import org.eclipse.che.commons.lang.NameGenerator;
 import org.eclipse.che.commons.lang.Pair;
@@ -681,12 +682,22 @@ public class LocalVirtualFileSystem implements VirtualFileSystem {
   }
 
   InputStream zip(LocalVirtualFile folder) throws ForbiddenException, ServerException {
+    return compress(getZipArchiver(folder));
+  }
+
+  void zip(LocalVirtualFile folder, OutputStream output)
+      throws ForbiddenException, ServerException {
+    compress(getZipArchiver(folder), output);
+  }
+
+  private Archiver getZipArchiver(LocalVirtualFile folder)
+      throws ForbiddenException, ServerException {
     if (archiverFactory == null)
       throw new ServerException(
           "VFS: Could not create zip archiver. Archiver Factory is not properly configured (is null)");
 
     if (folder.isFolder()) {
-      return compress(archiverFactory.createArchiver(folder, "zip"));
+      return archiverFactory.createArchiver(folder, "zip");
     } else {
       throw new ForbiddenException(
           String.format("Unable export to zip. Item '%s' is not a folder", folder.getPath()));
@@ -709,12 +720,22 @@ public class LocalVirtualFileSystem implements VirtualFileSystem {
   }
 
   InputStream tar(LocalVirtualFile folder) throws ForbiddenException, ServerException {
+    return compress(getTarArchiver(folder));
+  }
+
+  void tar(LocalVirtualFile folder, OutputStream output)
+      throws ForbiddenException, ServerException {
+    compress(getTarArchiver(folder), output);
+  }
+
+  private Archiver getTarArchiver(LocalVirtualFile folder)
+      throws ForbiddenException, ServerException {
     if (archiverFactory == null)
       throw new ServerException(
           "VFS: Could not create tar archiver. Archiver Factory is not properly configured (is null)");
 
     if (folder.isFolder()) {
-      return compress(archiverFactory.createArchiver(folder, "tar"));
+      return archiverFactory.createArchiver(folder, "tar");
     } else {
       throw new ForbiddenException(
           String.format(
@@ -753,6 +774,14 @@ public class LocalVirtualFileSystem implements VirtualFileSystem {
     }
   }
 
+  private void compress(Archiver archiver, OutputStream output) throws ServerException {
+    try {
+      archiver.compress(new NotClosableOutputStream(output), dotGitFilter());
+    } catch (IOException e) {
+      throw new ServerException(e.getMessage(), e);
+    }
+  }
+
   private void extract(
       Archiver archiver, InputStream compressed, boolean overwrite, int stripNumber)
       throws ConflictException, ServerException, ForbiddenException {
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2012-2017 Red Hat, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.api.vfs.impl.file.event.detectors;
+
+import static org.eclipse.che.api.project.shared.dto.event.FileWatcherEventType.CREATED;
+import static org.eclipse.che.api.project.shared.dto.event.FileWatcherEventType.DELETED;
+import static org.eclipse.che.dto.server.DtoFactory.newDto;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import org.eclipse.che.api.project.shared.dto.event.FileWatcherEventType;
+import org.eclipse.che.api.project.shared.dto.event.ProjectTreeStateUpdateDto;
+
+/**
+ * Accumulates project tree changes detected by file watcher for a single endpoint and turns them
+ * into a compact list of deltas:
+ *
+ * <ul>
+ *   <li>item deleted and created again (e.g. file saved by an external editor) produces no delta
+ *   <li>item created and deleted (temporary file) produces no delta
+ * </ul>
+ *
+ * <p>File watcher reports renames and moves as deletion and creation of unrelated paths, so they
+ * are passed as removed and added items.
+ *
+ * <p>Instances are thread safe.
+ */
+class ProjectTreeChanges {
+  private final Map<String, FileWatcherEventType> changes = new LinkedHashMap<>();
+
+  private long firstChangeTime;
+  private long lastChangeTime;
+
+  synchronized void created(String path, long time) {
+    touch(time);
+    if (changes.get(path) == DELETED) {
+      changes.remove(path);
+    } else {
+      changes.put(path, CREATED);
+    }
+  }
+
+  synchronized void deleted(String path, long time) {
+    touch(time);
+    if (changes.get(path) == CREATED) {
+      changes.remove(path);
+    } else {
+      changes.put(path, DELETED);
+    }
+  }
+
+  /**
+   * Returns {@code true} when there are pending changes and no new changes were registered during
+   * {@code quietPeriod}, or pending changes are older than {@code maxDelay}.
+   */
+  synchronized boolean isReady(long now, long quietPeriod, long maxDelay) {
+    return !changes.isEmpty()
+        && (now - lastChangeTime >= quietPeriod || now - firstChangeTime >= maxDelay);
+  }
+
+  /** Returns accumulated deltas and resets the state. */
+  synchronized List<ProjectTreeStateUpdateDto> drain() {
+    final List<ProjectTreeStateUpdateDto> deltas = new ArrayList<>(changes.size());
+    for (Entry<String, FileWatcherEventType> change : changes.entrySet()) {
+      deltas.add(
+          newDto(ProjectTreeStateUpdateDto.class)
+              .withPath(change.getKey())
+              .withType(change.getValue()));
+    }
+    changes.clear();
+    return deltas;
+  }
+
+  private void touch(long time) {
+    if (changes.isEmpty()) {
+      firstChangeTime = time;
+    }
+    lastChangeTime = time;
+  }
+}
@@ -10,50 +10,84 @@
  */
 package org.eclipse.che.api.vfs.impl.file.event.detectors;
 
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static java.util.stream.Collectors.toSet;
-import static org.eclipse.che.api.project.shared.dto.event.FileWatcherEventType.CREATED;
-import static org.eclipse.che.api.project.shared.dto.event.FileWatcherEventType.DELETED;
 import static org.eclipse.che.api.vfs.watcher.FileWatcherManager.EMPTY_CONSUMER;
-import static org.eclipse.che.dto.server.DtoFactory.newDto;
 import static org.slf4j.LoggerFactory.getLogger;
 
-import java.util.HashMap;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
-import java.util.Timer;
-import java.util.TimerTask;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
+import javax.annotation.PreDestroy;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import org.eclipse.che.api.core.jsonrpc.commons.RequestHandlerConfigurator;
 import org.eclipse.che.api.core.jsonrpc.commons.RequestTransmitter;
+import org.eclipse.che.api.core.websocket.impl.WebSocketSessionRegistry;
 import org.eclipse.che.api.project.shared.dto.event.ProjectTreeStateUpdateDto;
 import org.eclipse.che.api.project.shared.dto.event.ProjectTreeTrackingOperationDto;
 import org.eclipse.che.api.project.shared.dto.event.ProjectTreeTrackingOperationDto.Type;
 import org.eclipse.che.api.vfs.watcher.FileWatcherManager;
+import org.eclipse.che.commons.lang.concurrent.LoggingUncaughtExceptionHandler;
 import org.slf4j.Logger;
 
+/**
+ * Tracks project tree changes and pushes them to the subscribed endpoints.
+ *
+ * <p>Changes are accumulated per endpoint and sent as a single batch of deltas once the tree is
+ * quiet for {@link #QUIET_PERIOD_MS} (but not later than {@link #MAX_DELAY_MS} after the first
+ * change), so that bulk operations like checkout or build don't produce a message per file and the
+ * client can apply deltas to its tree without refetching folders. Pending changes of an endpoint
+ * are dropped when the endpoint stops tracking or disconnects.
+ */
 @Singleton
 public class ProjectTreeTracker {
   private static final Logger LOG = getLogger(ProjectTreeTracker.class);
 
-  private static final String OUTGOING_METHOD = "event/project-tree-state-changed";
+  private static final String OUTGOING_METHOD = "event/project-tree-state-changed/batch";
   private static final String INCOMING_METHOD = "track/project-tree";
 
-  private final Map<String, Integer> watchIdRegistry = new HashMap<>();
-  private final List<String> timers = new CopyOnWriteArrayList<>();
+  private static final long FLUSH_PERIOD_MS = 200L;
+  private static final long QUIET_PERIOD_MS = 500L;
+  private static final long MAX_DELAY_MS = 2_000L;
+
+  private final Map<String, Integer> watchIdRegistry = new ConcurrentHashMap<>();
+  private final Map<String, ProjectTreeChanges> pendingChanges = new ConcurrentHashMap<>();
 
   private final RequestTransmitter transmitter;
   private final FileWatcherManager fileWatcherManager;
+  private final WebSocketSessionRegistry sessionRegistry;
+  private final ScheduledExecutorService flusher;
 
   @Inject
-  public ProjectTreeTracker(FileWatcherManager fileWatcherManager, RequestTransmitter transmitter) {
+  public ProjectTreeTracker(
+      FileWatcherManager fileWatcherManager,
+      RequestTransmitter transmitter,
+      WebSocketSessionRegistry sessionRegistry) {
     this.fileWatcherManager = fileWatcherManager;
     this.transmitter = transmitter;
+    this.sessionRegistry = sessionRegistry;
+    this.flusher =
+        Executors.newSingleThreadScheduledExecutor(
+            new ThreadFactoryBuilder()
+                .setNameFormat("ProjectTreeTracker-Flusher")
+                .setUncaughtExceptionHandler(LoggingUncaughtExceptionHandler.getInstance())
+                .setDaemon(true)
+                .build());
+    this.flusher.scheduleWithFixedDelay(
+        this::flush, FLUSH_PERIOD_MS, FLUSH_PERIOD_MS, MILLISECONDS);
+  }
+
+  @PreDestroy
+  void stop() {
+    flusher.shutdownNow();
   }
 
   @Inject
@@ -103,6 +137,10 @@ public class ProjectTreeTracker {
                 .map(watchIdRegistry::remove)
                 .forEach(fileWatcherManager::unRegisterByPath);
 
+            if (watchIdRegistry.keySet().stream().noneMatch(it -> it.endsWith(endpointId))) {
+              pendingChanges.remove(endpointId);
+            }
+
             break;
           }
         case SUSPEND:
@@ -132,20 +170,7 @@ public class ProjectTreeTracker {
   }
 
   private Consumer<String> getCreateOperation(String endpointId) {
-    return it -> {
-      if (timers.contains(it)) {
-        timers.remove(it);
-      } else {
-        ProjectTreeStateUpdateDto params =
-            newDto(ProjectTreeStateUpdateDto.class).withPath(it).withType(CREATED);
-        transmitter
-            .newRequest()
-            .endpointId(endpointId)
-            .methodName(OUTGOING_METHOD)
-            .paramsAsDto(params)
-            .sendAndSkipResult();
-      }
-    };
+    return it -> changesOf(endpointId).created(it, System.currentTimeMillis());
   }
 
   private Consumer<String> getModifyConsumer(String endpointId) {
@@ -153,27 +178,39 @@ public class ProjectTreeTracker {
   }
 
   private Consumer<String> getDeleteOperation(String endpointId) {
-    return it -> {
-      timers.add(it);
-      new Timer()
-          .schedule(
-              new TimerTask() {
-                @Override
-                public void run() {
-                  if (timers.contains(it)) {
-                    timers.remove(it);
-                    ProjectTreeStateUpdateDto params =
-                        newDto(ProjectTreeStateUpdateDto.class).withPath(it).withType(DELETED);
-                    transmitter
-                        .newRequest()
-                        .endpointId(endpointId)
-                        .methodName(OUTGOING_METHOD)
-                        .paramsAsDto(params)
-                        .sendAndSkipResult();
-                  }
-                }
-              },
-              1_000L);
-    };
+    return it -> changesOf(endpointId).deleted(it, System.currentTimeMillis());
+  }
+
+  private ProjectTreeChanges changesOf(String endpointId) {
+    return pendingChanges.computeIfAbsent(endpointId, k -> new ProjectTreeChanges());
+  }
+
+  private void flush() {
+    final long now = System.currentTimeMillis();
+    for (Entry<String, ProjectTreeChanges> entry : pendingChanges.entrySet()) {
+      if (!sessionRegistry.get(entry.getKey()).isPresent()) {
+        // endpoint is disconnected, changes can't be delivered
+        pendingChanges.remove(entry.getKey());
+        continue;
+      }
+      final ProjectTreeChanges changes = entry.getValue();
+      if (!changes.isReady(now, QUIET_PERIOD_MS, MAX_DELAY_MS)) {
+        continue;
+      }
+      final List<ProjectTreeStateUpdateDto> deltas = changes.drain();
+      if (deltas.isEmpty()) {
+        continue;
+      }
+      try {
+        transmitter
+            .newRequest()
+            .endpointId(entry.getKey())
+            .methodName(OUTGOING_METHOD)
+            .paramsAsListOfDto(deltas)
+            .sendAndSkipResult();
+      } catch (RuntimeException e) {
+        LOG.error("Can't send project tree changes to endpoint " + entry.getKey(), e);
+      }
+    }
   }
 }
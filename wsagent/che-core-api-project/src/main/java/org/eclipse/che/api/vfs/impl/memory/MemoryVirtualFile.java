@@ -41,6 +41,7 @@ import org.eclipse.che.api.vfs.VirtualFileFilter;
 import org.eclipse.che.api.vfs.VirtualFileSystem;
 import org.eclipse.che.api.vfs.VirtualFileVisitor;
 import org.eclipse.che.api.vfs.search.SearcherProvider;
+import org.eclipse.che.api.vfs.util.NotClosableOutputStream;
 import org.eclipse.che.commons.lang.NameGenerator;
 import org.eclipse.che.commons.lang.Pair;
 import org.slf4j.Logger;
@@ -665,6 +666,18 @@ public class MemoryVirtualFile implements VirtualFile {
     }
   }
 
+  @Override
+  public void zip(OutputStream output) throws ForbiddenException, ServerException {
+    checkExistence();
+
+    if (isFolder()) {
+      compress(fileSystem.getArchiverFactory().createArchiver(this, "zip"), output);
+    } else {
+      throw new ForbiddenException(
+          String.format("Unable export to zip. Item '%s' is not a folder", getPath()));
+    }
+  }
+
   @Override
   public void unzip(InputStream zipped, boolean overwrite, int stripNumber)
       throws ForbiddenException, ServerException, ConflictException {
@@ -695,6 +708,18 @@ public class MemoryVirtualFile implements VirtualFile {
     }
   }
 
+  @Override
+  public void tar(OutputStream output) throws ForbiddenException, ServerException {
+    checkExistence();
+
+    if (isFolder()) {
+      compress(fileSystem.getArchiverFactory().createArchiver(this, "tar"), output);
+    } else {
+      throw new ForbiddenException(
+          String.format("Unable export to tar archive. Item '%s' is not a folder", getPath()));
+    }
+  }
+
   @Override
   public void untar(InputStream tarArchive, boolean overwrite, int stripNumber)
       throws ForbiddenException, ConflictException, ServerException {
@@ -723,6 +748,14 @@ public class MemoryVirtualFile implements VirtualFile {
     }
   }
 
+  private void compress(Archiver archiver, OutputStream output) throws ServerException {
+    try {
+      archiver.compress(new NotClosableOutputStream(output));
+    } catch (IOException e) {
+      throw new ServerException(e.getMessage(), e);
+    }
+  }
+
   private void extract(
       Archiver archiver, InputStream compressed, boolean overwrite, int stripNumber)
       throws ConflictException, ServerException, ForbiddenException {
@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2012-2017 Red Hat, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.api.project.server;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.eclipse.che.commons.lang.IoUtil;
+import org.junit.Before;
+import org.junit.Test;
+
+/** Tests for {@link ContentCachingFolderEntry}. */
+public class ContentCachingFolderEntryTest extends WsAgentTestBase {
+
+  private FolderEntry folder;
+
+  @Before
+  public void setUp() throws Exception {
+    super.setUp();
+    folder = pm.getProjectsRoot().createFolder("cached");
+    folder.createFolder("module").createFile("pom.xml", "<project/>".getBytes(UTF_8));
+    folder.createFile("package.json", "{}".getBytes(UTF_8));
+  }
+
+  @Test
+  public void shouldShareContentBetweenEntries() throws Exception {
+    FolderEntry cachingFolder = new ContentCachingFolderEntry(folder);
+
+    FileEntry first = (FileEntry) cachingFolder.getChild("module/pom.xml");
+    assertEquals(new String(first.contentAsBytes(), UTF_8), "<project/>");
+
+    ((FileEntry) folder.getChild("module/pom.xml")).updateContent("<changed/>".getBytes(UTF_8));
+
+    // same file obtained through another path of the view is served from the cache
+    FileEntry second = cachingFolder.getChildFolder("module").getChildFiles().get(0);
+    assertEquals(new String(second.contentAsBytes(), UTF_8), "<project/>");
+    assertEquals(IoUtil.readAndCloseQuietly(second.getInputStream()), "<project/>");
+  }
+
+  @Test
+  public void shouldWrapAllChildren() throws Exception {
+    FolderEntry cachingFolder = new ContentCachingFolderEntry(folder);
+
+    for (VirtualFileEntry child : cachingFolder.getChildren()) {
+      assertTrue(
+          child instanceof ContentCachingFolderEntry
+              || child.getClass().getEnclosingClass() == ContentCachingFolderEntry.class);
+    }
+  }
+}
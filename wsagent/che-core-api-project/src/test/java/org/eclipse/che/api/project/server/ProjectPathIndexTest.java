@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2012-2017 Red Hat, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.api.project.server;
+
+import static java.util.Arrays.asList;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+import java.util.HashSet;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/** Tests for {@link ProjectPathIndex}. */
+public class ProjectPathIndexTest {
+  private static final Logger LOG = LoggerFactory.getLogger(ProjectPathIndexTest.class);
+
+  private ProjectPathIndex index;
+
+  @BeforeMethod
+  public void setUp() {
+    index = new ProjectPathIndex();
+    index.add("/a");
+    index.add("/a/b");
+    index.add("/a/b/c/d");
+    index.add("/e");
+  }
+
+  @Test
+  public void shouldFindClosestOwner() {
+    assertEquals(index.getOwner("/a"), "/a");
+    assertEquals(index.getOwner("/a/file.txt"), "/a");
+    assertEquals(index.getOwner("/a/b/c"), "/a/b");
+    assertEquals(index.getOwner("/a/b/c/d/e/f"), "/a/b/c/d");
+    assertNull(index.getOwner("/f/a"));
+    assertNull(index.getOwner("/"));
+  }
+
+  @Test
+  public void shouldListDescendants() {
+    assertEquals(
+        new HashSet<>(index.getDescendants("/")),
+        new HashSet<>(asList("/a", "/a/b", "/a/b/c/d", "/e")));
+    assertEquals(
+        new HashSet<>(index.getDescendants("/a")), new HashSet<>(asList("/a/b", "/a/b/c/d")));
+    assertEquals(index.getDescendants("/a/b/c"), asList("/a/b/c/d"));
+    assertTrue(index.getDescendants("/a/b/c/d").isEmpty());
+    assertTrue(index.getDescendants("/unknown").isEmpty());
+  }
+
+  @Test
+  public void shouldKeepNestedProjectsWhenParentIsRemoved() {
+    index.remove("/a/b");
+
+    assertEquals(index.getOwner("/a/b/c"), "/a");
+    assertEquals(index.getOwner("/a/b/c/d"), "/a/b/c/d");
+    assertEquals(new HashSet<>(index.getDescendants("/a")), new HashSet<>(asList("/a/b/c/d")));
+  }
+
+  @Test
+  public void shouldPruneEmptyBranches() {
+    index.remove("/a/b/c/d");
+
+    assertTrue(index.getDescendants("/a/b").isEmpty());
+    assertEquals(index.getOwner("/a/b/c/d"), "/a/b");
+  }
+
+  @DataProvider
+  public Object[][] projectCounts() {
+    return new Object[][] {{10}, {1_000}, {10_000}};
+  }
+
+  /**
+   * Micro-benchmark of the lookups performed by {@link ProjectRegistry} for every file operation.
+   * Results are only logged, the test asserts that lookups are correct for every size.
+   */
+  @Test(dataProvider = "projectCounts")
+  public void lookupsBenchmark(int projectCount) {
+    final ProjectPathIndex index = new ProjectPathIndex();
+    for (int i = 0; i < projectCount; i++) {
+      // 10 modules per top-level project
+      index.add(i % 10 == 0 ? "/project" + i : "/project" + (i - i % 10) + "/module" + i);
+    }
+    final int iterations = 100_000;
+
+    // warm up
+    for (int i = 0; i < iterations; i++) {
+      index.getOwner("/project0/module1/src/main/java/File.java");
+    }
+
+    long start = System.nanoTime();
+    for (int i = 0; i < iterations; i++) {
+      final int project = (i % projectCount) - (i % projectCount) % 10;
+      final String owner = index.getOwner("/project" + project + "/src/main/java/File.java");
+      assertEquals(owner, "/project" + project);
+    }
+    final long ownerNs = (System.nanoTime() - start) / iterations;
+
+    start = System.nanoTime();
+    for (int i = 0; i < iterations / 10; i++) {
+      final int project = (i % projectCount) - (i % projectCount) % 10;
+      final List<String> modules = index.getDescendants("/project" + project);
+      assertEquals(modules.size(), Math.min(9, projectCount - 1 - project));
+    }
+    final long descendantsNs = (System.nanoTime() - start) / (iterations / 10);
+
+    LOG.info(
+        "{} projects: owner lookup {} ns/op, sub-projects listing {} ns/op",
+        projectCount,
+        ownerNs,
+        descendantsNs);
+  }
+}
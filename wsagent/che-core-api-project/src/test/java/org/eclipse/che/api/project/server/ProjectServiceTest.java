@@ -58,6 +58,7 @@ import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
 import java.util.zip.ZipOutputStream;
 import javax.ws.rs.core.Application;
 import org.eclipse.che.api.core.ConflictException;
@@ -861,6 +862,36 @@ public class ProjectServiceTest {
     assertTrue(m);
   }
 
+  @Test
+  @SuppressWarnings("unchecked")
+  public void testResolveSourcesStopsAtFirstPrimaryType() throws Exception {
+    pm.getProjectsRoot().getVirtualFile().createFolder("testResolveFirstPrimary");
+    ptRegistry.registerProjectType(
+        new ProjectTypeDef("testResolvePrimaryPT1", "primary type 1", true, false) {});
+    ptRegistry.registerProjectType(
+        new ProjectTypeDef("testResolvePrimaryPT2", "primary type 2", true, false) {});
+
+    ContainerResponse response =
+        launcher.service(
+            GET,
+            "http://localhost:8080/api/project/resolve/testResolveFirstPrimary"
+                + "?firstPrimaryOnly=true",
+            "http://localhost:8080/api",
+            null,
+            null,
+            null);
+    assertEquals(response.getStatus(), 200, "Error: " + response.getEntity());
+    List<SourceEstimation> result = (List<SourceEstimation>) response.getEntity();
+
+    int primaryTypes = 0;
+    for (SourceEstimation est : result) {
+      if (ptRegistry.getProjectType(est.getType()).isPrimaryable()) {
+        primaryTypes++;
+      }
+    }
+    assertEquals(primaryTypes, 1);
+  }
+
   @Test
   public void testImportProject() throws Exception {
     ByteArrayOutputStream bout = new ByteArrayOutputStream();
@@ -1799,6 +1830,7 @@ public class ProjectServiceTest {
         .getBaseFolder()
         .createFolder("a/b")
         .createFile("test.txt", "hello".getBytes(Charset.defaultCharset()));
+    ByteArrayContainerResponseWriter writer = new ByteArrayContainerResponseWriter();
     ContainerResponse response =
         launcher.service(
             GET,
@@ -1806,9 +1838,19 @@ public class ProjectServiceTest {
             "http://localhost:8080/api",
             null,
             null,
+            writer,
             null);
     assertEquals(response.getStatus(), 200, "Error: " + response.getEntity());
     assertEquals(response.getContentType().toString(), ExtMediaType.APPLICATION_ZIP);
+
+    Map<String, String> entries = new HashMap<>();
+    try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(writer.getBody()))) {
+      ZipEntry entry;
+      while ((entry = zip.getNextEntry()) != null) {
+        entries.put(entry.getName(), new String(ByteStreams.toByteArray(zip)));
+      }
+    }
+    assertEquals(entries.get("a/b/test.txt"), "hello");
   }
 
   @Test
@@ -1835,6 +1877,63 @@ public class ProjectServiceTest {
     Assert.assertTrue(names.contains("test.txt"));
   }
 
+  @Test
+  @SuppressWarnings("unchecked")
+  public void testGetChildrenPage() throws Exception {
+    RegisteredProject myProject = pm.getProject("my_project");
+    FolderEntry a = myProject.getBaseFolder().createFolder("a");
+    a.createFile("d.txt", "test".getBytes(Charset.defaultCharset()));
+    a.createFolder("b");
+    a.createFile("c.txt", "test".getBytes(Charset.defaultCharset()));
+    a.createFolder("a");
+
+    ContainerResponse response =
+        launcher.service(
+            GET,
+            "http://localhost:8080/api/project/children/my_project/a?maxItems=3",
+            "http://localhost:8080/api",
+            null,
+            null,
+            null);
+    assertEquals(response.getStatus(), 200, "Error: " + response.getEntity());
+    List<ItemReference> result = (List<ItemReference>) response.getEntity();
+    assertEquals(
+        result.stream().map(ItemReference::getName).collect(Collectors.toList()),
+        Arrays.asList("a", "b", "c.txt"));
+
+    // new item inserted before the cursor doesn't shift the next page
+    a.createFile("aa.txt", "test".getBytes(Charset.defaultCharset()));
+    response =
+        launcher.service(
+            GET,
+            "http://localhost:8080/api/project/children/my_project/a?maxItems=3&after=c.txt",
+            "http://localhost:8080/api",
+            null,
+            null,
+            null);
+    assertEquals(response.getStatus(), 200, "Error: " + response.getEntity());
+    result = (List<ItemReference>) response.getEntity();
+    assertEquals(
+        result.stream().map(ItemReference::getName).collect(Collectors.toList()),
+        Collections.singletonList("d.txt"));
+  }
+
+  @Test
+  public void testGetChildrenPageWithInvalidMaxItems() throws Exception {
+    pm.getProject("my_project").getBaseFolder().createFolder("a");
+
+    ContainerResponse response =
+        launcher.service(
+            GET,
+            "http://localhost:8080/api/project/children/my_project/a?maxItems=0",
+            "http://localhost:8080/api",
+            null,
+            null,
+            null);
+
+    assertEquals(response.getStatus(), 400);
+  }
+
   @Test
   @SuppressWarnings("unchecked")
   public void testGetItem() throws Exception {
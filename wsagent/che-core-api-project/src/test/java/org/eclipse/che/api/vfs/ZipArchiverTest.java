@@ -13,6 +13,7 @@ package org.eclipse.che.api.vfs;
 import static com.google.common.collect.Lists.newArrayList;
 import static com.google.common.collect.Maps.newHashMap;
 import static java.util.stream.Collectors.toMap;
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.eq;
@@ -27,6 +28,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.util.List;
 import java.util.Map;
+import java.util.Random;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipInputStream;
 import java.util.zip.ZipOutputStream;
@@ -196,6 +198,81 @@ public class ZipArchiverTest {
     }
   }
 
+  @Test
+  public void storesSmallAlreadyCompressedFilesAndDeflatesOthers() throws Exception {
+    VirtualFile folder = vfsRoot.createFolder("arc");
+    byte[] bigJar = randomBytes(3 * 1024 * 1024);
+    byte[] smallPng = randomBytes(1024);
+    folder.createFile("lib.jar", bigJar);
+    folder.createFile("image.png", smallPng);
+    for (int i = 0; i < 10; i++) {
+      folder.createFolder("src" + i);
+    }
+    for (int i = 0; i < 100; i++) {
+      folder.getChild(Path.of("src" + i % 10)).createFile("file" + i + ".txt", TEST_CONTENT + i);
+    }
+    ByteArrayOutputStream compressedFolder = new ByteArrayOutputStream();
+
+    new ZipArchiver(folder).compress(compressedFolder);
+
+    int files = 0;
+    try (ZipInputStream zip =
+        new ZipInputStream(new ByteArrayInputStream(compressedFolder.toByteArray()))) {
+      ZipEntry zipEntry;
+      while ((zipEntry = zip.getNextEntry()) != null) {
+        if (zipEntry.isDirectory()) {
+          continue;
+        }
+        files++;
+        byte[] content = ByteStreams.toByteArray(zip);
+        String name = zipEntry.getName();
+        if (name.equals("lib.jar")) {
+          // streamed without compression
+          assertEquals(ZipEntry.DEFLATED, zipEntry.getMethod());
+          assertTrue(zipEntry.getCompressedSize() >= bigJar.length);
+          assertArrayEquals(bigJar, content);
+        } else if (name.equals("image.png")) {
+          assertEquals(ZipEntry.STORED, zipEntry.getMethod());
+          assertArrayEquals(smallPng, content);
+        } else {
+          assertEquals(ZipEntry.DEFLATED, zipEntry.getMethod());
+          String index = name.substring(name.indexOf("file") + 4, name.indexOf(".txt"));
+          assertEquals(TEST_CONTENT + index, new String(content));
+        }
+      }
+    }
+    assertEquals(102, files);
+  }
+
+  @Test
+  public void extractsArchiveWithManyEntries() throws Exception {
+    byte[] bigFile = randomBytes(3 * 1024 * 1024);
+    ByteArrayOutputStream byteOut = new ByteArrayOutputStream();
+    try (ZipOutputStream zipOut = new ZipOutputStream(byteOut)) {
+      for (int i = 0; i < 200; i++) {
+        zipOut.putNextEntry(new ZipEntry("arc/src" + i % 10 + "/file" + i + ".txt"));
+        zipOut.write((TEST_CONTENT + i).getBytes());
+      }
+      zipOut.putNextEntry(new ZipEntry("arc/big.bin"));
+      zipOut.write(bigFile);
+    }
+    VirtualFile folder = vfsRoot.createFolder("folder");
+
+    new ZipArchiver(folder).extract(new ByteArrayInputStream(byteOut.toByteArray()), false, 1);
+
+    for (int i = 0; i < 200; i++) {
+      VirtualFile file = folder.getChild(Path.of("src" + i % 10 + "/file" + i + ".txt"));
+      assertEquals(TEST_CONTENT + i, file.getContentAsString());
+    }
+    assertArrayEquals(bigFile, folder.getChild(Path.of("big.bin")).getContentAsBytes());
+  }
+
+  private byte[] randomBytes(int size) {
+    byte[] bytes = new byte[size];
+    new Random().nextBytes(bytes);
+    return bytes;
+  }
+
   private Map<String, String> readArchiveEntries(InputStream archive) throws Exception {
     Map<String, String> entries = newHashMap();
     try (ZipInputStream zip = new ZipInputStream(archive)) {
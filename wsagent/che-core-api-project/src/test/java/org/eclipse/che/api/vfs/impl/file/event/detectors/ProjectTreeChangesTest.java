@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2012-2017 Red Hat, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.api.vfs.impl.file.event.detectors;
+
+import static org.eclipse.che.api.project.shared.dto.event.FileWatcherEventType.CREATED;
+import static org.eclipse.che.api.project.shared.dto.event.FileWatcherEventType.DELETED;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import java.util.List;
+import org.eclipse.che.api.project.shared.dto.event.ProjectTreeStateUpdateDto;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/** Tests for {@link ProjectTreeChanges}. */
+public class ProjectTreeChangesTest {
+
+  private ProjectTreeChanges changes;
+
+  @BeforeMethod
+  public void setUp() {
+    changes = new ProjectTreeChanges();
+  }
+
+  @Test
+  public void shouldIgnoreFileRecreation() {
+    changes.deleted("/project/a.txt", 0);
+    changes.created("/project/a.txt", 10);
+
+    assertFalse(changes.isReady(1_000, 500, 2_000));
+    assertTrue(changes.drain().isEmpty());
+  }
+
+  @Test
+  public void shouldIgnoreTemporaryFile() {
+    changes.created("/project/a.txt~", 0);
+    changes.deleted("/project/a.txt~", 10);
+
+    assertTrue(changes.drain().isEmpty());
+  }
+
+  @Test
+  public void shouldReportUnrelatedDeletionAndCreationInSameFolderAsRemovedAndAdded() {
+    changes.deleted("/project/a.txt", 0);
+    changes.created("/project/b.txt", 10);
+
+    List<ProjectTreeStateUpdateDto> deltas = changes.drain();
+
+    assertEquals(deltas.size(), 2);
+    assertEquals(deltas.get(0).getType(), DELETED);
+    assertEquals(deltas.get(0).getPath(), "/project/a.txt");
+    assertEquals(deltas.get(1).getType(), CREATED);
+    assertEquals(deltas.get(1).getPath(), "/project/b.txt");
+  }
+
+  @Test
+  public void shouldReportAddedAndRemovedItemsInOrder() {
+    changes.created("/project/a", 0);
+    changes.created("/project/a/b.txt", 1);
+    changes.created("/project/a/c.txt", 2);
+    changes.deleted("/project/d.txt", 3);
+
+    List<ProjectTreeStateUpdateDto> deltas = changes.drain();
+
+    assertEquals(deltas.size(), 4);
+    assertEquals(deltas.get(2).getType(), CREATED);
+    assertEquals(deltas.get(2).getPath(), "/project/a/c.txt");
+    assertEquals(deltas.get(3).getType(), DELETED);
+    assertEquals(deltas.get(3).getPath(), "/project/d.txt");
+  }
+
+  @Test
+  public void shouldBeReadyAfterQuietPeriodOrMaxDelay() {
+    changes.created("/project/a.txt", 0);
+    assertFalse(changes.isReady(100, 500, 2_000));
+    assertTrue(changes.isReady(500, 500, 2_000));
+
+    for (int i = 1; i <= 20; i++) {
+      changes.created("/project/file" + i, i * 100);
+    }
+    assertFalse(changes.isReady(2_000 - 1, 500, 2_000));
+    assertTrue(changes.isReady(2_000, 500, 2_000));
+  }
+}
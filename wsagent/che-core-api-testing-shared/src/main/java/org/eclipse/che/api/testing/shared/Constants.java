@@ -17,6 +17,7 @@ public class Constants {
   @Deprecated public static final String TESTING_OUTPUT_CHANNEL_NAME = "testing:output";
 
   public static final String TESTING_RPC_METHOD_NAME = "testing/message";
+  public static final String TESTING_RPC_BATCH_METHOD_NAME = "testing/message/batch";
   public static final String TESTING_RPC_TEST_DETECTION_NAME = "testing/testDetection";
 
   public static final String RUN_TESTS_METHOD = "testing/runTest";
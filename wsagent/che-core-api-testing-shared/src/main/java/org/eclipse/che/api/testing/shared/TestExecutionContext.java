@@ -49,6 +49,16 @@ public interface TestExecutionContext {
 
   TestExecutionContext withDebugModeEnable(Boolean enable);
 
+  /**
+   * returns the number of processes the test classes should be split across, tests are run in a
+   * single process when it is not set or less than 2.
+   */
+  Integer getShards();
+
+  void setShards(Integer shards);
+
+  TestExecutionContext withShards(Integer shards);
+
   /**
    * returns a list with paths of the test files relative to the project. The list should be
    * initialized when value of {@link ContextType} is {@link ContextType.SET}
@@ -10,15 +10,22 @@
  */
 package org.eclipse.che.api.testing.server;
 
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import org.eclipse.che.api.core.jsonrpc.commons.RequestHandlerConfigurator;
 import org.eclipse.che.api.core.jsonrpc.commons.RequestTransmitter;
+import org.eclipse.che.api.testing.server.framework.ShardingTestRunner;
+import org.eclipse.che.api.testing.server.framework.TestDurationsStore;
 import org.eclipse.che.api.testing.server.framework.TestFrameworkRegistry;
 import org.eclipse.che.api.testing.server.framework.TestMessagesOutputTransmitter;
 import org.eclipse.che.api.testing.server.framework.TestRunner;
+import org.eclipse.che.api.testing.server.framework.TestShards;
 import org.eclipse.che.api.testing.shared.Constants;
 import org.eclipse.che.api.testing.shared.TestDetectionContext;
 import org.eclipse.che.api.testing.shared.TestDetectionResult;
@@ -32,17 +39,24 @@ import org.eclipse.che.dto.server.DtoFactory;
 @Singleton
 public class TestingRPCService {
 
+  /** Maximum number of processes running tests of a single execution. */
+  static final int MAX_SHARDS = 16;
+
   private final RequestTransmitter requestTransmitter;
   private final TestFrameworkRegistry frameworkRegistry;
+  private final TestDurationsStore durationsStore;
 
   private String endpoint;
   private TestMessagesOutputTransmitter outputTransmitter;
 
   @Inject
   public TestingRPCService(
-      RequestTransmitter requestTransmitter, TestFrameworkRegistry frameworkRegistry) {
+      RequestTransmitter requestTransmitter,
+      TestFrameworkRegistry frameworkRegistry,
+      TestDurationsStore durationsStore) {
     this.requestTransmitter = requestTransmitter;
     this.frameworkRegistry = frameworkRegistry;
+    this.durationsStore = durationsStore;
   }
 
   @Inject
@@ -74,9 +88,17 @@ public class TestingRPCService {
       if (outputTransmitter != null) {
         outputTransmitter.stop();
       }
-      ProcessHandler processHandler = testRunner.execute(context);
+      List<ProcessHandler> processHandlers = execute(testRunner, context);
+      if (processHandlers.isEmpty()) {
+        return testLaunchResult.withSuccess(false);
+      }
+      String projectPath = context.getProjectPath();
       outputTransmitter =
-          new TestMessagesOutputTransmitter(processHandler, requestTransmitter, endpoint);
+          new TestMessagesOutputTransmitter(
+              processHandlers,
+              requestTransmitter,
+              endpoint,
+              durations -> durationsStore.update(projectPath, durations));
       if (context.isDebugModeEnable()) {
         testLaunchResult.withDebugPort(testRunner.getDebugPort());
       }
@@ -87,6 +109,37 @@ public class TestingRPCService {
     }
   }
 
+  /**
+   * Starts the test processes. Test classes are split across several processes if the context
+   * asks for shards and the test framework supports it, otherwise a single process is started.
+   */
+  List<ProcessHandler> execute(TestRunner testRunner, TestExecutionContext context) {
+    Integer shards = context.getShards();
+    ShardingTestRunner shardingRunner =
+        frameworkRegistry.getShardingTestRunner(context.getFrameworkName());
+    if (shards != null
+        && shards > 1
+        && shardingRunner != null
+        && !Boolean.TRUE.equals(context.isDebugModeEnable())) {
+      List<String> testClasses = shardingRunner.findTestClasses(context);
+      if (testClasses.size() > 1) {
+        Map<String, Long> durations =
+            durationsStore.getDurations(context.getProjectPath(), testClasses);
+        List<ProcessHandler> processHandlers = new ArrayList<>();
+        for (List<String> shard :
+            TestShards.split(testClasses, durations, Math.min(shards, MAX_SHARDS))) {
+          ProcessHandler processHandler = shardingRunner.execute(context, shard);
+          if (processHandler != null) {
+            processHandlers.add(processHandler);
+          }
+        }
+        return processHandlers;
+      }
+    }
+    ProcessHandler processHandler = testRunner.execute(context);
+    return processHandler == null ? emptyList() : singletonList(processHandler);
+  }
+
   private TestDetectionResult handleTestDetection(String endpointId, TestDetectionContext request) {
     TestDetectionResult result = DtoFactory.newDto(TestDetectionResult.class);
 
@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2012-2017 Red Hat, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.api.testing.server.framework;
+
+import java.util.List;
+import javax.validation.constraints.NotNull;
+import org.eclipse.che.api.testing.shared.TestExecutionContext;
+import org.eclipse.che.commons.annotation.Nullable;
+import org.eclipse.che.commons.lang.execution.ProcessHandler;
+
+/**
+ * Test runner which is able to split the selected test classes across several processes. Test
+ * frameworks implement this interface in order to support {@link TestExecutionContext#getShards()
+ * sharded} execution.
+ */
+public interface ShardingTestRunner extends TestRunner {
+
+  /**
+   * Finds the test classes selected by the context.
+   *
+   * @param context the execution context
+   * @return fully qualified names of the test classes, empty list if tests of the context can't be
+   *     split across processes, e.g. a single test method or a suite file is selected
+   */
+  @NotNull
+  List<String> findTestClasses(TestExecutionContext context);
+
+  /**
+   * Executes the given test classes of the context in a separate process.
+   *
+   * @param context the execution context
+   * @param testClasses fully qualified names of the test classes returned by {@link
+   *     #findTestClasses(TestExecutionContext)}
+   * @return handler of the started process or {@code null} if the process can't be started
+   */
+  @Nullable
+  ProcessHandler execute(TestExecutionContext context, List<String> testClasses);
+}
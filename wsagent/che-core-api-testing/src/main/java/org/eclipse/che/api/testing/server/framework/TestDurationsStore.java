@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2012-2017 Red Hat, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.api.testing.server.framework;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+import javax.inject.Inject;
+import javax.inject.Named;
+import javax.inject.Singleton;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Keeps durations of test classes measured by the previous runs in a local properties file. The
+ * durations are used to balance {@link TestShards shards}, so the store keeps an approximate
+ * history only: a new measurement is averaged with the stored one and the least recently updated
+ * classes are evicted when the store grows over {@link #MAX_ENTRIES} classes.
+ */
+@Singleton
+public class TestDurationsStore {
+  private static final Logger LOG = LoggerFactory.getLogger(TestDurationsStore.class);
+
+  static final int MAX_ENTRIES = 10_000;
+
+  private final Path file;
+
+  private Map<String, Long> durations;
+
+  @Inject
+  public TestDurationsStore(@Named("che.testing.durations.file") String file) {
+    this.file = Paths.get(file);
+  }
+
+  /**
+   * Returns known durations of the test classes in milliseconds.
+   *
+   * @param projectPath path of the project the classes belong to
+   * @param testClasses fully qualified names of the test classes
+   */
+  public synchronized Map<String, Long> getDurations(
+      String projectPath, Collection<String> testClasses) {
+    final Map<String, Long> all = load();
+    final Map<String, Long> result = new HashMap<>();
+    for (String testClass : testClasses) {
+      final Long duration = all.get(key(projectPath, testClass));
+      if (duration != null) {
+        result.put(testClass, duration);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Updates durations of the test classes with the new measurements and saves the store.
+   *
+   * @param projectPath path of the project the classes belong to
+   * @param measured durations of the test classes in milliseconds
+   */
+  public synchronized void update(String projectPath, Map<String, Long> measured) {
+    if (measured.isEmpty()) {
+      return;
+    }
+    final Map<String, Long> all = load();
+    measured.forEach(
+        (testClass, duration) -> {
+          final String key = key(projectPath, testClass);
+          final Long previous = all.remove(key);
+          all.put(key, previous == null ? duration : (previous + duration) / 2);
+        });
+    save(all);
+  }
+
+  private Map<String, Long> load() {
+    if (durations == null) {
+      durations =
+          new LinkedHashMap<String, Long>() {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+              return size() > MAX_ENTRIES;
+            }
+          };
+      final Properties properties = new Properties();
+      try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+        properties.load(reader);
+      } catch (NoSuchFileException ignored) {
+        // nothing measured yet
+      } catch (IOException | IllegalArgumentException e) {
+        LOG.warn("Can't read test durations from {}: {}", file, e.getMessage());
+      }
+      for (String key : properties.stringPropertyNames()) {
+        try {
+          durations.put(key, Long.parseLong(properties.getProperty(key)));
+        } catch (NumberFormatException ignored) {
+          // skip damaged entry
+        }
+      }
+    }
+    return durations;
+  }
+
+  private void save(Map<String, Long> all) {
+    final Properties properties = new Properties();
+    all.forEach((key, duration) -> properties.setProperty(key, Long.toString(duration)));
+    try {
+      Files.createDirectories(file.toAbsolutePath().getParent());
+      try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+        properties.store(writer, null);
+      }
+    } catch (IOException e) {
+      LOG.warn("Can't save test durations to {}: {}", file, e.getMessage());
+    }
+  }
+
+  private static String key(String projectPath, String testClass) {
+    return projectPath + '#' + testClass;
+  }
+}
@@ -48,6 +48,17 @@ public class TestFrameworkRegistry {
     return frameworks.get(frameworkName);
   }
 
+  /**
+   * Get the registered framework by name if it supports sharded execution.
+   *
+   * @param frameworkName name of the framework.
+   * @return the ShardingTestRunner implementation of the framework if available, otherwise null.
+   */
+  public ShardingTestRunner getShardingTestRunner(String frameworkName) {
+    TestRunner runner = frameworks.get(frameworkName);
+    return runner instanceof ShardingTestRunner ? (ShardingTestRunner) runner : null;
+  }
+
   public List<TestRunner> getAllTestRunners() {
     return new ArrayList<>(frameworks.values());
   }
@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2012-2017 Red Hat, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.api.testing.server.framework;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.Consumer;
+import org.eclipse.che.api.testing.server.messages.ServerTestingMessage;
+import org.eclipse.che.api.testing.server.messages.UncapturedOutputMessage;
+import org.eclipse.che.commons.lang.concurrent.LoggingUncaughtExceptionHandler;
+import org.eclipse.che.commons.lang.execution.ProcessOutputType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Buffers testing messages and sends them in batches from a dedicated thread.
+ *
+ * <p>Pending messages are sent every {@code flushPeriodMs}, or as soon as {@code maxBatchSize}
+ * messages or half of {@code maxBufferedOutput} characters of output are pending. Consecutive lines
+ * of uncaptured output of the same type are collapsed into a single message. When the client can't
+ * keep up with the output, the buffered uncaptured output is bounded by {@code maxBufferedOutput}
+ * characters, the lines exceeding the bound are dropped and replaced with a summary. Testing
+ * messages are never dropped.
+ */
+class TestMessagesBuffer {
+  private static final Logger LOG = LoggerFactory.getLogger(TestMessagesBuffer.class);
+
+  /** Maximum length of the uncaptured output collapsed into a single message. */
+  private static final int MAX_COLLAPSED_OUTPUT = 16 * 1024;
+
+  private final Consumer<List<String>> sender;
+  private final int maxBatchSize;
+  private final int maxBufferedOutput;
+  private final ScheduledExecutorService executor;
+
+  private List<String> pending = new ArrayList<>();
+  private final StringBuilder output = new StringBuilder();
+  private ProcessOutputType outputType;
+  private int bufferedOutput;
+  private long droppedLines;
+  private boolean flushRequested;
+
+  /**
+   * @param sender sends the batch of JSON messages to the client, may block while the client is
+   *     receiving previous batches
+   */
+  TestMessagesBuffer(
+      Consumer<List<String>> sender, int maxBatchSize, long flushPeriodMs, int maxBufferedOutput) {
+    this.sender = sender;
+    this.maxBatchSize = maxBatchSize;
+    this.maxBufferedOutput = maxBufferedOutput;
+    this.executor =
+        Executors.newSingleThreadScheduledExecutor(
+            new ThreadFactoryBuilder()
+                .setNameFormat("TestMessagesSender-%d")
+                .setUncaughtExceptionHandler(LoggingUncaughtExceptionHandler.getInstance())
+                .setDaemon(true)
+                .build());
+    this.executor.scheduleWithFixedDelay(this::flush, flushPeriodMs, flushPeriodMs, MILLISECONDS);
+  }
+
+  /** Adds a testing message, it is sent in order with the output preceding it. */
+  synchronized void add(ServerTestingMessage message) {
+    completeOutput();
+    pending.add(message.asJsonString());
+    if (pending.size() >= maxBatchSize) {
+      requestFlush();
+    }
+  }
+
+  /** Adds a line of uncaptured output, the line is dropped if too much output is buffered. */
+  synchronized void addOutput(String line, ProcessOutputType type) {
+    if (bufferedOutput + line.length() > maxBufferedOutput) {
+      droppedLines++;
+      return;
+    }
+    if (type != outputType || output.length() + line.length() > MAX_COLLAPSED_OUTPUT) {
+      completeOutput();
+    }
+    outputType = type;
+    output.append(line);
+    bufferedOutput += line.length();
+    if (bufferedOutput >= maxBufferedOutput / 2) {
+      requestFlush();
+    }
+  }
+
+  /** Sends all the pending messages and stops the sending thread. */
+  void close() {
+    try {
+      executor.execute(this::flush);
+    } catch (RejectedExecutionException ignored) {
+      // already closed
+    }
+    executor.shutdown();
+  }
+
+  private void flush() {
+    final List<String> batch;
+    synchronized (this) {
+      completeOutput();
+      flushRequested = false;
+      if (pending.isEmpty()) {
+        return;
+      }
+      batch = pending;
+      pending = new ArrayList<>();
+      bufferedOutput = 0;
+    }
+    try {
+      for (int i = 0; i < batch.size(); i += maxBatchSize) {
+        sender.accept(batch.subList(i, Math.min(batch.size(), i + maxBatchSize)));
+      }
+    } catch (RuntimeException e) {
+      LOG.error("Can't send testing messages", e);
+    }
+  }
+
+  /** Moves collapsed output and the summary of dropped output to the pending messages. */
+  private void completeOutput() {
+    if (output.length() > 0) {
+      pending.add(new UncapturedOutputMessage(output.toString(), outputType).asJsonString());
+      output.setLength(0);
+    }
+    if (droppedLines > 0) {
+      pending.add(
+          new UncapturedOutputMessage(
+                  "... " + droppedLines + " lines of output skipped ...\n", ProcessOutputType.STDOUT)
+              .asJsonString());
+      droppedLines = 0;
+    }
+  }
+
+  private void requestFlush() {
+    if (!flushRequested) {
+      flushRequested = true;
+      try {
+        executor.execute(this::flush);
+      } catch (RejectedExecutionException ignored) {
+        // closed, messages are sent by the final flush
+      }
+    }
+  }
+}
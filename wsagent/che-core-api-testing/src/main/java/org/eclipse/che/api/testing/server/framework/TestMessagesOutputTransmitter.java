@@ -10,113 +10,181 @@
  */
 package org.eclipse.che.api.testing.server.framework;
 
+import static java.util.Collections.singletonList;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 import org.eclipse.che.api.core.jsonrpc.commons.RequestTransmitter;
 import org.eclipse.che.api.testing.server.messages.ServerTestingMessage;
-import org.eclipse.che.api.testing.server.messages.UncapturedOutputMessage;
 import org.eclipse.che.api.testing.shared.Constants;
+import org.eclipse.che.api.testing.shared.messages.TestingMessageNames;
 import org.eclipse.che.commons.lang.execution.ProcessEvent;
 import org.eclipse.che.commons.lang.execution.ProcessHandler;
 import org.eclipse.che.commons.lang.execution.ProcessListener;
 import org.eclipse.che.commons.lang.execution.ProcessOutputType;
 
-/** Process and send testing messages to the client */
+/**
+ * Process and send testing messages to the client.
+ *
+ * <p>Messages are sent in batches, see {@link TestMessagesBuffer}, so a run of a large suite
+ * doesn't produce a websocket frame per line of the process output. When tests are run by several
+ * processes their messages are merged into a single stream, see {@link TestShardsMerger}.
+ */
 public class TestMessagesOutputTransmitter {
 
-  private final RequestTransmitter requestTransmitter;
-  private final String endpoint;
-  private final LineSplitter lineSplitter;
-  private ProcessHandler processHandler;
+  private static final int MAX_BATCH_SIZE = 500;
+  private static final long FLUSH_PERIOD_MS = 200;
+  private static final int MAX_BUFFERED_OUTPUT = 1024 * 1024;
+  private static final String LOCATION = "location";
+
+  private final TestMessagesBuffer buffer;
+  private final TestShardsMerger merger;
+  private final List<ProcessHandler> processHandlers;
+  private final Consumer<Map<String, Long>> durationsConsumer;
+  private final Map<String, Long> durations = new ConcurrentHashMap<>();
+  private final AtomicBoolean started = new AtomicBoolean();
+  private final AtomicInteger running;
 
   public TestMessagesOutputTransmitter(
       ProcessHandler processHandler, RequestTransmitter requestTransmitter, String endpoint) {
-    this.processHandler = processHandler;
-    this.requestTransmitter = requestTransmitter;
-    this.endpoint = endpoint;
-
-    lineSplitter = new LineSplitter(this::processLine);
-
-    processHandler.addProcessListener(
-        new ProcessListener() {
-          @Override
-          public void onStart(ProcessEvent event) {
-            processStartTesting();
-          }
-
-          @Override
-          public void onText(ProcessEvent event, ProcessOutputType outputType) {
-            process(event.getText(), outputType);
-          }
-
-          @Override
-          public void onProcessTerminated(ProcessEvent event) {
-            processTestingStopped();
-          }
-
-          @Override
-          public void onProcessWillTerminate(ProcessEvent event) {
-            // ignore
-          }
-        });
-
-    processHandler.startNotify();
+    this(singletonList(processHandler), requestTransmitter, endpoint, durations -> {});
   }
 
-  private void processLine(String line, ProcessOutputType outputType) {
-    if (!processTestingMessage(line)) {
-      sendOutput(line, outputType);
+  /**
+   * @param processHandlers handlers of the test processes, each process runs a part of the tests
+   * @param durationsConsumer consumes durations of the test suites in milliseconds keyed by the
+   *     suite location, e.g. fully qualified name of the test class, when all the processes are
+   *     terminated
+   */
+  public TestMessagesOutputTransmitter(
+      List<ProcessHandler> processHandlers,
+      RequestTransmitter requestTransmitter,
+      String endpoint,
+      Consumer<Map<String, Long>> durationsConsumer) {
+    this.processHandlers = processHandlers;
+    this.durationsConsumer = durationsConsumer;
+    this.running = new AtomicInteger(processHandlers.size());
+    this.buffer =
+        new TestMessagesBuffer(
+            batch ->
+                requestTransmitter
+                    .newRequest()
+                    .endpointId(endpoint)
+                    .methodName(Constants.TESTING_RPC_BATCH_METHOD_NAME)
+                    .paramsAsListOfString(batch)
+                    .sendAndSkipResult(),
+            MAX_BATCH_SIZE,
+            FLUSH_PERIOD_MS,
+            MAX_BUFFERED_OUTPUT);
+    this.merger = new TestShardsMerger(buffer, processHandlers.size(), MAX_BUFFERED_OUTPUT);
+
+    for (int i = 0; i < processHandlers.size(); i++) {
+      processHandlers.get(i).addProcessListener(new ShardListener(i));
+    }
+    for (ProcessHandler processHandler : processHandlers) {
+      processHandler.startNotify();
     }
   }
 
-  private void sendOutput(String text, ProcessOutputType outputType) {
-    UncapturedOutputMessage message = new UncapturedOutputMessage(text, outputType);
-    requestTransmitter
-        .newRequest()
-        .endpointId(endpoint)
-        .methodName(Constants.TESTING_RPC_METHOD_NAME)
-        .paramsAsString(message.asJsonString())
-        .sendAndSkipResult();
+  private void processStartTesting() {
+    if (started.compareAndSet(false, true)) {
+      buffer.add(ServerTestingMessage.TESTING_STARTED);
+    }
   }
 
-  private boolean processTestingMessage(String line) {
-    ServerTestingMessage message = ServerTestingMessage.parse(line.trim());
-    if (message != null) {
-      requestTransmitter
-          .newRequest()
-          .endpointId(endpoint)
-          .methodName(Constants.TESTING_RPC_METHOD_NAME)
-          .paramsAsString(message.asJsonString())
-          .sendAndSkipResult();
-      return true;
+  private void processTestingStopped(int shard) {
+    merger.terminated(shard);
+    if (running.decrementAndGet() == 0) {
+      durationsConsumer.accept(durations);
+      buffer.add(ServerTestingMessage.FINISH_TESTING);
+      buffer.close();
     }
-    return false;
   }
 
-  private void processTestingStopped() {
-    lineSplitter.flush();
-    requestTransmitter
-        .newRequest()
-        .endpointId(endpoint)
-        .methodName(Constants.TESTING_RPC_METHOD_NAME)
-        .paramsAsString(ServerTestingMessage.FINISH_TESTING.asJsonString())
-        .sendAndSkipResult();
+  public void stop() {
+    for (ProcessHandler processHandler : processHandlers) {
+      if (!processHandler.isProcessTerminated()) {
+        processHandler.destroyProcess();
+      }
+    }
   }
 
-  private void process(String text, ProcessOutputType outputType) {
-    lineSplitter.process(text, outputType);
-  }
+  /** Handles the output of a single test process. */
+  private class ShardListener implements ProcessListener {
+    private final int shard;
+    private final LineSplitter lineSplitter;
+    private final Deque<SuiteStart> suites = new ArrayDeque<>();
 
-  private void processStartTesting() {
-    requestTransmitter
-        .newRequest()
-        .endpointId(endpoint)
-        .methodName(Constants.TESTING_RPC_METHOD_NAME)
-        .paramsAsString(ServerTestingMessage.TESTING_STARTED.asJsonString())
-        .sendAndSkipResult();
+    ShardListener(int shard) {
+      this.shard = shard;
+      this.lineSplitter = new LineSplitter(this::processLine);
+    }
+
+    @Override
+    public void onStart(ProcessEvent event) {
+      processStartTesting();
+    }
+
+    @Override
+    public void onText(ProcessEvent event, ProcessOutputType outputType) {
+      lineSplitter.process(event.getText(), outputType);
+    }
+
+    @Override
+    public void onProcessTerminated(ProcessEvent event) {
+      lineSplitter.flush();
+      processTestingStopped(shard);
+    }
+
+    @Override
+    public void onProcessWillTerminate(ProcessEvent event) {
+      // ignore
+    }
+
+    private void processLine(String line, ProcessOutputType outputType) {
+      ServerTestingMessage message = ServerTestingMessage.parse(line.trim());
+      if (message != null) {
+        measureDuration(message);
+        merger.add(shard, message);
+      } else {
+        merger.addOutput(shard, line, outputType);
+      }
+    }
+
+    private void measureDuration(ServerTestingMessage message) {
+      if (TestingMessageNames.TEST_SUITE_STARTED.equals(message.getName())) {
+        suites.push(new SuiteStart(suiteId(message), System.currentTimeMillis()));
+      } else if (TestingMessageNames.TEST_SUITE_FINISHED.equals(message.getName())
+          && !suites.isEmpty()) {
+        SuiteStart suite = suites.pop();
+        durations.merge(suite.id, System.currentTimeMillis() - suite.time, Long::sum);
+      }
+    }
+
+    /** Returns fully qualified name of the suite, taken from location like 'java:test://a.B'. */
+    private String suiteId(ServerTestingMessage message) {
+      Map<String, String> attributes = message.getAttributes();
+      String location = attributes.get(LOCATION);
+      if (location != null && location.contains("://")) {
+        return location.substring(location.indexOf("://") + 3);
+      }
+      return attributes.getOrDefault(Constants.NAME, "");
+    }
   }
 
-  public void stop() {
-    if (!processHandler.isProcessTerminated()) {
-      processHandler.destroyProcess();
+  private static class SuiteStart {
+    final String id;
+    final long time;
+
+    SuiteStart(String id, long time) {
+      this.id = id;
+      this.time = time;
     }
   }
 }
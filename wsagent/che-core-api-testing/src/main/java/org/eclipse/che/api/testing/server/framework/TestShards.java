@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2012-2017 Red Hat, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.api.testing.server.framework;
+
+import static java.util.Comparator.comparingInt;
+import static java.util.Comparator.comparingLong;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/** Splits test classes into shards which take about the same time to run. */
+public final class TestShards {
+
+  /** Duration of a test class which never ran, when durations of none of the classes are known. */
+  static final long DEFAULT_DURATION_MS = 1000;
+
+  /**
+   * Splits test classes into at most {@code shards} shards. Classes are assigned to the least
+   * loaded shard from the longest to the shortest one. Classes without known duration are assumed
+   * to take the average known duration.
+   *
+   * @param testClasses fully qualified names of test classes
+   * @param durations known durations of the test classes in milliseconds
+   * @param shards maximum number of shards
+   * @return non empty shards, classes of each shard keep the order of {@code testClasses}
+   */
+  public static List<List<String>> split(
+      List<String> testClasses, Map<String, Long> durations, int shards) {
+    final int count = Math.max(1, Math.min(shards, testClasses.size()));
+    final long defaultDuration = averageDuration(testClasses, durations);
+
+    final List<Integer> order = new ArrayList<>(testClasses.size());
+    for (int i = 0; i < testClasses.size(); i++) {
+      order.add(i);
+    }
+    order.sort(
+        Comparator.<Integer>comparingLong(
+                i -> durations.getOrDefault(testClasses.get(i), defaultDuration))
+            .reversed());
+
+    final PriorityQueue<Shard> queue =
+        new PriorityQueue<>(comparingLong((Shard shard) -> shard.load).thenComparingInt(s -> s.id));
+    for (int i = 0; i < count; i++) {
+      queue.add(new Shard(i));
+    }
+    for (int classIndex : order) {
+      final Shard shard = queue.poll();
+      shard.classes.add(classIndex);
+      shard.load += durations.getOrDefault(testClasses.get(classIndex), defaultDuration);
+      queue.add(shard);
+    }
+
+    final List<Shard> sorted = new ArrayList<>(queue);
+    sorted.sort(comparingInt(shard -> shard.id));
+    final List<List<String>> result = new ArrayList<>(count);
+    for (Shard shard : sorted) {
+      if (!shard.classes.isEmpty()) {
+        shard.classes.sort(null);
+        final List<String> classes = new ArrayList<>(shard.classes.size());
+        for (int classIndex : shard.classes) {
+          classes.add(testClasses.get(classIndex));
+        }
+        result.add(classes);
+      }
+    }
+    return result;
+  }
+
+  private static long averageDuration(List<String> testClasses, Map<String, Long> durations) {
+    long total = 0;
+    int known = 0;
+    for (String testClass : testClasses) {
+      final Long duration = durations.get(testClass);
+      if (duration != null) {
+        total += duration;
+        known++;
+      }
+    }
+    return known == 0 ? DEFAULT_DURATION_MS : total / known;
+  }
+
+  private static class Shard {
+    final int id;
+    final List<Integer> classes = new ArrayList<>();
+    long load;
+
+    Shard(int id) {
+      this.id = id;
+    }
+  }
+
+  private TestShards() {}
+}
@@ -0,0 +1,224 @@
+/*
+ * Copyright (c) 2012-2017 Red Hat, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.api.testing.server.framework;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import org.eclipse.che.api.testing.server.messages.ServerTestingMessage;
+import org.eclipse.che.api.testing.server.messages.TestCountMessage;
+import org.eclipse.che.api.testing.shared.messages.TestingMessageNames;
+import org.eclipse.che.commons.lang.execution.ProcessOutputType;
+
+/**
+ * Merges testing messages of several test processes (shards) into a single stream.
+ *
+ * <p>The client builds the test tree from the nesting of suite messages, so suites of different
+ * shards must not interleave. A shard which starts a top level suite owns the stream until the
+ * suite is finished, messages and output of the other shards are queued meanwhile and sent as soon
+ * as the stream is released. Messages announcing the test reporter and the root of the tree are
+ * sent only once. Test counts reported by the shards are summed up, the end of the tree is sent
+ * once, when every shard has ended its tree or has terminated. Queued output of a shard is bounded
+ * by {@code maxQueuedOutput} characters, the lines exceeding the bound are dropped and replaced
+ * with a summary.
+ *
+ * <p>Instances are thread safe.
+ */
+class TestShardsMerger {
+
+  private final TestMessagesBuffer buffer;
+  private final Shard[] shards;
+  private final int maxQueuedOutput;
+
+  private int owner = -1;
+  private boolean reporterAttached;
+  private boolean rootPresented;
+  private long testCount;
+  private ServerTestingMessage treeEnded;
+  private boolean treeEndedSent;
+
+  TestShardsMerger(TestMessagesBuffer buffer, int shards, int maxQueuedOutput) {
+    this.buffer = buffer;
+    this.maxQueuedOutput = maxQueuedOutput;
+    this.shards = new Shard[shards];
+    for (int i = 0; i < shards; i++) {
+      this.shards[i] = new Shard();
+    }
+  }
+
+  /** Adds a testing message of the shard. */
+  synchronized void add(int shard, ServerTestingMessage message) {
+    add(shard, new Item(message, null, null));
+  }
+
+  /** Adds a line of uncaptured output of the shard. */
+  synchronized void addOutput(int shard, String line, ProcessOutputType type) {
+    add(shard, new Item(null, line, type));
+  }
+
+  /** Releases the stream owned by the terminated shard, even if its suites are not finished. */
+  synchronized void terminated(int shard) {
+    shards[shard].terminated = true;
+    if (owner == shard) {
+      release(shard);
+      drain();
+    }
+    sendTreeEndedIfAllShardsEnded();
+  }
+
+  private void add(int index, Item item) {
+    final Shard shard = shards[index];
+    if ((owner == -1 || owner == index) && shard.queue.isEmpty()) {
+      send(index, item);
+      drain();
+    } else if (item.message != null) {
+      shard.queue.add(item);
+    } else if (shard.queuedOutput + item.line.length() > maxQueuedOutput) {
+      shard.droppedLines++;
+    } else {
+      shard.queuedOutput += item.line.length();
+      shard.queue.add(item);
+    }
+    sendTreeEndedIfAllShardsEnded();
+  }
+
+  /** Sends queued items of the shards while the stream is not owned by any shard. */
+  private void drain() {
+    for (int index = 0; index < shards.length && owner == -1; index++) {
+      final Shard shard = shards[index];
+      boolean sent = false;
+      while (!shard.queue.isEmpty() && (owner == -1 || owner == index)) {
+        send(index, shard.queue.poll());
+        sent = true;
+      }
+      if (shard.queue.isEmpty()) {
+        shard.queuedOutput = 0;
+        if (shard.droppedLines > 0) {
+          buffer.addOutput(
+              "... " + shard.droppedLines + " lines of output skipped ...\n",
+              ProcessOutputType.STDOUT);
+          shard.droppedLines = 0;
+        }
+        if (shard.terminated && owner == index) {
+          release(index);
+        }
+      }
+      if (owner == -1 && sent) {
+        // the stream is released, start over as earlier shards may have queued items meanwhile
+        index = -1;
+        if (isNothingQueued()) {
+          return;
+        }
+      }
+    }
+  }
+
+  private boolean isNothingQueued() {
+    for (Shard shard : shards) {
+      if (!shard.queue.isEmpty()) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /** Sends the end of the tree once the other shards can't add nodes to the tree anymore. */
+  private void sendTreeEndedIfAllShardsEnded() {
+    if (treeEnded == null || treeEndedSent) {
+      return;
+    }
+    for (Shard shard : shards) {
+      if (!shard.treeEnded && !(shard.terminated && shard.queue.isEmpty())) {
+        return;
+      }
+    }
+    buffer.add(treeEnded);
+    treeEndedSent = true;
+  }
+
+  private void send(int index, Item item) {
+    if (item.message == null) {
+      buffer.addOutput(item.line, item.type);
+      return;
+    }
+    final Shard shard = shards[index];
+    ServerTestingMessage message = item.message;
+    switch (message.getName()) {
+      case TestingMessageNames.TEST_REPORTER_ATTACHED:
+        if (reporterAttached) {
+          return;
+        }
+        reporterAttached = true;
+        break;
+      case TestingMessageNames.ROOT_PRESENTATION:
+        if (rootPresented) {
+          return;
+        }
+        rootPresented = true;
+        break;
+      case TestingMessageNames.TEST_COUNT:
+        final long count = parseCount(message);
+        testCount += count - shard.testCount;
+        shard.testCount = count;
+        message = new TestCountMessage(testCount);
+        break;
+      case TestingMessageNames.BUILD_TREE_ENDED:
+        shard.treeEnded = true;
+        treeEnded = message;
+        return;
+      case TestingMessageNames.TEST_SUITE_STARTED:
+      case TestingMessageNames.SUITE_TREE_STARTED:
+        shard.depth++;
+        break;
+      case TestingMessageNames.TEST_SUITE_FINISHED:
+      case TestingMessageNames.SUITE_TREE_ENDED:
+        shard.depth = Math.max(0, shard.depth - 1);
+        break;
+      default:
+    }
+    buffer.add(message);
+    owner = shard.depth > 0 ? index : -1;
+  }
+
+  private static long parseCount(ServerTestingMessage message) {
+    try {
+      return Long.parseLong(message.getAttributes().get(TestCountMessage.COUNT));
+    } catch (NumberFormatException e) {
+      return 0;
+    }
+  }
+
+  private void release(int index) {
+    shards[index].depth = 0;
+    owner = -1;
+  }
+
+  private static class Shard {
+    final Deque<Item> queue = new ArrayDeque<>();
+    int depth;
+    int queuedOutput;
+    long droppedLines;
+    long testCount;
+    boolean treeEnded;
+    boolean terminated;
+  }
+
+  private static class Item {
+    final ServerTestingMessage message;
+    final String line;
+    final ProcessOutputType type;
+
+    Item(ServerTestingMessage message, String line, ProcessOutputType type) {
+      this.message = message;
+      this.line = line;
+      this.type = type;
+    }
+  }
+}
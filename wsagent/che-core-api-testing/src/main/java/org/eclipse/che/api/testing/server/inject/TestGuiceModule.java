@@ -13,6 +13,10 @@ package org.eclipse.che.api.testing.server.inject;
 import static com.google.inject.multibindings.Multibinder.newSetBinder;
 
 import com.google.inject.AbstractModule;
+import com.google.inject.Provides;
+import com.google.inject.Singleton;
+import com.google.inject.name.Named;
+import java.nio.file.Paths;
 import org.eclipse.che.api.testing.server.TestingRPCService;
 import org.eclipse.che.api.testing.server.framework.TestRunner;
 import org.eclipse.che.inject.DynaModule;
@@ -25,4 +29,12 @@ public class TestGuiceModule extends AbstractModule {
     newSetBinder(binder(), TestRunner.class);
     bind(TestingRPCService.class);
   }
+
+  @Provides
+  @Named("che.testing.durations.file")
+  @Singleton
+  protected String provideDurationsFile(@Named("che.workspace.metadata") String wsMetadata) {
+    return Paths.get(System.getProperty("user.home"), wsMetadata, "testing", "durations.properties")
+        .toString();
+  }
 }
@@ -0,0 +1,24 @@
+/*
+ * Copyright (c) 2012-2017 Red Hat, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.api.testing.server.messages;
+
+import static java.util.Collections.singletonMap;
+
+import org.eclipse.che.api.testing.shared.messages.TestingMessageNames;
+
+/** Test message which contains the number of tests to run. */
+public class TestCountMessage extends ServerTestingMessage {
+  public static final String COUNT = "count";
+
+  public TestCountMessage(long count) {
+    super(TestingMessageNames.TEST_COUNT, singletonMap(COUNT, String.valueOf(count)));
+  }
+}
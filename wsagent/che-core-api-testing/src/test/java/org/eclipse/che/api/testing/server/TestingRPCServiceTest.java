@@ -0,0 +1,260 @@
+/*
+ * Copyright (c) 2012-2017 Red Hat, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.api.testing.server;
+
+import static java.util.Collections.singleton;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+import org.eclipse.che.api.core.jsonrpc.commons.RequestTransmitter;
+import org.eclipse.che.api.core.jsonrpc.commons.transmission.EndpointIdConfigurator;
+import org.eclipse.che.api.core.jsonrpc.commons.transmission.MethodNameConfigurator;
+import org.eclipse.che.api.core.jsonrpc.commons.transmission.ParamsConfigurator;
+import org.eclipse.che.api.core.jsonrpc.commons.transmission.SendConfiguratorFromMany;
+import org.eclipse.che.api.testing.server.framework.ShardingTestRunner;
+import org.eclipse.che.api.testing.server.framework.TestDurationsStore;
+import org.eclipse.che.api.testing.server.framework.TestFrameworkRegistry;
+import org.eclipse.che.api.testing.server.framework.TestMessagesOutputTransmitter;
+import org.eclipse.che.api.testing.shared.Constants;
+import org.eclipse.che.api.testing.shared.TestDetectionContext;
+import org.eclipse.che.api.testing.shared.TestExecutionContext;
+import org.eclipse.che.api.testing.shared.TestPosition;
+import org.eclipse.che.api.testing.shared.messages.TestingMessageNames;
+import org.eclipse.che.commons.lang.IoUtil;
+import org.eclipse.che.commons.lang.execution.ProcessHandler;
+import org.eclipse.che.dto.server.DtoFactory;
+import org.mockito.Mock;
+import org.mockito.testng.MockitoTestNGListener;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Listeners;
+import org.testng.annotations.Test;
+
+/** Tests sharded test execution of {@link TestingRPCService}. */
+@Listeners(MockitoTestNGListener.class)
+public class TestingRPCServiceTest {
+
+  private static final String FRAMEWORK = "sleeping";
+  private static final String PROJECT = "/project";
+  private static final int TEST_CLASSES = 8;
+  private static final double TEST_DURATION_SEC = 0.3;
+
+  @Mock private RequestTransmitter requestTransmitter;
+  @Mock private EndpointIdConfigurator endpointIdConfigurator;
+  @Mock private MethodNameConfigurator methodNameConfigurator;
+  @Mock private ParamsConfigurator paramsConfigurator;
+  @Mock private SendConfiguratorFromMany<String> sendConfigurator;
+
+  private final List<String> messages = Collections.synchronizedList(new ArrayList<>());
+  private final List<String> testClasses =
+      IntStream.range(0, TEST_CLASSES).mapToObj(i -> "test.Sleeping" + i).collect(toList());
+
+  private Path storeDir;
+  private TestDurationsStore durationsStore;
+  private TestingRPCService service;
+  private SleepingTestRunner runner;
+
+  @BeforeMethod
+  public void setUp() throws Exception {
+    messages.clear();
+    when(requestTransmitter.newRequest()).thenReturn(endpointIdConfigurator);
+    when(endpointIdConfigurator.endpointId(anyString())).thenReturn(methodNameConfigurator);
+    when(methodNameConfigurator.methodName(Constants.TESTING_RPC_BATCH_METHOD_NAME))
+        .thenReturn(paramsConfigurator);
+    when(paramsConfigurator.paramsAsListOfString(anyList()))
+        .thenAnswer(
+            inv -> {
+              final List<String> batch = inv.getArgument(0);
+              messages.addAll(batch);
+              return sendConfigurator;
+            });
+
+    storeDir = Files.createTempDirectory("test-durations");
+    durationsStore = new TestDurationsStore(storeDir.resolve("durations.properties").toString());
+    runner = new SleepingTestRunner();
+    service =
+        new TestingRPCService(
+            requestTransmitter, new TestFrameworkRegistry(singleton(runner)), durationsStore);
+  }
+
+  @AfterMethod
+  public void tearDown() {
+    IoUtil.deleteRecursive(storeDir.toFile());
+  }
+
+  @Test
+  public void wallTimeShouldScaleDownWithShardCount() throws Exception {
+    final long singleProcessTime = run(1);
+    assertEquals(runner.processes, 1);
+    final long shardedTime = run(4);
+    assertEquals(runner.processes, 4);
+
+    assertTrue(
+        shardedTime * 2 < singleProcessTime,
+        "Single process took " + singleProcessTime + " ms, 4 shards took " + shardedTime + " ms");
+  }
+
+  @Test
+  public void shouldMergeShardsIntoOrderedStream() throws Exception {
+    run(4);
+
+    final List<JsonObject> testingMessages =
+        messages
+            .stream()
+            .map(m -> new JsonParser().parse(m).getAsJsonObject())
+            .filter(m -> !TestingMessageNames.UNCAPTURED_OUTPUT.equals(nameOf(m)))
+            .collect(toList());
+    assertEquals(nameOf(testingMessages.get(0)), TestingMessageNames.TESTING_STARTED);
+    assertEquals(nameOf(testingMessages.get(1)), TestingMessageNames.TEST_REPORTER_ATTACHED);
+    assertEquals(
+        nameOf(testingMessages.get(testingMessages.size() - 1)),
+        TestingMessageNames.FINISH_TESTING);
+    final List<JsonObject> suites = testingMessages.subList(2, testingMessages.size() - 1);
+    assertEquals(suites.size(), 4 * TEST_CLASSES);
+    // suites of different shards are not interleaved
+    for (int i = 0; i < suites.size(); i += 4) {
+      assertEquals(nameOf(suites.get(i)), TestingMessageNames.TEST_SUITE_STARTED);
+      assertEquals(nameOf(suites.get(i + 1)), TestingMessageNames.TEST_STARTED);
+      assertEquals(nameOf(suites.get(i + 2)), TestingMessageNames.TEST_FINISHED);
+      assertEquals(nameOf(suites.get(i + 3)), TestingMessageNames.TEST_SUITE_FINISHED);
+      assertEquals(attributeOf(suites.get(i + 3)), attributeOf(suites.get(i)));
+    }
+  }
+
+  @Test
+  public void shouldStoreDurationsOfTestClasses() throws Exception {
+    run(2);
+
+    final Map<String, Long> durations = durationsStore.getDurations(PROJECT, testClasses);
+    assertEquals(durations.keySet(), testClasses.stream().collect(toSet()));
+    assertTrue(durations.values().stream().allMatch(d -> d >= TEST_DURATION_SEC * 1000 / 2));
+  }
+
+  private long run(int shards) throws InterruptedException {
+    messages.clear();
+    final TestExecutionContext context =
+        DtoFactory.newDto(TestExecutionContext.class)
+            .withDebugModeEnable(false)
+            .withShards(shards);
+    context.setFrameworkName(FRAMEWORK);
+    context.setProjectPath(PROJECT);
+    context.setContextType(TestExecutionContext.ContextType.PROJECT);
+
+    final long start = System.currentTimeMillis();
+    final List<ProcessHandler> processHandlers = service.execute(runner, context);
+    runner.processes = processHandlers.size();
+    new TestMessagesOutputTransmitter(
+        processHandlers,
+        requestTransmitter,
+        "endpoint",
+        durations -> durationsStore.update(PROJECT, durations));
+    waitForFinish();
+    return System.currentTimeMillis() - start;
+  }
+
+  private void waitForFinish() throws InterruptedException {
+    final long deadline = System.currentTimeMillis() + 60_000;
+    while (System.currentTimeMillis() < deadline) {
+      synchronized (messages) {
+        if (!messages.isEmpty()
+            && messages.get(messages.size() - 1).contains(TestingMessageNames.FINISH_TESTING)) {
+          return;
+        }
+      }
+      Thread.sleep(20);
+    }
+    throw new AssertionError("Testing is not finished in time");
+  }
+
+  private static String nameOf(JsonObject message) {
+    return message.get(Constants.NAME).getAsString();
+  }
+
+  private static String attributeOf(JsonObject message) {
+    return message.getAsJsonObject(Constants.ATTRIBUTES).get(Constants.NAME).getAsString();
+  }
+
+  /** Runs each test class in a shell process which sleeps instead of running the tests. */
+  private class SleepingTestRunner implements ShardingTestRunner {
+    volatile int processes;
+
+    @Override
+    public ProcessHandler execute(TestExecutionContext context) {
+      return execute(context, testClasses);
+    }
+
+    @Override
+    public List<String> findTestClasses(TestExecutionContext context) {
+      return testClasses;
+    }
+
+    @Override
+    public ProcessHandler execute(TestExecutionContext context, List<String> classes) {
+      final StringBuilder script = new StringBuilder();
+      script.append(message(TestingMessageNames.TEST_REPORTER_ATTACHED, null));
+      for (String testClass : classes) {
+        script.append(message(TestingMessageNames.TEST_SUITE_STARTED, testClass));
+        script.append(message(TestingMessageNames.TEST_STARTED, "sleep"));
+        script.append("sleep ").append(TEST_DURATION_SEC).append('\n');
+        script.append(message(TestingMessageNames.TEST_FINISHED, "sleep"));
+        script.append(message(TestingMessageNames.TEST_SUITE_FINISHED, testClass));
+      }
+      try {
+        return new ProcessHandler(
+            new ProcessBuilder("sh", "-c", script.toString()).redirectErrorStream(true).start());
+      } catch (IOException e) {
+        throw new RuntimeException(e);
+      }
+    }
+
+    private String message(String name, String attribute) {
+      final String attributes =
+          attribute == null
+              ? ""
+              : ",\"attributes\":{\"name\":\""
+                  + attribute
+                  + "\",\"location\":\"java:test://"
+                  + attribute
+                  + "\"}";
+      return "echo '@@<{\"name\":\"" + name + '"' + attributes + "}>'\n";
+    }
+
+    @Override
+    public String getName() {
+      return FRAMEWORK;
+    }
+
+    @Override
+    public int getDebugPort() {
+      return -1;
+    }
+
+    @Override
+    public List<TestPosition> detectTests(TestDetectionContext context) {
+      return Collections.emptyList();
+    }
+  }
+}
@@ -0,0 +1,224 @@
+/*
+ * Copyright (c) 2012-2017 Red Hat, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.api.testing.server.framework;
+
+import static java.util.stream.Collectors.toList;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.eclipse.che.api.core.jsonrpc.commons.RequestTransmitter;
+import org.eclipse.che.api.core.jsonrpc.commons.transmission.EndpointIdConfigurator;
+import org.eclipse.che.api.core.jsonrpc.commons.transmission.MethodNameConfigurator;
+import org.eclipse.che.api.core.jsonrpc.commons.transmission.ParamsConfigurator;
+import org.eclipse.che.api.core.jsonrpc.commons.transmission.SendConfiguratorFromMany;
+import org.eclipse.che.api.testing.shared.Constants;
+import org.eclipse.che.api.testing.shared.messages.TestingMessageNames;
+import org.eclipse.che.commons.lang.execution.ProcessEvent;
+import org.eclipse.che.commons.lang.execution.ProcessHandler;
+import org.eclipse.che.commons.lang.execution.ProcessListener;
+import org.eclipse.che.commons.lang.execution.ProcessOutputType;
+import org.mockito.Mock;
+import org.mockito.testng.MockitoTestNGListener;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Listeners;
+import org.testng.annotations.Test;
+
+/** Tests for {@link TestMessagesOutputTransmitter}. */
+@Listeners(MockitoTestNGListener.class)
+public class TestMessagesOutputTransmitterTest {
+
+  private static final int LINES = 1_000_000;
+  private static final int LINES_PER_TEST = 1_000;
+
+  @Mock private ProcessHandler processHandler;
+  @Mock private RequestTransmitter requestTransmitter;
+  @Mock private EndpointIdConfigurator endpointIdConfigurator;
+  @Mock private MethodNameConfigurator methodNameConfigurator;
+  @Mock private ParamsConfigurator paramsConfigurator;
+  @Mock private SendConfiguratorFromMany<String> sendConfigurator;
+
+  private final List<List<String>> frames = Collections.synchronizedList(new ArrayList<>());
+  private volatile long sendDelayMs;
+
+  @BeforeMethod
+  public void setUp() {
+    frames.clear();
+    sendDelayMs = 0;
+    when(requestTransmitter.newRequest()).thenReturn(endpointIdConfigurator);
+    when(endpointIdConfigurator.endpointId(anyString())).thenReturn(methodNameConfigurator);
+    when(methodNameConfigurator.methodName(Constants.TESTING_RPC_BATCH_METHOD_NAME))
+        .thenReturn(paramsConfigurator);
+    when(paramsConfigurator.paramsAsListOfString(anyList()))
+        .thenAnswer(
+            inv -> {
+              final List<String> batch = inv.getArgument(0);
+              frames.add(new ArrayList<>(batch));
+              return sendConfigurator;
+            });
+    // emulates the client which receives frames with a delay
+    doAnswer(
+            inv -> {
+              if (sendDelayMs > 0) {
+                Thread.sleep(sendDelayMs);
+              }
+              return null;
+            })
+        .when(sendConfigurator)
+        .sendAndSkipResult();
+    // synthetic test process which prints a lot of output between test lifecycle messages
+    final List<ProcessListener> listeners = new ArrayList<>();
+    doAnswer(inv -> listeners.add(inv.getArgument(0)))
+        .when(processHandler)
+        .addProcessListener(any());
+    doAnswer(
+            inv -> {
+              for (ProcessListener listener : listeners) {
+                emitOutput(listener);
+              }
+              return null;
+            })
+        .when(processHandler)
+        .startNotify();
+  }
+
+  @Test
+  public void shouldSendMillionLinesOfOutputInFewFrames() throws Exception {
+    final HeapSampler heap = new HeapSampler();
+    heap.start();
+
+    new TestMessagesOutputTransmitter(processHandler, requestTransmitter, "endpoint");
+    final List<String> messages = waitForFinish();
+
+    heap.interrupt();
+    heap.join();
+    assertTrue(
+        frames.size() < LINES / 100,
+        "Sent " + frames.size() + " frames, peak heap " + heap.peak.get() / (1024 * 1024) + " MB");
+    assertLifecycleMessagesDelivered(messages);
+  }
+
+  @Test
+  public void shouldSkipOutputButNotTestingMessagesWhenClientIsSlow() throws Exception {
+    sendDelayMs = 200;
+
+    new TestMessagesOutputTransmitter(processHandler, requestTransmitter, "endpoint");
+    final List<String> messages = waitForFinish();
+
+    assertLifecycleMessagesDelivered(messages);
+    assertTrue(
+        messages
+            .stream()
+            .anyMatch(
+                m ->
+                    TestingMessageNames.UNCAPTURED_OUTPUT.equals(nameOf(m))
+                        && m.contains("lines of output skipped")));
+  }
+
+  private void assertLifecycleMessagesDelivered(List<String> messages) {
+    final List<String> lifecycle =
+        messages
+            .stream()
+            .map(TestMessagesOutputTransmitterTest::nameOf)
+            .filter(name -> !TestingMessageNames.UNCAPTURED_OUTPUT.equals(name))
+            .collect(toList());
+    assertEquals(lifecycle.size(), 2 + 2 * LINES / LINES_PER_TEST);
+    assertEquals(lifecycle.get(0), TestingMessageNames.TESTING_STARTED);
+    assertEquals(lifecycle.get(lifecycle.size() - 1), TestingMessageNames.FINISH_TESTING);
+    for (int i = 1; i < lifecycle.size() - 1; i += 2) {
+      assertEquals(lifecycle.get(i), TestingMessageNames.TEST_STARTED);
+      assertEquals(lifecycle.get(i + 1), TestingMessageNames.TEST_FINISHED);
+    }
+  }
+
+  private List<String> waitForFinish() throws InterruptedException {
+    final long deadline = System.currentTimeMillis() + 60_000;
+    while (System.currentTimeMillis() < deadline) {
+      final List<String> messages = sentMessages();
+      if (!messages.isEmpty()
+          && TestingMessageNames.FINISH_TESTING.equals(nameOf(messages.get(messages.size() - 1)))) {
+        return messages;
+      }
+      Thread.sleep(50);
+    }
+    throw new AssertionError("Testing is not finished in time");
+  }
+
+  private List<String> sentMessages() {
+    synchronized (frames) {
+      return frames.stream().flatMap(List::stream).collect(toList());
+    }
+  }
+
+  private void emitOutput(ProcessListener listener) {
+    listener.onStart(new ProcessEvent(processHandler));
+    for (int i = 0; i < LINES; i++) {
+      if (i % LINES_PER_TEST == 0) {
+        listener.onText(
+            new ProcessEvent(processHandler, testingMessage(TestingMessageNames.TEST_STARTED, i)),
+            ProcessOutputType.STDOUT);
+      }
+      listener.onText(
+          new ProcessEvent(processHandler, "output line " + i + '\n'), ProcessOutputType.STDOUT);
+      if (i % LINES_PER_TEST == LINES_PER_TEST - 1) {
+        listener.onText(
+            new ProcessEvent(processHandler, testingMessage(TestingMessageNames.TEST_FINISHED, i)),
+            ProcessOutputType.STDOUT);
+      }
+    }
+    listener.onProcessTerminated(new ProcessEvent(processHandler, 0));
+  }
+
+  private static String testingMessage(String name, int line) {
+    return "@@<{\"name\":\""
+        + name
+        + "\", \"attributes\":{\"name\":\"Test.test"
+        + line / LINES_PER_TEST
+        + "\"}}>\n";
+  }
+
+  private static String nameOf(String message) {
+    final JsonObject json = new JsonParser().parse(message).getAsJsonObject();
+    return json.get(Constants.NAME).getAsString();
+  }
+
+  /** Samples used heap while output is processed. */
+  private static class HeapSampler extends Thread {
+    final AtomicLong peak = new AtomicLong();
+
+    HeapSampler() {
+      setDaemon(true);
+    }
+
+    @Override
+    public void run() {
+      final Runtime runtime = Runtime.getRuntime();
+      while (!isInterrupted()) {
+        peak.accumulateAndGet(runtime.totalMemory() - runtime.freeMemory(), Math::max);
+        try {
+          Thread.sleep(10);
+        } catch (InterruptedException e) {
+          return;
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2012-2017 Red Hat, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.api.testing.server.framework;
+
+import static java.util.Arrays.asList;
+import static java.util.stream.Collectors.toList;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.verify;
+import static org.testng.Assert.assertEquals;
+
+import java.util.List;
+import org.eclipse.che.api.testing.server.messages.ServerTestingMessage;
+import org.eclipse.che.api.testing.shared.messages.TestingMessageNames;
+import org.eclipse.che.commons.lang.execution.ProcessOutputType;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.testng.MockitoTestNGListener;
+import org.testng.annotations.Listeners;
+import org.testng.annotations.Test;
+
+/** Tests for {@link TestShardsMerger}. */
+@Listeners(MockitoTestNGListener.class)
+public class TestShardsMergerTest {
+
+  @Mock private TestMessagesBuffer buffer;
+  @Captor private ArgumentCaptor<ServerTestingMessage> captor;
+
+  @Test
+  public void shouldSumTestCountsOfShards() {
+    final TestShardsMerger merger = new TestShardsMerger(buffer, 2, 1024);
+
+    merger.add(0, message(TestingMessageNames.TEST_COUNT, "2"));
+    merger.add(1, message(TestingMessageNames.TEST_COUNT, "3"));
+
+    assertEquals(sent(), asList("testCount:2", "testCount:5"));
+  }
+
+  @Test
+  public void shouldSendTreeEndedOnceAfterTheLastShard() {
+    final TestShardsMerger merger = new TestShardsMerger(buffer, 3, 1024);
+
+    merger.add(0, message(TestingMessageNames.BUILD_TREE_ENDED, null));
+    merger.add(1, message(TestingMessageNames.BUILD_TREE_ENDED, null));
+    merger.add(0, message(TestingMessageNames.TEST_STARTED, null));
+    merger.terminated(2);
+
+    assertEquals(sent(), asList("testStarted", "treeEnded"));
+  }
+
+  @Test(timeOut = 10_000)
+  public void shouldSendQueuedItemsOfTerminatedShardWhenStreamIsReleased() {
+    final TestShardsMerger merger = new TestShardsMerger(buffer, 2, 1024);
+
+    merger.add(0, message(TestingMessageNames.TEST_SUITE_STARTED, null));
+    merger.add(1, message(TestingMessageNames.BUILD_TREE_ENDED, null));
+    merger.addOutput(1, "output", ProcessOutputType.STDOUT);
+    merger.terminated(1);
+    merger.add(0, message(TestingMessageNames.BUILD_TREE_ENDED, null));
+    merger.add(0, message(TestingMessageNames.TEST_SUITE_FINISHED, null));
+
+    verify(buffer).addOutput("output", ProcessOutputType.STDOUT);
+    assertEquals(sent(), asList("testSuiteStarted", "testSuiteFinished", "treeEnded"));
+  }
+
+  private List<String> sent() {
+    verify(buffer, atLeastOnce()).add(captor.capture());
+    return captor
+        .getAllValues()
+        .stream()
+        .map(
+            m ->
+                m.getAttributes().containsKey("count")
+                    ? m.getName() + ':' + m.getAttributes().get("count")
+                    : m.getName())
+        .collect(toList());
+  }
+
+  private static ServerTestingMessage message(String name, String count) {
+    final String attributes = count == null ? "" : ", \"attributes\":{\"count\":\"" + count + "\"}";
+    return ServerTestingMessage.parse("@@<{\"name\":\"" + name + "\"" + attributes + "}>");
+  }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2012-2017 Red Hat, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.api.testing.server.framework;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.singletonList;
+import static org.testng.Assert.assertEquals;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.List;
+import java.util.Map;
+import org.testng.annotations.Test;
+
+/** Tests for {@link TestShards}. */
+public class TestShardsTest {
+
+  @Test
+  public void shouldBalanceShardsByDurations() {
+    Map<String, Long> durations =
+        ImmutableMap.of("A", 400L, "B", 300L, "C", 200L, "D", 100L, "E", 100L);
+
+    List<List<String>> shards = TestShards.split(asList("A", "B", "C", "D", "E"), durations, 2);
+
+    assertEquals(shards, asList(asList("A", "D", "E"), asList("B", "C")));
+  }
+
+  @Test
+  public void shouldAssumeAverageDurationForUnknownClasses() {
+    Map<String, Long> durations = ImmutableMap.of("A", 900L, "B", 100L, "C", 200L);
+
+    // D is assumed to take 400ms, so it goes along with the shortest classes
+    List<List<String>> shards = TestShards.split(asList("A", "B", "C", "D"), durations, 2);
+
+    assertEquals(shards, asList(singletonList("A"), asList("B", "C", "D")));
+  }
+
+  @Test
+  public void shouldSplitEvenlyWhenDurationsAreUnknown() {
+    List<List<String>> shards =
+        TestShards.split(asList("A", "B", "C", "D", "E", "F"), emptyMap(), 3);
+
+    assertEquals(shards, asList(asList("A", "D"), asList("B", "E"), asList("C", "F")));
+  }
+
+  @Test
+  public void shouldNotCreateMoreShardsThanClasses() {
+    List<List<String>> shards = TestShards.split(asList("A", "B"), emptyMap(), 8);
+
+    assertEquals(shards, asList(singletonList("A"), singletonList("B")));
+  }
+}
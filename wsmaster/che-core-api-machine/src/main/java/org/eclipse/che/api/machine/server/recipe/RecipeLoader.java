@@ -10,7 +10,10 @@
  */
 package org.eclipse.che.api.machine.server.recipe;
 
+import static java.util.stream.Collectors.toList;
+
 import com.google.common.reflect.TypeToken;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.google.gson.JsonParseException;
@@ -22,6 +25,9 @@ import java.io.Reader;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import javax.annotation.PostConstruct;
 import javax.inject.Named;
 import javax.inject.Singleton;
@@ -30,6 +36,7 @@ import org.eclipse.che.api.core.NotFoundException;
 import org.eclipse.che.api.core.ServerException;
 import org.eclipse.che.api.machine.server.spi.RecipeDao;
 import org.eclipse.che.commons.lang.IoUtil;
+import org.eclipse.che.commons.lang.concurrent.LoggingUncaughtExceptionHandler;
 import org.eclipse.che.core.db.DBInitializer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -40,6 +47,8 @@ import org.slf4j.LoggerFactory;
  * <p>It's used for machine template selection during creation of workspace or creation any machine
  * in workspace.
  *
+ * <p>Recipe files are read in parallel.
+ *
  * @author Anton Korneta
  */
 @Singleton
@@ -68,9 +77,7 @@ public class RecipeLoader {
   @PostConstruct
   public void start() {
     if (dbInitializer.isBareInit()) {
-      for (String toLoad : predefinedRecipes) {
-        loadRecipes(toLoad).forEach(this::doCreate);
-      }
+      loadRecipes().forEach(this::doCreate);
       LOG.info("Recipes initialization finished");
     }
   }
@@ -87,6 +94,30 @@ public class RecipeLoader {
     }
   }
 
+  /**
+   * Loads recipes of all the recipe files in parallel. Threads of the pool are created by the
+   * calling one, so they inherit its context class loader which the recipe files are loaded with.
+   */
+  private List<RecipeImpl> loadRecipes() {
+    final ExecutorService executor =
+        Executors.newFixedThreadPool(
+            Runtime.getRuntime().availableProcessors(),
+            new ThreadFactoryBuilder()
+                .setNameFormat("RecipeLoader-%d")
+                .setUncaughtExceptionHandler(LoggingUncaughtExceptionHandler.getInstance())
+                .setDaemon(true)
+                .build());
+    try {
+      final List<CompletableFuture<List<RecipeImpl>>> files = new ArrayList<>();
+      for (String toLoad : predefinedRecipes) {
+        files.add(CompletableFuture.supplyAsync(() -> loadRecipes(toLoad), executor));
+      }
+      return files.stream().flatMap(recipes -> recipes.join().stream()).collect(toList());
+    } finally {
+      executor.shutdown();
+    }
+  }
+
   /**
    * Loads recipes by given path.
    *
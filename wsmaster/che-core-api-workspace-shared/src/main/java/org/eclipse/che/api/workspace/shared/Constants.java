@@ -55,5 +55,8 @@ public final class Constants {
   public static final String COMMAND_PREVIEW_URL_ATTRIBUTE_NAME = "previewUrl";
   public static final String COMMAND_GOAL_ATTRIBUTE_NAME = "goal";
 
+  /** The maximum number of workspaces which statuses may be requested at once. */
+  public static final int MAX_STATUS_WORKSPACE_IDS = 100;
+
   private Constants() {}
 }
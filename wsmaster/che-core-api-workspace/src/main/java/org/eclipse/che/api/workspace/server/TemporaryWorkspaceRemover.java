@@ -13,19 +13,36 @@ package org.eclipse.che.api.workspace.server;
 import static org.slf4j.LoggerFactory.getLogger;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import javax.annotation.PostConstruct;
 import javax.annotation.PreDestroy;
 import javax.inject.Inject;
+import javax.inject.Named;
 import javax.inject.Singleton;
 import org.eclipse.che.api.core.ServerException;
-import org.eclipse.che.api.workspace.server.model.impl.WorkspaceImpl;
 import org.eclipse.che.api.workspace.server.spi.WorkspaceDao;
+import org.eclipse.che.commons.lang.concurrent.LoggingUncaughtExceptionHandler;
 import org.slf4j.Logger;
 
 /**
  * Removes temporary workspaces on server startup and shutdown.
  *
+ * <p>Identifiers of temporary workspaces are fetched page by page, then the workspaces are removed
+ * in batches, each batch in a single transaction. Batches are removed in parallel, if a batch fails
+ * its workspaces are removed one by one. On startup the identifiers are fetched before the server
+ * starts, so workspaces created afterwards are not affected, while the removal itself is performed
+ * in background so it doesn't delay the server start.
+ *
  * @author Max Shaposhnik (mshaposhnik@codenvy.com)
  */
 @Singleton
@@ -34,48 +51,137 @@ public class TemporaryWorkspaceRemover {
   private static final Logger LOG = getLogger(TemporaryWorkspaceRemover.class);
 
   private final WorkspaceDao workspaceDao;
+  private final int batchSize;
+  private final int threads;
+  private final ExecutorService executor;
+
+  private volatile boolean stopping;
+  private CompletableFuture<Void> startupCleanup;
 
   @Inject
-  public TemporaryWorkspaceRemover(WorkspaceDao workspaceDao) {
+  public TemporaryWorkspaceRemover(
+      WorkspaceDao workspaceDao,
+      @Named("che.workspace.temporary.removal_batch_size") int batchSize,
+      @Named("che.workspace.temporary.removal_threads") int threads) {
     this.workspaceDao = workspaceDao;
+    this.batchSize = batchSize;
+    this.threads = threads;
+    // one more thread drives the startup cleanup
+    this.executor =
+        Executors.newFixedThreadPool(
+            threads + 1,
+            new ThreadFactoryBuilder()
+                .setNameFormat("TemporaryWorkspaceRemover-%d")
+                .setUncaughtExceptionHandler(LoggingUncaughtExceptionHandler.getInstance())
+                .setDaemon(true)
+                .build());
   }
 
   @PostConstruct
   void initialize() {
+    final List<String> ids;
     try {
-      removeTemporaryWs();
+      ids = getTemporaryWorkspaceIds();
     } catch (ServerException e) {
       LOG.warn("Unable to cleanup temporary workspaces on startup: " + e.getLocalizedMessage(), e);
+      return;
     }
+    startupCleanup = CompletableFuture.runAsync(() -> removeTemporaryWs(ids), executor);
   }
 
   @PreDestroy
   void shutdown() {
+    // interrupt startup cleanup after the current batches, all the workspaces are removed below
+    stopping = true;
+    if (startupCleanup != null) {
+      startupCleanup.join();
+    }
+    stopping = false;
     try {
       removeTemporaryWs();
     } catch (ServerException e) {
       LOG.warn("Unable to cleanup temporary workspaces on shutdown: " + e.getLocalizedMessage(), e);
+    } finally {
+      executor.shutdown();
     }
   }
 
   @VisibleForTesting
   void removeTemporaryWs() throws ServerException {
-    final int count = 100;
-    int skip = 0;
-    List<WorkspaceImpl> workspaces = workspaceDao.getWorkspaces(true, skip, count);
-    while (!workspaces.isEmpty()) {
-      for (WorkspaceImpl workspace : workspaces) {
-        try {
-          workspaceDao.remove(workspace.getId());
-        } catch (ServerException e) {
-          LOG.error(
-              "Unable to cleanup temporary workspace {}. Reason is {}",
-              workspace.getId(),
-              e.getLocalizedMessage());
+    removeTemporaryWs(getTemporaryWorkspaceIds());
+  }
+
+  /** Removes workspaces with given identifiers unless the remover is stopping. */
+  private void removeTemporaryWs(List<String> ids) {
+    final long start = System.currentTimeMillis();
+    final Deque<Future<Integer>> batches = new ArrayDeque<>();
+    int removed = 0;
+    try {
+      for (List<String> batch : Lists.partition(ids, batchSize)) {
+        if (stopping) {
+          break;
+        }
+        if (batches.size() >= threads) {
+          removed += waitFor(batches.poll());
         }
+        batches.add(executor.submit(() -> removeBatch(batch)));
+      }
+    } finally {
+      while (!batches.isEmpty()) {
+        removed += waitFor(batches.poll());
       }
-      skip = skip + count;
-      workspaces = workspaceDao.getWorkspaces(true, skip, count);
+      if (removed > 0) {
+        final long elapsed = Math.max(1, System.currentTimeMillis() - start);
+        LOG.info(
+            "Removed {} temporary workspaces in {} ms ({} workspaces/s)",
+            removed,
+            elapsed,
+            removed * 1000L / elapsed);
+      }
+    }
+  }
+
+  /** Fetches identifiers of all the temporary workspaces existing at the moment of the call. */
+  private List<String> getTemporaryWorkspaceIds() throws ServerException {
+    final List<String> ids = new ArrayList<>();
+    List<String> page = workspaceDao.getTemporaryWorkspaceIds("", batchSize);
+    while (!page.isEmpty()) {
+      ids.addAll(page);
+      page = workspaceDao.getTemporaryWorkspaceIds(page.get(page.size() - 1), batchSize);
+    }
+    return ids;
+  }
+
+  /** Removes the batch in single transaction, falls back to one by one removal on failure. */
+  private int removeBatch(List<String> ids) {
+    try {
+      workspaceDao.removeAll(ids);
+      return ids.size();
+    } catch (ServerException batchError) {
+      LOG.debug("Unable to remove batch of temporary workspaces", batchError);
+    }
+    int removed = 0;
+    for (String id : ids) {
+      try {
+        workspaceDao.remove(id);
+        removed++;
+      } catch (ServerException e) {
+        LOG.error(
+            "Unable to cleanup temporary workspace {}. Reason is {}", id, e.getLocalizedMessage());
+      }
+    }
+    return removed;
+  }
+
+  /** Waits for the batch removal and returns the number of removed workspaces. */
+  private static int waitFor(Future<Integer> batch) {
+    try {
+      return batch.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (ExecutionException e) {
+      LOG.error("Unable to cleanup temporary workspaces", e.getCause());
     }
+    return 0;
   }
 }
@@ -17,6 +17,7 @@ import static java.lang.String.format;
 import static java.lang.System.currentTimeMillis;
 import static java.util.Collections.emptyMap;
 import static java.util.Objects.requireNonNull;
+import static java.util.stream.Collectors.toList;
 import static org.eclipse.che.api.core.model.workspace.WorkspaceStatus.RUNNING;
 import static org.eclipse.che.api.workspace.shared.Constants.AUTO_CREATE_SNAPSHOT;
 import static org.eclipse.che.api.workspace.shared.Constants.AUTO_RESTORE_FROM_SNAPSHOT;
@@ -24,6 +25,8 @@ import static org.eclipse.che.api.workspace.shared.Constants.WORKSPACE_STOPPED_B
 
 import com.google.inject.Inject;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -38,6 +41,7 @@ import org.eclipse.che.api.core.ApiException;
 import org.eclipse.che.api.core.BadRequestException;
 import org.eclipse.che.api.core.ConflictException;
 import org.eclipse.che.api.core.NotFoundException;
+import org.eclipse.che.api.core.Page;
 import org.eclipse.che.api.core.ServerException;
 import org.eclipse.che.api.core.model.machine.MachineConfig;
 import org.eclipse.che.api.core.model.workspace.Workspace;
@@ -249,6 +253,166 @@ public class WorkspaceManager {
     return workspaces;
   }
 
+  /**
+   * Gets page of workspaces which user can read.
+   *
+   * <p>Returned workspaces have either {@link WorkspaceStatus#STOPPED} status or status defined by
+   * their runtime instances(if those exist).
+   *
+   * @param user the id of the user
+   * @param includeRuntimes if <code>true</code>, will fetch runtime info for workspaces. If <code>
+   *     false</code>, will not fetch runtime info.
+   * @param maxItems the maximum number of workspaces to return
+   * @param skipCount the number of workspaces to skip
+   * @return page of workspaces which user can read
+   * @throws NullPointerException when {@code user} is null
+   * @throws ServerException when any server error occurs while getting workspaces with {@link
+   *     WorkspaceDao#getWorkspaces(String, int, long)}
+   */
+  public Page<WorkspaceImpl> getWorkspaces(
+      String user, boolean includeRuntimes, int maxItems, long skipCount) throws ServerException {
+    requireNonNull(user, "Required non-null user id");
+    final Page<WorkspaceImpl> workspaces = workspaceDao.getWorkspaces(user, maxItems, skipCount);
+    injectRuntimeAndAttributes(workspaces.getItems(), !includeRuntimes);
+    return workspaces;
+  }
+
+  /**
+   * Gets page of short views of workspaces which user can read. Short views contain identifier,
+   * namespace, name and status of workspace only, so they are much cheaper to fetch than complete
+   * workspaces.
+   *
+   * @param user the id of the user
+   * @param maxItems the maximum number of workspaces to return
+   * @param skipCount the number of workspaces to skip
+   * @return page of short views of workspaces which user can read
+   * @throws NullPointerException when {@code user} is null
+   * @throws ServerException when any server error occurs while getting workspaces with {@link
+   *     WorkspaceDao#getWorkspaceSummaries(String, int, long)}
+   */
+  public Page<WorkspaceImpl> getWorkspaceSummaries(String user, int maxItems, long skipCount)
+      throws ServerException {
+    requireNonNull(user, "Required non-null user id");
+    final Page<WorkspaceImpl> workspaces =
+        workspaceDao.getWorkspaceSummaries(user, maxItems, skipCount);
+    for (WorkspaceImpl workspace : workspaces.getItems()) {
+      workspace.setStatus(runtimes.getStatus(workspace.getId()));
+    }
+    return workspaces;
+  }
+
+  /**
+   * Gets page of short views of workspaces with given status which user can read.
+   *
+   * <p>Status is known only by runtimes, so identifiers of the workspaces which have runtimes are
+   * passed to the storage and workspaces are filtered and paged by the storage query.
+   *
+   * @param user the id of the user
+   * @param status the status of workspaces to fetch
+   * @param maxItems the maximum number of workspaces to return
+   * @param skipCount the number of workspaces to skip
+   * @return page of short views of workspaces with given status which user can read
+   * @throws NullPointerException when {@code user} or {@code status} is null
+   * @throws ServerException when any server error occurs while getting workspaces
+   */
+  public Page<WorkspaceImpl> getWorkspaceSummaries(
+      String user, WorkspaceStatus status, int maxItems, long skipCount) throws ServerException {
+    requireNonNull(user, "Required non-null user id");
+    requireNonNull(status, "Required non-null status");
+    final Map<String, WorkspaceStatus> statuses = runtimes.getStatuses(runtimes.getRuntimesIds());
+    final Page<WorkspaceImpl> workspaces;
+    if (status == WorkspaceStatus.STOPPED) {
+      workspaces =
+          workspaceDao.getWorkspaceSummariesExcept(
+              user,
+              statuses
+                  .entrySet()
+                  .stream()
+                  .filter(entry -> entry.getValue() != WorkspaceStatus.STOPPED)
+                  .map(Map.Entry::getKey)
+                  .collect(toList()),
+              maxItems,
+              skipCount);
+    } else {
+      workspaces =
+          workspaceDao.getWorkspaceSummaries(
+              user,
+              statuses
+                  .entrySet()
+                  .stream()
+                  .filter(entry -> entry.getValue() == status)
+                  .map(Map.Entry::getKey)
+                  .collect(toList()),
+              maxItems,
+              skipCount);
+    }
+    for (WorkspaceImpl workspace : workspaces.getItems()) {
+      workspace.setStatus(firstNonNull(statuses.get(workspace.getId()), WorkspaceStatus.STOPPED));
+    }
+    return workspaces;
+  }
+
+  /**
+   * Gets page of workspaces with given status which user can read.
+   *
+   * <p>Workspaces are filtered and paged the same way as by {@link #getWorkspaceSummaries(String,
+   * WorkspaceStatus, int, long)}, then the workspaces of the page are fetched with a single query.
+   * Runtimes are not included.
+   *
+   * @param user the id of the user
+   * @param status the status of workspaces to fetch
+   * @param maxItems the maximum number of workspaces to return
+   * @param skipCount the number of workspaces to skip
+   * @return page of workspaces with given status which user can read
+   * @throws NullPointerException when {@code user} or {@code status} is null
+   * @throws ServerException when any server error occurs while getting workspaces
+   */
+  public Page<WorkspaceImpl> getWorkspaces(
+      String user, WorkspaceStatus status, int maxItems, long skipCount) throws ServerException {
+    final Page<WorkspaceImpl> summaries = getWorkspaceSummaries(user, status, maxItems, skipCount);
+    final Map<String, WorkspaceStatus> statuses = new HashMap<>();
+    for (WorkspaceImpl summary : summaries.getItems()) {
+      statuses.put(summary.getId(), summary.getStatus());
+    }
+    final List<WorkspaceImpl> workspaces = workspaceDao.getByIds(statuses.keySet());
+    for (WorkspaceImpl workspace : workspaces) {
+      workspace.setStatus(statuses.get(workspace.getId()));
+      addExtraAttributes(workspace);
+    }
+    return new Page<>(workspaces, skipCount, maxItems, summaries.getTotalItemsCount());
+  }
+
+  /**
+   * Gets short views of the workspaces with given identifiers which user can read. Workspaces are
+   * fetched with a single query and their runtime states are read from a single snapshot, so it is
+   * much cheaper than fetching the workspaces one by one.
+   *
+   * @param user the id of the user
+   * @param ids identifiers of workspaces to fetch
+   * @param includeRuntimes if <code>true</code>, will fetch runtime info for workspaces. If <code>
+   *     false</code>, will fetch status only.
+   * @return short views of workspaces, missing or not readable workspaces are ignored
+   * @throws NullPointerException when {@code user} or {@code ids} is null
+   * @throws ServerException when any server error occurs while getting workspaces with {@link
+   *     WorkspaceDao#getWorkspaceSummaries(String, Collection)}
+   */
+  public List<WorkspaceImpl> getWorkspaceSummaries(
+      String user, Collection<String> ids, boolean includeRuntimes) throws ServerException {
+    requireNonNull(user, "Required non-null user id");
+    requireNonNull(ids, "Required non-null workspace ids");
+    final List<WorkspaceImpl> workspaces = workspaceDao.getWorkspaceSummaries(user, ids);
+    if (includeRuntimes) {
+      runtimes.injectRuntimes(workspaces);
+    } else {
+      final Map<String, WorkspaceStatus> statuses =
+          runtimes.getStatuses(workspaces.stream().map(WorkspaceImpl::getId).collect(toList()));
+      for (WorkspaceImpl workspace : workspaces) {
+        workspace.setStatus(statuses.get(workspace.getId()));
+      }
+    }
+    return workspaces;
+  }
+
   /**
    * Gets list of workspaces which has given namespace. Runtimes are included
    *
@@ -286,6 +450,32 @@ public class WorkspaceManager {
     return workspaces;
   }
 
+  /**
+   * Gets page of workspaces which has given namespace.
+   *
+   * <p>Returned workspaces have either {@link WorkspaceStatus#STOPPED} status or status defined by
+   * their runtime instances(if those exist).
+   *
+   * @param namespace the namespace to find workspaces
+   * @param includeRuntimes if <code>true</code>, will fetch runtime info for workspaces. If <code>
+   *     false</code>, will not fetch runtime info.
+   * @param maxItems the maximum number of workspaces to return
+   * @param skipCount the number of workspaces to skip
+   * @return page of workspaces which has given namespace
+   * @throws NullPointerException when {@code namespace} is null
+   * @throws ServerException when any server error occurs while getting workspaces with {@link
+   *     WorkspaceDao#getByNamespace(String, int, long)}
+   */
+  public Page<WorkspaceImpl> getByNamespace(
+      String namespace, boolean includeRuntimes, int maxItems, long skipCount)
+      throws ServerException {
+    requireNonNull(namespace, "Required non-null namespace");
+    final Page<WorkspaceImpl> workspaces =
+        workspaceDao.getByNamespace(namespace, maxItems, skipCount);
+    injectRuntimeAndAttributes(workspaces.getItems(), !includeRuntimes);
+    return workspaces;
+  }
+
   /**
    * Updates an existing workspace with a new configuration.
    *
@@ -25,6 +25,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -35,6 +36,7 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
@@ -294,6 +296,36 @@ public class WorkspaceRuntimes {
         state = new RuntimeState(states.get(workspace.getId()));
       }
     }
+    injectRuntime(workspace, state);
+  }
+
+  /**
+   * Injects runtime information into each of the given workspaces, works the same way as {@link
+   * #injectRuntime(WorkspaceImpl)} does for a single workspace.
+   *
+   * <p>States of all the workspaces are copied first, each under its own read lock, so the locks
+   * are not held while machines are fetched from the environment engine.
+   *
+   * @param workspaces the workspaces to inject runtimes into
+   */
+  public void injectRuntimes(Collection<WorkspaceImpl> workspaces) {
+    requireNonNull(workspaces, "Required non-null workspaces");
+    final Map<String, RuntimeState> snapshot = new HashMap<>();
+    for (WorkspaceImpl workspace : workspaces) {
+      try (@SuppressWarnings("unused")
+          Unlocker u = locks.readLock(workspace.getId())) {
+        RuntimeState state = states.get(workspace.getId());
+        if (state != null) {
+          snapshot.put(workspace.getId(), new RuntimeState(state));
+        }
+      }
+    }
+    for (WorkspaceImpl workspace : workspaces) {
+      injectRuntime(workspace, snapshot.get(workspace.getId()));
+    }
+  }
+
+  private void injectRuntime(WorkspaceImpl workspace, @Nullable RuntimeState state) {
     if (state == null) {
       workspace.setStatus(WorkspaceStatus.STOPPED);
     } else {
@@ -307,6 +339,23 @@ public class WorkspaceRuntimes {
     }
   }
 
+  /**
+   * Returns statuses of the given workspaces, the statuses are read from a single snapshot of
+   * runtime states without fetching machines.
+   *
+   * @param workspaceIds identifiers of workspaces
+   * @return statuses of workspaces mapped by workspace identifiers, {@link
+   *     WorkspaceStatus#STOPPED} for the workspaces which are not running
+   */
+  public Map<String, WorkspaceStatus> getStatuses(Collection<String> workspaceIds) {
+    requireNonNull(workspaceIds, "Required non-null workspace ids");
+    final Map<String, WorkspaceStatus> statuses = new HashMap<>();
+    for (String id : workspaceIds) {
+      statuses.put(id, getStatus(id));
+    }
+    return statuses;
+  }
+
   /**
    * Returns true if the status of the workspace is different from {@link WorkspaceStatus#STOPPED}.
    *
@@ -669,17 +718,53 @@ public class WorkspaceRuntimes {
     return state;
   }
 
+  /**
+   * Launches agents of the given instance one after another, as agents may depend on each other.
+   * Each agent is launched as soon as the previous one is launched, the calling thread only waits
+   * for the last one.
+   */
   protected void launchAgents(Instance instance, List<String> agents)
       throws ServerException, AgentException {
+    final List<CompletableFuture<Void>> launchings = new ArrayList<>();
+    CompletableFuture<Void> launched = CompletableFuture.completedFuture(null);
     for (AgentKey agentKey : agentSorter.sort(agents)) {
-      if (!Thread.currentThread().isInterrupted()) {
-        LOG.info(
-            "Launching '{}' agent at workspace {}", agentKey.getId(), instance.getWorkspaceId());
-        Agent agent = agentRegistry.getAgent(agentKey);
-        AgentLauncher launcher =
-            launcherFactory.find(agentKey.getId(), instance.getConfig().getType());
-        launcher.launch(instance, agent);
+      Agent agent = agentRegistry.getAgent(agentKey);
+      AgentLauncher launcher =
+          launcherFactory.find(agentKey.getId(), instance.getConfig().getType());
+      launched =
+          launched.thenCompose(
+              ignored -> {
+                LOG.info(
+                    "Launching '{}' agent at workspace {}",
+                    agentKey.getId(),
+                    instance.getWorkspaceId());
+                final CompletableFuture<Void> launching = launcher.launchAsync(instance, agent);
+                synchronized (launchings) {
+                  launchings.add(launching);
+                }
+                return launching;
+              });
+    }
+    try {
+      launched.get();
+    } catch (InterruptedException x) {
+      // stop the agent being launched, the following ones are not launched then
+      synchronized (launchings) {
+        launchings.forEach(launching -> launching.cancel(false));
+      }
+      launched.cancel(false);
+      Thread.currentThread().interrupt();
+      throw new ServerException(
+          format("Launching agents in workspace %s is interrupted", instance.getWorkspaceId()));
+    } catch (ExecutionException x) {
+      final Throwable cause = x.getCause();
+      if (cause instanceof ServerException) {
+        throw (ServerException) cause;
+      }
+      if (cause instanceof AgentException) {
+        throw (AgentException) cause;
       }
+      throw new ServerException(cause.getLocalizedMessage(), cause);
     }
   }
 
@@ -23,6 +23,7 @@ import static org.eclipse.che.api.workspace.shared.Constants.CHE_WORKSPACE_AUTO_
 import static org.eclipse.che.api.workspace.shared.Constants.LINK_REL_CREATE_WORKSPACE;
 import static org.eclipse.che.api.workspace.shared.Constants.LINK_REL_GET_BY_NAMESPACE;
 import static org.eclipse.che.api.workspace.shared.Constants.LINK_REL_GET_WORKSPACES;
+import static org.eclipse.che.api.workspace.shared.Constants.MAX_STATUS_WORKSPACE_IDS;
 import static org.eclipse.che.dto.server.DtoFactory.newDto;
 
 import com.google.common.collect.ImmutableMap;
@@ -34,8 +35,12 @@ import io.swagger.annotations.ApiResponse;
 import io.swagger.annotations.ApiResponses;
 import io.swagger.annotations.Example;
 import io.swagger.annotations.ExampleProperty;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import javax.inject.Inject;
 import javax.inject.Named;
 import javax.ws.rs.Consumes;
@@ -56,6 +61,7 @@ import org.eclipse.che.api.core.BadRequestException;
 import org.eclipse.che.api.core.ConflictException;
 import org.eclipse.che.api.core.ForbiddenException;
 import org.eclipse.che.api.core.NotFoundException;
+import org.eclipse.che.api.core.Page;
 import org.eclipse.che.api.core.ServerException;
 import org.eclipse.che.api.core.model.workspace.WorkspaceStatus;
 import org.eclipse.che.api.core.rest.Service;
@@ -219,28 +225,108 @@ public class WorkspaceService extends Service {
   @GenerateLink(rel = LINK_REL_GET_WORKSPACES)
   @ApiOperation(
     value = "Get workspaces which user can read",
-    notes = "This operation can be performed only by authorized user",
+    notes =
+        "This operation can be performed only by authorized user. "
+            + "Short views of workspaces contain only id, namespace, status and name in config",
     response = WorkspaceDto.class,
     responseContainer = "List"
   )
   @ApiResponses({
     @ApiResponse(code = 200, message = "The workspaces successfully fetched"),
+    @ApiResponse(code = 400, message = "Invalid number of items to skip or return"),
     @ApiResponse(code = 500, message = "Internal server error occurred during workspaces fetching")
   })
-  public List<WorkspaceDto> getWorkspaces(
-      @ApiParam("The number of the items to skip") @DefaultValue("0") @QueryParam("skipCount")
-          Integer skipCount,
-      @ApiParam("The limit of the items in the response, default is 30")
-          @DefaultValue("30")
+  public Response getWorkspaces(
+      @ApiParam("The number of the items to skip") @QueryParam("skipCount") Integer skipCount,
+      @ApiParam("The limit of the items in the response, the items are not limited by default")
           @QueryParam("maxItems")
           Integer maxItems,
-      @ApiParam("Workspace status") @QueryParam("status") String status)
+      @ApiParam("Workspace status") @QueryParam("status") String status,
+      @ApiParam("Whether to return short views of workspaces")
+          @DefaultValue("false")
+          @QueryParam("summary")
+          Boolean summary)
       throws ServerException, BadRequestException {
-    // TODO add maxItems & skipCount to manager
+    if (skipCount != null && skipCount < 0) {
+      throw new BadRequestException("The number of items to skip can't be negative");
+    }
+    if (maxItems != null && maxItems <= 0) {
+      throw new BadRequestException("The number of items to return must be positive");
+    }
+    final String userId = EnvironmentContext.getCurrent().getSubject().getUserId();
+    final boolean paged = skipCount != null || maxItems != null;
+    if (!paged && status == null && !summary) {
+      final List<WorkspaceDto> workspaces =
+          workspaceManager
+              .getWorkspaces(userId, false)
+              .stream()
+              .map(workspace -> linksInjector.injectLinks(asDto(workspace), getServiceContext()))
+              .collect(toList());
+      return Response.ok().entity(workspaces).build();
+    }
+    final int limit = maxItems == null ? Integer.MAX_VALUE : maxItems;
+    final int skip = skipCount == null ? 0 : skipCount;
+    final Page<WorkspaceImpl> workspacesPage;
+    if (status == null) {
+      workspacesPage =
+          summary
+              ? workspaceManager.getWorkspaceSummaries(userId, limit, skip)
+              : workspaceManager.getWorkspaces(userId, false, limit, skip);
+    } else {
+      workspacesPage = getWorkspacesByStatus(userId, status, summary, limit, skip);
+    }
+    final Response.ResponseBuilder response =
+        Response.ok()
+            .entity(
+                workspacesPage.getItems(
+                    workspace -> linksInjector.injectLinks(asDto(workspace), getServiceContext())));
+    if (paged) {
+      response.header("Link", createLinkHeader(workspacesPage));
+    }
+    return response.build();
+  }
+
+  @GET
+  @Path("/status")
+  @Produces(APPLICATION_JSON)
+  @ApiOperation(
+    value = "Get statuses of workspaces with given identifiers",
+    notes =
+        "Returns short views of the workspaces which user can read, missing or not readable "
+            + "workspaces are skipped. Workspaces are fetched with a single request, so it should "
+            + "be used instead of fetching workspaces one by one. At most 100 workspace "
+            + "identifiers can be specified",
+    response = WorkspaceDto.class,
+    responseContainer = "List"
+  )
+  @ApiResponses({
+    @ApiResponse(code = 200, message = "The workspaces successfully fetched"),
+    @ApiResponse(
+      code = 400,
+      message = "Workspace identifiers are not specified or there are too many of them"
+    ),
+    @ApiResponse(code = 500, message = "Internal server error occurred during workspaces fetching")
+  })
+  public List<WorkspaceDto> getStatuses(
+      @ApiParam(value = "The workspace id", allowMultiple = true) @QueryParam("id")
+          List<String> ids,
+      @ApiParam("Whether to include runtimes of workspaces")
+          @DefaultValue("false")
+          @QueryParam("includeRuntimes")
+          Boolean includeRuntimes)
+      throws ServerException, BadRequestException {
+    if (ids == null || ids.isEmpty()) {
+      throw new BadRequestException("At least one workspace id required");
+    }
+    final Set<String> uniqueIds = new LinkedHashSet<>(ids);
+    if (uniqueIds.size() > MAX_STATUS_WORKSPACE_IDS) {
+      throw new BadRequestException(
+          "The number of workspace ids must not be greater than " + MAX_STATUS_WORKSPACE_IDS);
+    }
+    final String userId = EnvironmentContext.getCurrent().getSubject().getUserId();
     return workspaceManager
-        .getWorkspaces(EnvironmentContext.getCurrent().getSubject().getUserId(), false)
+        .getWorkspaceSummaries(userId, uniqueIds, includeRuntimes)
         .stream()
-        .filter(ws -> status == null || status.equalsIgnoreCase(ws.getStatus().toString()))
         .map(workspace -> linksInjector.injectLinks(asDto(workspace), getServiceContext()))
         .collect(toList());
   }
@@ -818,6 +904,26 @@ public class WorkspaceService extends Service {
     return res;
   }
 
+  /**
+   * Filters workspaces by status in the storage query and fetches completely only the workspaces of
+   * the requested page, with a single query.
+   */
+  private Page<WorkspaceImpl> getWorkspacesByStatus(
+      String userId, String status, boolean summary, int maxItems, int skipCount)
+      throws ServerException {
+    final WorkspaceStatus workspaceStatus =
+        Arrays.stream(WorkspaceStatus.values())
+            .filter(value -> status.equalsIgnoreCase(value.toString()))
+            .findAny()
+            .orElse(null);
+    if (workspaceStatus == null) {
+      return new Page<>(new ArrayList<>(), skipCount, maxItems, 0);
+    }
+    return summary
+        ? workspaceManager.getWorkspaceSummaries(userId, workspaceStatus, maxItems, skipCount)
+        : workspaceManager.getWorkspaces(userId, workspaceStatus, maxItems, skipCount);
+  }
+
   /**
    * Checks object reference is not {@code null}
    *
@@ -11,7 +11,13 @@
 package org.eclipse.che.api.workspace.server.event;
 
 import static com.google.common.collect.Sets.newConcurrentHashSet;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
+import static org.eclipse.che.api.workspace.shared.Constants.MAX_STATUS_WORKSPACE_IDS;
+import static org.eclipse.che.dto.server.DtoFactory.newDto;
 
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
@@ -19,24 +25,39 @@ import javax.annotation.PostConstruct;
 import javax.annotation.PreDestroy;
 import javax.inject.Inject;
 import javax.inject.Singleton;
+import org.eclipse.che.api.core.ServerException;
+import org.eclipse.che.api.core.jsonrpc.commons.JsonRpcException;
 import org.eclipse.che.api.core.jsonrpc.commons.RequestHandlerConfigurator;
 import org.eclipse.che.api.core.jsonrpc.commons.RequestTransmitter;
+import org.eclipse.che.api.core.model.workspace.WorkspaceStatus;
 import org.eclipse.che.api.core.notification.EventService;
 import org.eclipse.che.api.core.notification.EventSubscriber;
+import org.eclipse.che.api.workspace.server.WorkspaceManager;
+import org.eclipse.che.api.workspace.server.WorkspaceRuntimes;
+import org.eclipse.che.api.workspace.server.model.impl.WorkspaceImpl;
 import org.eclipse.che.api.workspace.shared.dto.event.WorkspaceStatusEvent;
+import org.eclipse.che.commons.env.EnvironmentContext;
 
 /** Send workspace events using JSON RPC to the clients */
 @Singleton
 public class WorkspaceJsonRpcMessenger implements EventSubscriber<WorkspaceStatusEvent> {
   private final RequestTransmitter transmitter;
   private final EventService eventService;
+  private final WorkspaceRuntimes runtimes;
+  private final WorkspaceManager workspaceManager;
 
   private final Map<String, Set<String>> endpointIds = new ConcurrentHashMap<>();
 
   @Inject
-  public WorkspaceJsonRpcMessenger(RequestTransmitter transmitter, EventService eventService) {
+  public WorkspaceJsonRpcMessenger(
+      RequestTransmitter transmitter,
+      EventService eventService,
+      WorkspaceRuntimes runtimes,
+      WorkspaceManager workspaceManager) {
     this.transmitter = transmitter;
     this.eventService = eventService;
+    this.runtimes = runtimes;
+    this.workspaceManager = workspaceManager;
   }
 
   @Override
@@ -72,6 +93,64 @@ public class WorkspaceJsonRpcMessenger implements EventSubscriber<WorkspaceStatu
             });
   }
 
+  /**
+   * Subscribes the endpoint to status changes of all the given workspaces at once and responds
+   * with their current statuses, so clients tracking many workspaces don't have to subscribe and
+   * fetch them one by one. Statuses are taken after the subscription, so no change is missed.
+   *
+   * <p>As with the REST API at most {@link
+   * org.eclipse.che.api.workspace.shared.Constants#MAX_STATUS_WORKSPACE_IDS} workspaces may be
+   * requested at once, and missing or not readable workspaces are skipped.
+   */
+  @Inject
+  private void configureBulkSubscribeHandler(RequestHandlerConfigurator configurator) {
+    configurator
+        .newConfiguration()
+        .methodName("event:workspace-statuses:subscribe")
+        .paramsAsListOfString()
+        .resultAsListOfDto(WorkspaceStatusEvent.class)
+        .withFunction(
+            (endpointId, workspaceIds) -> {
+              final Set<String> uniqueIds = new LinkedHashSet<>(workspaceIds);
+              if (uniqueIds.size() > MAX_STATUS_WORKSPACE_IDS) {
+                throw new JsonRpcException(
+                    400,
+                    "The number of workspace ids must not be greater than "
+                        + MAX_STATUS_WORKSPACE_IDS);
+              }
+              final List<String> readableIds = getReadableIds(uniqueIds);
+              endpointIds
+                  .computeIfAbsent(endpointId, k -> newConcurrentHashSet())
+                  .addAll(readableIds);
+              final Map<String, WorkspaceStatus> statuses = runtimes.getStatuses(readableIds);
+              return readableIds
+                  .stream()
+                  .map(
+                      id ->
+                          newDto(WorkspaceStatusEvent.class)
+                              .withWorkspaceId(id)
+                              .withStatus(statuses.get(id)))
+                  .collect(toList());
+            });
+  }
+
+  /** Returns those of the given ids, in the same order, which the current user can read. */
+  private List<String> getReadableIds(Set<String> ids) {
+    final String userId = EnvironmentContext.getCurrent().getSubject().getUserId();
+    final Set<String> readable;
+    try {
+      readable =
+          workspaceManager
+              .getWorkspaceSummaries(userId, ids, false)
+              .stream()
+              .map(WorkspaceImpl::getId)
+              .collect(toSet());
+    } catch (ServerException x) {
+      throw new JsonRpcException(500, x.getLocalizedMessage());
+    }
+    return ids.stream().filter(readable::contains).collect(toList());
+  }
+
   @Inject
   private void configureUnSubscribeHandler(RequestHandlerConfigurator configurator) {
     configurator
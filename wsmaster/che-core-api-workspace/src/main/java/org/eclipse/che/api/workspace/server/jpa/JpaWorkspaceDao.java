@@ -16,6 +16,8 @@ import static java.util.Objects.requireNonNull;
 import static java.util.stream.Collectors.toList;
 
 import com.google.inject.persist.Transactional;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -29,6 +31,7 @@ import javax.persistence.NoResultException;
 import org.eclipse.che.account.event.BeforeAccountRemovedEvent;
 import org.eclipse.che.api.core.ConflictException;
 import org.eclipse.che.api.core.NotFoundException;
+import org.eclipse.che.api.core.Page;
 import org.eclipse.che.api.core.ServerException;
 import org.eclipse.che.api.core.notification.EventService;
 import org.eclipse.che.api.workspace.server.WorkspaceManager;
@@ -95,6 +98,18 @@ public class JpaWorkspaceDao implements WorkspaceDao {
     }
   }
 
+  @Override
+  public void removeAll(Collection<String> ids) throws ServerException {
+    requireNonNull(ids, "Required non-null ids");
+    try {
+      for (WorkspaceImpl workspace : doRemoveAll(ids)) {
+        eventService.publish(new WorkspaceRemovedEvent(workspace));
+      }
+    } catch (RuntimeException x) {
+      throw new ServerException(x.getLocalizedMessage(), x);
+    }
+  }
+
   @Override
   @Transactional
   public WorkspaceImpl get(String id) throws NotFoundException, ServerException {
@@ -110,6 +125,17 @@ public class JpaWorkspaceDao implements WorkspaceDao {
     }
   }
 
+  @Override
+  @Transactional
+  public List<WorkspaceImpl> getByIds(Collection<String> ids) throws ServerException {
+    requireNonNull(ids, "Required non-null ids");
+    try {
+      return WorkspaceDaoUtil.getByIds(managerProvider.get(), ids);
+    } catch (RuntimeException x) {
+      throw new ServerException(x.getLocalizedMessage(), x);
+    }
+  }
+
   @Override
   @Transactional
   public WorkspaceImpl get(String name, String namespace)
@@ -166,6 +192,152 @@ public class JpaWorkspaceDao implements WorkspaceDao {
     }
   }
 
+  @Override
+  @Transactional
+  public Page<WorkspaceImpl> getByNamespace(String namespace, int maxItems, long skipCount)
+      throws ServerException {
+    requireNonNull(namespace, "Required non-null namespace");
+    WorkspaceDaoUtil.checkPageArguments(maxItems, skipCount);
+    try {
+      return WorkspaceDaoUtil.getByNamespace(managerProvider.get(), namespace, maxItems, skipCount);
+    } catch (RuntimeException x) {
+      throw new ServerException(x.getLocalizedMessage(), x);
+    }
+  }
+
+  @Override
+  @Transactional
+  public Page<WorkspaceImpl> getWorkspaces(String userId, int maxItems, long skipCount)
+      throws ServerException {
+    WorkspaceDaoUtil.checkPageArguments(maxItems, skipCount);
+    try {
+      final List<WorkspaceImpl> list =
+          managerProvider
+              .get()
+              .createNamedQuery("Workspace.getAll", WorkspaceImpl.class)
+              .setMaxResults(maxItems)
+              .setFirstResult((int) skipCount)
+              .getResultList()
+              .stream()
+              .map(WorkspaceImpl::new)
+              .collect(toList());
+      return new Page<>(list, skipCount, maxItems, getTotalCount());
+    } catch (RuntimeException x) {
+      throw new ServerException(x.getLocalizedMessage(), x);
+    }
+  }
+
+  @Override
+  @Transactional
+  public Page<WorkspaceImpl> getWorkspaceSummaries(String userId, int maxItems, long skipCount)
+      throws ServerException {
+    WorkspaceDaoUtil.checkPageArguments(maxItems, skipCount);
+    try {
+      final List<WorkspaceImpl> list =
+          managerProvider
+              .get()
+              .createNamedQuery("Workspace.getAllSummaries", Object[].class)
+              .setMaxResults(maxItems)
+              .setFirstResult((int) skipCount)
+              .getResultList()
+              .stream()
+              .map(WorkspaceDaoUtil::asSummary)
+              .collect(toList());
+      return new Page<>(list, skipCount, maxItems, getTotalCount());
+    } catch (RuntimeException x) {
+      throw new ServerException(x.getLocalizedMessage(), x);
+    }
+  }
+
+  @Override
+  @Transactional
+  public List<WorkspaceImpl> getWorkspaceSummaries(String userId, Collection<String> ids)
+      throws ServerException {
+    requireNonNull(ids, "Required non-null ids");
+    if (ids.isEmpty()) {
+      return new ArrayList<>();
+    }
+    try {
+      return managerProvider
+          .get()
+          .createNamedQuery("Workspace.getSummariesByIds", Object[].class)
+          .setParameter("ids", ids)
+          .getResultList()
+          .stream()
+          .map(WorkspaceDaoUtil::asSummary)
+          .collect(toList());
+    } catch (RuntimeException x) {
+      throw new ServerException(x.getLocalizedMessage(), x);
+    }
+  }
+
+  @Override
+  @Transactional
+  public Page<WorkspaceImpl> getWorkspaceSummaries(
+      String userId, Collection<String> ids, int maxItems, long skipCount) throws ServerException {
+    requireNonNull(ids, "Required non-null ids");
+    WorkspaceDaoUtil.checkPageArguments(maxItems, skipCount);
+    if (ids.isEmpty()) {
+      return new Page<>(new ArrayList<>(), skipCount, maxItems, 0);
+    }
+    try {
+      final List<WorkspaceImpl> list =
+          managerProvider
+              .get()
+              .createNamedQuery("Workspace.getSummariesByIds", Object[].class)
+              .setParameter("ids", ids)
+              .setMaxResults(maxItems)
+              .setFirstResult((int) skipCount)
+              .getResultList()
+              .stream()
+              .map(WorkspaceDaoUtil::asSummary)
+              .collect(toList());
+      final long count =
+          managerProvider
+              .get()
+              .createNamedQuery("Workspace.getSummariesByIdsCount", Long.class)
+              .setParameter("ids", ids)
+              .getSingleResult();
+      return new Page<>(list, skipCount, maxItems, count);
+    } catch (RuntimeException x) {
+      throw new ServerException(x.getLocalizedMessage(), x);
+    }
+  }
+
+  @Override
+  @Transactional
+  public Page<WorkspaceImpl> getWorkspaceSummariesExcept(
+      String userId, Collection<String> excludedIds, int maxItems, long skipCount)
+      throws ServerException {
+    requireNonNull(excludedIds, "Required non-null excluded ids");
+    if (excludedIds.isEmpty()) {
+      return getWorkspaceSummaries(userId, maxItems, skipCount);
+    }
+    WorkspaceDaoUtil.checkPageArguments(maxItems, skipCount);
+    try {
+      final List<WorkspaceImpl> list =
+          managerProvider
+              .get()
+              .createNamedQuery("Workspace.getSummariesExceptIds", Object[].class)
+              .setParameter("ids", excludedIds)
+              .setMaxResults(maxItems)
+              .setFirstResult((int) skipCount)
+              .getResultList()
+              .stream()
+              .map(WorkspaceDaoUtil::asSummary)
+              .collect(toList());
+      final long count =
+          managerProvider
+              .get()
+              .createNamedQuery("Workspace.getSummariesExceptIdsCount", Long.class)
+              .setParameter("ids", excludedIds)
+              .getSingleResult();
+      return new Page<>(list, skipCount, maxItems, count);
+    } catch (RuntimeException x) {
+      throw new ServerException(x.getLocalizedMessage(), x);
+    }
+  }
+
   @Override
   @Transactional
   public List<WorkspaceImpl> getWorkspaces(boolean isTemporary, int skipCount, int maxItems)
@@ -190,6 +362,32 @@ public class JpaWorkspaceDao implements WorkspaceDao {
     }
   }
 
+  @Override
+  @Transactional
+  public List<String> getTemporaryWorkspaceIds(String afterId, int maxItems)
+      throws ServerException {
+    requireNonNull(afterId, "Required non-null after id");
+    checkArgument(maxItems > 0, "The number of items to return must be positive.");
+    try {
+      return managerProvider
+          .get()
+          .createNamedQuery("Workspace.getTemporaryIds", String.class)
+          .setParameter("afterId", afterId)
+          .setMaxResults(maxItems)
+          .getResultList();
+    } catch (RuntimeException x) {
+      throw new ServerException(x.getLocalizedMessage(), x);
+    }
+  }
+
+  @Transactional
+  protected long getTotalCount() {
+    return managerProvider
+        .get()
+        .createNamedQuery("Workspace.getAllCount", Long.class)
+        .getSingleResult();
+  }
+
   @Transactional
   protected void doCreate(WorkspaceImpl workspace) {
     if (workspace.getConfig() != null) {
@@ -215,6 +413,11 @@ public class JpaWorkspaceDao implements WorkspaceDao {
     return Optional.of(workspace);
   }
 
+  @Transactional(rollbackOn = {RuntimeException.class, ServerException.class})
+  protected List<WorkspaceImpl> doRemoveAll(Collection<String> ids) throws ServerException {
+    return WorkspaceDaoUtil.removeAll(managerProvider.get(), eventService, ids);
+  }
+
   @Transactional
   protected WorkspaceImpl doUpdate(WorkspaceImpl update) throws NotFoundException {
     EntityManager manager = managerProvider.get();
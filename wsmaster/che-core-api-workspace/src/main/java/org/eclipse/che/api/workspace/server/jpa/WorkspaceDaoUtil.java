@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2012-2017 Red Hat, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.api.workspace.server.jpa;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.stream.Collectors.toList;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import javax.persistence.EntityManager;
+import org.eclipse.che.account.spi.AccountImpl;
+import org.eclipse.che.api.core.Page;
+import org.eclipse.che.api.core.ServerException;
+import org.eclipse.che.api.core.notification.EventService;
+import org.eclipse.che.api.workspace.server.event.BeforeWorkspaceRemovedEvent;
+import org.eclipse.che.api.workspace.server.model.impl.WorkspaceConfigImpl;
+import org.eclipse.che.api.workspace.server.model.impl.WorkspaceImpl;
+
+/**
+ * Queries and checks shared by the JPA based implementations of {@link
+ * org.eclipse.che.api.workspace.server.spi.WorkspaceDao}. Methods must be called within a
+ * transaction, exceptions are not wrapped.
+ */
+public final class WorkspaceDaoUtil {
+
+  /**
+   * Checks arguments of a page request.
+   *
+   * @throws IllegalArgumentException when {@code maxItems} is not positive or {@code skipCount} is
+   *     negative or greater than {@link Integer#MAX_VALUE}
+   */
+  public static void checkPageArguments(int maxItems, long skipCount) {
+    checkArgument(maxItems > 0, "The number of items to return must be positive.");
+    checkArgument(
+        skipCount >= 0 && skipCount <= Integer.MAX_VALUE,
+        "The number of items to skip can't be negative or greater than " + Integer.MAX_VALUE);
+  }
+
+  /**
+   * Creates short view of workspace from the row of id, name, temporary flag and account's id, name
+   * and type.
+   */
+  public static WorkspaceImpl asSummary(Object[] row) {
+    final WorkspaceImpl workspace =
+        new WorkspaceImpl(
+            (String) row[0],
+            new AccountImpl((String) row[3], (String) row[4], (String) row[5]),
+            new WorkspaceConfigImpl((String) row[1], null, null, null, null, null));
+    workspace.setTemporary((Boolean) row[2]);
+    return workspace;
+  }
+
+  /** Gets workspaces with given identifiers ordered by identifiers. */
+  public static List<WorkspaceImpl> getByIds(EntityManager manager, Collection<String> ids) {
+    if (ids.isEmpty()) {
+      return new ArrayList<>();
+    }
+    return manager
+        .createNamedQuery("Workspace.getByIds", WorkspaceImpl.class)
+        .setParameter("ids", ids)
+        .getResultList()
+        .stream()
+        .map(WorkspaceImpl::new)
+        .collect(toList());
+  }
+
+  /** Gets page of workspaces in given namespace ordered by identifiers. */
+  public static Page<WorkspaceImpl> getByNamespace(
+      EntityManager manager, String namespace, int maxItems, long skipCount) {
+    final List<WorkspaceImpl> list =
+        manager
+            .createNamedQuery("Workspace.getByNamespace", WorkspaceImpl.class)
+            .setParameter("namespace", namespace)
+            .setMaxResults(maxItems)
+            .setFirstResult((int) skipCount)
+            .getResultList()
+            .stream()
+            .map(WorkspaceImpl::new)
+            .collect(toList());
+    final long count =
+        manager
+            .createNamedQuery("Workspace.getByNamespaceCount", Long.class)
+            .setParameter("namespace", namespace)
+            .getSingleResult();
+    return new Page<>(list, skipCount, maxItems, count);
+  }
+
+  /**
+   * Removes workspaces with given identifiers publishing {@link BeforeWorkspaceRemovedEvent} for
+   * each of them, identifiers of missing workspaces are ignored.
+   *
+   * @return removed workspaces
+   * @throws ServerException when any of the event subscribers fails
+   */
+  public static List<WorkspaceImpl> removeAll(
+      EntityManager manager, EventService eventService, Collection<String> ids)
+      throws ServerException {
+    final List<WorkspaceImpl> removed = new ArrayList<>(ids.size());
+    for (String id : ids) {
+      final WorkspaceImpl workspace = manager.find(WorkspaceImpl.class, id);
+      if (workspace != null) {
+        eventService
+            .publish(new BeforeWorkspaceRemovedEvent(new WorkspaceImpl(workspace)))
+            .propagateException();
+        manager.remove(workspace);
+        removed.add(workspace);
+      }
+    }
+    manager.flush();
+    return removed;
+  }
+
+  private WorkspaceDaoUtil() {}
+}
@@ -54,16 +54,66 @@ import org.eclipse.persistence.descriptors.DescriptorEventAdapter;
 @NamedQueries({
   @NamedQuery(
     name = "Workspace.getByNamespace",
-    query = "SELECT w FROM Workspace w WHERE w.account.name = :namespace"
+    query = "SELECT w FROM Workspace w WHERE w.account.name = :namespace ORDER BY w.id"
   ),
   @NamedQuery(
     name = "Workspace.getByName",
     query = "SELECT w FROM Workspace w WHERE w.account.name = :namespace AND w.name = :name"
   ),
-  @NamedQuery(name = "Workspace.getAll", query = "SELECT w FROM Workspace w"),
+  @NamedQuery(
+    name = "Workspace.getByNamespaceCount",
+    query = "SELECT COUNT(w) FROM Workspace w WHERE w.account.name = :namespace"
+  ),
+  @NamedQuery(name = "Workspace.getAll", query = "SELECT w FROM Workspace w ORDER BY w.id"),
+  @NamedQuery(
+    name = "Workspace.getByIds",
+    query = "SELECT w FROM Workspace w WHERE w.id IN :ids ORDER BY w.id"
+  ),
+  @NamedQuery(name = "Workspace.getAllCount", query = "SELECT COUNT(w) FROM Workspace w"),
+  @NamedQuery(
+    name = "Workspace.getAllSummaries",
+    query =
+        "SELECT w.id, w.name, w.isTemporary, a.id, a.name, a.type "
+            + "FROM Workspace w "
+            + "JOIN w.account a "
+            + "ORDER BY w.id"
+  ),
+  @NamedQuery(
+    name = "Workspace.getSummariesByIds",
+    query =
+        "SELECT w.id, w.name, w.isTemporary, a.id, a.name, a.type "
+            + "FROM Workspace w "
+            + "JOIN w.account a "
+            + "WHERE w.id IN :ids "
+            + "ORDER BY w.id"
+  ),
+  @NamedQuery(
+    name = "Workspace.getSummariesByIdsCount",
+    query = "SELECT COUNT(w) FROM Workspace w WHERE w.id IN :ids"
+  ),
+  @NamedQuery(
+    name = "Workspace.getSummariesExceptIds",
+    query =
+        "SELECT w.id, w.name, w.isTemporary, a.id, a.name, a.type "
+            + "FROM Workspace w "
+            + "JOIN w.account a "
+            + "WHERE w.id NOT IN :ids "
+            + "ORDER BY w.id"
+  ),
+  @NamedQuery(
+    name = "Workspace.getSummariesExceptIdsCount",
+    query = "SELECT COUNT(w) FROM Workspace w WHERE w.id NOT IN :ids"
+  ),
   @NamedQuery(
     name = "Workspace.getByTemporary",
     query = "SELECT w FROM Workspace w WHERE w.isTemporary = :temporary"
+  ),
+  @NamedQuery(
+    name = "Workspace.getTemporaryIds",
+    query =
+        "SELECT w.id FROM Workspace w "
+            + "WHERE w.isTemporary = true AND w.id > :afterId "
+            + "ORDER BY w.id"
   )
 })
 @EntityListeners(WorkspaceImpl.SyncNameOnUpdateAndPersistEventListener.class)
@@ -52,7 +52,11 @@ import org.eclipse.che.commons.lang.NameGenerator;
             + "GROUP BY stack.id "
             + "HAVING COUNT(tag) = :tagsSize"
   ),
-  @NamedQuery(name = "Stack.getAll", query = "SELECT stack FROM Stack stack")
+  @NamedQuery(name = "Stack.getAll", query = "SELECT stack FROM Stack stack"),
+  @NamedQuery(
+    name = "Stack.getExistingIds",
+    query = "SELECT stack.id FROM Stack stack WHERE stack.id IN :ids"
+  )
 })
 @Table(name = "stack")
 public class StackImpl implements Stack {
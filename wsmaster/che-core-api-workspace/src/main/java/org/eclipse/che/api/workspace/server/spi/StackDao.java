@@ -10,7 +10,9 @@
  */
 package org.eclipse.che.api.workspace.server.spi;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 import org.eclipse.che.api.core.ConflictException;
 import org.eclipse.che.api.core.NotFoundException;
 import org.eclipse.che.api.core.ServerException;
@@ -76,6 +78,17 @@ public interface StackDao {
    */
   StackImpl update(StackImpl update) throws NotFoundException, ConflictException, ServerException;
 
+  /**
+   * Returns those of the given identifiers which belong to existing stacks. Stacks are checked
+   * with a single query.
+   *
+   * @param ids identifiers of the stacks to check
+   * @return identifiers of the existing stacks
+   * @throws NullPointerException when {@code ids} is null
+   * @throws ServerException when any error occurs
+   */
+  Set<String> getExistingIds(Collection<String> ids) throws ServerException;
+
   /**
    * Returns those stacks which match the following statements:
    *
@@ -10,9 +10,11 @@
  */
 package org.eclipse.che.api.workspace.server.spi;
 
+import java.util.Collection;
 import java.util.List;
 import org.eclipse.che.api.core.ConflictException;
 import org.eclipse.che.api.core.NotFoundException;
+import org.eclipse.che.api.core.Page;
 import org.eclipse.che.api.core.ServerException;
 import org.eclipse.che.api.workspace.server.model.impl.WorkspaceImpl;
 
@@ -73,6 +75,19 @@ public interface WorkspaceDao {
    */
   void remove(String id) throws ServerException;
 
+  /**
+   * Removes workspaces with given identifiers in a single transaction, so either all of them are
+   * removed or none.
+   *
+   * <p>The same cascade rules are applied to each workspace as by {@link #remove(String)}.
+   * Identifiers of workspaces which do not exist are ignored.
+   *
+   * @param ids identifiers of workspaces to remove
+   * @throws NullPointerException when {@code ids} is null
+   * @throws ServerException when any workspace cannot be removed
+   */
+  void removeAll(Collection<String> ids) throws ServerException;
+
   /**
    * Gets workspace by identifier.
    *
@@ -84,6 +99,17 @@ public interface WorkspaceDao {
    */
   WorkspaceImpl get(String id) throws NotFoundException, ServerException;
 
+  /**
+   * Gets workspaces with given identifiers using a single query. Unlike the other methods it
+   * doesn't check permissions, so the identifiers must be of workspaces the caller can read.
+   *
+   * @param ids identifiers of workspaces to fetch
+   * @return workspaces ordered by identifiers, identifiers of missing workspaces are ignored
+   * @throws NullPointerException when {@code ids} is null
+   * @throws ServerException when any other error occurs during workspaces fetching
+   */
+  List<WorkspaceImpl> getByIds(Collection<String> ids) throws ServerException;
+
   /**
    * Gets workspace by name in namespace.
    *
@@ -107,6 +133,21 @@ public interface WorkspaceDao {
    */
   List<WorkspaceImpl> getByNamespace(String namespace) throws ServerException;
 
+  /**
+   * Gets page of workspaces in given namespace.
+   *
+   * @param namespace workspace namespace
+   * @param maxItems the maximum number of workspaces to return
+   * @param skipCount the number of workspaces to skip
+   * @return page of workspaces in given namespace
+   * @throws NullPointerException when {@code namespace} is null
+   * @throws IllegalArgumentException when {@code maxItems} is not positive or {@code skipCount} is
+   *     negative
+   * @throws ServerException when any other error occurs during workspaces fetching
+   */
+  Page<WorkspaceImpl> getByNamespace(String namespace, int maxItems, long skipCount)
+      throws ServerException;
+
   /**
    * Gets list of workspaces which user can read
    *
@@ -116,6 +157,84 @@ public interface WorkspaceDao {
    */
   List<WorkspaceImpl> getWorkspaces(String userId) throws ServerException;
 
+  /**
+   * Gets page of workspaces which user can read.
+   *
+   * @param userId id of user
+   * @param maxItems the maximum number of workspaces to return
+   * @param skipCount the number of workspaces to skip
+   * @return page of workspaces which user can read
+   * @throws IllegalArgumentException when {@code maxItems} is not positive or {@code skipCount} is
+   *     negative
+   * @throws ServerException when any other error occurs during workspaces fetching
+   */
+  Page<WorkspaceImpl> getWorkspaces(String userId, int maxItems, long skipCount)
+      throws ServerException;
+
+  /**
+   * Gets page of short views of workspaces which user can read. Short view contains only
+   * identifier, namespace, temporary flag and configuration with name, so environments, projects
+   * and commands are not fetched from the storage.
+   *
+   * @param userId id of user
+   * @param maxItems the maximum number of workspaces to return
+   * @param skipCount the number of workspaces to skip
+   * @return page of short views of workspaces which user can read
+   * @throws IllegalArgumentException when {@code maxItems} is not positive or {@code skipCount} is
+   *     negative
+   * @throws ServerException when any other error occurs during workspaces fetching
+   */
+  Page<WorkspaceImpl> getWorkspaceSummaries(String userId, int maxItems, long skipCount)
+      throws ServerException;
+
+  /**
+   * Gets short views of the workspaces with given identifiers which user can read. Workspaces are
+   * fetched with a single query, identifiers of missing or not readable workspaces are ignored.
+   *
+   * @param userId id of user
+   * @param ids identifiers of workspaces to fetch
+   * @return short views of workspaces, the order of workspaces is not defined
+   * @throws NullPointerException when {@code ids} is null
+   * @throws ServerException when any other error occurs during workspaces fetching
+   * @see #getWorkspaceSummaries(String, int, long)
+   */
+  List<WorkspaceImpl> getWorkspaceSummaries(String userId, Collection<String> ids)
+      throws ServerException;
+
+  /**
+   * Gets page of short views of the workspaces with given identifiers which user can read.
+   *
+   * @param userId id of user
+   * @param ids identifiers of workspaces to fetch
+   * @param maxItems the maximum number of workspaces to return
+   * @param skipCount the number of workspaces to skip
+   * @return page of short views of workspaces ordered by identifiers
+   * @throws NullPointerException when {@code ids} is null
+   * @throws IllegalArgumentException when {@code maxItems} is not positive or {@code skipCount} is
+   *     negative
+   * @throws ServerException when any other error occurs during workspaces fetching
+   */
+  Page<WorkspaceImpl> getWorkspaceSummaries(
+      String userId, Collection<String> ids, int maxItems, long skipCount) throws ServerException;
+
+  /**
+   * Gets page of short views of the workspaces which user can read except the workspaces with
+   * given identifiers.
+   *
+   * @param userId id of user
+   * @param excludedIds identifiers of workspaces to skip
+   * @param maxItems the maximum number of workspaces to return
+   * @param skipCount the number of workspaces to skip
+   * @return page of short views of workspaces ordered by identifiers
+   * @throws NullPointerException when {@code excludedIds} is null
+   * @throws IllegalArgumentException when {@code maxItems} is not positive or {@code skipCount} is
+   *     negative
+   * @throws ServerException when any other error occurs during workspaces fetching
+   */
+  Page<WorkspaceImpl> getWorkspaceSummariesExcept(
+      String userId, Collection<String> excludedIds, int maxItems, long skipCount)
+      throws ServerException;
+
   /**
    * Gets workspaces by temporary attribute.
    *
@@ -129,4 +248,19 @@ public interface WorkspaceDao {
    */
   List<WorkspaceImpl> getWorkspaces(boolean isTemporary, int skipCount, int maxItems)
       throws ServerException;
+
+  /**
+   * Gets identifiers of temporary workspaces in ascending order starting after given identifier.
+   *
+   * <p>Unlike offset based paging, this method may be used to iterate workspaces while removing
+   * them, the next page starts after the last identifier of the previous one.
+   *
+   * @param afterId identifier after which the page starts, use empty string to get the first page
+   * @param maxItems the maximum number of identifiers to return
+   * @return list of identifiers or empty list if there are no more temporary workspaces
+   * @throws NullPointerException when {@code afterId} is null
+   * @throws IllegalArgumentException when {@code maxItems} is not positive
+   * @throws ServerException when any other error occurs during workspaces fetching
+   */
+  List<String> getTemporaryWorkspaceIds(String afterId, int maxItems) throws ServerException;
 }
@@ -12,17 +12,32 @@ package org.eclipse.che.api.workspace.server.stack;
 
 import static com.google.common.base.Strings.isNullOrEmpty;
 import static java.lang.String.format;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.emptySet;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
 
+import com.google.common.hash.Hashing;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.google.gson.reflect.TypeToken;
+import com.google.inject.persist.Transactional;
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import javax.annotation.PostConstruct;
 import javax.inject.Inject;
 import javax.inject.Named;
@@ -36,7 +51,9 @@ import org.eclipse.che.api.workspace.server.spi.StackDao;
 import org.eclipse.che.api.workspace.server.stack.image.StackIcon;
 import org.eclipse.che.api.workspace.shared.stack.Stack;
 import org.eclipse.che.commons.lang.IoUtil;
+import org.eclipse.che.commons.lang.concurrent.LoggingUncaughtExceptionHandler;
 import org.eclipse.che.core.db.DBInitializer;
+import org.eclipse.che.core.db.seed.JpaSeedChecksumDao;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -44,6 +61,11 @@ import org.slf4j.LoggerFactory;
  * Class for loading list predefined {@link Stack} to the {@link StackDao} and set {@link StackIcon}
  * to the predefined stack.
  *
+ * <p>Stack files are read in parallel. A checksum of each stack, icon included, is stored along
+ * with the stack, so only the stacks changed since the previous load are stored, all of them in a
+ * single transaction. Stacks which were removed from the storage are stored again, as well as the
+ * stacks modified with {@link StackService} which drops their checksums.
+ *
  * @author Alexander Andrienko
  * @author Sergii Leshchenko
  * @author Anton Korneta
@@ -53,6 +75,9 @@ public class StackLoader {
 
   public static final String CHE_PREDEFINED_STACKS = "che.predefined.stacks";
 
+  /** Type of the checksums of predefined stacks. */
+  public static final String STACK_CHECKSUM_TYPE = "stack";
+
   private static final Logger LOG = LoggerFactory.getLogger(StackLoader.class);
 
   protected final StackDao stackDao;
@@ -60,6 +85,7 @@ public class StackLoader {
   private final Gson GSON;
   private final Map<String, String> stacks2images;
   private final DBInitializer dbInitializer;
+  private final JpaSeedChecksumDao checksumDao;
   private final Boolean reloadStacksOnStart;
 
   @Inject
@@ -68,11 +94,13 @@ public class StackLoader {
       @Named("che.predefined.stacks.reload_on_start") boolean reloadStacksOnStart,
       @Named(CHE_PREDEFINED_STACKS) Map<String, String> stacks2images,
       StackDao stackDao,
-      DBInitializer dbInitializer) {
+      DBInitializer dbInitializer,
+      JpaSeedChecksumDao checksumDao) {
     this.reloadStacksOnStart = reloadStacksOnStart;
     this.stacks2images = stacks2images;
     this.stackDao = stackDao;
     this.dbInitializer = dbInitializer;
+    this.checksumDao = checksumDao;
     GSON = new GsonBuilder().create();
   }
 
@@ -87,37 +115,158 @@ public class StackLoader {
       override = dbInitializer.isBareInit();
     }
     if (override) {
-      for (Map.Entry<String, String> stack2image : stacks2images.entrySet()) {
-        final String stackFile = stack2image.getKey();
-        final String imagesDir = stack2image.getValue();
-        try (BufferedReader reader =
-            new BufferedReader(new InputStreamReader(IoUtil.getResource(stackFile)))) {
-          List<StackImpl> stacks =
-              GSON.fromJson(reader, new TypeToken<List<StackImpl>>() {}.getType());
-          final Path imagesDirPath = !isNullOrEmpty(imagesDir) ? Paths.get(imagesDir) : null;
-          stacks.forEach(stack -> loadStack(stack, imagesDirPath));
-        } catch (Exception ex) {
-          LOG.error("Failed to store stacks from '{}'", stackFile);
+      final List<PredefinedStack> stacks = readStacks();
+      final Map<String, String> checksums = getChecksums();
+      final Set<String> existingIds =
+          getExistingIds(stacks.stream().map(stack -> stack.stack.getId()).collect(toSet()));
+      final List<PredefinedStack> changed =
+          stacks
+              .stream()
+              .filter(
+                  stack ->
+                      !stack.checksum.equals(checksums.get(stack.stack.getId()))
+                          || !existingIds.contains(stack.stack.getId()))
+              .collect(toList());
+      if (!changed.isEmpty()) {
+        try {
+          storeInTransaction(changed);
+        } catch (RuntimeException x) {
+          LOG.warn(
+              "Failed to store predefined stacks in a single transaction, "
+                  + "storing them one by one. Cause: {}",
+              x.getMessage());
+          // the stacks are re-read as entities of the rolled back transaction can't be reused
+          final Set<String> changedIds =
+              changed.stream().map(stack -> stack.stack.getId()).collect(toSet());
+          store(
+              readStacks()
+                  .stream()
+                  .filter(stack -> changedIds.contains(stack.stack.getId()))
+                  .collect(toList()));
         }
       }
-      LOG.info("Stacks initialization finished");
+      LOG.info(
+          "Stacks initialization finished, {} of {} stacks changed", changed.size(), stacks.size());
     }
   }
 
-  protected void loadStack(StackImpl stack, Path imagePath) {
-    setIconData(stack, imagePath);
-
+  /**
+   * Stores the predefined stack. Icon data of the stack is already set.
+   *
+   * @param stack the stack to store
+   * @throws ServerException when any error occurs
+   * @throws ConflictException when the stack conflicts with an existing one
+   */
+  protected void loadStack(StackImpl stack) throws ServerException, ConflictException {
     try {
       stackDao.update(stack);
     } catch (NotFoundException | ConflictException | ServerException e) {
+      stackDao.create(stack);
+    }
+  }
+
+  /** Stores the stacks and their checksums in a single transaction. */
+  @Transactional
+  protected void storeInTransaction(List<PredefinedStack> stacks) {
+    store(stacks);
+  }
+
+  private void store(List<PredefinedStack> stacks) {
+    final Map<String, String> stored = new HashMap<>();
+    for (PredefinedStack stack : stacks) {
       try {
-        stackDao.create(stack);
-      } catch (Exception ex) {
-        LOG.error(format("Failed to load stack with id '%s' ", stack.getId()), ex);
+        loadStack(stack.stack);
+        stored.put(stack.stack.getId(), stack.checksum);
+      } catch (ServerException | ConflictException ex) {
+        LOG.error(format("Failed to load stack with id '%s' ", stack.stack.getId()), ex);
+      }
+    }
+    try {
+      checksumDao.store(STACK_CHECKSUM_TYPE, stored);
+    } catch (ServerException ex) {
+      LOG.warn("Failed to store checksums of predefined stacks. Cause: {}", ex.getMessage());
+    }
+  }
+
+  /** Returns identifiers of the stored stacks, so the removed ones are stored again. */
+  private Set<String> getExistingIds(Set<String> ids) {
+    try {
+      return stackDao.getExistingIds(ids);
+    } catch (ServerException ex) {
+      LOG.warn("Failed to get identifiers of stored stacks. Cause: {}", ex.getMessage());
+      return emptySet();
+    }
+  }
+
+  private Map<String, String> getChecksums() {
+    try {
+      return checksumDao.getChecksums(STACK_CHECKSUM_TYPE);
+    } catch (ServerException ex) {
+      LOG.warn("Failed to get checksums of predefined stacks. Cause: {}", ex.getMessage());
+      return emptyMap();
+    }
+  }
+
+  /**
+   * Reads the stack files in parallel, then sets icon data and computes checksums of the stacks in
+   * parallel. Threads of the pool are created by the calling one, so they inherit its context class
+   * loader which the stack files and icons are loaded with.
+   */
+  private List<PredefinedStack> readStacks() {
+    final ExecutorService executor =
+        Executors.newFixedThreadPool(
+            Runtime.getRuntime().availableProcessors(),
+            new ThreadFactoryBuilder()
+                .setNameFormat("StackLoader-%d")
+                .setUncaughtExceptionHandler(LoggingUncaughtExceptionHandler.getInstance())
+                .setDaemon(true)
+                .build());
+    try {
+      final List<CompletableFuture<List<StackImpl>>> files = new ArrayList<>();
+      final List<Path> imagesDirs = new ArrayList<>();
+      for (Map.Entry<String, String> stack2image : stacks2images.entrySet()) {
+        final String stackFile = stack2image.getKey();
+        final String imagesDir = stack2image.getValue();
+        files.add(CompletableFuture.supplyAsync(() -> parseStacks(stackFile), executor));
+        imagesDirs.add(!isNullOrEmpty(imagesDir) ? Paths.get(imagesDir) : null);
       }
+
+      final List<CompletableFuture<PredefinedStack>> stacks = new ArrayList<>();
+      for (int i = 0; i < files.size(); i++) {
+        final Path imagesDirPath = imagesDirs.get(i);
+        for (StackImpl stack : files.get(i).join()) {
+          stacks.add(
+              CompletableFuture.supplyAsync(
+                  () -> {
+                    setIconData(stack, imagesDirPath);
+                    return new PredefinedStack(stack, checksum(stack));
+                  },
+                  executor));
+        }
+      }
+      return stacks.stream().map(CompletableFuture::join).collect(toList());
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  private List<StackImpl> parseStacks(String stackFile) {
+    try (BufferedReader reader =
+        new BufferedReader(new InputStreamReader(IoUtil.getResource(stackFile)))) {
+      final List<StackImpl> stacks =
+          GSON.fromJson(reader, new TypeToken<List<StackImpl>>() {}.getType());
+      return stacks != null ? stacks : emptyList();
+    } catch (Exception ex) {
+      LOG.error("Failed to store stacks from '{}'", stackFile);
+      return emptyList();
     }
   }
 
+  /** Computes checksum of the stack content, icon data included. */
+  private String checksum(StackImpl stack) {
+    return Hashing.sha256().hashString(GSON.toJson(stack), UTF_8).toString();
+  }
+
   /**
    * Searches for stack icon and set image data into given stack.
    *
@@ -145,4 +294,15 @@ public class StackLoader {
           format("Failed to load stack icon data for the stack with id '%s'", stack.getId()), ex);
     }
   }
+
+  /** A predefined stack along with the checksum of its content. */
+  protected static class PredefinedStack {
+    final StackImpl stack;
+    final String checksum;
+
+    PredefinedStack(StackImpl stack, String checksum) {
+      this.stack = stack;
+      this.checksum = checksum;
+    }
+  }
 }
@@ -15,6 +15,7 @@ import static javax.ws.rs.core.MediaType.MULTIPART_FORM_DATA;
 import static javax.ws.rs.core.MediaType.TEXT_PLAIN;
 import static javax.ws.rs.core.Response.Status.CREATED;
 import static org.eclipse.che.api.workspace.server.DtoConverter.asDto;
+import static org.eclipse.che.api.workspace.server.stack.StackLoader.STACK_CHECKSUM_TYPE;
 import static org.eclipse.che.api.workspace.shared.Constants.LINK_REL_CREATE_STACK;
 import static org.eclipse.che.api.workspace.shared.Constants.LINK_REL_DELETE_ICON;
 import static org.eclipse.che.api.workspace.shared.Constants.LINK_REL_GET_ICON;
@@ -62,6 +63,7 @@ import org.eclipse.che.api.workspace.server.spi.StackDao;
 import org.eclipse.che.api.workspace.server.stack.image.StackIcon;
 import org.eclipse.che.api.workspace.shared.dto.stack.StackDto;
 import org.eclipse.che.commons.env.EnvironmentContext;
+import org.eclipse.che.core.db.seed.JpaSeedChecksumDao;
 
 /**
  * Defines Stack REST API
@@ -74,11 +76,14 @@ public class StackService extends Service {
 
   private final StackDao stackDao;
   private final StackValidator stackValidator;
+  private final JpaSeedChecksumDao checksumDao;
 
   @Inject
-  public StackService(StackDao stackDao, StackValidator stackValidator) {
+  public StackService(
+      StackDao stackDao, StackValidator stackValidator, JpaSeedChecksumDao checksumDao) {
     this.stackDao = stackDao;
     this.stackValidator = stackValidator;
+    this.checksumDao = checksumDao;
   }
 
   @POST
@@ -184,6 +189,7 @@ public class StackService extends Service {
             .setComponents(updateDto.getComponents())
             .build();
 
+    dropChecksum(id);
     return asStackDto(stackDao.update(stackForUpdate));
   }
 
@@ -199,6 +205,7 @@ public class StackService extends Service {
   })
   public void removeStack(@ApiParam("The stack id") @PathParam("id") final String id)
       throws ApiException {
+    dropChecksum(id);
     stackDao.remove(id);
   }
 
@@ -303,6 +310,7 @@ public class StackService extends Service {
       StackImpl stack = stackDao.getById(id);
 
       stack.setStackIcon(stackIcon);
+      dropChecksum(id);
       stackDao.update(stack);
     }
     return Response.ok().build();
@@ -336,9 +344,18 @@ public class StackService extends Service {
           BadRequestException {
     StackImpl stack = stackDao.getById(id);
     stack.setStackIcon(null);
+    dropChecksum(id);
     stackDao.update(stack);
   }
 
+  /**
+   * Drops the checksum of the predefined stack before it is modified, so {@link StackLoader} stores
+   * the predefined content of the stack again on the next load.
+   */
+  private void dropChecksum(String id) throws ServerException {
+    checksumDao.remove(STACK_CHECKSUM_TYPE, id);
+  }
+
   private StackDto asStackDto(StackImpl stack) {
     final UriBuilder builder = getServiceContext().getServiceUriBuilder();
 
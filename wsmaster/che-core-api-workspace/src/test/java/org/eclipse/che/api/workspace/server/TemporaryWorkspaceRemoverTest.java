@@ -10,23 +10,30 @@
  */
 package org.eclipse.che.api.workspace.server;
 
+import static java.util.stream.Collectors.toList;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
-import static org.mockito.ArgumentMatchers.eq;
-import static org.mockito.ArgumentMatchers.intThat;
-import static org.mockito.Mockito.doNothing;
-import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
 
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Collection;
 import java.util.List;
-import org.eclipse.che.api.workspace.server.model.impl.WorkspaceImpl;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import org.eclipse.che.api.core.ServerException;
 import org.eclipse.che.api.workspace.server.spi.WorkspaceDao;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.testng.MockitoTestNGListener;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Listeners;
 import org.testng.annotations.Test;
 
@@ -38,34 +45,79 @@ public class TemporaryWorkspaceRemoverTest {
 
   @Mock private WorkspaceDao workspaceDao;
 
-  @InjectMocks private TemporaryWorkspaceRemover remover;
+  private ConcurrentSkipListSet<String> temporaryIds;
+  private Set<String> removedIds;
+  private TemporaryWorkspaceRemover remover;
 
-  @Test
-  public void shouldRemoveTemporaryWorkspaces() throws Exception {
-    doNothing().when(workspaceDao).remove(anyString());
-    // As we want to check pagination, we return items 100 when skip count is 0 or 100,
-    // return 50 items when skip count is 200, and return empty list when skip count is 300.
-    doReturn(createEntities(100))
+  @BeforeMethod
+  public void setUp() throws Exception {
+    temporaryIds = new ConcurrentSkipListSet<>();
+    for (int i = 0; i < COUNT_OF_WORKSPACES; i++) {
+      temporaryIds.add(String.format("id%03d", i));
+    }
+    removedIds = ConcurrentHashMap.newKeySet();
+    // emulates keyset paging over the workspaces which are being removed
+    doAnswer(
+            inv ->
+                temporaryIds
+                    .tailSet(inv.getArgument(0), false)
+                    .stream()
+                    .limit((int) inv.getArgument(1))
+                    .collect(toList()))
         .when(workspaceDao)
-        .getWorkspaces(eq(true), intThat(integer -> integer.intValue() < 200), anyInt());
-    doReturn(createEntities(50))
+        .getTemporaryWorkspaceIds(anyString(), anyInt());
+    doAnswer(
+            inv -> {
+              Collection<String> ids = inv.getArgument(0);
+              temporaryIds.removeAll(ids);
+              removedIds.addAll(ids);
+              return null;
+            })
         .when(workspaceDao)
-        .getWorkspaces(eq(true), intThat(argument -> ((int) argument) == 200), anyInt());
-    doReturn(Collections.emptyList())
+        .removeAll(anyCollection());
+
+    remover = new TemporaryWorkspaceRemover(workspaceDao, 100, 2);
+  }
+
+  @AfterMethod
+  public void tearDown() {
+    remover.shutdown();
+  }
+
+  @Test
+  public void shouldRemoveTemporaryWorkspacesInBatches() throws Exception {
+    remover.removeTemporaryWs();
+
+    assertTrue(temporaryIds.isEmpty());
+    assertEquals(removedIds.size(), COUNT_OF_WORKSPACES);
+    verify(workspaceDao, times(3)).removeAll(anyCollection());
+  }
+
+  @Test
+  public void shouldRemoveWorkspacesOneByOneWhenBatchRemovalFails() throws Exception {
+    final List<String> removedOneByOne = new ArrayList<>();
+    doThrow(new ServerException("batch failure")).when(workspaceDao).removeAll(anyCollection());
+    doAnswer(
+            inv -> {
+              synchronized (removedOneByOne) {
+                removedOneByOne.add(inv.getArgument(0));
+              }
+              return null;
+            })
         .when(workspaceDao)
-        .getWorkspaces(
-            eq(true), intThat(argument -> ((int) argument) > COUNT_OF_WORKSPACES), anyInt());
+        .remove(anyString());
 
     remover.removeTemporaryWs();
 
-    verify(workspaceDao, times(COUNT_OF_WORKSPACES)).remove(anyString());
+    assertEquals(removedOneByOne.size(), COUNT_OF_WORKSPACES);
   }
 
-  private List<WorkspaceImpl> createEntities(int number) {
-    List<WorkspaceImpl> wsList = new ArrayList<>();
-    for (int i = 0; i < number; i++) {
-      wsList.add(new WorkspaceImpl("id" + i, null, null));
-    }
-    return wsList;
+  @Test
+  public void shouldNotRemoveWorkspacesCreatedAfterStartupCleanupBegins() throws Exception {
+    remover.initialize();
+    temporaryIds.add("id999");
+
+    verify(workspaceDao, timeout(10_000).times(3)).removeAll(anyCollection());
+    assertTrue(temporaryIds.contains("id999"));
   }
 }
@@ -12,6 +12,7 @@ package org.eclipse.che.api.workspace.server;
 
 import static com.google.common.base.Strings.isNullOrEmpty;
 import static java.util.Arrays.asList;
+import static java.util.Collections.singleton;
 import static java.util.Collections.singletonList;
 import static java.util.Collections.singletonMap;
 import static org.eclipse.che.api.core.model.workspace.WorkspaceStatus.RUNNING;
@@ -25,6 +26,8 @@ import static org.eclipse.che.api.workspace.shared.Constants.AUTO_CREATE_SNAPSHO
 import static org.eclipse.che.api.workspace.shared.Constants.AUTO_RESTORE_FROM_SNAPSHOT;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyObject;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
@@ -40,8 +43,10 @@ import static org.mockito.Mockito.when;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
 import static org.testng.Assert.assertTrue;
 
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -53,6 +58,7 @@ import org.eclipse.che.account.api.AccountManager;
 import org.eclipse.che.account.spi.AccountImpl;
 import org.eclipse.che.api.core.ConflictException;
 import org.eclipse.che.api.core.NotFoundException;
+import org.eclipse.che.api.core.Page;
 import org.eclipse.che.api.core.ServerException;
 import org.eclipse.che.api.core.model.machine.MachineStatus;
 import org.eclipse.che.api.core.model.workspace.Workspace;
@@ -290,6 +296,102 @@ public class WorkspaceManagerTest {
     assertFalse(res1.isTemporary(), "Workspace must be permanent");
   }
 
+  @Test
+  public void shouldGetPageOfWorkspacesWithStatuses() throws Exception {
+    final WorkspaceImpl workspace = createAndMockWorkspace();
+    mockRuntime(workspace, RUNNING);
+    mockSnapshots(workspace, 12345);
+    when(workspaceDao.getWorkspaces(USER_ID, 30, 0))
+        .thenReturn(new Page<>(singletonList(workspace), 0, 30, 1));
+
+    final Page<WorkspaceImpl> page = workspaceManager.getWorkspaces(USER_ID, false, 30, 0);
+
+    assertEquals(page.getTotalItemsCount(), 1);
+    final WorkspaceImpl result = page.getItems().get(0);
+    assertEquals(result.getStatus(), RUNNING);
+    assertNull(result.getRuntime());
+    assertEquals(result.getAttributes().get(SNAPSHOTTED_AT_ATTRIBUTE_NAME), "12345");
+  }
+
+  @Test
+  public void shouldGetSummariesOfWorkspacesWithoutSnapshotsLookup() throws Exception {
+    final WorkspaceImpl workspace = createAndMockWorkspace();
+    mockRuntime(workspace, RUNNING);
+    when(workspaceDao.getWorkspaceSummaries(USER_ID, 30, 0))
+        .thenReturn(new Page<>(singletonList(workspace), 0, 30, 1));
+
+    final Page<WorkspaceImpl> page = workspaceManager.getWorkspaceSummaries(USER_ID, 30, 0);
+
+    assertEquals(page.getItems().get(0).getStatus(), RUNNING);
+    verify(snapshotDao, never()).findSnapshots(anyString());
+    verify(runtimes, never()).injectRuntime(any());
+  }
+
+  @Test
+  public void shouldFilterWorkspacesByStatusInStorageQuery() throws Exception {
+    final WorkspaceImpl workspace = createAndMockWorkspace();
+    when(runtimes.getRuntimesIds()).thenReturn(ImmutableSet.of(workspace.getId(), "other"));
+    when(runtimes.getStatuses(any()))
+        .thenReturn(ImmutableMap.of(workspace.getId(), STARTING, "other", RUNNING));
+    when(workspaceDao.getWorkspaceSummaries(USER_ID, singletonList(workspace.getId()), 30, 0))
+        .thenReturn(new Page<>(singletonList(workspace), 0, 30, 1));
+
+    final Page<WorkspaceImpl> page =
+        workspaceManager.getWorkspaceSummaries(USER_ID, STARTING, 30, 0);
+
+    assertEquals(page.getItems().get(0).getStatus(), STARTING);
+    verify(workspaceDao, never()).getWorkspaceSummaries(anyString(), anyInt(), anyLong());
+  }
+
+  @Test
+  public void shouldFetchWorkspacesOfPageFilteredByStatusWithSingleQuery() throws Exception {
+    final WorkspaceImpl workspace = createAndMockWorkspace();
+    when(runtimes.getRuntimesIds()).thenReturn(ImmutableSet.of(workspace.getId()));
+    when(runtimes.getStatuses(any())).thenReturn(ImmutableMap.of(workspace.getId(), STARTING));
+    when(workspaceDao.getWorkspaceSummaries(USER_ID, singletonList(workspace.getId()), 30, 0))
+        .thenReturn(new Page<>(singletonList(new WorkspaceImpl(workspace)), 0, 30, 1));
+    when(workspaceDao.getByIds(singleton(workspace.getId())))
+        .thenReturn(singletonList(workspace));
+
+    final Page<WorkspaceImpl> page = workspaceManager.getWorkspaces(USER_ID, STARTING, 30, 0);
+
+    assertEquals(page.getItems(), singletonList(workspace));
+    assertEquals(page.getItems().get(0).getStatus(), STARTING);
+    assertEquals(page.getTotalItemsCount(), 1);
+    verify(workspaceDao, never()).get(anyString());
+  }
+
+  @Test
+  public void shouldExcludeWorkspacesWithRuntimesWhenFilteringStoppedWorkspaces() throws Exception {
+    final WorkspaceImpl workspace = createAndMockWorkspace();
+    when(runtimes.getRuntimesIds()).thenReturn(ImmutableSet.of("running"));
+    when(runtimes.getStatuses(any())).thenReturn(ImmutableMap.of("running", RUNNING));
+    when(workspaceDao.getWorkspaceSummariesExcept(USER_ID, singletonList("running"), 30, 0))
+        .thenReturn(new Page<>(singletonList(workspace), 0, 30, 1));
+
+    final Page<WorkspaceImpl> page =
+        workspaceManager.getWorkspaceSummaries(USER_ID, STOPPED, 30, 0);
+
+    assertEquals(page.getItems().get(0).getStatus(), STOPPED);
+  }
+
+  @Test
+  public void shouldGetStatusesOfWorkspacesByIdsFromSingleRuntimesSnapshot() throws Exception {
+    final WorkspaceImpl workspace = createAndMockWorkspace();
+    final List<String> ids = asList(workspace.getId(), "missing");
+    when(workspaceDao.getWorkspaceSummaries(USER_ID, ids)).thenReturn(singletonList(workspace));
+    when(runtimes.getStatuses(singletonList(workspace.getId())))
+        .thenReturn(singletonMap(workspace.getId(), RUNNING));
+
+    final List<WorkspaceImpl> result = workspaceManager.getWorkspaceSummaries(USER_ID, ids, false);
+
+    assertEquals(result.size(), 1);
+    assertEquals(result.get(0).getStatus(), RUNNING);
+    verify(runtimes, never()).getStatus(anyString());
+    verify(runtimes, never()).injectRuntimes(any());
+    verify(workspaceDao, never()).get(anyString());
+  }
+
   @Test
   public void getWorkspaceByNameShouldReturnWorkspaceWithStatusEqualToItsRuntimeStatus()
       throws Exception {
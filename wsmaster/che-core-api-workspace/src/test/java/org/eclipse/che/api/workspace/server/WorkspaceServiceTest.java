@@ -40,6 +40,9 @@ import static org.everrest.assured.JettyHttpServer.ADMIN_USER_PASSWORD;
 import static org.everrest.assured.JettyHttpServer.SECURE_PATH;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyObject;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
@@ -49,6 +52,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
 import static org.testng.Assert.assertTrue;
 
 import com.google.common.collect.ImmutableList;
@@ -62,6 +66,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -69,6 +74,7 @@ import java.util.stream.Collectors;
 import org.eclipse.che.account.shared.model.Account;
 import org.eclipse.che.account.spi.AccountImpl;
 import org.eclipse.che.api.agent.server.WsAgentHealthChecker;
+import org.eclipse.che.api.core.Page;
 import org.eclipse.che.api.core.model.machine.MachineStatus;
 import org.eclipse.che.api.core.model.project.ProjectConfig;
 import org.eclipse.che.api.core.model.workspace.WorkspaceConfig;
@@ -396,6 +402,8 @@ public class WorkspaceServiceTest {
             .map(ws -> new WorkspaceImpl(ws, TEST_ACCOUNT))
             .collect(toList()),
         asList(workspace1, workspace2));
+    assertNull(response.getHeader("Link"));
+    verify(wsManager, never()).getWorkspaces(anyString(), anyBoolean(), anyInt(), anyLong());
   }
 
   @Test
@@ -424,7 +432,8 @@ public class WorkspaceServiceTest {
   public void shouldGetWorkspacesByStatus() throws Exception {
     final WorkspaceImpl workspace1 = createWorkspace(createConfigDto());
     final WorkspaceImpl workspace2 = createWorkspace(createConfigDto(), STARTING);
-    when(wsManager.getWorkspaces(USER_ID, false)).thenReturn(asList(workspace1, workspace2));
+    when(wsManager.getWorkspaces(USER_ID, STARTING, Integer.MAX_VALUE, 0))
+        .thenReturn(new Page<>(singletonList(workspace2), 0, Integer.MAX_VALUE, 1));
 
     final Response response =
         given()
@@ -442,6 +451,122 @@ public class WorkspaceServiceTest {
         singletonList(workspace2));
   }
 
+  @Test
+  public void shouldGetPageOfWorkspacesWithLinkToTheNextPage() throws Exception {
+    final WorkspaceImpl workspace1 = createWorkspace(createConfigDto());
+    final WorkspaceImpl workspace2 = createWorkspace(createConfigDto());
+    when(wsManager.getWorkspaces(USER_ID, false, 2, 2))
+        .thenReturn(new Page<>(asList(workspace1, workspace2), 2, 2, 5));
+
+    final Response response =
+        given()
+            .auth()
+            .basic(ADMIN_USER_NAME, ADMIN_USER_PASSWORD)
+            .when()
+            .get(SECURE_PATH + "/workspace?skipCount=2&maxItems=2");
+
+    assertEquals(response.getStatusCode(), 200);
+    assertEquals(unwrapDtoList(response, WorkspaceDto.class).size(), 2);
+    assertTrue(response.getHeader("Link").contains("rel=\"next\""));
+  }
+
+  @Test
+  public void shouldGetShortViewsOfWorkspaces() throws Exception {
+    final WorkspaceImpl summary =
+        new WorkspaceImpl(
+            "workspace123",
+            TEST_ACCOUNT,
+            new WorkspaceConfigImpl("ws-name", null, null, null, null, null));
+    summary.setStatus(RUNNING);
+    when(wsManager.getWorkspaceSummaries(USER_ID, Integer.MAX_VALUE, 0))
+        .thenReturn(new Page<>(singletonList(summary), 0, Integer.MAX_VALUE, 1));
+
+    final Response response =
+        given()
+            .auth()
+            .basic(ADMIN_USER_NAME, ADMIN_USER_PASSWORD)
+            .when()
+            .get(SECURE_PATH + "/workspace?summary=true");
+
+    assertEquals(response.getStatusCode(), 200);
+    final List<WorkspaceDto> workspaces = unwrapDtoList(response, WorkspaceDto.class);
+    assertEquals(workspaces.size(), 1);
+    assertEquals(workspaces.get(0).getId(), "workspace123");
+    assertEquals(workspaces.get(0).getConfig().getName(), "ws-name");
+    assertEquals(workspaces.get(0).getStatus(), RUNNING);
+    assertTrue(workspaces.get(0).getConfig().getEnvironments().isEmpty());
+    verify(wsManager, never()).getWorkspaces(anyString(), anyBoolean(), anyInt(), anyLong());
+  }
+
+  @Test
+  public void shouldGetStatusesOfWorkspaces() throws Exception {
+    final WorkspaceImpl summary =
+        new WorkspaceImpl(
+            "workspace123",
+            TEST_ACCOUNT,
+            new WorkspaceConfigImpl("ws-name", null, null, null, null, null));
+    summary.setStatus(RUNNING);
+    when(wsManager.getWorkspaceSummaries(
+            USER_ID, new LinkedHashSet<>(asList("workspace123", "workspace234")), false))
+        .thenReturn(singletonList(summary));
+
+    final Response response =
+        given()
+            .auth()
+            .basic(ADMIN_USER_NAME, ADMIN_USER_PASSWORD)
+            .when()
+            .get(SECURE_PATH + "/workspace/status?id=workspace123&id=workspace234");
+
+    assertEquals(response.getStatusCode(), 200);
+    final List<WorkspaceDto> workspaces = unwrapDtoList(response, WorkspaceDto.class);
+    assertEquals(workspaces.size(), 1);
+    assertEquals(workspaces.get(0).getId(), "workspace123");
+    assertEquals(workspaces.get(0).getStatus(), RUNNING);
+    verify(wsManager, never()).getWorkspace(anyString());
+  }
+
+  @Test
+  public void shouldRespond400WhenWorkspaceIdsAreNotSpecifiedForStatuses() throws Exception {
+    final Response response =
+        given()
+            .auth()
+            .basic(ADMIN_USER_NAME, ADMIN_USER_PASSWORD)
+            .when()
+            .get(SECURE_PATH + "/workspace/status");
+
+    assertEquals(response.getStatusCode(), 400);
+  }
+
+  @Test
+  public void shouldRespond400WhenTooManyWorkspaceIdsAreSpecifiedForStatuses() throws Exception {
+    final StringBuilder query = new StringBuilder("?id=workspace0");
+    for (int i = 1; i <= 100; i++) {
+      query.append("&id=workspace").append(i);
+    }
+
+    final Response response =
+        given()
+            .auth()
+            .basic(ADMIN_USER_NAME, ADMIN_USER_PASSWORD)
+            .when()
+            .get(SECURE_PATH + "/workspace/status" + query);
+
+    assertEquals(response.getStatusCode(), 400);
+    verify(wsManager, never()).getWorkspaceSummaries(anyString(), anyCollection(), anyBoolean());
+  }
+
+  @Test
+  public void shouldRespond400WhenMaxItemsIsNotPositive() throws Exception {
+    final Response response =
+        given()
+            .auth()
+            .basic(ADMIN_USER_NAME, ADMIN_USER_PASSWORD)
+            .when()
+            .get(SECURE_PATH + "/workspace?maxItems=0");
+
+    assertEquals(response.getStatusCode(), 400);
+  }
+
   @Test
   public void shouldUpdateTheWorkspace() throws Exception {
     final WorkspaceImpl workspace = createWorkspace(createConfigDto());
@@ -39,6 +39,7 @@ import org.eclipse.che.core.db.DBInitializer;
 import org.eclipse.che.core.db.h2.jpa.eclipselink.H2ExceptionHandler;
 import org.eclipse.che.core.db.schema.SchemaInitializer;
 import org.eclipse.che.core.db.schema.impl.flyway.FlywaySchemaInitializer;
+import org.eclipse.che.core.db.seed.SeedChecksumEntity;
 import org.h2.Driver;
 
 /** @author Yevhenii Voevodin */
@@ -64,7 +65,8 @@ public class WorkspaceTckModule extends TckModule {
                 StackImpl.class,
                 CommandImpl.class,
                 SnapshotImpl.class,
-                RecipeImpl.class)
+                RecipeImpl.class,
+                SeedChecksumEntity.class)
             .addEntityClass(
                 "org.eclipse.che.api.workspace.server.model.impl.ProjectConfigImpl$Attribute")
             .setExceptionHandler(H2ExceptionHandler.class)
@@ -101,6 +101,23 @@ public class StackDaoTest {
     stackDao.getById(null);
   }
 
+  @Test
+  public void shouldGetExistingIds() throws Exception {
+    assertEquals(
+        stackDao.getExistingIds(asList(stacks[1].getId(), "non-existing", stacks[3].getId())),
+        new HashSet<>(asList(stacks[1].getId(), stacks[3].getId())));
+  }
+
+  @Test
+  public void shouldReturnEmptySetWhenGettingExistingIdsOfEmptyCollection() throws Exception {
+    assertTrue(stackDao.getExistingIds(Collections.emptyList()).isEmpty());
+  }
+
+  @Test(expectedExceptions = NullPointerException.class)
+  public void shouldThrowNpeWhenGettingExistingIdsOfNullCollection() throws Exception {
+    stackDao.getExistingIds(null);
+  }
+
   @Test(dependsOnMethods = "shouldGetById")
   public void shouldCreateStack() throws Exception {
     final StackImpl stack = createStack("new-stack", "new-stack-name");
@@ -14,16 +14,19 @@ import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
 import static java.util.Collections.singletonMap;
 import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doCallRealMethod;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertTrue;
 import static org.testng.Assert.fail;
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
@@ -36,6 +39,7 @@ import javax.inject.Inject;
 import org.eclipse.che.account.spi.AccountImpl;
 import org.eclipse.che.api.core.ConflictException;
 import org.eclipse.che.api.core.NotFoundException;
+import org.eclipse.che.api.core.Page;
 import org.eclipse.che.api.core.ServerException;
 import org.eclipse.che.api.core.notification.EventService;
 import org.eclipse.che.api.machine.server.model.impl.CommandImpl;
@@ -146,6 +150,102 @@ public class WorkspaceDaoTest {
     workspaceDao.getByNamespace(null);
   }
 
+  @Test
+  public void shouldGetPageOfWorkspacesByNamespace() throws Exception {
+    final WorkspaceImpl workspace1 = workspaces[0];
+    final WorkspaceImpl workspace2 = workspaces[1];
+
+    final Page<WorkspaceImpl> first = workspaceDao.getByNamespace(workspace1.getNamespace(), 1, 0);
+    final Page<WorkspaceImpl> second =
+        workspaceDao.getByNamespace(workspace1.getNamespace(), 1, 1);
+
+    assertEquals(first.getTotalItemsCount(), 2);
+    assertTrue(first.hasNextPage());
+    assertFalse(second.hasNextPage());
+    assertEquals(first.getItems(), singletonList(workspace1));
+    assertEquals(second.getItems(), singletonList(workspace2));
+  }
+
+  @Test
+  public void shouldGetWorkspacesByIds() throws Exception {
+    final List<WorkspaceImpl> result =
+        workspaceDao.getByIds(
+            asList(workspaces[3].getId(), workspaces[1].getId(), "non-existing"));
+
+    assertEquals(
+        result, asList(new WorkspaceImpl(workspaces[1]), new WorkspaceImpl(workspaces[3])));
+  }
+
+  @Test
+  public void shouldReturnEmptyListWhenGettingWorkspacesByEmptyIds() throws Exception {
+    assertTrue(workspaceDao.getByIds(new ArrayList<>()).isEmpty());
+  }
+
+  @Test(expectedExceptions = NullPointerException.class)
+  public void shouldThrowNpeWhenGettingWorkspacesByNullIds() throws Exception {
+    workspaceDao.getByIds(null);
+  }
+
+  @Test
+  public void shouldGetWorkspaceSummariesByIds() throws Exception {
+    final List<WorkspaceImpl> summaries =
+        workspaceDao.getWorkspaceSummaries(
+            "user123", asList(workspaces[3].getId(), workspaces[1].getId(), "non-existing"));
+
+    assertEquals(
+        summaries.stream().map(WorkspaceImpl::getId).collect(toSet()),
+        ImmutableSet.of(workspaces[1].getId(), workspaces[3].getId()));
+    for (WorkspaceImpl summary : summaries) {
+      final WorkspaceImpl workspace =
+          summary.getId().equals(workspaces[1].getId()) ? workspaces[1] : workspaces[3];
+      assertEquals(summary.getNamespace(), workspace.getNamespace());
+      assertEquals(summary.isTemporary(), workspace.isTemporary());
+      assertEquals(summary.getConfig().getName(), workspace.getConfig().getName());
+    }
+  }
+
+  @Test
+  public void shouldReturnEmptyListWhenGettingWorkspaceSummariesByEmptyIds() throws Exception {
+    assertTrue(workspaceDao.getWorkspaceSummaries("user123", new ArrayList<>()).isEmpty());
+  }
+
+  @Test(expectedExceptions = NullPointerException.class)
+  public void shouldThrowNpeWhenGettingWorkspaceSummariesByNullIds() throws Exception {
+    workspaceDao.getWorkspaceSummaries("user123", null);
+  }
+
+  @Test
+  public void shouldGetPageOfWorkspaceSummariesByIds() throws Exception {
+    final Page<WorkspaceImpl> page =
+        workspaceDao.getWorkspaceSummaries(
+            "user123", asList(workspaces[3].getId(), workspaces[1].getId(), "non-existing"), 1, 0);
+
+    assertEquals(page.getTotalItemsCount(), 2);
+    assertEquals(page.getItemsCount(), 1);
+    final WorkspaceImpl summary = page.getItems().get(0);
+    assertEquals(summary.getId(), workspaces[1].getId());
+    assertEquals(summary.getNamespace(), workspaces[1].getNamespace());
+    assertEquals(summary.getConfig().getName(), workspaces[1].getConfig().getName());
+  }
+
+  @Test
+  public void shouldGetPageOfWorkspaceSummariesExceptGivenIds() throws Exception {
+    final Page<WorkspaceImpl> page =
+        workspaceDao.getWorkspaceSummariesExcept(
+            "user123", asList(workspaces[0].getId(), workspaces[2].getId()), 30, 1);
+
+    assertEquals(page.getTotalItemsCount(), COUNT_OF_WORKSPACES - 2);
+    assertEquals(
+        page.getItems().stream().map(WorkspaceImpl::getId).collect(toList()),
+        asList(workspaces[3].getId(), workspaces[4].getId()));
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void shouldThrowIllegalArgumentExceptionWhenGettingPageOfWorkspacesWithZeroLimit()
+      throws Exception {
+    workspaceDao.getByNamespace(workspaces[0].getNamespace(), 0, 0);
+  }
+
   @Test
   public void shouldGetWorkspaceByNameAndNamespace() throws Exception {
     final WorkspaceImpl workspace = workspaces[0];
@@ -240,6 +340,33 @@ public class WorkspaceDaoTest {
     assertEquals(result.iterator().next(), workspaceDao.get(workspace.getId()));
   }
 
+  @Test
+  public void shouldGetTemporaryWorkspaceIdsPageByPage() throws Exception {
+    for (int i = 0; i < 3; i++) {
+      workspaces[i].setTemporary(true);
+      workspaceDao.update(workspaces[i]);
+    }
+
+    final List<String> first = workspaceDao.getTemporaryWorkspaceIds("", 2);
+    final List<String> second = workspaceDao.getTemporaryWorkspaceIds(first.get(1), 2);
+
+    assertEquals(first.size(), 2);
+    assertEquals(second.size(), 1);
+    final List<String> all = new ArrayList<>(first);
+    all.addAll(second);
+    assertEquals(
+        new HashSet<>(all),
+        new HashSet<>(asList(workspaces[0].getId(), workspaces[1].getId(), workspaces[2].getId())));
+  }
+
+  @Test
+  public void shouldRemoveSeveralWorkspaces() throws Exception {
+    workspaceDao.removeAll(asList(workspaces[0].getId(), workspaces[1].getId(), "non-existing"));
+
+    assertTrue(workspaceDao.getByNamespace(workspaces[0].getNamespace()).isEmpty());
+    assertEquals(workspaceDao.get(workspaces[2].getId()), workspaces[2]);
+  }
+
   @Test(expectedExceptions = IllegalArgumentException.class)
   public void shouldThrowIllegalStateExceptionOnNegativeLimit() throws Exception {
     workspaceDao.getWorkspaces(true, 0, -2);
@@ -0,0 +1,206 @@
+/*
+ * Copyright (c) 2012-2017 Red Hat, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ */
+package org.eclipse.che.api.workspace.server.stack;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Collections.singletonMap;
+import static org.eclipse.che.api.workspace.server.stack.StackLoader.CHE_PREDEFINED_STACKS;
+import static org.eclipse.che.api.workspace.server.stack.StackLoader.STACK_CHECKSUM_TYPE;
+import static org.mockito.AdditionalAnswers.delegatesTo;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.inject.AbstractModule;
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import com.google.inject.Provides;
+import com.google.inject.TypeLiteral;
+import com.google.inject.name.Names;
+import com.google.inject.util.Modules;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import javax.inject.Singleton;
+import javax.persistence.EntityManager;
+import org.eclipse.che.api.workspace.server.jpa.JpaStackDao;
+import org.eclipse.che.api.workspace.server.jpa.WorkspaceTckModule;
+import org.eclipse.che.api.workspace.server.model.impl.stack.StackImpl;
+import org.eclipse.che.api.workspace.server.spi.StackDao;
+import org.eclipse.che.commons.lang.IoUtil;
+import org.eclipse.che.commons.test.db.H2JpaCleaner;
+import org.eclipse.che.commons.test.tck.JpaCleaner;
+import org.eclipse.che.core.db.seed.JpaSeedChecksumDao;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/** Tests loading of predefined stacks to the database by {@link StackLoader}. */
+public class StackLoaderJpaTest {
+
+  private static final int STACKS = 500;
+
+  private Path stacksDir;
+  private Path stacksFile;
+  private JsonObject template;
+  private EntityManager manager;
+  private StackDao stackDao;
+  private JpaSeedChecksumDao checksumDao;
+  private StackLoader stackLoader;
+  private JpaCleaner cleaner;
+
+  @BeforeMethod
+  public void setUp() throws Exception {
+    stacksDir = Files.createTempDirectory("stacks");
+    stacksFile = stacksDir.resolve("stacks.json");
+    try (Reader reader = new InputStreamReader(IoUtil.getResource("stacks.json"), UTF_8)) {
+      template = new JsonParser().parse(reader).getAsJsonArray().get(0).getAsJsonObject();
+    }
+    writeStacks(null);
+
+    final Injector injector =
+        Guice.createInjector(
+            Modules.override(new WorkspaceTckModule())
+                .with(
+                    new AbstractModule() {
+                      @Override
+                      protected void configure() {
+                        bindConstant()
+                            .annotatedWith(Names.named("che.predefined.stacks.reload_on_start"))
+                            .to(true);
+                        bind(new TypeLiteral<Map<String, String>>() {})
+                            .annotatedWith(Names.named(CHE_PREDEFINED_STACKS))
+                            .toInstance(singletonMap(stacksFile.toString(), "stack_img"));
+                      }
+
+                      @Provides
+                      @Singleton
+                      StackDao stackDao(JpaStackDao dao) {
+                        // calls are delegated to the transactional instance created by injector
+                        return mock(StackDao.class, delegatesTo(dao));
+                      }
+                    }));
+    manager = injector.getInstance(EntityManager.class);
+    stackDao = injector.getInstance(StackDao.class);
+    checksumDao = injector.getInstance(JpaSeedChecksumDao.class);
+    stackLoader = injector.getInstance(StackLoader.class);
+    cleaner = injector.getInstance(H2JpaCleaner.class);
+  }
+
+  @AfterMethod
+  public void cleanup() {
+    manager.getTransaction().begin();
+    final List<Object> entities = new ArrayList<>();
+    entities.addAll(manager.createQuery("SELECT s FROM Stack s").getResultList());
+    entities.addAll(manager.createQuery("SELECT c FROM SeedChecksum c").getResultList());
+    for (Object entity : entities) {
+      manager.remove(entity);
+    }
+    manager.getTransaction().commit();
+    cleaner.clean();
+    IoUtil.deleteRecursive(stacksDir.toFile());
+  }
+
+  @Test
+  public void shouldSkipUnchangedStacksOnReload() throws Exception {
+    stackLoader.start();
+
+    assertEquals(stackDao.searchStacks(null, null, 0, STACKS * 2).size(), STACKS);
+    assertEquals(checksumDao.getChecksums(STACK_CHECKSUM_TYPE).size(), STACKS);
+    verify(stackDao, times(STACKS)).create(any());
+
+    clearInvocations(stackDao);
+    stackLoader.start();
+
+    verify(stackDao).getExistingIds(anyCollection());
+    verify(stackDao, never()).update(any());
+    verify(stackDao, never()).create(any());
+    verify(stackDao, never()).getById(anyString());
+    assertEquals(stackDao.searchStacks(null, null, 0, STACKS * 2).size(), STACKS);
+  }
+
+  @Test
+  public void shouldUpdateChangedStacksOnReload() throws Exception {
+    stackLoader.start();
+    final Map<String, String> checksums = checksumDao.getChecksums(STACK_CHECKSUM_TYPE);
+
+    writeStacks("stack7");
+    clearInvocations(stackDao);
+    stackLoader.start();
+
+    verify(stackDao).update(any());
+    verify(stackDao, never()).create(any());
+    assertEquals(stackDao.getById("stack7").getDescription(), "changed");
+    final Map<String, String> updated = checksumDao.getChecksums(STACK_CHECKSUM_TYPE);
+    assertTrue(!updated.get("stack7").equals(checksums.get("stack7")));
+    updated.remove("stack7");
+    checksums.remove("stack7");
+    assertEquals(updated, checksums);
+  }
+
+  @Test
+  public void shouldRestoreRemovedStackOnReload() throws Exception {
+    stackLoader.start();
+
+    stackDao.remove("stack7");
+    clearInvocations(stackDao);
+    stackLoader.start();
+
+    verify(stackDao, times(1)).create(any());
+    assertEquals(stackDao.getById("stack7").getName(), "Stack 7");
+  }
+
+  @Test
+  public void shouldRestoreModifiedStackOnReload() throws Exception {
+    stackLoader.start();
+    final StackImpl stack = stackDao.getById("stack7");
+    final String description = stack.getDescription();
+
+    // the same as modification with the stack service
+    stack.setDescription("modified");
+    checksumDao.remove(STACK_CHECKSUM_TYPE, stack.getId());
+    stackDao.update(stack);
+    clearInvocations(stackDao);
+    stackLoader.start();
+
+    verify(stackDao, times(1)).update(any());
+    assertEquals(stackDao.getById("stack7").getDescription(), description);
+  }
+
+  /** Writes copies of the template stack, description of the stack with given id is changed. */
+  private void writeStacks(String changedId) throws Exception {
+    final JsonArray stacks = new JsonArray();
+    for (int i = 0; i < STACKS; i++) {
+      final JsonObject stack = new JsonParser().parse(template.toString()).getAsJsonObject();
+      stack.addProperty("id", "stack" + i);
+      stack.addProperty("name", "Stack " + i);
+      if (stack.get("id").getAsString().equals(changedId)) {
+        stack.addProperty("description", "changed");
+      }
+      stacks.add(stack);
+    }
+    Files.write(stacksFile, stacks.toString().getBytes(UTF_8));
+  }
+}
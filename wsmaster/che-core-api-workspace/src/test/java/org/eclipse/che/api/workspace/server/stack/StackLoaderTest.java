@@ -44,6 +44,7 @@ import org.eclipse.che.api.workspace.shared.dto.WorkspaceConfigDto;
 import org.eclipse.che.api.workspace.shared.dto.stack.StackComponentDto;
 import org.eclipse.che.api.workspace.shared.dto.stack.StackDto;
 import org.eclipse.che.core.db.DBInitializer;
+import org.eclipse.che.core.db.seed.JpaSeedChecksumDao;
 import org.mockito.Mock;
 import org.mockito.testng.MockitoTestNGListener;
 import org.testng.annotations.BeforeMethod;
@@ -63,6 +64,8 @@ public class StackLoaderTest {
 
   @Mock private DBInitializer dbInitializer;
 
+  @Mock private JpaSeedChecksumDao checksumDao;
+
   private StackLoader stackLoader;
 
   @BeforeMethod
@@ -70,7 +73,11 @@ public class StackLoaderTest {
     when(dbInitializer.isBareInit()).thenReturn(true);
     stackLoader =
         new StackLoader(
-            false, ImmutableMap.of("stacks.json", "stack_img"), stackDao, dbInitializer);
+            false,
+            ImmutableMap.of("stacks.json", "stack_img"),
+            stackDao,
+            dbInitializer,
+            checksumDao);
   }
 
   @Test
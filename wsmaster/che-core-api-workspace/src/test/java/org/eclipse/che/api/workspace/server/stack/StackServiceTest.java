@@ -17,6 +17,7 @@ import static java.util.Collections.singletonList;
 import static java.util.Collections.singletonMap;
 import static javax.ws.rs.core.MediaType.APPLICATION_JSON;
 import static javax.ws.rs.core.MediaType.MULTIPART_FORM_DATA;
+import static org.eclipse.che.api.workspace.server.stack.StackLoader.STACK_CHECKSUM_TYPE;
 import static org.eclipse.che.api.workspace.shared.Constants.LINK_REL_GET_STACK_BY_ID;
 import static org.eclipse.che.api.workspace.shared.Constants.LINK_REL_REMOVE_STACK;
 import static org.eclipse.che.dto.server.DtoFactory.newDto;
@@ -57,6 +58,7 @@ import org.eclipse.che.api.workspace.shared.stack.Stack;
 import org.eclipse.che.api.workspace.shared.stack.StackComponent;
 import org.eclipse.che.commons.env.EnvironmentContext;
 import org.eclipse.che.commons.subject.SubjectImpl;
+import org.eclipse.che.core.db.seed.JpaSeedChecksumDao;
 import org.eclipse.che.dto.server.DtoFactory;
 import org.everrest.assured.EverrestJetty;
 import org.everrest.core.Filter;
@@ -134,6 +136,8 @@ public class StackServiceTest {
 
   @Mock StackValidator validator;
 
+  @Mock JpaSeedChecksumDao checksumDao;
+
   @InjectMocks StackService service;
 
   @BeforeMethod
@@ -360,6 +364,7 @@ public class StackServiceTest {
 
     verify(stackDao).update(any());
     verify(stackDao).getById(STACK_ID);
+    verify(checksumDao).remove(STACK_CHECKSUM_TYPE, STACK_ID);
   }
 
   @Test
@@ -422,6 +427,7 @@ public class StackServiceTest {
             .delete(SECURE_PATH + "/stack/" + STACK_ID);
 
     verify(stackDao).remove(eq(STACK_ID));
+    verify(checksumDao).remove(STACK_CHECKSUM_TYPE, STACK_ID);
     assertEquals(response.getStatusCode(), 204);
   }
 
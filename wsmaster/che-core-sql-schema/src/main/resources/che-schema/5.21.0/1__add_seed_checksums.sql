@@ -0,0 +1,20 @@
+--
+-- Copyright (c) 2012-2017 Red Hat, Inc.
+-- All rights reserved. This program and the accompanying materials
+-- are made available under the terms of the Eclipse Public License v1.0
+-- which accompanies this distribution, and is available at
+-- http://www.eclipse.org/legal/epl-v10.html
+--
+-- Contributors:
+--   Red Hat, Inc. - initial API and implementation
+--
+
+-- Seed checksums --------------------------------------------------------------
+CREATE TABLE che_seed_checksum (
+    id          VARCHAR(255)    NOT NULL,
+    type        VARCHAR(255)    NOT NULL,
+    checksum    VARCHAR(255)    NOT NULL,
+
+    PRIMARY KEY (id)
+);
+--------------------------------------------------------------------------------